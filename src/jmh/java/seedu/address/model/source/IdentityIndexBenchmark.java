@@ -0,0 +1,96 @@
+package seedu.address.model.source;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.source.exceptions.DuplicateSourceException;
+
+/**
+ * Compares the duplicate check that {@code UniqueSourceList} made by testing every source with
+ * {@code Source#isSameSource}, against the lookup in its index of source identities, for libraries of different sizes.
+ * Also measures adding a source to the list, and removing it again, which each check for the source.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class IdentityIndexBenchmark {
+
+    private static final String[] TYPES = {"Book", "Journal article", "Website", "Report"};
+
+    /** The number of sources in the list. */
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private List<Source> sources;
+    private UniqueSourceList uniqueSourceList;
+    /** A source that is not in the list, as a source being added is. */
+    private Source newSource;
+
+    @Setup
+    public void setUp() {
+        BiblioFields biblioFields = new BiblioFields();
+        sources = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            sources.add(new Source(new Title("Research into topic " + i), new Author("Author " + (i % 500)),
+                    new Type(TYPES[i % TYPES.length]), new Detail("Detailed notes about the findings of source " + i),
+                    Collections.emptySet(), biblioFields));
+        }
+        uniqueSourceList = new UniqueSourceList();
+        uniqueSourceList.setSources(sources);
+        newSource = new Source(new Title("Research into topic " + size), new Author("Author 0"), new Type(TYPES[0]),
+                new Detail("Detailed notes about the findings of source " + size), Collections.emptySet(),
+                biblioFields);
+    }
+
+    /**
+     * Checks for the new source by testing every source of the list, as {@code UniqueSourceList#contains} did.
+     */
+    @Benchmark
+    public boolean linearContains() {
+        return sources.stream().anyMatch(newSource::isSameSource);
+    }
+
+    @Benchmark
+    public boolean indexedContains() {
+        return uniqueSourceList.contains(newSource);
+    }
+
+    /**
+     * Adds the new source to the end of the list and removes it again, after checking for it by testing every source.
+     */
+    @Benchmark
+    public void linearAddAndRemove() {
+        if (linearContains()) {
+            throw new DuplicateSourceException();
+        }
+        sources.add(newSource);
+        sources.remove(sources.size() - 1);
+    }
+
+    /**
+     * Adds the new source to the list and removes it again, each of which looks the source up in the index.
+     */
+    @Benchmark
+    public void indexedAddAndRemove() {
+        uniqueSourceList.add(newSource);
+        uniqueSourceList.remove(newSource);
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.model.source;
+
+import static seedu.address.model.source.SourceContainsKeywordsPredicate.LEVENSHTIEN_DISTANCE_CONSTANT;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the full {@code levenshtienDist} against {@code boundedLevenshtienDist} for the similarity check that
+ * {@code SourceContainsKeywordsPredicate} makes between a source field and a keyword.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevenshtienBenchmark {
+
+    private static final String SENTENCE = "basic definitions of algorithms and data structures for research ";
+
+    /** The length of the source field compared against. */
+    @Param({"12", "60", "2000"})
+    private int fieldLength;
+
+    /** Whether the keyword is a near miss of the field, rather than a different string of about the same length. */
+    @Param({"true", "false"})
+    private boolean isNearMiss;
+
+    private String field;
+    private String keyword;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < fieldLength) {
+            builder.append(SENTENCE);
+        }
+        field = builder.substring(0, fieldLength);
+
+        if (isNearMiss) {
+            // two substitutions and a deletion away from the field
+            StringBuilder nearMiss = new StringBuilder(field);
+            nearMiss.setCharAt(0, 'x');
+            nearMiss.setCharAt(fieldLength / 2, 'x');
+            nearMiss.deleteCharAt(fieldLength - 1);
+            keyword = nearMiss.toString();
+        } else {
+            keyword = new StringBuilder(field).reverse().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean fullDistance() {
+        return SourceContainsKeywordsPredicate.levenshtienDist(field, keyword) < LEVENSHTIEN_DISTANCE_CONSTANT;
+    }
+
+    @Benchmark
+    public boolean boundedDistance() {
+        return SourceContainsKeywordsPredicate.checkLevenshtienSimilarity(field, keyword);
+    }
+}
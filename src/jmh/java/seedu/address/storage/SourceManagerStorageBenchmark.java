@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.SourceManager;
+import seedu.address.model.StorageBackend;
+import seedu.address.model.source.Author;
+import seedu.address.model.source.BiblioFields;
+import seedu.address.model.source.Detail;
+import seedu.address.model.source.Source;
+import seedu.address.model.source.Title;
+import seedu.address.model.source.Type;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the time taken to save and load source managers of different sizes in the json and binary formats.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class SourceManagerStorageBenchmark {
+
+    private static final String[] TYPES = {"Book", "Journal article", "Website", "Report"};
+    private static final String[] PUBLISHERS = {"Penguin", "Springer", "Elsevier", "MIT Press", "Wiley"};
+    private static final String[] CITIES = {"London", "New York", "Singapore", "Boston"};
+
+    /** The number of sources in the source manager. */
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    /** The format of the file. */
+    @Param({"JSON", "BINARY", "COMPRESSED_BINARY"})
+    private StorageBackend format;
+
+    private Path folder;
+    private SourceManager sourceManager;
+    private SourceManagerStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        sourceManager = new SourceManager();
+        for (int i = 0; i < size; i++) {
+            BiblioFields biblioFields = new BiblioFields()
+                    .replaceField("Publisher", PUBLISHERS[i % PUBLISHERS.length])
+                    .replaceField("City", CITIES[i % CITIES.length])
+                    .replaceField("Year", String.valueOf(1950 + i % 70))
+                    .replaceField("Pages", (i % 300) + "-" + (i % 300 + 20));
+            sourceManager.addSource(new Source(new Title("Research into topic " + i),
+                    new Author("Author " + (i % 500)), new Type(TYPES[i % TYPES.length]),
+                    new Detail("Detailed notes about the findings of source " + i),
+                    Collections.singleton(new Tag("tag" + (i % 20))), biblioFields));
+        }
+
+        folder = Files.createTempDirectory("storage-benchmark");
+        Path filePath = folder.resolve("sourcemanager");
+        switch (format) {
+        case BINARY:
+            storage = new BinarySourceManagerStorage(filePath, false);
+            break;
+        case COMPRESSED_BINARY:
+            storage = new BinarySourceManagerStorage(filePath, true);
+            break;
+        default:
+            storage = new JsonSourceManagerStorage(filePath);
+            break;
+        }
+        storage.saveSourceManager(sourceManager);
+    }
+
+    /**
+     * Deletes the file written by the benchmark.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getSourceManagerFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveSourceManager(sourceManager);
+    }
+
+    @Benchmark
+    public ReadOnlySourceManager load() throws DataConversionException, IOException {
+        return storage.readSourceManager().get();
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.source.Author;
+import seedu.address.model.source.BiblioFields;
+import seedu.address.model.source.Detail;
+import seedu.address.model.source.Source;
+import seedu.address.model.source.Title;
+import seedu.address.model.source.Type;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the validation done for each source of a bulk import through {@code String.matches}, as it was done
+ * before {@code Validator}, against the validation done now, and measures the whole conversion of the imported
+ * sources into the model's {@code Source} objects.
+ * Both validation paths check every attribute twice: once before the conversion, and once in the constructor of
+ * the attribute.
+ * Run with {@code gradlew jmh}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceValidationBenchmark {
+
+    private static final String[] TYPES = {"Book", "Journal article", "Website", "Report"};
+
+    /** The number of sources imported. */
+    @Param({"10000", "100000"})
+    private int size;
+
+    private String[] titles;
+    private String[] types;
+    private String[] authors;
+    private String[] details;
+    private String[] tagNames;
+    private List<JsonAdaptedSource> sources;
+
+    @Setup
+    public void setUp() {
+        titles = new String[size];
+        types = new String[size];
+        authors = new String[size];
+        details = new String[size];
+        tagNames = new String[size];
+        sources = new ArrayList<>(size);
+        String[] fieldBodies = new BiblioFields().getFieldBodies();
+        for (int i = 0; i < size; i++) {
+            titles[i] = "Research into topic " + i;
+            types[i] = TYPES[i % TYPES.length];
+            authors[i] = "Author " + (i % 500);
+            details[i] = "Detailed notes about the findings of source " + i;
+            tagNames[i] = "tag" + (i % 20);
+            sources.add(new JsonAdaptedSource(titles[i], types[i], authors[i], details[i], fieldBodies,
+                    Collections.singletonList(new JsonAdaptedTag(tagNames[i]))));
+        }
+    }
+
+    /**
+     * Validates every source with {@code String.matches}, which compiles the regex of each attribute on every call.
+     */
+    @Benchmark
+    public void regex(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            for (int check = 0; check < 2; check++) {
+                blackhole.consume(titles[i].matches(Title.VALIDATION_REGEX));
+                blackhole.consume(types[i].matches(Type.VALIDATION_REGEX));
+                blackhole.consume(authors[i].matches(Author.VALIDATION_REGEX));
+                blackhole.consume(details[i].matches(Detail.VALIDATION_REGEX));
+                blackhole.consume(tagNames[i].matches(Tag.VALIDATION_REGEX));
+            }
+        }
+    }
+
+    /**
+     * Validates every source with {@code Source#findInvalidAttribute}, followed by the checks of the constructors.
+     */
+    @Benchmark
+    public void validator(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(Source.findInvalidAttribute(titles[i], types[i], authors[i], details[i],
+                    Collections.singletonList(tagNames[i])));
+            blackhole.consume(Title.isValidTitle(titles[i]));
+            blackhole.consume(Type.isValidType(types[i]));
+            blackhole.consume(Author.isValidAuthor(authors[i]));
+            blackhole.consume(Detail.isValidDetail(details[i]));
+            blackhole.consume(Tag.isValidTagName(tagNames[i]));
+        }
+    }
+
+    /**
+     * Converts every source into the model's {@code Source}.
+     */
+    @Benchmark
+    public void toModelType(Blackhole blackhole) throws IllegalValueException {
+        for (JsonAdaptedSource source : sources) {
+            blackhole.consume(source.toModelType());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.DeletedSources;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyDeletedSources;
+import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.SourceManager;
+import seedu.address.model.StorageBackend;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinarySourceManagerStorage;
+import seedu.address.storage.DeletedSourcesStorage;
+import seedu.address.storage.JournalSourceManagerStorage;
+import seedu.address.storage.JsonDeletedSourcesStorage;
+import seedu.address.storage.JsonSourceManagerStorage;
+import seedu.address.storage.MappedSourceManager;
+import seedu.address.storage.SegmentedSourceManagerStorage;
+import seedu.address.storage.SourceManagerStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Creates the parts of the application that do not depend on its user interface, so that they can be shared by
+ * {@link MainApp} and {@link HeadlessApp}.
+ */
+class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {} // prevents instantiation
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty SourceManager");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns a {@code Storage} for the files given in {@code userPrefs}, which reads and saves the user prefs with
+     * {@code userPrefsStorage}.
+     */
+    static Storage initStorage(UserPrefsStorage userPrefsStorage, ReadOnlyUserPrefs userPrefs) {
+        SourceManagerStorage sourceManagerStorage = initSourceManagerStorage(userPrefs);
+        DeletedSourcesStorage deletedSourcesStorage =
+                new JsonDeletedSourcesStorage(userPrefs.getDeletedSourceFilePath());
+        return new StorageManager(sourceManagerStorage, userPrefsStorage, deletedSourcesStorage);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s source manager and {@code userPrefs}. <br>
+     * The data from the sample source manager will be used instead if {@code storage}'s source manager is not found,
+     * or an empty source manager will be used instead if errors occur when reading {@code storage}'s source manager.
+     * <br>
+     * With the {@code MAPPED} storage backend, the source manager file is mapped into a read-only model instead, if it
+     * is a binary file that can be mapped.
+     */
+    static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        if (userPrefs.getSourceManagerStorageBackend() == StorageBackend.MAPPED) {
+            Optional<MappedSourceManager> mappedSourceManager = openMappedSourceManager(userPrefs);
+            if (mappedSourceManager.isPresent()) {
+                return ModelManager.readOnly(mappedSourceManager.get(), userPrefs, initDeletedSources(storage));
+            }
+        }
+
+        Optional<ReadOnlySourceManager> sourceManagerOptional;
+        Optional<ReadOnlyDeletedSources> deletedSourcesOptional;
+        ReadOnlySourceManager initialData;
+        ReadOnlyDeletedSources initialDeletedSources;
+        try {
+            sourceManagerOptional = storage.readSourceManager();
+            deletedSourcesOptional = storage.readDeletedSources();
+            if (!sourceManagerOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample SourceManager");
+            }
+            if (!deletedSourcesOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample DeletedSourcesList");
+            }
+            initialData = sourceManagerOptional.orElseGet(SampleDataUtil::getSampleSourceManager);
+            initialDeletedSources = deletedSourcesOptional.orElseGet(SampleDataUtil::getSampleDeletedSourcesList);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty SourceManager");
+            initialData = new SourceManager();
+            initialDeletedSources = new DeletedSources();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty SourceManager");
+            initialData = new SourceManager();
+            initialDeletedSources = new DeletedSources();
+        }
+
+        return new ModelManager(initialData, userPrefs, initialDeletedSources);
+    }
+
+    /**
+     * Maps the source manager file given in {@code userPrefs}, or returns an empty {@code Optional} if the file
+     * cannot be mapped, so that it is read and can be changed as usual. The file is then saved by a
+     * {@code BinarySourceManagerStorage} in a format that can be mapped the next time.
+     */
+    private static Optional<MappedSourceManager> openMappedSourceManager(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getSourceManagerFilePath();
+        if (!MappedSourceManager.isMappable(filePath)) {
+            logger.warning("Data file " + filePath + " cannot be mapped. Will be opening it for editing instead");
+            return Optional.empty();
+        }
+        try {
+            MappedSourceManager mappedSourceManager = MappedSourceManager.open(filePath);
+            logger.info("Mapped " + filePath + " read-only");
+            return Optional.of(mappedSourceManager);
+        } catch (IOException e) {
+            logger.warning("Problem while mapping " + filePath + ": " + StringUtil.getDetails(e)
+                    + ". Will be opening it for editing instead");
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the deleted sources from {@code storage}, the sample deleted sources if they are not found, or empty
+     * deleted sources if errors occur when reading them.
+     */
+    private static ReadOnlyDeletedSources initDeletedSources(Storage storage) {
+        try {
+            Optional<ReadOnlyDeletedSources> deletedSourcesOptional = storage.readDeletedSources();
+            if (!deletedSourcesOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample DeletedSourcesList");
+            }
+            return deletedSourcesOptional.orElseGet(SampleDataUtil::getSampleDeletedSourcesList);
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty DeletedSourcesList");
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty DeletedSourcesList");
+        }
+        return new DeletedSources();
+    }
+
+    /**
+     * Returns a {@code SourceManagerStorage} for the storage backend chosen in {@code userPrefs}.
+     */
+    private static SourceManagerStorage initSourceManagerStorage(ReadOnlyUserPrefs userPrefs) {
+        switch (userPrefs.getSourceManagerStorageBackend()) {
+        case JOURNAL:
+            return new JournalSourceManagerStorage(userPrefs.getSourceManagerFilePath());
+        case BINARY:
+        case MAPPED:
+            return new BinarySourceManagerStorage(userPrefs.getSourceManagerFilePath(), false);
+        case COMPRESSED_BINARY:
+            return new BinarySourceManagerStorage(userPrefs.getSourceManagerFilePath(), true);
+        case SEGMENTED:
+            return new SegmentedSourceManagerStorage(userPrefs.getSourceManagerFilePath());
+        case JSON:
+        default:
+            return new JsonSourceManagerStorage(userPrefs.getSourceManagerFilePath());
+        }
+    }
+}
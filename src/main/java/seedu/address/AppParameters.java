@@ -17,6 +17,8 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchScriptPath;
+    private int checkpointInterval;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +28,41 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the script to run when the application starts, or null if there is none.
+     */
+    public Path getBatchScriptPath() {
+        return batchScriptPath;
+    }
+
+    public void setBatchScriptPath(Path batchScriptPath) {
+        this.batchScriptPath = batchScriptPath;
+    }
+
+    /**
+     * Returns the number of script commands after which their changes are saved, or 0 if they are saved only at the
+     * end of the script.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named application command-line parameters, given as a map from their names to their values.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,9 +71,38 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchScriptPathParameter = namedParameters.get("batch");
+        if (batchScriptPathParameter != null && !FileUtil.isValidPath(batchScriptPathParameter)) {
+            logger.warning("Invalid batch script path " + batchScriptPathParameter + ". No script will be run.");
+            batchScriptPathParameter = null;
+        }
+        appParameters.setBatchScriptPath(batchScriptPathParameter != null ? Paths.get(batchScriptPathParameter) : null);
+
+        String checkpointIntervalParameter = namedParameters.get("checkpoint");
+        if (checkpointIntervalParameter != null) {
+            appParameters.setCheckpointInterval(parseCheckpointInterval(checkpointIntervalParameter));
+        }
+
         return appParameters;
     }
 
+    /**
+     * Returns the checkpoint interval given by {@code parameter}, or 0 if it is not a non-negative integer.
+     */
+    private static int parseCheckpointInterval(String parameter) {
+        int checkpointInterval;
+        try {
+            checkpointInterval = Integer.parseInt(parameter.trim());
+        } catch (NumberFormatException nfe) {
+            checkpointInterval = -1;
+        }
+        if (checkpointInterval < 0) {
+            logger.warning("Invalid checkpoint interval " + parameter + ". Saving only at the end of the script.");
+            return 0;
+        }
+        return checkpointInterval;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +114,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getBatchScriptPath(), otherAppParameters.getBatchScriptPath())
+                && getCheckpointInterval() == otherAppParameters.getCheckpointInterval();
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScriptPath, checkpointInterval);
     }
 }
@@ -0,0 +1,189 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchReport;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * An entry point to the application without a user interface, for scripts and jobs on machines without a display.
+ * Commands are read from a script file, or from standard input, and their results are written to standard output.
+ * Only the {@code javafx.collections} and {@code javafx.beans} classes used by the model are loaded, so the JavaFX
+ * toolkit is never started.
+ * <p>
+ * Usage: {@code HeadlessApp [--config=CONFIG_FILE] [--checkpoint=CHECKPOINT_INTERVAL] [SCRIPT_FILE | -]} <br>
+ * With {@code SCRIPT_FILE}, or {@code -} for standard input, the commands are run as a batch script. Without it,
+ * each line of standard input is run as a separate command as soon as it is read, as if entered in the command box.
+ */
+public class HeadlessApp {
+
+    public static final String STANDARD_INPUT = "-";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String NAMED_PARAMETER_SEPARATOR = "=";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    /**
+     * Creates the storage, model and logic of the application, as {@link MainApp} does.
+     */
+    HeadlessApp(AppParameters appParameters) {
+        Config config = AppInitializer.initConfig(appParameters.getConfigPath());
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
+
+        LogsCenter.init(config);
+
+        model = AppInitializer.initModelManager(storage, userPrefs);
+        logic = new LogicManager(model, storage);
+    }
+
+    /**
+     * Runs the commands in {@code script} as a batch script, and writes its report to {@code out}.
+     *
+     * @return {@link #EXIT_COMMAND_FAILED} if any command failed, or {@link #EXIT_ERROR} if the script could not be
+     *     read or its changes could not be saved.
+     */
+    int runBatch(BufferedReader script, int checkpointInterval, PrintStream out, PrintStream err) {
+        try {
+            BatchReport report = logic.executeBatch(script, checkpointInterval);
+            out.println(report);
+            return report.getFailureCount() > 0 ? EXIT_COMMAND_FAILED : EXIT_SUCCESS;
+        } catch (IOException ioe) {
+            err.println(LogicManager.FILE_OPS_ERROR_MESSAGE + ioe);
+            return EXIT_ERROR;
+        } finally {
+            savePrefs();
+        }
+    }
+
+    /**
+     * Runs each line of {@code input} as a separate command, writing its result to {@code out}, or its error to
+     * {@code err}, until the input ends or an exit command is run.
+     *
+     * @return {@link #EXIT_COMMAND_FAILED} if any command failed, or {@link #EXIT_ERROR} if the input could not be
+     *     read or the changes could not be saved.
+     */
+    int runCommands(BufferedReader input, PrintStream out, PrintStream err) {
+        int exitStatus = EXIT_SUCCESS;
+        try {
+            String line;
+            while ((line = input.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    CommandResult result = logic.execute(line);
+                    out.println(result.getFeedbackToUser());
+                    if (result.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    err.println(e.getMessage());
+                    exitStatus = EXIT_COMMAND_FAILED;
+                }
+            }
+            logic.flush();
+        } catch (IOException ioe) {
+            err.println(LogicManager.FILE_OPS_ERROR_MESSAGE + ioe);
+            exitStatus = EXIT_ERROR;
+        } finally {
+            savePrefs();
+        }
+        return exitStatus;
+    }
+
+    /**
+     * Saves the user preferences, which are not saved by {@link Logic}, as {@link MainApp} does when it stops.
+     */
+    private void savePrefs() {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Runs the application with {@code args}, and returns its exit status.
+     */
+    static int run(String[] args, BufferedReader standardInput, PrintStream out, PrintStream err) {
+        Map<String, String> namedParameters = new HashMap<>();
+        List<String> unnamedParameters = new ArrayList<>();
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf(NAMED_PARAMETER_SEPARATOR);
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else {
+                unnamedParameters.add(arg);
+            }
+        }
+        if (unnamedParameters.size() > 1) {
+            err.println("Usage: HeadlessApp [--config=CONFIG_FILE] [--checkpoint=CHECKPOINT_INTERVAL] "
+                    + "[SCRIPT_FILE | " + STANDARD_INPUT + "]");
+            return EXIT_ERROR;
+        }
+
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        if (!unnamedParameters.isEmpty() && !unnamedParameters.get(0).equals(STANDARD_INPUT)) {
+            appParameters.setBatchScriptPath(Paths.get(unnamedParameters.get(0)));
+        }
+        HeadlessApp app = new HeadlessApp(appParameters);
+
+        Path scriptPath = appParameters.getBatchScriptPath();
+        if (scriptPath != null) {
+            try (BufferedReader script = Files.newBufferedReader(scriptPath)) {
+                return app.runBatch(script, appParameters.getCheckpointInterval(), out, err);
+            } catch (IOException ioe) {
+                err.println("Could not read the script " + scriptPath + ": " + ioe);
+                return EXIT_ERROR;
+            }
+        }
+        if (!unnamedParameters.isEmpty()) {
+            return app.runBatch(standardInput, appParameters.getCheckpointInterval(), out, err);
+        }
+        return app.runCommands(standardInput, out, err);
+    }
+
+    /**
+     * Runs the application with {@code args}, reading from the standard input, and exits with its exit status.
+     */
+    public static void main(String[] args) {
+        BufferedReader standardInput = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        System.exit(run(args, standardInput, System.out, System.err));
+    }
+}
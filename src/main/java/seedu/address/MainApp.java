@@ -1,8 +1,9 @@
 package seedu.address;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -10,27 +11,13 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
-import seedu.address.model.DeletedSources;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyDeletedSources;
-import seedu.address.model.ReadOnlySourceManager;
-import seedu.address.model.ReadOnlyUserPrefs;
-import seedu.address.model.SourceManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.DeletedSourcesStorage;
-import seedu.address.storage.JsonDeletedSourcesStorage;
-import seedu.address.storage.JsonSourceManagerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.SourceManagerStorage;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -60,52 +47,32 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        SourceManagerStorage sourceManagerStorage = new JsonSourceManagerStorage(userPrefs.getSourceManagerFilePath());
-        DeletedSourcesStorage deletedSourcesStorage =
-                new JsonDeletedSourcesStorage(userPrefs.getDeletedSourceFilePath());
-        storage = new StorageManager(sourceManagerStorage, userPrefsStorage, deletedSourcesStorage);
+        storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        model = AppInitializer.initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        runBatchScript(appParameters);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s source manager and {@code userPrefs}. <br>
-     * The data from the sample source manager will be used instead if {@code storage}'s source manager is not found,
-     * or an empty source manager will be used instead if errors occur when reading {@code storage}'s source manager.
+     * Runs the batch script given in {@code appParameters}, if any, before the user interface is shown.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlySourceManager> sourceManagerOptional;
-        Optional<ReadOnlyDeletedSources> deletedSourcesOptional;
-        ReadOnlySourceManager initialData;
-        ReadOnlyDeletedSources initialDeletedSources;
-        try {
-            sourceManagerOptional = storage.readSourceManager();
-            deletedSourcesOptional = storage.readDeletedSources();
-            if (!sourceManagerOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample SourceManager");
-            }
-            if (!deletedSourcesOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample DeletedSourcesList");
-            }
-            initialData = sourceManagerOptional.orElseGet(SampleDataUtil::getSampleSourceManager);
-            initialDeletedSources = deletedSourcesOptional.orElseGet(SampleDataUtil::getSampleDeletedSourcesList);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty SourceManager");
-            initialData = new SourceManager();
-            initialDeletedSources = new DeletedSources();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty SourceManager");
-            initialData = new SourceManager();
-            initialDeletedSources = new DeletedSources();
+    private void runBatchScript(AppParameters appParameters) {
+        if (appParameters.getBatchScriptPath() == null) {
+            return;
         }
 
-        return new ModelManager(initialData, userPrefs, initialDeletedSources);
+        logger.info("Running batch script " + appParameters.getBatchScriptPath());
+        try (BufferedReader script = Files.newBufferedReader(appParameters.getBatchScriptPath())) {
+            logic.executeBatch(script, appParameters.getCheckpointInterval());
+        } catch (IOException e) {
+            logger.warning("Batch script failed: " + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -113,71 +80,21 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns a {@code Config} using the file at {@code configFilePath}.
+     *
+     * @see AppInitializer#initConfig(Path)
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataConversionException e) {
-            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
-                    + "Using default config properties");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path.
+     *
+     * @see AppInitializer#initPrefs(UserPrefsStorage)
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using prefs file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataConversionException e) {
-            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
-                    + "Using default user prefs");
-            initializedPrefs = new UserPrefs();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty SourceManager");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(storage);
     }
 
     @Override
@@ -189,6 +106,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Source Manager ] =============================");
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
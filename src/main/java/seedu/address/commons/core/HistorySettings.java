@@ -0,0 +1,72 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the undo history settings.
+ * Undo states beyond either limit are moved out of memory into an on-disk journal, from which they are read back
+ * when they are undone to.
+ * Settings read from the preferences file are not checked when they are read, so a limit that is not positive is
+ * replaced by its default whenever it is used.
+ * Guarantees: immutable.
+ */
+public class HistorySettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS = "History limits should be positive";
+
+    private static final int DEFAULT_MAX_STATES_IN_MEMORY = 50;
+    private static final long DEFAULT_MAX_BYTES_IN_MEMORY = 64L * 1024 * 1024;
+
+    private final int maxStatesInMemory;
+    private final long maxBytesInMemory;
+
+    public HistorySettings() {
+        maxStatesInMemory = DEFAULT_MAX_STATES_IN_MEMORY;
+        maxBytesInMemory = DEFAULT_MAX_BYTES_IN_MEMORY;
+    }
+
+    public HistorySettings(int maxStatesInMemory, long maxBytesInMemory) {
+        checkArgument(maxStatesInMemory > 0 && maxBytesInMemory > 0, MESSAGE_CONSTRAINTS);
+        this.maxStatesInMemory = maxStatesInMemory;
+        this.maxBytesInMemory = maxBytesInMemory;
+    }
+
+    public int getMaxStatesInMemory() {
+        return maxStatesInMemory > 0 ? maxStatesInMemory : DEFAULT_MAX_STATES_IN_MEMORY;
+    }
+
+    public long getMaxBytesInMemory() {
+        return maxBytesInMemory > 0 ? maxBytesInMemory : DEFAULT_MAX_BYTES_IN_MEMORY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistorySettings)) { //this handles null as well.
+            return false;
+        }
+
+        HistorySettings o = (HistorySettings) other;
+
+        return maxStatesInMemory == o.maxStatesInMemory
+                && maxBytesInMemory == o.maxBytesInMemory;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxStatesInMemory, maxBytesInMemory);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max states in memory : " + maxStatesInMemory + "\n");
+        sb.append("Max bytes in memory : " + maxBytesInMemory);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the search settings.
+ * A search is answered from the search index of the sources if it is enabled. Otherwise, libraries with at least
+ * {@code parallelThreshold} sources are searched in parallel, across {@code parallelism} threads.
+ * Settings read from the preferences file are not checked when they are read, so a setting that does not meet the
+ * constraints is replaced by its default whenever it is used.
+ * Guarantees: immutable.
+ */
+public class SearchSettings implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "The parallel threshold should be positive, and the parallelism should not be negative";
+
+    private static final boolean DEFAULT_IS_INDEXED = true;
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 10000;
+    /** A parallelism of 0 stands for one thread per available processor. */
+    private static final int DEFAULT_PARALLELISM = 0;
+
+    private final boolean isIndexed;
+    private final int parallelThreshold;
+    private final int parallelism;
+
+    public SearchSettings() {
+        isIndexed = DEFAULT_IS_INDEXED;
+        parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+        parallelism = DEFAULT_PARALLELISM;
+    }
+
+    public SearchSettings(boolean isIndexed, int parallelThreshold, int parallelism) {
+        checkArgument(isValidParallelThreshold(parallelThreshold) && isValidParallelism(parallelism),
+                MESSAGE_CONSTRAINTS);
+        this.isIndexed = isIndexed;
+        this.parallelThreshold = parallelThreshold;
+        this.parallelism = parallelism;
+    }
+
+    public boolean isIndexed() {
+        return isIndexed;
+    }
+
+    public int getParallelThreshold() {
+        return isValidParallelThreshold(parallelThreshold) ? parallelThreshold : DEFAULT_PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * Returns the number of threads to search with, resolving the default to the number of available processors.
+     */
+    public int getParallelism() {
+        int validParallelism = isValidParallelism(parallelism) ? parallelism : DEFAULT_PARALLELISM;
+        return validParallelism == 0 ? Runtime.getRuntime().availableProcessors() : validParallelism;
+    }
+
+    private static boolean isValidParallelThreshold(int parallelThreshold) {
+        return parallelThreshold > 0;
+    }
+
+    private static boolean isValidParallelism(int parallelism) {
+        return parallelism >= 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SearchSettings)) { //this handles null as well.
+            return false;
+        }
+
+        SearchSettings o = (SearchSettings) other;
+
+        return isIndexed == o.isIndexed
+                && parallelThreshold == o.parallelThreshold
+                && parallelism == o.parallelism;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isIndexed, parallelThreshold, parallelism);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Indexed : " + isIndexed + "\n");
+        sb.append("Parallel threshold : " + parallelThreshold + "\n");
+        sb.append("Parallelism : " + parallelism);
+        return sb.toString();
+    }
+}
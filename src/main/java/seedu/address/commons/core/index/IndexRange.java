@@ -0,0 +1,82 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents either every position of a list, or the positions from one {@code Index} to another, both inclusive.
+ */
+public class IndexRange {
+    private static final IndexRange ALL = new IndexRange(null, null);
+
+    private final Index first;
+    private final Index last;
+
+    /**
+     * IndexRange can only be created by calling {@link IndexRange#all()} or
+     * {@link IndexRange#between(Index, Index)}.
+     */
+    private IndexRange(Index first, Index last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Returns the range of every position of a list.
+     */
+    public static IndexRange all() {
+        return ALL;
+    }
+
+    /**
+     * Returns the range from {@code first} to {@code last}, both inclusive.
+     *
+     * @throws IllegalArgumentException if {@code last} is before {@code first}.
+     */
+    public static IndexRange between(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new IllegalArgumentException("The last index of a range cannot be before its first index.");
+        }
+        return new IndexRange(first, last);
+    }
+
+    public boolean isAll() {
+        return this == ALL;
+    }
+
+    /**
+     * Returns the first index of the range, which is empty if the range is every position of a list.
+     */
+    public Optional<Index> getFirst() {
+        return Optional.ofNullable(first);
+    }
+
+    /**
+     * Returns the last index of the range, which is empty if the range is every position of a list.
+     */
+    public Optional<Index> getLast() {
+        return Optional.ofNullable(last);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexRange // instanceof handles nulls
+                && Objects.equals(first, ((IndexRange) other).first)
+                && Objects.equals(last, ((IndexRange) other).last)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return isAll() ? 0 : Objects.hash(first.getZeroBased(), last.getZeroBased());
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "all" : first.getOneBased() + " to " + last.getOneBased();
+    }
+}
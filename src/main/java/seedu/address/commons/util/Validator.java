@@ -0,0 +1,123 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Checks whether strings fully match a validation regex.
+ * Validators are cached by regex, so each regex is compiled at most once, however many values it validates.
+ * The simple regexes that the model's value classes use are checked by hand-written loops over the characters of
+ * the value, which give the same results as the regex without running a {@code Matcher}.
+ */
+public final class Validator {
+
+    /** Non-empty strings of ASCII letters, digits and spaces that start with a letter or digit. */
+    public static final String ALPHANUMERIC_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    /** Single lines that do not start with a whitespace character. */
+    public static final String NOT_BLANK_REGEX = "[^\\s].*";
+
+    private static final Map<String, Validator> validators = new ConcurrentHashMap<>();
+
+    private final String regex;
+    private final Predicate<String> check;
+
+    private Validator(String regex, Predicate<String> check) {
+        this.regex = regex;
+        this.check = check;
+    }
+
+    /**
+     * Returns the validator for {@code regex}, compiling it if it has not been used before.
+     *
+     * @throws PatternSyntaxException if {@code regex} is not a valid regex.
+     */
+    public static Validator of(String regex) {
+        requireNonNull(regex);
+        Validator validator = validators.get(regex);
+        if (validator == null) {
+            validator = validators.computeIfAbsent(regex, Validator::compile);
+        }
+        return validator;
+    }
+
+    /**
+     * Returns true if the whole of {@code value} matches the regex of this validator.
+     */
+    public boolean isValid(String value) {
+        requireNonNull(value);
+        return check.test(value);
+    }
+
+    public String getRegex() {
+        return regex;
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+
+    /**
+     * Returns a validator for {@code regex}, which checks the simple regexes by hand.
+     */
+    private static Validator compile(String regex) {
+        switch (regex) {
+        case ALPHANUMERIC_REGEX:
+            return new Validator(regex, Validator::isAlphanumeric);
+        case NOT_BLANK_REGEX:
+            return new Validator(regex, Validator::isNotBlankLine);
+        default:
+            Pattern pattern = Pattern.compile(regex);
+            return new Validator(regex, value -> pattern.matcher(value).matches());
+        }
+    }
+
+    /**
+     * Returns true if {@code value} matches {@link #ALPHANUMERIC_REGEX}.
+     */
+    private static boolean isAlphanumeric(String value) {
+        if (value.isEmpty() || !isAsciiAlphanumeric(value.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != ' ' && !isAsciiAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code value} matches {@link #NOT_BLANK_REGEX}.
+     * As in a regex, whitespace is ASCII whitespace, and {@code .} matches anything but a line terminator.
+     */
+    private static boolean isNotBlankLine(String value) {
+        if (value.isEmpty() || isAsciiWhitespace(value.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < value.length(); i++) {
+            if (isLineTerminator(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isAsciiWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summarises a run of a batch script: how many commands it ran, which of them failed, and how quickly.
+ */
+public class BatchReport {
+
+    public static final String MESSAGE_SUMMARY = "Ran %1$d commands in %2$.2f seconds (%3$.0f commands per second)"
+            + ", %4$d failed.";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more.";
+
+    private final int commandCount;
+    private final int failureCount;
+    private final List<String> errors;
+    private final long elapsedNanos;
+
+    /**
+     * Creates a report of {@code commandCount} commands that took {@code elapsedNanos} to run, of which
+     * {@code failureCount} failed. {@code errors} describes the first failures, and may be shorter than
+     * {@code failureCount}.
+     */
+    public BatchReport(int commandCount, int failureCount, List<String> errors, long elapsedNanos) {
+        requireNonNull(errors);
+        assert failureCount >= errors.size();
+        this.commandCount = commandCount;
+        this.failureCount = failureCount;
+        this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the descriptions of the first commands that failed, each starting with its line in the script.
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of commands run per second.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : commandCount * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUMMARY, commandCount, elapsedNanos / 1e9,
+                getThroughput(), failureCount));
+        errors.forEach(error -> builder.append('\n').append(error));
+        if (failureCount > errors.size()) {
+            builder.append('\n').append(String.format(MESSAGE_MORE_ERRORS, failureCount - errors.size()));
+        }
+        return builder.toString();
+    }
+}
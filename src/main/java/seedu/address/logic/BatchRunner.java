@@ -0,0 +1,144 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.RecycleBinParser;
+import seedu.address.logic.parser.SourceManagerParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ParserMode;
+import seedu.address.model.source.exceptions.ReadOnlySourcesException;
+
+/**
+ * Runs the commands in a script one line at a time, as if each had been entered by the user.
+ * Commits are deferred while the script runs, so the changes made between two checkpoints become a single undoable
+ * state, and the caller is told of each checkpoint so that it can save the changes then rather than after every line.
+ * Blank lines and lines starting with {@code #} are skipped.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final int MAX_REPORTED_ERRORS = 20;
+
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_NESTED_BATCH = "A batch script cannot run another batch script.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final CommandHistory history;
+    private final SourceManagerParser sourceManagerParser;
+    private final RecycleBinParser recycleBinParser;
+
+    public BatchRunner(Model model, CommandHistory history, SourceManagerParser sourceManagerParser,
+            RecycleBinParser recycleBinParser) {
+        requireAllNonNull(model, history, sourceManagerParser, recycleBinParser);
+        this.model = model;
+        this.history = history;
+        this.sourceManagerParser = sourceManagerParser;
+        this.recycleBinParser = recycleBinParser;
+    }
+
+    /**
+     * Runs every command in {@code script}, stopping early only at an exit command.
+     * A checkpoint is made after every {@code checkpointInterval} commands (never, if it is 0), before every undo or
+     * redo command so that it undoes or redoes the commands before it, and at the end of the script.
+     * A command that fails is reported and the script carries on with the next line.
+     *
+     * @param onCheckpoint called after the changes made so far are committed at each checkpoint.
+     * @throws IOException if {@code script} could not be read. The changes made up to then are still committed.
+     */
+    public BatchReport run(BufferedReader script, int checkpointInterval, Runnable onCheckpoint) throws IOException {
+        requireAllNonNull(script, onCheckpoint);
+        checkArgument(checkpointInterval >= 0, "Checkpoint interval must not be negative.");
+
+        long startTime = System.nanoTime();
+        int commandCount = 0;
+        int failureCount = 0;
+        int commandsSinceCheckpoint = 0;
+        List<String> errors = new ArrayList<>();
+
+        model.setCommitsDeferred(true);
+        try {
+            int lineNumber = 0;
+            String line;
+            while ((line = script.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    Command command = parseCommand(commandText);
+                    if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                        checkpoint(onCheckpoint);
+                        commandsSinceCheckpoint = 0;
+                    }
+                    CommandResult result = command.execute(model, history);
+                    if (result.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException | ReadOnlySourcesException e) {
+                    failureCount++;
+                    String error = String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage());
+                    logger.info("Batch script command failed. " + error);
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(error);
+                    }
+                }
+
+                if (checkpointInterval > 0 && ++commandsSinceCheckpoint >= checkpointInterval) {
+                    checkpoint(onCheckpoint);
+                    commandsSinceCheckpoint = 0;
+                }
+            }
+        } finally {
+            model.setCommitsDeferred(false);
+            onCheckpoint.run();
+        }
+
+        BatchReport report = new BatchReport(commandCount, failureCount, errors, System.nanoTime() - startTime);
+        logger.info("Batch script finished. " + report);
+        return report;
+    }
+
+    /**
+     * Parses {@code commandText} with the parser for the current mode of the model.
+     *
+     * @throws ParseException if {@code commandText} is not a valid command, or is a batch command.
+     */
+    private Command parseCommand(String commandText) throws ParseException {
+        SourceManagerParser parser = model.getParserMode() == ParserMode.RECYCLE_BIN
+                ? recycleBinParser
+                : sourceManagerParser;
+        Command command = parser.parseCommand(commandText);
+        if (command instanceof BatchCommand) {
+            throw new ParseException(MESSAGE_NESTED_BATCH);
+        }
+        return command;
+    }
+
+    /**
+     * Commits the changes made since the previous checkpoint, and tells the caller.
+     */
+    private void checkpoint(Runnable onCheckpoint) {
+        model.commitDeferredChanges();
+        onCheckpoint.run();
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -25,6 +27,21 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Runs the commands in {@code script}, one per line, and waits for their changes to be saved.
+     * @param checkpointInterval The number of commands after which the changes are committed and saved, or 0 to
+     *     do so only at the end of the script.
+     * @return the report of the script, which lists the commands that failed.
+     * @throws IOException If the script could not be read, or the changes could not be saved.
+     */
+    BatchReport executeBatch(BufferedReader script, int checkpointInterval) throws IOException;
+
+    /**
+     * Waits for the changes made by previous commands to be saved.
+     * @throws IOException If the changes could not be saved.
+     */
+    void flush() throws IOException;
+
     /**
      * Returns the SourceManager.
      *
@@ -1,5 +1,6 @@
 package seedu.address.logic;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
@@ -8,6 +9,7 @@ import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -18,18 +20,23 @@ import seedu.address.model.Model;
 import seedu.address.model.ParserMode;
 import seedu.address.model.ReadOnlyDeletedSources;
 import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.SourceListSnapshot;
 import seedu.address.model.source.Source;
+import seedu.address.model.source.exceptions.ReadOnlySourcesException;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
+ * Changes made by commands are saved in the background by a {@link WriteBehindSaver}, and a failure to save them is
+ * reported by the next command.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSaver saver;
     private final CommandHistory history;
     private final SourceManagerParser sourceManagerParser;
     private final RecycleBinParser recycleBinParser;
@@ -38,8 +45,12 @@ public class LogicManager implements Logic {
     private boolean deletedSourcesModified;
 
     public LogicManager(Model model, Storage storage) {
+        this(model, new WriteBehindSaver(storage));
+    }
+
+    public LogicManager(Model model, WriteBehindSaver saver) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
         history = new CommandHistory();
         sourceManagerParser = new SourceManagerParser();
         recycleBinParser = new RecycleBinParser();
@@ -72,30 +83,72 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         try {
             Command command = mainParser.parseCommand(commandText);
-            commandResult = command.execute(model, history);
+            commandResult = command instanceof BatchCommand
+                    ? new CommandResult(runBatch((BatchCommand) command).toString())
+                    : command.execute(model, history);
+        } catch (ReadOnlySourcesException rse) {
+            throw new CommandException(rse.getMessage(), rse);
         } finally {
             history.add(commandText);
         }
 
+        saveModifiedData();
+
+        try {
+            if (commandResult.isExit()) {
+                saver.flush();
+            } else {
+                saver.rethrowFailure();
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+
+        return commandResult;
+    }
+
+    @Override
+    public BatchReport executeBatch(BufferedReader script, int checkpointInterval) throws IOException {
+        logger.info("----------------[BATCH SCRIPT]");
+        sourceManagerModified = false;
+        deletedSourcesModified = false;
+        BatchReport report = newBatchRunner().run(script, checkpointInterval, this::saveModifiedData);
+        saver.flush();
+        return report;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        saver.flush();
+    }
+
+    /**
+     * Runs {@code batchCommand} with the parsers of this LogicManager, saving the changes made at each checkpoint.
+     */
+    private BatchReport runBatch(BatchCommand batchCommand) throws CommandException {
+        return batchCommand.run(newBatchRunner(), this::saveModifiedData);
+    }
+
+    private BatchRunner newBatchRunner() {
+        return new BatchRunner(model, history, sourceManagerParser, recycleBinParser);
+    }
+
+    /**
+     * Saves the source manager and deleted sources, if they have been modified since they were last saved.
+     */
+    private void saveModifiedData() {
+        // Snapshots are saved, as the source lists may change again before they are written.
         if (sourceManagerModified) {
             logger.info("Source manager modified, saving to file.");
-            try {
-                storage.saveSourceManager(model.getSourceManager());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            saver.saveSourceManager(new SourceListSnapshot(model.getSourceManager().getSourceList()));
+            sourceManagerModified = false;
         }
 
         if (deletedSourcesModified) {
             logger.info("Delete Sources modified, saving to file.");
-            try {
-                storage.saveDeletedSources(model.getDeletedSources());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            saver.saveDeletedSources(new SourceListSnapshot(model.getDeletedSources().getDeletedSourceList()));
+            deletedSourcesModified = false;
         }
-
-        return commandResult;
     }
 
     @Override
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHECKPOINT;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.logic.BatchReport;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.RecycleBinParser;
+import seedu.address.logic.parser.SourceManagerParser;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file, one per line.
+ * The changes made by the script are committed, and saved, together at the end of the script, or after every
+ * {@code checkpointInterval} commands if it is not 0.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a script file, one per line. Lines starting with "
+            + BatchRunner.COMMENT_PREFIX + " are skipped.\n"
+            + "Parameters: FILE_PATH [" + PREFIX_CHECKPOINT + "CHECKPOINT_INTERVAL]\n"
+            + "Example: " + COMMAND_WORD + " scripts/migration.txt " + PREFIX_CHECKPOINT + "1000";
+
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read the script %1$s: %2$s";
+
+    private final Path scriptPath;
+    private final int checkpointInterval;
+
+    /**
+     * Creates a BatchCommand to run the script at {@code scriptPath}, making a checkpoint after every
+     * {@code checkpointInterval} commands, or only at the end if it is 0.
+     */
+    public BatchCommand(Path scriptPath, int checkpointInterval) {
+        requireNonNull(scriptPath);
+        assert checkpointInterval >= 0;
+        this.scriptPath = scriptPath;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs the script with parsers of its own, without saving at checkpoints.
+     * The source manager and deleted sources are saved once afterwards, as for any other command.
+     */
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        BatchRunner runner = new BatchRunner(model, history, new SourceManagerParser(), new RecycleBinParser());
+        BatchReport report = run(runner, () -> { });
+        return new CommandResult(report.toString());
+    }
+
+    /**
+     * Runs the script with {@code runner}, calling {@code onCheckpoint} at each checkpoint.
+     *
+     * @throws CommandException if the script could not be read.
+     */
+    public BatchReport run(BatchRunner runner, Runnable onCheckpoint) throws CommandException {
+        requireNonNull(runner);
+        try (BufferedReader script = Files.newBufferedReader(scriptPath)) {
+            return runner.run(script, checkpointInterval, onCheckpoint);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_SCRIPT, scriptPath, ioe), ioe);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && scriptPath.equals(((BatchCommand) other).scriptPath)
+                && checkpointInterval == ((BatchCommand) other).checkpointInterval); // state check
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.source.Source;
+
+/**
+ * Represents a command that acts on every source in a range of the displayed source list.
+ * The sources are changed together, so that the command makes one commit, is undone in one step, and is saved once.
+ */
+public abstract class BulkCommand extends Command {
+
+    public static final String MESSAGE_NO_SOURCES = "There are no sources in the displayed source list.";
+
+    protected final IndexRange range;
+
+    protected BulkCommand(IndexRange range) {
+        requireNonNull(range);
+        this.range = range;
+    }
+
+    /**
+     * Returns a copy of the sources in the range of the displayed source list of {@code model}, which stays the same
+     * as the displayed source list changes.
+     *
+     * @throws CommandException if the range is not within the displayed source list, or there are no sources in it.
+     */
+    protected List<Source> getTargetSources(Model model) throws CommandException {
+        List<Source> lastShownList = model.getFilteredSourceList();
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_SOURCES);
+        }
+        if (range.isAll()) {
+            return new ArrayList<>(lastShownList);
+        }
+
+        int first = range.getFirst().get().getZeroBased();
+        int last = range.getLast().get().getZeroBased();
+        if (last >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_SOURCE_DISPLAYED_INDEX);
+        }
+        return new ArrayList<>(lastShownList.subList(first, last + 1));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other != null && other.getClass() == getClass() // handles nulls
+                && range.equals(((BulkCommand) other).range)); // state check
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ParserMode;
+import seedu.address.model.PinnedSourcesCoordinationCenter;
+import seedu.address.model.source.Source;
+
+/**
+ * Deletes every source in a range of the displayed source list from the source manager at once.
+ * Can also be used in recycle bin mode to delete sources permanently from the deleted source list.
+ */
+public class BulkDeleteCommand extends BulkCommand {
+
+    public static final String MESSAGE_DELETE_SOURCES_SUCCESS = "Deleted %1$d sources.";
+    public static final String MESSAGE_DUPLICATE_SOURCES = "%1$d of them were deleted permanently, since the same "
+            + "sources exist in the Recycle Bin.\nRefer to the help section to find out more about duplicate sources.";
+
+    public BulkDeleteCommand(IndexRange range) {
+        super(range);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Source> sourcesToDelete = getTargetSources(model);
+
+        // for recycle bin mode, deletes sources from recycle bin permanently
+        if (model.getParserMode() == ParserMode.RECYCLE_BIN) {
+            model.removeDeletedSources(sourcesToDelete);
+            model.commitDeletedSources();
+            return new CommandResult(String.format(MESSAGE_DELETE_SOURCES_SUCCESS, sourcesToDelete.size()));
+        }
+
+        long pinnedCount = sourcesToDelete.stream().filter(Source::getPinnedState).count();
+        for (long i = 0; i < pinnedCount; i++) {
+            PinnedSourcesCoordinationCenter.decrementPinnedSources(model);
+        }
+        if (pinnedCount > 0) {
+            PinnedSourcesCoordinationCenter.saveCurrentPinnedSources(model);
+        }
+
+        // remove sources from source manager database
+        model.deleteSources(sourcesToDelete);
+        model.commitSourceManager();
+
+        // sources whose exact same source exists in deleted source list are deleted permanently
+        List<Source> sourcesToRecycle = sourcesToDelete.stream()
+                .filter(source -> !model.hasDeletedSource(source))
+                .collect(Collectors.toList());
+        String message = String.format(MESSAGE_DELETE_SOURCES_SUCCESS, sourcesToDelete.size());
+        if (sourcesToRecycle.size() < sourcesToDelete.size()) {
+            message += "\n" + String.format(MESSAGE_DUPLICATE_SOURCES,
+                    sourcesToDelete.size() - sourcesToRecycle.size());
+        }
+        if (sourcesToRecycle.isEmpty()) {
+            return new CommandResult(message);
+        }
+
+        // set pinned flag for sources to be false before moving them to deleted sources database
+        sourcesToRecycle.forEach(source -> source.setPinnedState(false));
+
+        model.addDeletedSources(sourcesToRecycle);
+        model.commitDeletedSources();
+        return new CommandResult(message);
+    }
+}
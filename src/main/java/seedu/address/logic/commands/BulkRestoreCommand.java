@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.source.Source;
+
+/**
+ * Restores every source in a range of the displayed deleted source list at once.
+ */
+public class BulkRestoreCommand extends BulkCommand {
+
+    public static final String MESSAGE_RESTORE_DUPLICATE_SOURCES =
+            "Since %1$d of the sources exist in the Source Manager, no sources were restored.\n"
+            + "To remove them, use the empty-bin or delete command.\n"
+            + "Refer to the help section to find out more about duplicate sources.\n";
+
+    public static final String MESSAGE_RESTORE_SOURCES_SUCCESS = "Restored %1$d sources.";
+
+    public BulkRestoreCommand(IndexRange range) {
+        super(range);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Source> sourcesToRestore = getTargetSources(model);
+
+        // To guard against conflicts rising from restoring duplicate sources,
+        // no source is restored if any of them exists in the source manager list.
+        long duplicateCount = sourcesToRestore.stream().filter(model::hasSource).count();
+        if (duplicateCount > 0) {
+            throw new CommandException(String.format(MESSAGE_RESTORE_DUPLICATE_SOURCES, duplicateCount));
+        }
+
+        model.addSources(sourcesToRestore);
+        model.commitSourceManager();
+
+        model.removeDeletedSources(sourcesToRestore);
+        model.commitDeletedSources();
+        return new CommandResult(String.format(MESSAGE_RESTORE_SOURCES_SUCCESS, sourcesToRestore.size()));
+    }
+}
@@ -74,9 +74,7 @@ public class CustomOrderCommand extends Command {
             throw new CommandException(MESSAGE_POSITION_PINNED);
         }
 
-        Source sourceToMove = completeSourceList.get(initialIndex);
-        model.deleteSource(sourceToMove);
-        model.addSourceAtIndex(sourceToMove, newPosition);
+        model.moveSource(initialIndex, newPosition);
         model.commitSourceManager();
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, initialIndex + 1, newPosition + 1));
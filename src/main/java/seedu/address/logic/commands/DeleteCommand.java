@@ -23,7 +23,8 @@ public class DeleteCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Deletes the source identified by the index number used in the displayed source list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Parameters: INDEX (must be a positive integer), or FIRST_INDEX LAST_INDEX, or all for every "
+            + "displayed source\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DUPLICATE_SOURCE = "Since the same source exists in the Recycle Bin. "
@@ -1,6 +1,6 @@
 package seedu.address.logic.commands;
 
-import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -9,25 +9,27 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 
 /**
- * Lists all the commands entered by user from the start of app launch.
+ * Lists all the commands entered by user from the start of app launch, and how much space the undo history takes up.
  */
 public class HistoryCommand extends Command {
 
     public static final String COMMAND_WORD = "history";
     public static final String MESSAGE_SUCCESS = "Entered commands (from most recent to earliest):\n%1$s";
     public static final String MESSAGE_NO_HISTORY = "You have not yet entered any commands.";
+    public static final String MESSAGE_UNDO_HISTORY = "\nUndo history: %1$s";
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
-        requireNonNull(history);
+        requireAllNonNull(model, history);
         ArrayList<String> previousCommands = new ArrayList<>(history.getHistory());
+        String undoHistory = String.format(MESSAGE_UNDO_HISTORY, model.getHistoryFootprint());
 
         if (previousCommands.isEmpty()) {
-            return new CommandResult(MESSAGE_NO_HISTORY);
+            return new CommandResult(MESSAGE_NO_HISTORY + undoHistory);
         }
 
         Collections.reverse(previousCommands);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)) + undoHistory);
     }
 
 }
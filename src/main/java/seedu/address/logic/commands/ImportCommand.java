@@ -0,0 +1,126 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DRY_RUN;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.source.Source;
+import seedu.address.model.source.SourceIdentity;
+import seedu.address.storage.ImportedSourceStreams;
+import seedu.address.storage.ImportedSourceStreams.Format;
+
+/**
+ * Imports the sources in a BibTeX or RIS file.
+ * Sources that are already in the source manager, or earlier in the file, are skipped, and the others are added
+ * together as a single change, which is committed and saved once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports the sources in a BibTeX (.bib) or RIS (.ris) file, skipping those already in the database.\n"
+            + "Parameters: FILE_PATH [" + PREFIX_DRY_RUN + "]\n"
+            + "Example: " + COMMAND_WORD + " references.bib " + PREFIX_DRY_RUN;
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d new sources from %2$s, skipping %3$d duplicates.";
+    public static final String MESSAGE_DRY_RUN = "Dry run: %1$d new sources would be imported from %2$s, "
+            + "skipping %3$d duplicates. Nothing was changed.";
+    public static final String MESSAGE_PROGRESS = "Read %1$d entries from %2$s";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s: %2$s";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Only BibTeX (.bib) and RIS (.ris) files can be imported.";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path filePath;
+    private final Format format;
+    private final boolean isDryRun;
+
+    /**
+     * Creates an ImportCommand to import the sources in the file at {@code filePath}, which is in {@code format}.
+     * With {@code isDryRun}, the sources are only counted.
+     */
+    public ImportCommand(Path filePath, Format format, boolean isDryRun) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+        this.isDryRun = isDryRun;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        NewSourceCollector collector = new NewSourceCollector(model);
+        String invalidEntries = "";
+        try {
+            ImportedSourceStreams.readSources(filePath, format, collector, entryCount ->
+                    logger.info(String.format(MESSAGE_PROGRESS, entryCount, filePath)));
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, ioe.getMessage()), ioe);
+        } catch (IllegalValueException ive) {
+            invalidEntries = "\n" + ive.getMessage();
+        }
+
+        if (isDryRun) {
+            return new CommandResult(String.format(MESSAGE_DRY_RUN, collector.newSourceCount, filePath,
+                    collector.duplicateCount) + invalidEntries);
+        }
+        if (!collector.newSources.isEmpty()) {
+            model.addSources(collector.newSources);
+            model.commitSourceManager();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, collector.newSourceCount, filePath,
+                collector.duplicateCount) + invalidEntries);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && filePath.equals(((ImportCommand) other).filePath)
+                && format == ((ImportCommand) other).format
+                && isDryRun == ((ImportCommand) other).isDryRun);
+    }
+
+    /**
+     * Collects the imported sources that are in neither the source manager nor the sources imported before them.
+     * In a dry run, the new sources are only counted, so that only their identities are held in memory.
+     */
+    private class NewSourceCollector implements Consumer<Source> {
+        private final Model model;
+        private final Set<SourceIdentity> importedIdentities = new HashSet<>();
+        private final List<Source> newSources = new ArrayList<>();
+        private int newSourceCount;
+        private int duplicateCount;
+
+        NewSourceCollector(Model model) {
+            this.model = model;
+        }
+
+        @Override
+        public void accept(Source source) {
+            if (model.hasSource(source) || !importedIdentities.add(source.getIdentity())) {
+                duplicateCount++;
+                return;
+            }
+            newSourceCount++;
+            if (!isDryRun) {
+                newSources.add(source);
+            }
+        }
+    }
+}
@@ -4,13 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SOURCES;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.source.Source;
 
 
 /**
@@ -63,67 +60,6 @@ public class ListCommand extends Command {
         this.toIndex = toIndex;
     }
 
-    /**
-     * A method which constructs a predicate to output top n sources
-     * @param n positive integer
-     * @return Predicate which evaluates true for first n sources only
-     */
-    public Predicate<Source> makePredicateForTopN(int n) {
-        return new Predicate<>() {
-            private int count = 0;
-            public boolean test(Source source) {
-                if (count < n) {
-                    count++;
-                    return true;
-                } else {
-                    count++;
-                    return false;
-                }
-            }
-        };
-    }
-
-    /**
-     * A method which constructs a predicate to output last n sources
-     * @param n positive integer
-     * @return Predicate which evaluates true for last n sources only
-     */
-    public Predicate<Source> makePredicateForLastN(int n, int size) {
-        return new Predicate<>() {
-            private int count = 1;
-            public boolean test(Source source) {
-                if (size - count < n) {
-                    count++;
-                    return true;
-                } else {
-                    count++;
-                    return false;
-                }
-            }
-        };
-    }
-
-    /**
-     * A method which constructs a predicate to output sources between index x and y
-     * @param x a positive number
-     * @param y a positive number
-     * @return Predicate which evaluates true for sources between x and y only
-     */
-    public Predicate<Source> makePredicateForXToY(int x, int y) {
-        return new Predicate<>() {
-            private int count = 1;
-            public boolean test(Source source) {
-                if (count >= x && count <= y) {
-                    count++;
-                    return true;
-                } else {
-                    count++;
-                    return false;
-                }
-            }
-        };
-    }
-
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         try {
@@ -137,19 +73,21 @@ public class ListCommand extends Command {
                     throw new CommandException("To-Index cannot be greater than From-Index!");
                 }
                 toIndex = toIndex.getOneBased() > size ? Index.fromOneBased(size) : toIndex;
-                model.updateFilteredSourceList(makePredicateForXToY(fromIndex.getOneBased(), toIndex.getOneBased()));
+                model.updateFilteredSourceRange(fromIndex.getZeroBased(),
+                        Math.max(0, toIndex.getOneBased() - fromIndex.getOneBased() + 1));
                 return new CommandResult(String.format(MESSAGE_LIST_X_TO_Y_SUCCESS,
                         fromIndex.getOneBased(), toIndex.getOneBased()));
             } else if (targetIndex != null) { //1 argument
                 if (posFlag) { //positive
                     //to ensure N is capped at list size
                     targetIndex = targetIndex.getOneBased() > size ? Index.fromOneBased(size) : targetIndex;
-                    model.updateFilteredSourceList(makePredicateForTopN(targetIndex.getOneBased()));
+                    model.updateFilteredSourceRange(0, targetIndex.getOneBased());
                     return new CommandResult(String.format(MESSAGE_LIST_TOP_N_SUCCESS, targetIndex.getOneBased()));
                 } else { //negative
-                    targetIndex = targetIndex.getOneBased() > size ? Index.fromOneBased(size) : targetIndex;
-                    model.updateFilteredSourceList(makePredicateForLastN(targetIndex.getOneBased(), size));
-                    return new CommandResult(String.format(MESSAGE_LIST_LAST_N_SUCCESS, targetIndex.getOneBased()));
+                    //kept from the end, so sources added later are listed too
+                    model.updateFilteredSourceRangeFromEnd(targetIndex.getOneBased());
+                    return new CommandResult(String.format(MESSAGE_LIST_LAST_N_SUCCESS,
+                            Math.min(targetIndex.getOneBased(), size)));
                 }
             } else { //no argument case
                 return new CommandResult(String.format(MESSAGE_LIST_ALL_SUCCESS, size));
@@ -20,7 +20,8 @@ public class RestoreCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Restores a source identified by the index number used in the recently deleted source list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Parameters: INDEX (must be a positive integer), or FIRST_INDEX LAST_INDEX, or all for every "
+            + "displayed source\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_RESTORE_DUPLICATE_SOURCE =
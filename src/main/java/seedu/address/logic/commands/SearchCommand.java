@@ -44,7 +44,7 @@ public class SearchCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredSourceList(predicate);
+        model.searchFilteredSourceList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_SOURCES_LISTED_OVERVIEW, model.getFilteredSourceList().size()));
     }
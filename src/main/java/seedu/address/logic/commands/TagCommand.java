@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.source.Source;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds tags to every source in a range of the displayed source list at once.
+ */
+public class TagCommand extends BulkCommand {
+
+    public static final String COMMAND_WORD = "tag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds tags to the sources in a range of the displayed source list.\n"
+            + "Parameters: all | FIRST_INDEX LAST_INDEX (must be positive integers) "
+            + PREFIX_TAG + "TAG [" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " 1 5 " + PREFIX_TAG + "thesis";
+
+    public static final String MESSAGE_SUCCESS = "Tagged %1$d sources with %2$s.";
+
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a TagCommand to add {@code tags} to the sources in {@code range}.
+     */
+    public TagCommand(IndexRange range, Set<Tag> tags) {
+        super(range);
+        requireNonNull(tags);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Source> targets = new ArrayList<>();
+        List<Source> taggedSources = new ArrayList<>();
+        for (Source source : getTargetSources(model)) {
+            if (source.getTags().containsAll(tags)) {
+                continue;
+            }
+            Set<Tag> updatedTags = new HashSet<>(source.getTags());
+            updatedTags.addAll(tags);
+            targets.add(source);
+            taggedSources.add(createRetaggedSource(source, updatedTags));
+        }
+
+        if (!targets.isEmpty()) {
+            model.setSources(targets, taggedSources);
+            model.commitSourceManager();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, targets.size(), describeTags(tags)));
+    }
+
+    /**
+     * Returns {@code tags}, separated by spaces.
+     */
+    static String describeTags(Set<Tag> tags) {
+        return tags.stream().map(Tag::toString).sorted().collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Creates and returns a {@code Source} with the details of {@code source}, but with {@code tags} as its tags.
+     */
+    static Source createRetaggedSource(Source source, Set<Tag> tags) {
+        Source retaggedSource = new Source(source.getTitle(), source.getAuthor(), source.getType(),
+                source.getDetail(), tags, source.getBiblioFields());
+        retaggedSource.setPinnedState(source.getPinnedState());
+        return retaggedSource;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return super.equals(other) && tags.equals(((TagCommand) other).tags);
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.source.Source;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Removes tags from every source in a range of the displayed source list at once.
+ */
+public class UntagCommand extends BulkCommand {
+
+    public static final String COMMAND_WORD = "untag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Removes tags from the sources in a range of the displayed source list.\n"
+            + "Parameters: all | FIRST_INDEX LAST_INDEX (must be positive integers) "
+            + PREFIX_TAG + "TAG [" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " all " + PREFIX_TAG + "draft";
+
+    public static final String MESSAGE_SUCCESS = "Removed %2$s from %1$d sources.";
+
+    private final Set<Tag> tags;
+
+    /**
+     * Creates an UntagCommand to remove {@code tags} from the sources in {@code range}.
+     */
+    public UntagCommand(IndexRange range, Set<Tag> tags) {
+        super(range);
+        requireNonNull(tags);
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        List<Source> targets = new ArrayList<>();
+        List<Source> untaggedSources = new ArrayList<>();
+        for (Source source : getTargetSources(model)) {
+            if (Collections.disjoint(source.getTags(), tags)) {
+                continue;
+            }
+            Set<Tag> updatedTags = new HashSet<>(source.getTags());
+            updatedTags.removeAll(tags);
+            targets.add(source);
+            untaggedSources.add(TagCommand.createRetaggedSource(source, updatedTags));
+        }
+
+        if (!targets.isEmpty()) {
+            model.setSources(targets, untaggedSources);
+            model.commitSourceManager();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, targets.size(), TagCommand.describeTags(tags)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return super.equals(other) && tags.equals(((UntagCommand) other).tags);
+    }
+}
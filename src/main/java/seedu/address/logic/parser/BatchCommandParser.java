@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CHECKPOINT;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_INVALID_CHECKPOINT_INTERVAL =
+            "Checkpoint interval must be 0 or a positive integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CHECKPOINT);
+        String scriptPath = argMultimap.getPreamble().trim();
+        if (scriptPath.isEmpty() || !FileUtil.isValidPath(scriptPath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        int checkpointInterval = parseCheckpointInterval(argMultimap.getValue(PREFIX_CHECKPOINT));
+        return new BatchCommand(Paths.get(scriptPath), checkpointInterval);
+    }
+
+    /**
+     * Parses {@code interval} into a checkpoint interval, which is 0 if it is absent.
+     * @throws ParseException if {@code interval} is not a non-negative integer.
+     */
+    static int parseCheckpointInterval(Optional<String> interval) throws ParseException {
+        if (!interval.isPresent()) {
+            return 0;
+        }
+        String trimmedInterval = interval.get().trim();
+        try {
+            int checkpointInterval = Integer.parseInt(trimmedInterval);
+            if (checkpointInterval < 0) {
+                throw new ParseException(MESSAGE_INVALID_CHECKPOINT_INTERVAL);
+            }
+            return checkpointInterval;
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_CHECKPOINT_INTERVAL, nfe);
+        }
+    }
+}
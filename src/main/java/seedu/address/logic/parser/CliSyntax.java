@@ -11,5 +11,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_AUTHOR = new Prefix("a/");
     public static final Prefix PREFIX_DETAILS = new Prefix("d/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_CHECKPOINT = new Prefix("c/");
+    public static final Prefix PREFIX_DRY_RUN = new Prefix("--dry-run");
 
 }
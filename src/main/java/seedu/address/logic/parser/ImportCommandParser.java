@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DRY_RUN;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.ImportedSourceStreams.Format;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the file is not in a
+     *     supported format.
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DRY_RUN);
+        String filePath = argMultimap.getPreamble().trim();
+        Optional<String> dryRun = argMultimap.getValue(PREFIX_DRY_RUN);
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath) || (dryRun.isPresent() && !dryRun.get().isEmpty())) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path path = Paths.get(filePath);
+        Optional<Format> format = Format.of(path);
+        if (!format.isPresent()) {
+            throw new ParseException(ImportCommand.MESSAGE_UNSUPPORTED_FORMAT);
+        }
+        return new ImportCommand(path, format.get(), dryRun.isPresent());
+    }
+}
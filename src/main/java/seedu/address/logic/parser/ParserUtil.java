@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.source.Author;
@@ -21,6 +22,9 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Range must be \"all\", or two indexes with the first not after the second.";
+    public static final String ALL_KEYWORD = "all";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -35,6 +39,37 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Returns true if {@code args} is meant as a range rather than a single index, that is, if it is
+     * {@value #ALL_KEYWORD} or has more than one word.
+     */
+    public static boolean isIndexRange(String args) {
+        String trimmedArgs = args.trim();
+        return trimmedArgs.equals(ALL_KEYWORD) || trimmedArgs.split("\\s+").length > 1;
+    }
+
+    /**
+     * Parses {@code range} into an {@code IndexRange} and returns it. The range is either {@value #ALL_KEYWORD}, or
+     * two one-based indexes separated by whitespace. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the range is not in either form, or its last index is before its first index.
+     */
+    public static IndexRange parseIndexRange(String range) throws ParseException {
+        String trimmedRange = range.trim();
+        if (trimmedRange.equals(ALL_KEYWORD)) {
+            return IndexRange.all();
+        }
+        String[] indexes = trimmedRange.split("\\s+");
+        if (indexes.length != 2) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+        }
+        Index first = parseIndex(indexes[0]);
+        Index last = parseIndex(indexes[1]);
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+        }
+        return IndexRange.between(first, last);
+    }
+
     /**
      * Parses a {@code String title} into a {@code Title}.
      * Leading and trailing whitespaces will be trimmed.
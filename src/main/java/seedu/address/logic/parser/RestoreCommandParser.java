@@ -3,21 +3,28 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.BulkRestoreCommand;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.RestoreCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new RestoreCommand object
+ * Parses input arguments and creates a new RestoreCommand object, or a BulkRestoreCommand object for a range
  */
-public class RestoreCommandParser implements Parser<RestoreCommand> {
+public class RestoreCommandParser implements Parser<Command> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the RestoreCommand
-     * and returns an RestoreCommand object for execution.
+     * and returns an RestoreCommand object for execution, or a BulkRestoreCommand object if a range is given.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public RestoreCommand parse(String args) throws ParseException {
+    public Command parse(String args) throws ParseException {
         try {
+            if (ParserUtil.isIndexRange(args)) {
+                IndexRange range = ParserUtil.parseIndexRange(args);
+                return new BulkRestoreCommand(range);
+            }
             Index index = ParserUtil.parseIndex(args);
             return new RestoreCommand(index);
         } catch (ParseException pe) {
@@ -9,6 +9,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.BiblioCommand;
 import seedu.address.logic.commands.BiblioEditCommand;
 import seedu.address.logic.commands.ClearCommand;
@@ -20,6 +21,7 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PanicCommand;
 import seedu.address.logic.commands.PinCommand;
@@ -27,9 +29,11 @@ import seedu.address.logic.commands.RecycleBinCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UnpanicCommand;
 import seedu.address.logic.commands.UnpinCommand;
+import seedu.address.logic.commands.UntagCommand;
 
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.storage.ConcreteAliasStorage;
@@ -107,6 +111,10 @@ public class SourceManagerParser implements CommandValidator {
         validCommands.add(BiblioCommand.COMMAND_WORD);
         validCommands.add(BiblioEditCommand.COMMAND_WORD);
         validCommands.add(RecycleBinCommand.COMMAND_WORD);
+        validCommands.add(TagCommand.COMMAND_WORD);
+        validCommands.add(UntagCommand.COMMAND_WORD);
+        validCommands.add(BatchCommand.COMMAND_WORD);
+        validCommands.add(ImportCommand.COMMAND_WORD);
     }
 
     public boolean isValidCommand(String command) {
@@ -198,6 +206,18 @@ public class SourceManagerParser implements CommandValidator {
         case RecycleBinCommand.COMMAND_WORD:
             return new RecycleBinCommand();
 
+        case TagCommand.COMMAND_WORD:
+            return new TagCommandParser().parse(arguments);
+
+        case UntagCommand.COMMAND_WORD:
+            return new UntagCommandParser().parse(arguments);
+
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
         // Meta-commands (pertaining to AliasManager):
         // For these, we include implementation details because these are meta-commands
         // that relate directly to AliasManager (and by association, SourceManagerParser).
@@ -45,12 +45,27 @@ public class DeletedSources implements ReadOnlyDeletedSources {
         indicateModified();
     }
 
+    /**
+     * Replaces the contents of the deleted source list with the sources in {@code snapshot}.
+     * A {@code DeletedSources} never holds duplicate sources, so the sources are not validated again.
+     */
+    public void setDeletedSources(DeletedSources snapshot) {
+        requireNonNull(snapshot);
+        this.deletedSources.setSources(snapshot.deletedSources);
+        indicateModified();
+    }
+
     /**
      * Resets the existing data of this {@code DeletedSources} with {@code newData}.
      */
     public void resetData(ReadOnlyDeletedSources newData) {
         requireNonNull(newData);
 
+        if (newData instanceof DeletedSources) {
+            setDeletedSources((DeletedSources) newData);
+            return;
+        }
+
         setDeletedSources(newData.getDeletedSourceList());
     }
 
@@ -82,6 +97,15 @@ public class DeletedSources implements ReadOnlyDeletedSources {
         indicateModified();
     }
 
+    /**
+     * Adds {@code sources} to the end of the deleted source list, notifying its listeners once.
+     * None of the sources may already exist in the deleted source list.
+     */
+    public void addDeletedSources(List<Source> sources) {
+        deletedSources.addAll(sources);
+        indicateModified();
+    }
+
     /**
      * Replaces the given source {@code target} in the list with {@code editedSource}.
      * {@code target} must exist in the address book.
@@ -104,6 +128,22 @@ public class DeletedSources implements ReadOnlyDeletedSources {
         indicateModified();
     }
 
+    /**
+     * Removes {@code keys} from this {@code DeletedSources}, notifying its listeners once.
+     * Every source of {@code keys} must exist in the deleted source list.
+     */
+    public void removeDeletedSources(List<Source> keys) {
+        deletedSources.removeAll(keys);
+        indicateModified();
+    }
+
+    /**
+     * Returns the index of each of {@code sources} in the deleted source list, or -1 for a source that is not in it.
+     */
+    int[] indexesOfDeletedSources(List<Source> sources) {
+        return deletedSources.indexesOf(sources);
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+/**
+ * Represents how much space an undo history takes up, in memory and on disk.
+ * Guarantees: immutable.
+ */
+public class HistoryFootprint {
+
+    private static final long BYTES_PER_KILOBYTE = 1024;
+
+    private final int statesInMemory;
+    private final long bytesInMemory;
+    private final int statesOnDisk;
+    private final long bytesOnDisk;
+
+    public HistoryFootprint(int statesInMemory, long bytesInMemory, int statesOnDisk, long bytesOnDisk) {
+        this.statesInMemory = statesInMemory;
+        this.bytesInMemory = bytesInMemory;
+        this.statesOnDisk = statesOnDisk;
+        this.bytesOnDisk = bytesOnDisk;
+    }
+
+    public int getStatesInMemory() {
+        return statesInMemory;
+    }
+
+    public long getBytesInMemory() {
+        return bytesInMemory;
+    }
+
+    public int getStatesOnDisk() {
+        return statesOnDisk;
+    }
+
+    public long getBytesOnDisk() {
+        return bytesOnDisk;
+    }
+
+    /**
+     * Returns the combined footprint of this history and {@code other}.
+     */
+    public HistoryFootprint plus(HistoryFootprint other) {
+        return new HistoryFootprint(statesInMemory + other.statesInMemory, bytesInMemory + other.bytesInMemory,
+                statesOnDisk + other.statesOnDisk, bytesOnDisk + other.bytesOnDisk);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HistoryFootprint)) { //this handles null as well.
+            return false;
+        }
+
+        HistoryFootprint o = (HistoryFootprint) other;
+
+        return statesInMemory == o.statesInMemory
+                && bytesInMemory == o.bytesInMemory
+                && statesOnDisk == o.statesOnDisk
+                && bytesOnDisk == o.bytesOnDisk;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(statesInMemory, bytesInMemory, statesOnDisk, bytesOnDisk);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d states in memory (about %d KB), %d states on disk (%d KB)",
+                statesInMemory, bytesInMemory / BYTES_PER_KILOBYTE, statesOnDisk, bytesOnDisk / BYTES_PER_KILOBYTE);
+    }
+}
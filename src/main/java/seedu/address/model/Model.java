@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -8,6 +9,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.PanicMode;
 import seedu.address.model.source.Source;
+import seedu.address.model.source.SourceContainsKeywordsPredicate;
 import seedu.address.storage.PinnedSourcesStorageOperationsCenter;
 
 /**
@@ -113,6 +115,12 @@ public interface Model extends PanicMode {
      */
     void addSourceAtIndex(Source source, int index);
 
+    /**
+     * Moves the source at index {@code from} of the source manager to index {@code to}.
+     * Both indexes must be in the source manager.
+     */
+    void moveSource(int from, int to);
+
     /**
      * Adds the given source to an index.
      * {@code source} must not already exist in the source manager.
@@ -135,6 +143,38 @@ public interface Model extends PanicMode {
      */
     void setDeletedSource(Source target, Source editedSource);
 
+    /**
+     * Deletes the given sources together, as a single change to the source list.
+     * Every source must exist in the source manager.
+     */
+    void deleteSources(List<Source> targets);
+
+    /**
+     * Adds the given sources to the end of the source manager together, as a single change to the source list.
+     * None of the sources may already exist in the source manager.
+     */
+    void addSources(List<Source> sources);
+
+    /**
+     * Replaces each source of {@code targets} with the source at the same index of {@code editedSources} together,
+     * as a single change to the source list.
+     * Every source of {@code targets} must exist in the source manager, and the sources must stay unique.
+     */
+    void setSources(List<Source> targets, List<Source> editedSources);
+
+    /**
+     * Deletes the given sources from the deleted sources together, as a single change to the deleted source list.
+     * Every source must exist in the deleted sources.
+     */
+    void removeDeletedSources(List<Source> targets);
+
+    /**
+     * Adds the given sources to the end of the deleted sources together, as a single change to the deleted source
+     * list.
+     * None of the sources may already exist in the deleted sources.
+     */
+    void addDeletedSources(List<Source> sources);
+
     /** Returns an unmodifiable view of the filtered source list */
     ObservableList<Source> getFilteredSourceList();
 
@@ -144,6 +184,29 @@ public interface Model extends PanicMode {
      */
     void updateFilteredSourceList(Predicate<Source> predicate);
 
+    /**
+     * Limits the filtered source list to the (at most) {@code count} sources starting at the zero-based
+     * {@code startIndex} of the sources matching its filter, until the filter is next updated.
+     * The range is kept by position, so it shows whichever sources are at those positions as the list changes.
+     * @throws IllegalArgumentException if {@code startIndex} or {@code count} is negative.
+     */
+    void updateFilteredSourceRange(int startIndex, int count);
+
+    /**
+     * Limits the filtered source list to the last (at most) {@code count} sources matching its filter, until the
+     * filter is next updated.
+     * The range is kept from the end, so it shows whichever sources are last as sources are added or removed.
+     * @throws IllegalArgumentException if {@code count} is negative.
+     */
+    void updateFilteredSourceRangeFromEnd(int count);
+
+    /**
+     * Updates the filter of the filtered source list to show only the sources matching {@code predicate},
+     * which are looked up in the search index of the source manager.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void searchFilteredSourceList(SourceContainsKeywordsPredicate predicate);
+
     /**
      * Returns true if the model has previous source manager states to restore.
      */
@@ -194,6 +257,24 @@ public interface Model extends PanicMode {
      */
     void commitDeletedSources();
 
+    /**
+     * Sets whether commits are deferred.
+     * While they are, {@link #commitSourceManager()} and {@link #commitDeletedSources()} only note that a commit is
+     * due, and the changes are committed as a single state by {@link #commitDeferredChanges()}, or when commits stop
+     * being deferred.
+     */
+    void setCommitsDeferred(boolean isDeferred);
+
+    /**
+     * Commits the changes whose commits have been deferred, if any.
+     */
+    void commitDeferredChanges();
+
+    /**
+     * Returns how much space the undo/redo history of the model takes up in memory and on disk.
+     */
+    HistoryFootprint getHistoryFootprint();
+
     /**
      * Selected source in the filtered source list.
      * null if no source is selected.
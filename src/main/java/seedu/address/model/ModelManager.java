@@ -6,6 +6,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -16,23 +17,31 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.HistorySettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.SearchSettings;
 import seedu.address.logic.commands.PanicMode;
 import seedu.address.model.source.Source;
+import seedu.address.model.source.SourceContainsKeywordsPredicate;
+import seedu.address.model.source.exceptions.ReadOnlySourcesException;
 import seedu.address.model.source.exceptions.SourceNotFoundException;
 import seedu.address.storage.PinnedSourcesStorageOperationsCenter;
 
 /**
  * Represents the in-memory model of the source manager data.
+ * A model made by {@link #readOnly} shows its sources without copying them, and cannot change them.
  */
 public class ModelManager implements Model, PanicMode {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final SimpleListProperty<Source> displayedSourceList;
     private VersionedSourceManager versionedSourceManager;
+    /** The sources shown instead of those of {@code versionedSourceManager} if they are read-only, or null. */
+    private final ReadOnlySourceManager readOnlySourceManager;
     private VersionedDeletedSources versionedDeletedSources;
     private final UserPrefs userPrefs;
     private final FilteredList<Source> filteredSources;
+    private final WindowedList<Source> shownSources;
     private final SimpleObjectProperty<Source> selectedSource = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<Source> selectedDeletedSource = new SimpleObjectProperty<>();
     private boolean panicMode = false;
@@ -40,31 +49,53 @@ public class ModelManager implements Model, PanicMode {
     private int numPinnedSources;
     private ParserMode mode;
     private PinnedSourcesStorageOperationsCenter storageOps;
+    private ParallelSourceFilter parallelSourceFilter;
+    private boolean isCommitDeferred;
+    private boolean hasDeferredSourceManagerCommit;
+    private boolean hasDeferredDeletedSourcesCommit;
 
     /**
      * Initializes a ModelManager with the given sourceManager and userPrefs.
      */
     public ModelManager(ReadOnlySourceManager sourceManager, ReadOnlyUserPrefs userPrefs,
                         ReadOnlyDeletedSources deletedSources) {
+        this(sourceManager, userPrefs, deletedSources, false);
+    }
+
+    /**
+     * Initializes a ModelManager with the given sourceManager and userPrefs.
+     * If {@code isReadOnly}, the sources of {@code sourceManager} are shown as they are, without being copied, and
+     * any change to the sources or deleted sources throws a {@code ReadOnlySourcesException}.
+     */
+    private ModelManager(ReadOnlySourceManager sourceManager, ReadOnlyUserPrefs userPrefs,
+                         ReadOnlyDeletedSources deletedSources, boolean isReadOnly) {
         super();
         requireAllNonNull(sourceManager, userPrefs, deletedSources);
 
         logger.fine("Initializing with source manager: " + sourceManager + " and user prefs " + userPrefs
                 + " and deleted sources " + deletedSources);
 
-        versionedSourceManager = new VersionedSourceManager(sourceManager);
-        versionedDeletedSources = new VersionedDeletedSources((deletedSources));
-
         this.userPrefs = new UserPrefs(userPrefs);
 
-        displayedSourceList = new SimpleListProperty<>(versionedSourceManager.getSourceList());
+        HistorySettings historySettings = this.userPrefs.getHistorySettings();
+        readOnlySourceManager = isReadOnly ? sourceManager : null;
+        versionedSourceManager = new VersionedSourceManager(isReadOnly ? new SourceManager() : sourceManager,
+                historySettings);
+        versionedDeletedSources = new VersionedDeletedSources(deletedSources, historySettings);
+
+        displayedSourceList = new SimpleListProperty<>(getSourceManager().getSourceList());
         filteredSources = new FilteredList<>(this.displayedSourceList);
+        shownSources = new WindowedList<>(filteredSources);
 
-        filteredSources.addListener(this::ensureSelectedSourceIsValid);
+        shownSources.addListener(this::ensureSelectedSourceIsValid);
 
         logger.info("Loading number of pinned sources.");
         this.storageOps = new PinnedSourcesStorageOperationsCenter();
         this.numPinnedSources = storageOps.loadNumberOfPinnedSources();
+        if (isReadOnly) {
+            // marking the pinned sources would decode them, and the marks would be lost whenever they are decoded again
+            return;
+        }
 
         List<Source> completeSourceList = versionedSourceManager.getSourceList();
         for (int i = 0; i < this.numPinnedSources; i++) {
@@ -87,15 +118,18 @@ public class ModelManager implements Model, PanicMode {
         logger.fine("Initializing with source manager: " + sourceManager + " and user prefs " + userPrefs
                 + " and deleted sources " + deletedSources);
 
-        versionedSourceManager = new VersionedSourceManager(sourceManager);
-        versionedDeletedSources = new VersionedDeletedSources((deletedSources));
-
         this.userPrefs = new UserPrefs(userPrefs);
 
+        HistorySettings historySettings = this.userPrefs.getHistorySettings();
+        readOnlySourceManager = null;
+        versionedSourceManager = new VersionedSourceManager(sourceManager, historySettings);
+        versionedDeletedSources = new VersionedDeletedSources(deletedSources, historySettings);
+
         displayedSourceList = new SimpleListProperty<>(versionedSourceManager.getSourceList());
         filteredSources = new FilteredList<>(this.displayedSourceList);
+        shownSources = new WindowedList<>(filteredSources);
 
-        filteredSources.addListener(this::ensureSelectedSourceIsValid);
+        shownSources.addListener(this::ensureSelectedSourceIsValid);
 
         logger.info("Writing number of pinned sources.");
         this.storageOps = new PinnedSourcesStorageOperationsCenter("src/test/data/PinnedSourcesTest.txt");
@@ -111,6 +145,32 @@ public class ModelManager implements Model, PanicMode {
         this(new SourceManager(), new UserPrefs(), new DeletedSources(), 0);
     }
 
+    /**
+     * Returns a ModelManager that shows the sources of {@code sourceManager} without copying them, so that sources
+     * which are decoded as they are accessed, such as those of a {@code MappedSourceManager}, are only decoded once
+     * they are shown, searched or used by a command. Neither the sources nor the deleted sources can be changed.
+     */
+    public static ModelManager readOnly(ReadOnlySourceManager sourceManager, ReadOnlyUserPrefs userPrefs,
+                                        ReadOnlyDeletedSources deletedSources) {
+        return new ModelManager(sourceManager, userPrefs, deletedSources, true);
+    }
+
+    /**
+     * Returns true if the sources and deleted sources of this model cannot be changed.
+     */
+    public boolean isReadOnly() {
+        return readOnlySourceManager != null;
+    }
+
+    /**
+     * Throws a {@code ReadOnlySourcesException} if the sources and deleted sources of this model cannot be changed.
+     */
+    private void requireWritable() {
+        if (isReadOnly()) {
+            throw new ReadOnlySourcesException();
+        }
+    }
+
     /**
      * Switches list in filteredSources list to deletedSourceList.
      */
@@ -124,7 +184,7 @@ public class ModelManager implements Model, PanicMode {
      */
     @Override
     public void switchToSources() {
-        displayedSourceList.set(versionedSourceManager.getSourceList());
+        displayedSourceList.set(getSourceManager().getSourceList());
     }
 
     /**
@@ -132,6 +192,7 @@ public class ModelManager implements Model, PanicMode {
      */
     public void enablePanicMode() {
         logger.fine("Enabling panic mode");
+        requireWritable();
 
         if (panicMode) {
             // Prevent enabling panic mode twice, which causes a bug where by
@@ -141,7 +202,7 @@ public class ModelManager implements Model, PanicMode {
         }
 
         panicMode = true;
-        sourceManagerBackup = new VersionedSourceManager(versionedSourceManager);
+        sourceManagerBackup = new VersionedSourceManager(versionedSourceManager, userPrefs.getHistorySettings());
         logger.fine("Backed up source manager.");
         versionedSourceManager.resetData(new SourceManager());
         logger.fine("Reset visible source manager to an empty source manager.");
@@ -218,48 +279,81 @@ public class ModelManager implements Model, PanicMode {
 
     @Override
     public void setSourceManager(ReadOnlySourceManager sourceManager) {
+        requireWritable();
         versionedSourceManager.resetData(sourceManager);
     }
 
     @Override
     public ReadOnlySourceManager getSourceManager() {
-        return versionedSourceManager;
+        return isReadOnly() ? readOnlySourceManager : versionedSourceManager;
     }
 
     @Override
     public boolean hasSource(Source source) {
         requireNonNull(source);
+        if (isReadOnly()) {
+            return readOnlySourceManager.getSourceList().stream().anyMatch(source::isSameSource);
+        }
         return versionedSourceManager.hasSource(source);
     }
 
     @Override
     public void deleteSource(Source target) {
+        requireWritable();
         versionedSourceManager.removeSource(target);
     }
 
     @Override
     public void addSource(Source source) {
+        requireWritable();
         versionedSourceManager.addSource(source);
-        updateFilteredSourceList(PREDICATE_SHOW_ALL_SOURCES);
     }
 
     @Override
     public void addSourceAtIndex(Source source, int index) {
+        requireWritable();
         versionedSourceManager.addSourceAtIndex(source, index);
-        updateFilteredSourceList(PREDICATE_SHOW_ALL_SOURCES);
+    }
+
+    @Override
+    public void moveSource(int from, int to) {
+        requireWritable();
+        versionedSourceManager.moveSource(from, to);
     }
 
     @Override
     public void setSource(Source target, Source editedSource) {
+        requireWritable();
         requireAllNonNull(target, editedSource);
 
         versionedSourceManager.setSource(target, editedSource);
     }
 
+    @Override
+    public void deleteSources(List<Source> targets) {
+        requireWritable();
+        versionedSourceManager.removeSources(targets);
+    }
+
+    @Override
+    public void addSources(List<Source> sources) {
+        requireWritable();
+        versionedSourceManager.addSources(sources);
+    }
+
+    @Override
+    public void setSources(List<Source> targets, List<Source> editedSources) {
+        requireWritable();
+        requireAllNonNull(targets, editedSources);
+
+        versionedSourceManager.setSources(targets, editedSources);
+    }
+
     //=========== DeletedSources ================================================================================
 
     @Override
     public void setDeletedSources(ReadOnlyDeletedSources deletedSources) {
+        requireWritable();
         versionedDeletedSources.resetData(deletedSources);
     }
 
@@ -276,23 +370,37 @@ public class ModelManager implements Model, PanicMode {
 
     @Override
     public void removeDeletedSource(Source target) {
+        requireWritable();
         versionedDeletedSources.removeDeletedSource(target);
     }
 
     @Override
     public void addDeletedSource(Source source) {
+        requireWritable();
         versionedDeletedSources.addDeletedSource(source);
-        updateFilteredSourceList(PREDICATE_SHOW_ALL_SOURCES);
     }
 
     @Override
     public void addDeletedSourceAtIndex(Source source, int index) {
+        requireWritable();
         versionedDeletedSources.addDeletedSourceAtIndex(source, index);
-        updateFilteredSourceList(PREDICATE_SHOW_ALL_SOURCES);
+    }
+
+    @Override
+    public void removeDeletedSources(List<Source> targets) {
+        requireWritable();
+        versionedDeletedSources.removeDeletedSources(targets);
+    }
+
+    @Override
+    public void addDeletedSources(List<Source> sources) {
+        requireWritable();
+        versionedDeletedSources.addDeletedSources(sources);
     }
 
     @Override
     public void setDeletedSource(Source target, Source editedSource) {
+        requireWritable();
         requireAllNonNull(target, editedSource);
 
         versionedDeletedSources.setDeletedSource(target, editedSource);
@@ -306,15 +414,88 @@ public class ModelManager implements Model, PanicMode {
      */
     @Override
     public ObservableList<Source> getFilteredSourceList() {
-        return filteredSources;
+        return shownSources;
     }
 
     @Override
     public void updateFilteredSourceList(Predicate<Source> predicate) {
         requireNonNull(predicate);
+        shownSources.clearWindow();
         filteredSources.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredSourceRange(int startIndex, int count) {
+        shownSources.setWindow(startIndex, count);
+    }
+
+    @Override
+    public void updateFilteredSourceRangeFromEnd(int count) {
+        shownSources.setWindowFromEnd(count);
+    }
+
+    @Override
+    public void searchFilteredSourceList(SourceContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        shownSources.clearWindow();
+        SearchSettings searchSettings = userPrefs.getSearchSettings();
+        List<Source> sources = getSourceManager().getSourceList();
+        Set<Source> matchingSources;
+        if (searchSettings.isIndexed() && !isReadOnly()) {
+            matchingSources = versionedSourceManager.searchSources(predicate);
+        } else if (sources.size() >= searchSettings.getParallelThreshold()) {
+            matchingSources = getParallelSourceFilter(searchSettings).filter(sources, predicate);
+        } else {
+            filteredSources.setPredicate(predicate);
+            return;
+        }
+        SearchResult searchResult = new SearchResult(matchingSources, predicate);
+        filteredSources.setPredicate(searchResult);
+        searchResult.startTestingChangedSources();
+    }
+
+    /**
+     * Returns a filter that searches with the parallelism in {@code searchSettings}.
+     * A filter with a different parallelism is shut down and replaced, so that its threads do not linger.
+     */
+    private ParallelSourceFilter getParallelSourceFilter(SearchSettings searchSettings) {
+        if (parallelSourceFilter == null || parallelSourceFilter.getParallelism() != searchSettings.getParallelism()) {
+            if (parallelSourceFilter != null) {
+                parallelSourceFilter.shutdown();
+            }
+            parallelSourceFilter = new ParallelSourceFilter(searchSettings.getParallelism());
+        }
+        return parallelSourceFilter;
+    }
+
+    /**
+     * Matches the sources found by a search of the whole list.
+     * Once the search result is shown, sources that are added or replaced are tested against the keywords of the
+     * search, so that the filtered list keeps showing the search as the sources change.
+     */
+    private static class SearchResult implements Predicate<Source> {
+        private final Set<Source> matchingSources;
+        private final SourceContainsKeywordsPredicate keywords;
+        private boolean isTestingChangedSources;
+
+        SearchResult(Set<Source> matchingSources, SourceContainsKeywordsPredicate keywords) {
+            this.matchingSources = matchingSources;
+            this.keywords = keywords;
+        }
+
+        /**
+         * Tests the sources that do not match the search result against the keywords from now on.
+         */
+        void startTestingChangedSources() {
+            isTestingChangedSources = true;
+        }
+
+        @Override
+        public boolean test(Source source) {
+            return matchingSources.contains(source) || (isTestingChangedSources && keywords.test(source));
+        }
+    }
+
     //=========== Undo/Redo =================================================================================
 
     @Override
@@ -359,14 +540,47 @@ public class ModelManager implements Model, PanicMode {
 
     @Override
     public void commitSourceManager() {
+        if (isCommitDeferred) {
+            hasDeferredSourceManagerCommit = true;
+            return;
+        }
         versionedSourceManager.commit();
     }
 
     @Override
     public void commitDeletedSources() {
+        if (isCommitDeferred) {
+            hasDeferredDeletedSourcesCommit = true;
+            return;
+        }
         versionedDeletedSources.commit();
     }
 
+    @Override
+    public void setCommitsDeferred(boolean isDeferred) {
+        if (!isDeferred) {
+            commitDeferredChanges();
+        }
+        isCommitDeferred = isDeferred;
+    }
+
+    @Override
+    public void commitDeferredChanges() {
+        if (hasDeferredSourceManagerCommit) {
+            hasDeferredSourceManagerCommit = false;
+            versionedSourceManager.commit();
+        }
+        if (hasDeferredDeletedSourcesCommit) {
+            hasDeferredDeletedSourcesCommit = false;
+            versionedDeletedSources.commit();
+        }
+    }
+
+    @Override
+    public HistoryFootprint getHistoryFootprint() {
+        return versionedSourceManager.getHistoryFootprint().plus(versionedDeletedSources.getHistoryFootprint());
+    }
+
     //=========== Selected person ===========================================================================
 
     @Override
@@ -381,14 +595,14 @@ public class ModelManager implements Model, PanicMode {
 
     @Override
     public void setSelectedSource(Source source) {
-        if (source != null && !filteredSources.contains(source)) {
+        if (source != null && !shownSources.contains(source)) {
             throw new SourceNotFoundException();
         }
         selectedSource.setValue(source);
     }
 
     /**
-     * Ensures {@code selectedSource} is a valid source in {@code filteredSources}.
+     * Ensures {@code selectedSource} is a valid source in {@code shownSources}.
      */
     private void ensureSelectedSourceIsValid(ListChangeListener.Change<? extends Source> change) {
         while (change.next()) {
@@ -433,7 +647,7 @@ public class ModelManager implements Model, PanicMode {
         return versionedSourceManager.equals(other.versionedSourceManager)
                 && versionedDeletedSources.equals(other.versionedDeletedSources)
                 && userPrefs.equals(other.userPrefs)
-                && filteredSources.equals(other.filteredSources)
+                && shownSources.equals(other.shownSources)
                 && Objects.equals(selectedSource.get(), other.selectedSource.get())
                 && Objects.equals(selectedDeletedSource.get(), other.selectedDeletedSource.get());
     }
@@ -445,6 +659,7 @@ public class ModelManager implements Model, PanicMode {
 
     @Override
     public void setNumberOfPinnedSources(int newNumber) {
+        requireWritable();
         this.numPinnedSources = newNumber;
     }
 
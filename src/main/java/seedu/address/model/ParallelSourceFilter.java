@@ -0,0 +1,143 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import seedu.address.model.source.Source;
+
+/**
+ * Evaluates a predicate over a list of sources in parallel.
+ * The list is split into chunks that are tested on a fork-join pool, and each chunk marks its matching positions
+ * in its own words of a shared bitset, so the chunks never write to the same word and need no synchronization.
+ * The sources are copied to an array, in order, before the chunks are forked, since looking up a position of a source
+ * list, such as a {@code SourceOrderList}, may write to the list and is only fast for the positions next to the last
+ * one looked up.
+ */
+class ParallelSourceFilter {
+
+    /** Chunks are a multiple of this size, so that no two chunks share a word of the bitset. */
+    private static final int BITS_PER_WORD = Long.SIZE;
+    /** Lists are not split into chunks smaller than this, as the overhead of forking would outweigh the work. */
+    private static final int MIN_CHUNK_SIZE = 16 * BITS_PER_WORD;
+
+    private final int parallelism;
+    private ForkJoinPool pool;
+
+    ParallelSourceFilter(int parallelism) {
+        assert parallelism > 0;
+        this.parallelism = parallelism;
+    }
+
+    int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the positions of the sources in {@code sources} that satisfy {@code predicate}.
+     * {@code sources} must not be modified while it is being filtered.
+     */
+    BitSet match(List<Source> sources, Predicate<? super Source> predicate) {
+        requireNonNull(sources);
+        return match(sources.toArray(new Source[0]), predicate);
+    }
+
+    /**
+     * Returns the positions of the sources in {@code sources} that satisfy {@code predicate}.
+     */
+    private BitSet match(Source[] sources, Predicate<? super Source> predicate) {
+        requireNonNull(predicate);
+        long[] words = new long[(sources.length + BITS_PER_WORD - 1) / BITS_PER_WORD];
+        getPool().invoke(new MatchTask(sources, predicate, words, 0, sources.length, getChunkSize(sources.length)));
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Returns the sources in {@code sources} that satisfy {@code predicate}, compared by identity.
+     * {@code sources} must not be modified while it is being filtered.
+     */
+    Set<Source> filter(List<Source> sources, Predicate<? super Source> predicate) {
+        requireNonNull(sources);
+        Source[] snapshot = sources.toArray(new Source[0]);
+        BitSet matches = match(snapshot, predicate);
+        Set<Source> matchingSources = Collections.newSetFromMap(new IdentityHashMap<>(matches.cardinality()));
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            matchingSources.add(snapshot[i]);
+        }
+        return matchingSources;
+    }
+
+    /**
+     * Returns a chunk size that gives every thread a few chunks to balance the load with, rounded up to a whole
+     * number of words.
+     */
+    private int getChunkSize(int size) {
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, size / (parallelism * 4));
+        return (chunkSize + BITS_PER_WORD - 1) / BITS_PER_WORD * BITS_PER_WORD;
+    }
+
+    /**
+     * Shuts down the threads of this filter, once the filtering in progress finishes.
+     * Filtering afterwards starts new threads.
+     */
+    synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    private synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelism);
+        }
+        return pool;
+    }
+
+    /**
+     * Tests the sources from {@code from} (inclusive) to {@code to} (exclusive), splitting the range in halves
+     * along chunk boundaries until it is at most one chunk long.
+     */
+    private static class MatchTask extends RecursiveAction {
+        private final Source[] sources;
+        private final Predicate<? super Source> predicate;
+        private final long[] words;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        MatchTask(Source[] sources, Predicate<? super Source> predicate, long[] words, int from, int to,
+                  int chunkSize) {
+            this.sources = sources;
+            this.predicate = predicate;
+            this.words = words;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int i = from; i < to; i++) {
+                    if (predicate.test(sources[i])) {
+                        words[i / BITS_PER_WORD] |= 1L << i;
+                    }
+                }
+                return;
+            }
+
+            int chunks = (to - from + chunkSize - 1) / chunkSize;
+            int mid = from + chunks / 2 * chunkSize;
+            invokeAll(new MatchTask(sources, predicate, words, from, mid, chunkSize),
+                    new MatchTask(sources, predicate, words, mid, to, chunkSize));
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.commons.core.SearchSettings;
 
 /**
  * Unmodifiable view of user prefs.
@@ -11,7 +13,13 @@ public interface ReadOnlyUserPrefs {
 
     GuiSettings getGuiSettings();
 
+    HistorySettings getHistorySettings();
+
+    SearchSettings getSearchSettings();
+
     Path getSourceManagerFilePath();
 
+    StorageBackend getSourceManagerStorageBackend();
+
     Path getDeletedSourceFilePath();
 }
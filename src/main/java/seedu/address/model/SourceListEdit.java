@@ -0,0 +1,367 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.source.Source;
+
+/**
+ * Represents a single change made to a list of sources, which can be reverted and reapplied.
+ * Only the sources involved in the change are stored, so recording an edit does not copy the whole list
+ * unless the whole list was replaced.
+ */
+abstract class SourceListEdit {
+
+    private static final byte ADD = 1;
+    private static final byte REMOVE = 2;
+    private static final byte REPLACE = 3;
+    private static final byte REPLACE_ALL = 4;
+    private static final byte MOVE = 5;
+
+    /**
+     * A list of sources that {@code SourceListEdit}s can be reverted and reapplied on.
+     */
+    interface EditableSourceList {
+        void add(int index, Source source);
+
+        void remove(int index);
+
+        void set(int index, Source source);
+
+        void move(int from, int to);
+
+        void setAll(List<Source> sources);
+    }
+
+    /**
+     * Undoes this edit on {@code list}, which must be in the state right after this edit was made.
+     */
+    abstract void revert(EditableSourceList list);
+
+    /**
+     * Redoes this edit on {@code list}, which must be in the state right before this edit was made.
+     */
+    abstract void reapply(EditableSourceList list);
+
+    /**
+     * Returns a rough estimate of the number of bytes of heap that the sources in this edit take up.
+     */
+    abstract long estimateSize();
+
+    /**
+     * Writes this edit to {@code out}, in the format read by {@link #readFrom(DataInput)}.
+     */
+    abstract void writeTo(DataOutput out) throws IOException;
+
+    /**
+     * Reads an edit written by {@link #writeTo(DataOutput)} from {@code in}.
+     *
+     * @throws IOException if the edit could not be read or is not in the expected format.
+     */
+    static SourceListEdit readFrom(DataInput in) throws IOException {
+        byte editType = in.readByte();
+        switch (editType) {
+        case ADD:
+            return new Add(in.readInt(), UndoHistoryJournal.readSource(in));
+        case REMOVE:
+            return new Remove(in.readInt(), UndoHistoryJournal.readSource(in));
+        case REPLACE:
+            return new Replace(in.readInt(), UndoHistoryJournal.readSource(in), UndoHistoryJournal.readSource(in));
+        case REPLACE_ALL:
+            return new ReplaceAll(UndoHistoryJournal.readSources(in), UndoHistoryJournal.readSources(in));
+        case MOVE:
+            return new Move(in.readInt(), in.readInt());
+        default:
+            throw new IOException("Unknown edit type " + editType);
+        }
+    }
+
+    /**
+     * Returns an edit that records {@code added} being inserted at {@code index}.
+     */
+    static SourceListEdit add(int index, Source added) {
+        requireNonNull(added);
+        return new Add(index, added);
+    }
+
+    /**
+     * Returns an edit that records {@code removed} being removed from {@code index}.
+     */
+    static SourceListEdit remove(int index, Source removed) {
+        requireNonNull(removed);
+        return new Remove(index, removed);
+    }
+
+    /**
+     * Returns the edits that record the sources of {@code removed} being removed together from {@code indexes}, the
+     * positions they were at before any of them was removed, in the order that they can be reapplied in.
+     */
+    static List<SourceListEdit> removeAll(int[] indexes, List<Source> removed) {
+        requireNonNull(indexes);
+        requireNonNull(removed);
+        Integer[] order = new Integer[indexes.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> indexes[i]));
+        List<SourceListEdit> edits = new ArrayList<>(order.length);
+        for (int i = 0; i < order.length; i++) {
+            // every source removed before this one was in front of it
+            edits.add(new Remove(indexes[order[i]] - i, requireNonNull(removed.get(order[i]))));
+        }
+        return edits;
+    }
+
+    /**
+     * Returns an edit that records the source at {@code index} being replaced from {@code before} to {@code after}.
+     */
+    static SourceListEdit set(int index, Source before, Source after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        return new Replace(index, before, after);
+    }
+
+    /**
+     * Returns an edit that records the source at {@code from} being moved to {@code to}.
+     */
+    static SourceListEdit move(int from, int to) {
+        return new Move(from, to);
+    }
+
+    /**
+     * Returns an edit that records the whole list being replaced from {@code before} to {@code after}.
+     * Both lists are copied, so later changes to them do not affect the edit.
+     */
+    static SourceListEdit setAll(List<Source> before, List<Source> after) {
+        requireNonNull(before);
+        requireNonNull(after);
+        return new ReplaceAll(before, after);
+    }
+
+    /**
+     * Wraps {@code sources} as an {@code EditableSourceList}.
+     */
+    static EditableSourceList asEditableSourceList(List<Source> sources) {
+        return new EditableSourceList() {
+            @Override
+            public void add(int index, Source source) {
+                sources.add(index, source);
+            }
+
+            @Override
+            public void remove(int index) {
+                sources.remove(index);
+            }
+
+            @Override
+            public void set(int index, Source source) {
+                sources.set(index, source);
+            }
+
+            @Override
+            public void move(int from, int to) {
+                sources.add(to, sources.remove(from));
+            }
+
+            @Override
+            public void setAll(List<Source> replacement) {
+                sources.clear();
+                sources.addAll(replacement);
+            }
+        };
+    }
+
+    /**
+     * An insertion of a single source.
+     */
+    private static class Add extends SourceListEdit {
+        private final int index;
+        private final Source added;
+
+        Add(int index, Source added) {
+            this.index = index;
+            this.added = added;
+        }
+
+        @Override
+        void revert(EditableSourceList list) {
+            list.remove(index);
+        }
+
+        @Override
+        void reapply(EditableSourceList list) {
+            list.add(index, added);
+        }
+
+        @Override
+        long estimateSize() {
+            return UndoHistoryJournal.estimateSize(added);
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(ADD);
+            out.writeInt(index);
+            UndoHistoryJournal.writeSource(out, added);
+        }
+    }
+
+    /**
+     * A removal of a single source.
+     */
+    private static class Remove extends SourceListEdit {
+        private final int index;
+        private final Source removed;
+
+        Remove(int index, Source removed) {
+            this.index = index;
+            this.removed = removed;
+        }
+
+        @Override
+        void revert(EditableSourceList list) {
+            list.add(index, removed);
+        }
+
+        @Override
+        void reapply(EditableSourceList list) {
+            list.remove(index);
+        }
+
+        @Override
+        long estimateSize() {
+            return UndoHistoryJournal.estimateSize(removed);
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(REMOVE);
+            out.writeInt(index);
+            UndoHistoryJournal.writeSource(out, removed);
+        }
+    }
+
+    /**
+     * A replacement of a single source.
+     */
+    private static class Replace extends SourceListEdit {
+        private final int index;
+        private final Source before;
+        private final Source after;
+
+        Replace(int index, Source before, Source after) {
+            this.index = index;
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void revert(EditableSourceList list) {
+            list.set(index, before);
+        }
+
+        @Override
+        void reapply(EditableSourceList list) {
+            list.set(index, after);
+        }
+
+        @Override
+        long estimateSize() {
+            return UndoHistoryJournal.estimateSize(before) + UndoHistoryJournal.estimateSize(after);
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(REPLACE);
+            out.writeInt(index);
+            UndoHistoryJournal.writeSource(out, before);
+            UndoHistoryJournal.writeSource(out, after);
+        }
+    }
+
+    /**
+     * A move of a single source to another position.
+     * No source is stored, as the source moved is the one at the position it was moved from.
+     */
+    private static class Move extends SourceListEdit {
+        private final int from;
+        private final int to;
+
+        Move(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        void revert(EditableSourceList list) {
+            list.move(to, from);
+        }
+
+        @Override
+        void reapply(EditableSourceList list) {
+            list.move(from, to);
+        }
+
+        @Override
+        long estimateSize() {
+            return 0;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(MOVE);
+            out.writeInt(from);
+            out.writeInt(to);
+        }
+    }
+
+    /**
+     * A replacement of the whole list.
+     */
+    private static class ReplaceAll extends SourceListEdit {
+        private final List<Source> before;
+        private final List<Source> after;
+
+        ReplaceAll(List<Source> before, List<Source> after) {
+            this.before = Collections.unmodifiableList(new ArrayList<>(before));
+            this.after = Collections.unmodifiableList(new ArrayList<>(after));
+        }
+
+        @Override
+        void revert(EditableSourceList list) {
+            list.setAll(before);
+        }
+
+        @Override
+        void reapply(EditableSourceList list) {
+            list.setAll(after);
+        }
+
+        @Override
+        long estimateSize() {
+            long size = 0;
+            for (Source source : before) {
+                size += UndoHistoryJournal.estimateSize(source);
+            }
+            for (Source source : after) {
+                size += UndoHistoryJournal.estimateSize(source);
+            }
+            return size;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(REPLACE_ALL);
+            UndoHistoryJournal.writeSources(out, before);
+            UndoHistoryJournal.writeSources(out, after);
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.SourceListEdit.EditableSourceList;
+import seedu.address.model.source.Source;
+
+/**
+ * The undo/redo history of a list of sources.
+ * Instead of a full copy of the list per state, the history stores the edits that lead from each state to the
+ * next, so committing a state costs as much as the changes made since the previous commit, and moving between
+ * states only replays those changes.
+ * Once the history grows beyond the limits in its {@code HistorySettings}, the transitions farthest from the
+ * current state are moved to an {@link UndoHistoryJournal} on disk and read back when they are needed again.
+ */
+class SourceListHistory {
+
+    private static final Logger logger = LogsCenter.getLogger(SourceListHistory.class);
+
+    private final HistorySettings historySettings;
+    private final UndoHistoryJournal journal = new UndoHistoryJournal();
+
+    /** Edits made since the last commit. */
+    private final List<SourceListEdit> pendingEdits = new ArrayList<>();
+    /** The transition from state {@code i} to state {@code i + 1} is stored at index {@code i}. */
+    private final List<Transition> transitions = new ArrayList<>();
+    private int currentStatePointer = 0;
+
+    private int statesInMemory = 0;
+    private long bytesInMemory = 0;
+
+    SourceListHistory() {
+        this(new HistorySettings());
+    }
+
+    SourceListHistory(HistorySettings historySettings) {
+        requireNonNull(historySettings);
+        this.historySettings = historySettings;
+    }
+
+    /**
+     * Records {@code edit} as made to the current state since the last commit.
+     */
+    void record(SourceListEdit edit) {
+        requireNonNull(edit);
+        pendingEdits.add(edit);
+    }
+
+    /**
+     * Saves the edits made since the last commit as a new state after the current state.
+     * Undone states are removed from the history.
+     */
+    void commit() {
+        discard(currentStatePointer, transitions.size());
+        Transition transition = new Transition(new ArrayList<>(pendingEdits));
+        transitions.add(transition);
+        statesInMemory++;
+        bytesInMemory += transition.estimatedSize;
+        pendingEdits.clear();
+        currentStatePointer++;
+        enforceLimits();
+    }
+
+    /**
+     * Restores {@code list} from the current state to the previous state, discarding uncommitted edits.
+     *
+     * @return false if the previous state could not be read back from disk, in which case it and every state
+     *     before it are removed from the history and {@code list} is left unchanged.
+     */
+    boolean undo(EditableSourceList list) {
+        assert canUndo();
+        Transition transition = transitions.get(currentStatePointer - 1);
+        if (!pageIn(transition)) {
+            discard(0, currentStatePointer);
+            return false;
+        }
+
+        revertPendingEdits(list);
+        currentStatePointer--;
+        revert(transition.edits, list);
+        enforceLimits();
+        return true;
+    }
+
+    /**
+     * Restores {@code list} from the current state to the previously undone state, discarding uncommitted edits.
+     *
+     * @return false if the undone state could not be read back from disk, in which case it and every state
+     *     after it are removed from the history and {@code list} is left unchanged.
+     */
+    boolean redo(EditableSourceList list) {
+        assert canRedo();
+        Transition transition = transitions.get(currentStatePointer);
+        if (!pageIn(transition)) {
+            discard(currentStatePointer, transitions.size());
+            return false;
+        }
+
+        revertPendingEdits(list);
+        reapply(transition.edits, list);
+        currentStatePointer++;
+        enforceLimits();
+        return true;
+    }
+
+    boolean canUndo() {
+        return currentStatePointer > 0;
+    }
+
+    boolean canRedo() {
+        return currentStatePointer < transitions.size();
+    }
+
+    int getCurrentStatePointer() {
+        return currentStatePointer;
+    }
+
+    /**
+     * Returns how much space the history takes up in memory and on disk.
+     */
+    HistoryFootprint getFootprint() {
+        long bytesOnDisk = 0;
+        for (Transition transition : transitions) {
+            if (!transition.isInMemory()) {
+                bytesOnDisk += transition.journalLength;
+            }
+        }
+        return new HistoryFootprint(statesInMemory, bytesInMemory, transitions.size() - statesInMemory, bytesOnDisk);
+    }
+
+    /**
+     * Returns the contents of every state in the history, given the {@code currentContents} of the list.
+     * Each state is rebuilt from the edits, so this is only meant for comparing histories.
+     * States on disk are read without being kept in memory.
+     */
+    List<List<Source>> getStates(List<Source> currentContents) {
+        List<Source> state = new ArrayList<>(currentContents);
+        EditableSourceList editableState = SourceListEdit.asEditableSourceList(state);
+        revert(pendingEdits, editableState);
+        List<Source> current = new ArrayList<>(state);
+
+        List<List<Source>> states = new ArrayList<>();
+        states.add(current);
+        for (int i = currentStatePointer - 1; i >= 0; i--) {
+            revert(readEdits(transitions.get(i)), editableState);
+            states.add(new ArrayList<>(state));
+        }
+        Collections.reverse(states);
+
+        state.clear();
+        state.addAll(current);
+        for (int i = currentStatePointer; i < transitions.size(); i++) {
+            reapply(readEdits(transitions.get(i)), editableState);
+            states.add(new ArrayList<>(state));
+        }
+        return states;
+    }
+
+    //// memory limits
+
+    private boolean isOverLimit() {
+        return statesInMemory > historySettings.getMaxStatesInMemory()
+                || bytesInMemory > historySettings.getMaxBytesInMemory();
+    }
+
+    /**
+     * Moves transitions to disk, starting from the ones farthest from the current state, until the history is
+     * within its limits. The transition nearest to the current state is always kept in memory.
+     * If a transition cannot be written to disk, it and every state beyond it are removed from the history instead.
+     */
+    private void enforceLimits() {
+        int lo = 0;
+        int hi = transitions.size() - 1;
+        while (isOverLimit() && lo < hi) {
+            boolean isOlderFarther = currentStatePointer - 1 - lo >= hi - currentStatePointer;
+            int index = isOlderFarther ? lo : hi;
+            Transition transition = transitions.get(index);
+
+            if (transition.isInMemory() && !spill(transition)) {
+                if (isOlderFarther) {
+                    discard(0, index + 1);
+                    hi -= index + 1;
+                    lo = 0;
+                } else {
+                    discard(index, transitions.size());
+                    hi = index - 1;
+                }
+                continue;
+            }
+
+            if (isOlderFarther) {
+                lo++;
+            } else {
+                hi--;
+            }
+        }
+    }
+
+    /**
+     * Moves {@code transition} to disk, writing it to the journal unless it was written before.
+     *
+     * @return false if the transition could not be written.
+     */
+    private boolean spill(Transition transition) {
+        if (transition.journalOffset < 0) {
+            try {
+                long offset = journal.append(transition.edits);
+                transition.journalOffset = offset;
+                transition.journalLength = journal.getSize() - offset;
+            } catch (IOException ioe) {
+                logger.warning("Unable to move undo history to disk, discarding it instead: " + ioe);
+                return false;
+            }
+        }
+
+        transition.edits = null;
+        statesInMemory--;
+        bytesInMemory -= transition.estimatedSize;
+        return true;
+    }
+
+    /**
+     * Reads {@code transition} back into memory if it is on disk.
+     *
+     * @return false if the transition could not be read.
+     */
+    private boolean pageIn(Transition transition) {
+        if (transition.isInMemory()) {
+            return true;
+        }
+
+        try {
+            transition.edits = journal.read(transition.journalOffset);
+        } catch (IOException ioe) {
+            logger.warning("Unable to read undo history from disk, discarding it: " + ioe);
+            return false;
+        }
+        statesInMemory++;
+        bytesInMemory += transition.estimatedSize;
+        return true;
+    }
+
+    /**
+     * Returns the edits of {@code transition}, reading them from disk without keeping them in memory if needed.
+     */
+    private List<SourceListEdit> readEdits(Transition transition) {
+        if (transition.isInMemory()) {
+            return transition.edits;
+        }
+
+        try {
+            return journal.read(transition.journalOffset);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    /**
+     * Removes the transitions from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive), moving the
+     * current state pointer along if any of them were before it.
+     */
+    private void discard(int fromIndex, int toIndex) {
+        List<Transition> discarded = transitions.subList(fromIndex, toIndex);
+        for (Transition transition : discarded) {
+            if (transition.isInMemory()) {
+                statesInMemory--;
+                bytesInMemory -= transition.estimatedSize;
+            }
+        }
+        discarded.clear();
+        currentStatePointer -= Math.max(0, Math.min(toIndex, currentStatePointer) - fromIndex);
+    }
+
+    //// edit replay
+
+    private void revertPendingEdits(EditableSourceList list) {
+        revert(pendingEdits, list);
+        pendingEdits.clear();
+    }
+
+    private static void revert(List<SourceListEdit> edits, EditableSourceList list) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).revert(list);
+        }
+    }
+
+    private static void reapply(List<SourceListEdit> edits, EditableSourceList list) {
+        for (SourceListEdit edit : edits) {
+            edit.reapply(list);
+        }
+    }
+
+    /**
+     * The edits leading from one state to the next, which are either in memory or in the journal.
+     */
+    private static class Transition {
+        private final long estimatedSize;
+        /** Null while the transition is only on disk. */
+        private List<SourceListEdit> edits;
+        /** Negative until the transition has been written to the journal. */
+        private long journalOffset = -1;
+        private long journalLength = 0;
+
+        Transition(List<SourceListEdit> edits) {
+            this.edits = edits;
+            long size = 0;
+            for (SourceListEdit edit : edits) {
+                size += edit.estimateSize();
+            }
+            this.estimatedSize = size;
+        }
+
+        boolean isInMemory() {
+            return edits != null;
+        }
+    }
+}
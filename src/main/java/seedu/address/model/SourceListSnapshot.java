@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.source.Source;
+
+/**
+ * An unmodifiable copy of a list of sources, which can be saved as a source manager or as deleted sources.
+ * Taking a snapshot only copies the sources into an array, in order, so it costs far less than copying a
+ * {@code SourceManager}, which also indexes every source.
+ */
+public class SourceListSnapshot implements ReadOnlySourceManager, ReadOnlyDeletedSources {
+
+    private final ObservableList<Source> sources;
+
+    /**
+     * Creates a snapshot of the sources in {@code sources}, which may change afterwards without changing it.
+     */
+    public SourceListSnapshot(List<Source> sources) {
+        requireNonNull(sources);
+        this.sources = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(Arrays.asList(sources.toArray(new Source[0]))));
+    }
+
+    @Override
+    public ObservableList<Source> getSourceList() {
+        return sources;
+    }
+
+    @Override
+    public ObservableList<Source> getDeletedSourceList() {
+        return sources;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // the sources never change, so the listener is never called
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // the sources never change, so the listener was never kept
+    }
+}
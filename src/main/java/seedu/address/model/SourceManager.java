@@ -3,11 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.source.Source;
+import seedu.address.model.source.SourceContainsKeywordsPredicate;
 import seedu.address.model.source.UniqueSourceList;
 
 /**
@@ -51,12 +53,37 @@ public class SourceManager implements ReadOnlySourceManager {
         indicateModified();
     }
 
+    /**
+     * Replaces the contents of the source list with the sources in {@code snapshot}.
+     * A {@code SourceManager} never holds duplicate sources, so the sources are not validated again.
+     */
+    public void setSources(SourceManager snapshot) {
+        requireNonNull(snapshot);
+        this.sources.setSources(snapshot.sources);
+        indicateModified();
+    }
+
+    /**
+     * Replaces each source of {@code targets} with the source at the same index of {@code editedSources}, notifying
+     * the listeners of the source manager once.
+     * Every source of {@code targets} must exist in the source manager, and the sources must stay unique.
+     */
+    public void setSources(List<Source> targets, List<Source> editedSources) {
+        sources.setSources(targets, editedSources);
+        indicateModified();
+    }
+
     /**
      * Resets the existing data of this {@code SourceManager} with {@code newData}.
      */
     public void resetData(ReadOnlySourceManager newData) {
         requireNonNull(newData);
 
+        if (newData instanceof SourceManager) {
+            setSources((SourceManager) newData);
+            return;
+        }
+
         setSources(newData.getSourceList());
     }
 
@@ -88,6 +115,24 @@ public class SourceManager implements ReadOnlySourceManager {
         indicateModified();
     }
 
+    /**
+     * Adds {@code sources} to the end of the source manager, notifying its listeners once.
+     * None of the sources may already exist in the source manager.
+     */
+    public void addSources(List<Source> sources) {
+        this.sources.addAll(sources);
+        indicateModified();
+    }
+
+    /**
+     * Moves the source at position {@code from} to position {@code to}.
+     * Both positions must be in the source manager.
+     */
+    public void moveSource(int from, int to) {
+        sources.move(from, to);
+        indicateModified();
+    }
+
     /**
      * Replaces the given source {@code target} in the list with {@code editedSource}.
      * {@code target} must exist in the source manager.
@@ -101,6 +146,22 @@ public class SourceManager implements ReadOnlySourceManager {
         indicateModified();
     }
 
+    /**
+     * Removes {@code keys} from this {@code SourceManager}, notifying its listeners once.
+     * Every source of {@code keys} must exist in the source manager.
+     */
+    public void removeSources(List<Source> keys) {
+        sources.removeAll(keys);
+        indicateModified();
+    }
+
+    /**
+     * Returns the index of {@code source} in the source list, or -1 if it is not in it.
+     */
+    int indexOfSource(Source source) {
+        return sources.indexOf(source);
+    }
+
     /**
      * Removes {@code key} from this {@code SourceManager}.
      * {@code key} must exist in the source manager.
@@ -110,6 +171,14 @@ public class SourceManager implements ReadOnlySourceManager {
         indicateModified();
     }
 
+    /**
+     * Returns the sources in the source manager that {@code predicate} evaluates to true for.
+     * The returned set compares sources by identity.
+     */
+    public Set<Source> searchSources(SourceContainsKeywordsPredicate predicate) {
+        return sources.search(predicate);
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         invalidationListenerManager.addListener(listener);
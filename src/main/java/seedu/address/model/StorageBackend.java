@@ -0,0 +1,22 @@
+package seedu.address.model;
+
+/**
+ * Enums for the different ways the sources can be stored on disk.
+ */
+public enum StorageBackend {
+    /** The whole source list is rewritten to a json file on every save. */
+    JSON,
+    /** Changes are appended to a journal, which is compacted into a json snapshot in the background. */
+    JOURNAL,
+    /** The whole source list is rewritten to a compact binary file on every save. */
+    BINARY,
+    /** Like {@code BINARY}, but the file is compressed. */
+    COMPRESSED_BINARY,
+    /** The source list is split into json segments listed by a manifest, and only the changed segments are saved. */
+    SEGMENTED,
+    /**
+     * Like {@code BINARY}, but the file is memory-mapped and read-only, and each source is only decoded when it is
+     * used, so that a library of any size opens in constant time. No change can be made to the sources.
+     */
+    MAPPED
+}
@@ -0,0 +1,210 @@
+package seedu.address.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.source.Author;
+import seedu.address.model.source.BiblioFields;
+import seedu.address.model.source.Detail;
+import seedu.address.model.source.Source;
+import seedu.address.model.source.Title;
+import seedu.address.model.source.Type;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An append-only temporary file holding undo history transitions that have been moved out of memory.
+ * Each transition is written as one length-prefixed record, and is read back by the offset that
+ * {@link #append(List)} returned for it. The file is deleted when the application exits.
+ */
+class UndoHistoryJournal {
+
+    /** Rough heap cost of an object header plus a reference to it. */
+    private static final int OBJECT_OVERHEAD = 24;
+
+    private Path filePath;
+    private long size = 0;
+
+    /**
+     * Appends {@code edits} as one record at the end of the journal, creating the journal file if needed.
+     *
+     * @return the offset at which the record was written.
+     */
+    long append(List<SourceListEdit> edits) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(edits.size());
+        for (SourceListEdit edit : edits) {
+            edit.writeTo(out);
+        }
+        out.flush();
+
+        try (RandomAccessFile file = new RandomAccessFile(getFile().toFile(), "rw")) {
+            long offset = size;
+            file.seek(offset);
+            file.writeInt(bytes.size());
+            file.write(bytes.toByteArray());
+            size = file.getFilePointer();
+            return offset;
+        }
+    }
+
+    /**
+     * Reads the record at {@code offset} back into a list of edits.
+     *
+     * @throws IOException if the record could not be read or is not in the expected format.
+     */
+    List<SourceListEdit> read(long offset) throws IOException {
+        if (filePath == null || offset < 0 || offset >= size) {
+            throw new IOException("No undo history record at offset " + offset);
+        }
+
+        byte[] record;
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "r")) {
+            file.seek(offset);
+            record = new byte[file.readInt()];
+            file.readFully(record);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        int editCount = in.readInt();
+        List<SourceListEdit> edits = new ArrayList<>(editCount);
+        for (int i = 0; i < editCount; i++) {
+            edits.add(SourceListEdit.readFrom(in));
+        }
+        return edits;
+    }
+
+    /**
+     * Returns the number of bytes written to the journal.
+     */
+    long getSize() {
+        return size;
+    }
+
+    private Path getFile() throws IOException {
+        if (filePath == null) {
+            filePath = Files.createTempFile("undohistory", ".journal");
+            filePath.toFile().deleteOnExit();
+        }
+        return filePath;
+    }
+
+    //// source encoding
+
+    /**
+     * Returns a rough estimate of the number of bytes of heap that {@code source} takes up.
+     */
+    static long estimateSize(Source source) {
+        long size = OBJECT_OVERHEAD * 8L;
+        size += estimateSize(source.getTitle().title);
+        size += estimateSize(source.getAuthor().author);
+        size += estimateSize(source.getType().type);
+        size += estimateSize(source.getDetail().detail);
+        for (Tag tag : source.getTags()) {
+            size += OBJECT_OVERHEAD + estimateSize(tag.tagName);
+        }
+        for (String fieldBody : source.getBiblioFields().getFieldBodies()) {
+            size += estimateSize(fieldBody);
+        }
+        return size;
+    }
+
+    private static long estimateSize(String value) {
+        return OBJECT_OVERHEAD * 2L + value.length() * 2L;
+    }
+
+    /**
+     * Writes every field of {@code source} to {@code out}.
+     */
+    static void writeSource(DataOutput out, Source source) throws IOException {
+        writeString(out, source.getTitle().title);
+        writeString(out, source.getAuthor().author);
+        writeString(out, source.getType().type);
+        writeString(out, source.getDetail().detail);
+        out.writeInt(source.getTags().size());
+        for (Tag tag : source.getTags()) {
+            writeString(out, tag.tagName);
+        }
+        String[] fieldBodies = source.getBiblioFields().getFieldBodies();
+        for (String fieldBody : fieldBodies) {
+            writeString(out, fieldBody);
+        }
+        out.writeBoolean(source.getPinnedState());
+    }
+
+    /**
+     * Reads a source written by {@link #writeSource(DataOutput, Source)} from {@code in}.
+     *
+     * @throws IOException if the source could not be read or its fields are invalid.
+     */
+    static Source readSource(DataInput in) throws IOException {
+        try {
+            Title title = new Title(readString(in));
+            Author author = new Author(readString(in));
+            Type type = new Type(readString(in));
+            Detail detail = new Detail(readString(in));
+            int tagCount = in.readInt();
+            Set<Tag> tags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new Tag(readString(in)));
+            }
+            BiblioFields biblioFields = new BiblioFields();
+            for (String header : BiblioFields.ACCEPTED_FIELD_HEADERS) {
+                biblioFields.replaceField(header, readString(in));
+            }
+
+            Source source = new Source(title, author, type, detail, tags, biblioFields);
+            source.setPinnedState(in.readBoolean());
+            return source;
+        } catch (IllegalArgumentException iae) {
+            throw new IOException("Invalid source in undo history journal", iae);
+        }
+    }
+
+    /**
+     * Writes {@code sources} to {@code out}, preceded by their number.
+     */
+    static void writeSources(DataOutput out, List<Source> sources) throws IOException {
+        out.writeInt(sources.size());
+        for (Source source : sources) {
+            writeSource(out, source);
+        }
+    }
+
+    /**
+     * Reads sources written by {@link #writeSources(DataOutput, List)} from {@code in}.
+     */
+    static List<Source> readSources(DataInput in) throws IOException {
+        int sourceCount = in.readInt();
+        List<Source> sources = new ArrayList<>(sourceCount);
+        for (int i = 0; i < sourceCount; i++) {
+            sources.add(readSource(in));
+        }
+        return sources;
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
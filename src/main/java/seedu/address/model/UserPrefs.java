@@ -7,6 +7,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.commons.core.SearchSettings;
 
 /**
  * Represents User's preferences.
@@ -14,7 +16,10 @@ import seedu.address.commons.core.GuiSettings;
 public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
+    private HistorySettings historySettings = new HistorySettings();
+    private SearchSettings searchSettings = new SearchSettings();
     private Path sourceManagerFilePath = Paths.get("data" , "sourcemanager.json");
+    private StorageBackend sourceManagerStorageBackend = StorageBackend.JSON;
     private Path deletedSourceFilePath = Paths.get("data" , "deletedsource.json");
 
     /**
@@ -36,7 +41,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void resetData(ReadOnlyUserPrefs newUserPrefs) {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
+        setHistorySettings(newUserPrefs.getHistorySettings());
+        setSearchSettings(newUserPrefs.getSearchSettings());
         setSourceManagerFilePath(newUserPrefs.getSourceManagerFilePath());
+        setSourceManagerStorageBackend(newUserPrefs.getSourceManagerStorageBackend());
         setDeletedSourceFilePath(newUserPrefs.getDeletedSourceFilePath());
     }
 
@@ -49,6 +57,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.guiSettings = guiSettings;
     }
 
+    public HistorySettings getHistorySettings() {
+        return historySettings;
+    }
+
+    public void setHistorySettings(HistorySettings historySettings) {
+        requireNonNull(historySettings);
+        this.historySettings = historySettings;
+    }
+
+    public SearchSettings getSearchSettings() {
+        return searchSettings;
+    }
+
+    public void setSearchSettings(SearchSettings searchSettings) {
+        requireNonNull(searchSettings);
+        this.searchSettings = searchSettings;
+    }
+
     public Path getSourceManagerFilePath() {
         return sourceManagerFilePath;
     }
@@ -58,6 +84,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.sourceManagerFilePath = sourceManagerFilePath;
     }
 
+    public StorageBackend getSourceManagerStorageBackend() {
+        return sourceManagerStorageBackend;
+    }
+
+    public void setSourceManagerStorageBackend(StorageBackend sourceManagerStorageBackend) {
+        requireNonNull(sourceManagerStorageBackend);
+        this.sourceManagerStorageBackend = sourceManagerStorageBackend;
+    }
+
     public Path getDeletedSourceFilePath() {
         return deletedSourceFilePath;
     }
@@ -79,7 +114,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
+                && historySettings.equals(o.historySettings)
+                && searchSettings.equals(o.searchSettings)
                 && sourceManagerFilePath.equals(o.sourceManagerFilePath)
+                && sourceManagerStorageBackend.equals(o.sourceManagerStorageBackend)
                 && deletedSourceFilePath.equals(o.deletedSourceFilePath);
     }
 
@@ -92,7 +130,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
+        sb.append("\nHistory Settings : " + historySettings);
+        sb.append("\nSearch Settings : " + searchSettings);
         sb.append("\nSource Manager Local data file location : " + sourceManagerFilePath);
+        sb.append("\nSource Manager storage backend : " + sourceManagerStorageBackend);
         sb.append("\nDeleted Source Local data file location : " + deletedSourceFilePath);
         return sb.toString();
     }
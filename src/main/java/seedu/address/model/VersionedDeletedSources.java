@@ -1,72 +1,194 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.model.SourceListEdit.EditableSourceList;
+import seedu.address.model.source.Source;
+import seedu.address.model.source.exceptions.SourceNotFoundException;
+
 /**
  * {@code DeletedSources} that keeps track of its own history.
+ * Every change made to the source list is recorded as a {@link SourceListEdit}, so that a commit only stores the
+ * changes made since the previous commit rather than a copy of the whole deleted source list.
  */
 public class VersionedDeletedSources extends DeletedSources {
 
-    private final List<ReadOnlyDeletedSources> deletedSourcesStateList;
-    private int currentStatePointer;
+    private final SourceListHistory history;
+    private final EditableSourceList editableDeletedSourceList = new EditableSourceList() {
+        @Override
+        public void add(int index, Source source) {
+            VersionedDeletedSources.super.addDeletedSourceAtIndex(source, index);
+        }
+
+        @Override
+        public void remove(int index) {
+            VersionedDeletedSources.super.removeDeletedSource(getDeletedSourceList().get(index));
+        }
+
+        @Override
+        public void set(int index, Source source) {
+            VersionedDeletedSources.super.setDeletedSource(getDeletedSourceList().get(index), source);
+        }
+
+        @Override
+        public void move(int from, int to) {
+            // deleted sources are never moved, so this is only here to complete the interface
+            Source source = getDeletedSourceList().get(from);
+            remove(from);
+            add(to, source);
+        }
+
+        @Override
+        public void setAll(List<Source> sources) {
+            VersionedDeletedSources.super.setDeletedSources(sources);
+        }
+    };
 
     public VersionedDeletedSources(ReadOnlyDeletedSources initialState) {
-        super(initialState);
+        this(initialState, new HistorySettings());
+    }
+
+    public VersionedDeletedSources(ReadOnlyDeletedSources initialState, HistorySettings historySettings) {
+        super();
+        requireAllNonNull(initialState, historySettings);
+
+        history = new SourceListHistory(historySettings);
+        super.setDeletedSources(initialState.getDeletedSourceList());
+    }
+
+    //// recorded list operations
+
+    @Override
+    public void setDeletedSources(List<Source> sources) {
+        List<Source> before = new ArrayList<>(getDeletedSourceList());
+        super.setDeletedSources(sources);
+        history.record(SourceListEdit.setAll(before, getDeletedSourceList()));
+    }
+
+    @Override
+    public void setDeletedSources(DeletedSources snapshot) {
+        List<Source> before = new ArrayList<>(getDeletedSourceList());
+        super.setDeletedSources(snapshot);
+        history.record(SourceListEdit.setAll(before, getDeletedSourceList()));
+    }
+
+    @Override
+    public void addDeletedSource(Source s) {
+        int index = getDeletedSourceList().size();
+        super.addDeletedSource(s);
+        history.record(SourceListEdit.add(index, s));
+    }
+
+    @Override
+    public void addDeletedSources(List<Source> sources) {
+        int index = getDeletedSourceList().size();
+        super.addDeletedSources(sources);
+        for (Source source : sources) {
+            history.record(SourceListEdit.add(index++, source));
+        }
+    }
+
+    @Override
+    public void addDeletedSourceAtIndex(Source s, int index) {
+        super.addDeletedSourceAtIndex(s, index);
+        history.record(SourceListEdit.add(index, s));
+    }
+
+    @Override
+    public void setDeletedSource(Source target, Source editedSource) {
+        requireNonNull(target);
+        int index = getDeletedSourceList().indexOf(target);
+        if (index == -1) {
+            throw new SourceNotFoundException();
+        }
 
-        deletedSourcesStateList = new ArrayList<>();
-        deletedSourcesStateList.add(new DeletedSources(initialState));
-        currentStatePointer = 0;
+        Source replacedSource = getDeletedSourceList().get(index);
+        super.setDeletedSource(target, editedSource);
+        history.record(SourceListEdit.set(index, replacedSource, editedSource));
     }
 
+    @Override
+    public void removeDeletedSource(Source key) {
+        requireNonNull(key);
+        int index = getDeletedSourceList().indexOf(key);
+        if (index == -1) {
+            throw new SourceNotFoundException();
+        }
+
+        Source removedSource = getDeletedSourceList().get(index);
+        super.removeDeletedSource(key);
+        history.record(SourceListEdit.remove(index, removedSource));
+    }
+
+    @Override
+    public void removeDeletedSources(List<Source> keys) {
+        requireNonNull(keys);
+        int[] indexes = indexesOfDeletedSources(keys);
+        List<Source> removedSources = new ArrayList<>(keys.size());
+        for (int index : indexes) {
+            if (index == -1) {
+                throw new SourceNotFoundException();
+            }
+            removedSources.add(getDeletedSourceList().get(index));
+        }
+
+        super.removeDeletedSources(keys);
+        SourceListEdit.removeAll(indexes, removedSources).forEach(history::record);
+    }
+
+    //// history operations
+
     /**
-     * Saves a copy of the current {@code DeletedSources} state at the end of the state list.
+     * Saves the current {@code DeletedSources} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        deletedSourcesStateList.add(new DeletedSources(this));
-        currentStatePointer++;
+        history.commit();
         indicateModified();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        deletedSourcesStateList.subList(currentStatePointer + 1, deletedSourcesStateList.size()).clear();
-    }
-
     /**
      * Restores the deleted sources list to its previous state.
      */
     public void undo() {
-        if (!canUndo()) {
+        if (!canUndo() || !history.undo(editableDeletedSourceList)) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(deletedSourcesStateList.get(currentStatePointer));
     }
 
     /**
      * Restores the deleted sources to its previously undone state.
      */
     public void redo() {
-        if (!canRedo()) {
+        if (!canRedo() || !history.redo(editableDeletedSourceList)) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(deletedSourcesStateList.get(currentStatePointer));
     }
+
     /**
      * Returns true if {@code undo()} has deleted sources states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has deleted sources states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < deletedSourcesStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    /**
+     * Returns how much space the history of this deleted sources takes up in memory and on disk.
+     */
+    public HistoryFootprint getHistoryFootprint() {
+        return history.getFootprint();
     }
 
     @Override
@@ -83,10 +205,13 @@ public class VersionedDeletedSources extends DeletedSources {
 
         VersionedDeletedSources otherVersionedDeletedSources = (VersionedDeletedSources) other;
 
+        SourceListHistory otherHistory = otherVersionedDeletedSources.history;
+
         // state check
         return super.equals(otherVersionedDeletedSources)
-                && deletedSourcesStateList.equals(otherVersionedDeletedSources.deletedSourcesStateList)
-                && currentStatePointer == otherVersionedDeletedSources.currentStatePointer;
+                && history.getCurrentStatePointer() == otherHistory.getCurrentStatePointer()
+                && history.getStates(getDeletedSourceList()).equals(
+                        otherHistory.getStates(otherVersionedDeletedSources.getDeletedSourceList()));
     }
 
     /**
@@ -1,73 +1,218 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.util.ArrayList;
 import java.util.List;
 
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.model.SourceListEdit.EditableSourceList;
+import seedu.address.model.source.Source;
+import seedu.address.model.source.exceptions.SourceNotFoundException;
+
 /**
  * {@code SourceManager} that keeps track of its own history.
+ * Every change made to the source list is recorded as a {@link SourceListEdit}, so that a commit only stores the
+ * changes made since the previous commit rather than a copy of the whole source manager.
  */
 public class VersionedSourceManager extends SourceManager {
 
-    private final List<ReadOnlySourceManager> sourceManagerStateList;
-    private int currentStatePointer;
+    private final SourceListHistory history;
+    private final EditableSourceList editableSourceList = new EditableSourceList() {
+        @Override
+        public void add(int index, Source source) {
+            VersionedSourceManager.super.addSourceAtIndex(source, index);
+        }
+
+        @Override
+        public void remove(int index) {
+            VersionedSourceManager.super.removeSource(getSourceList().get(index));
+        }
+
+        @Override
+        public void set(int index, Source source) {
+            VersionedSourceManager.super.setSource(getSourceList().get(index), source);
+        }
+
+        @Override
+        public void move(int from, int to) {
+            VersionedSourceManager.super.moveSource(from, to);
+        }
+
+        @Override
+        public void setAll(List<Source> sources) {
+            VersionedSourceManager.super.setSources(sources);
+        }
+    };
 
     public VersionedSourceManager(ReadOnlySourceManager initialState) {
-        super(initialState);
+        this(initialState, new HistorySettings());
+    }
 
-        sourceManagerStateList = new ArrayList<>();
-        sourceManagerStateList.add(new SourceManager(initialState));
-        currentStatePointer = 0;
+    public VersionedSourceManager(ReadOnlySourceManager initialState, HistorySettings historySettings) {
+        super();
+        requireAllNonNull(initialState, historySettings);
+
+        history = new SourceListHistory(historySettings);
+        super.setSources(initialState.getSourceList());
     }
 
+    //// recorded list operations
+
+    @Override
+    public void setSources(List<Source> sources) {
+        List<Source> before = new ArrayList<>(getSourceList());
+        super.setSources(sources);
+        history.record(SourceListEdit.setAll(before, getSourceList()));
+    }
+
+    @Override
+    public void setSources(SourceManager snapshot) {
+        List<Source> before = new ArrayList<>(getSourceList());
+        super.setSources(snapshot);
+        history.record(SourceListEdit.setAll(before, getSourceList()));
+    }
+
+    @Override
+    public void setSources(List<Source> targets, List<Source> editedSources) {
+        requireAllNonNull(targets, editedSources);
+        List<Integer> indexes = new ArrayList<>(targets.size());
+        List<Source> replacedSources = new ArrayList<>(targets.size());
+        for (Source target : targets) {
+            int index = indexOfSource(target);
+            if (index == -1) {
+                throw new SourceNotFoundException();
+            }
+            indexes.add(index);
+            replacedSources.add(getSourceList().get(index));
+        }
+
+        super.setSources(targets, editedSources);
+        for (int i = 0; i < indexes.size(); i++) {
+            history.record(SourceListEdit.set(indexes.get(i), replacedSources.get(i), editedSources.get(i)));
+        }
+    }
+
+    @Override
+    public void addSource(Source s) {
+        int index = getSourceList().size();
+        super.addSource(s);
+        history.record(SourceListEdit.add(index, s));
+    }
+
+    @Override
+    public void addSourceAtIndex(Source s, int index) {
+        super.addSourceAtIndex(s, index);
+        history.record(SourceListEdit.add(index, s));
+    }
+
+    @Override
+    public void addSources(List<Source> sources) {
+        int index = getSourceList().size();
+        super.addSources(sources);
+        for (Source source : sources) {
+            history.record(SourceListEdit.add(index++, source));
+        }
+    }
+
+    @Override
+    public void moveSource(int from, int to) {
+        super.moveSource(from, to);
+        history.record(SourceListEdit.move(from, to));
+    }
+
+    @Override
+    public void setSource(Source target, Source editedSource) {
+        requireNonNull(target);
+        int index = indexOfSource(target);
+        if (index == -1) {
+            throw new SourceNotFoundException();
+        }
+
+        Source replacedSource = getSourceList().get(index);
+        super.setSource(target, editedSource);
+        history.record(SourceListEdit.set(index, replacedSource, editedSource));
+    }
+
+    @Override
+    public void removeSources(List<Source> keys) {
+        requireNonNull(keys);
+        int[] indexes = new int[keys.size()];
+        List<Source> removedSources = new ArrayList<>(keys.size());
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = indexOfSource(keys.get(i));
+            if (indexes[i] == -1) {
+                throw new SourceNotFoundException();
+            }
+            removedSources.add(getSourceList().get(indexes[i]));
+        }
+
+        super.removeSources(keys);
+        SourceListEdit.removeAll(indexes, removedSources).forEach(history::record);
+    }
+
+    @Override
+    public void removeSource(Source key) {
+        requireNonNull(key);
+        int index = indexOfSource(key);
+        if (index == -1) {
+            throw new SourceNotFoundException();
+        }
+
+        Source removedSource = getSourceList().get(index);
+        super.removeSource(key);
+        history.record(SourceListEdit.remove(index, removedSource));
+    }
+
+    //// history operations
+
     /**
-     * Saves a copy of the current {@code SourceManager} state at the end of the state list.
+     * Saves the current {@code SourceManager} state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        sourceManagerStateList.add(new SourceManager(this));
-        currentStatePointer++;
+        history.commit();
         indicateModified();
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        sourceManagerStateList.subList(currentStatePointer + 1, sourceManagerStateList.size()).clear();
-    }
-
     /**
      * Restores the source manager to its previous state.
      */
     public void undo() {
-        if (!canUndo()) {
+        if (!canUndo() || !history.undo(editableSourceList)) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(sourceManagerStateList.get(currentStatePointer));
     }
 
     /**
      * Restores the source manager to its previously undone state.
      */
     public void redo() {
-        if (!canRedo()) {
+        if (!canRedo() || !history.redo(editableSourceList)) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(sourceManagerStateList.get(currentStatePointer));
     }
 
     /**
      * Returns true if {@code undo()} has source manager states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has source manager states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < sourceManagerStateList.size() - 1;
+        return history.canRedo();
+    }
+
+    /**
+     * Returns how much space the history of this source manager takes up in memory and on disk.
+     */
+    public HistoryFootprint getHistoryFootprint() {
+        return history.getFootprint();
     }
 
     @Override
@@ -86,8 +231,9 @@ public class VersionedSourceManager extends SourceManager {
 
         // state check
         return super.equals(otherVersionedSourceManager)
-                && sourceManagerStateList.equals(otherVersionedSourceManager.sourceManagerStateList)
-                && currentStatePointer == otherVersionedSourceManager.currentStatePointer;
+                && history.getCurrentStatePointer() == otherVersionedSourceManager.history.getCurrentStatePointer()
+                && history.getStates(getSourceList()).equals(
+                        otherVersionedSourceManager.history.getStates(otherVersionedSourceManager.getSourceList()));
     }
 
     /**
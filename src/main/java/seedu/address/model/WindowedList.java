@@ -0,0 +1,249 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * Wraps an {@code ObservableList} and shows the elements at a range of its positions.
+ * The range is kept by position: as the source list changes, the view keeps showing whichever elements are at those
+ * positions, and fires the changes to them. A range can also be kept from the end of the source list, so that it keeps
+ * showing the last elements as elements are added or removed.
+ * Without a range, every element of the source list is shown, and its changes are passed on as they are.
+ * Setting a range costs time in the number of elements in it, however long the source list is.
+ */
+class WindowedList<E> extends TransformationList<E, E> {
+
+    private final ObservableList<E> sourceList;
+    private boolean isWindowed;
+    private boolean isFromEnd;
+    private int start;
+    private int length;
+    /** A copy of the elements in the range while there is one, which are the elements removed by the next change. */
+    private List<E> shownElements = Collections.emptyList();
+
+    WindowedList(ObservableList<E> sourceList) {
+        super(sourceList);
+        this.sourceList = sourceList;
+    }
+
+    /**
+     * Shows the (at most) {@code length} elements of the source list starting at position {@code start}.
+     *
+     * @throws IllegalArgumentException if {@code start} or {@code length} is negative.
+     */
+    void setWindow(int start, int length) {
+        if (start < 0 || length < 0) {
+            throw new IllegalArgumentException("Window start and length must not be negative.");
+        }
+        showWindow(false, start, length);
+    }
+
+    /**
+     * Shows the (at most) {@code length} last elements of the source list, however long it becomes.
+     *
+     * @throws IllegalArgumentException if {@code length} is negative.
+     */
+    void setWindowFromEnd(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Window length must not be negative.");
+        }
+        showWindow(true, 0, length);
+    }
+
+    /**
+     * Shows every element of the source list.
+     */
+    void clearWindow() {
+        if (!isWindowed) {
+            return;
+        }
+        List<E> removed = shownElements;
+        isWindowed = false;
+        shownElements = Collections.emptyList();
+        fireWindowChange(removed);
+    }
+
+    boolean isWindowed() {
+        return isWindowed;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        if (!isWindowed) {
+            passOn(change);
+            return;
+        }
+        List<E> removed = shownElements;
+        shownElements = new ArrayList<>(sourceList.subList(getSourceStart(), getSourceEnd()));
+        if (!removed.equals(shownElements)) {
+            fireWindowChange(removed);
+        }
+    }
+
+    @Override
+    public int size() {
+        return getSourceEnd() - getSourceStart();
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return sourceList.get(getSourceStart() + index);
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return getSourceStart() + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = index - getSourceStart();
+        return (viewIndex >= 0 && index < getSourceEnd()) ? viewIndex : -1;
+    }
+
+    /**
+     * Shows the range given by {@code isFromEnd}, {@code start} and {@code length}, and fires the change to it.
+     */
+    private void showWindow(boolean isFromEnd, int start, int length) {
+        List<E> removed = getShownElements();
+        isWindowed = true;
+        this.isFromEnd = isFromEnd;
+        this.start = start;
+        this.length = length;
+        shownElements = new ArrayList<>(sourceList.subList(getSourceStart(), getSourceEnd()));
+        fireWindowChange(removed);
+    }
+
+    /**
+     * Returns the elements shown, as a view of the source list when every element is shown.
+     */
+    private List<E> getShownElements() {
+        return isWindowed ? shownElements : sourceList.subList(0, sourceList.size());
+    }
+
+    private int getSourceStart() {
+        if (!isWindowed) {
+            return 0;
+        }
+        return isFromEnd ? Math.max(0, sourceList.size() - length) : Math.min(start, sourceList.size());
+    }
+
+    private int getSourceEnd() {
+        int sourceSize = sourceList.size();
+        return isWindowed && !isFromEnd ? (int) Math.min((long) start + length, sourceSize) : sourceSize;
+    }
+
+    /**
+     * Fires {@code change} of the source list as a change of this list, which has the same positions.
+     */
+    private void passOn(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Fires a change that replaces {@code removed} with the elements shown now.
+     * {@code removed} is passed on without being copied, so that showing or hiding a whole list costs no time in its
+     * length.
+     */
+    private void fireWindowChange(List<E> removed) {
+        if (removed.isEmpty() && isEmpty()) {
+            return;
+        }
+        fireChange(new WindowChange<>(this, removed));
+    }
+
+    /**
+     * A change that replaces every element shown by a {@code WindowedList}.
+     */
+    private static class WindowChange<E> extends Change<E> {
+        private final List<E> removed;
+        private final int addedSize;
+        private boolean isOnChange;
+
+        WindowChange(ObservableList<E> list, List<E> removed) {
+            super(list);
+            this.removed = Collections.unmodifiableList(removed);
+            this.addedSize = list.size();
+        }
+
+        @Override
+        public boolean next() {
+            if (isOnChange) {
+                return false;
+            }
+            isOnChange = true;
+            return true;
+        }
+
+        @Override
+        public void reset() {
+            isOnChange = false;
+        }
+
+        @Override
+        public int getFrom() {
+            checkState();
+            return 0;
+        }
+
+        @Override
+        public int getTo() {
+            checkState();
+            return addedSize;
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            checkState();
+            return removed;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            checkState();
+            return new int[0];
+        }
+
+        /**
+         * Throws an {@code IllegalStateException} if {@link #next()} has not been called yet.
+         */
+        private void checkState() {
+            if (!isOnChange) {
+                throw new IllegalStateException("Invalid Change state: next() must be called before inspecting"
+                        + " the Change.");
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.source.Source.validateSourceAttribute;
 
+import seedu.address.commons.util.Validator;
+
 /**
  * Represents a Source's Author(s) in the infinity machine.
  * Guarantees: immutable; is valid as declared in {@link #isValidAuthor(String)}
@@ -16,7 +18,7 @@ public class Author {
      * The first character of an Author's name must not be a whitespace,
      * otherwise " " (a blank string) becomes a valid input.
      */
-    public static final String VALIDATION_REGEX = "[^\\s].*";
+    public static final String VALIDATION_REGEX = Validator.NOT_BLANK_REGEX;
 
     public final String author;
 
@@ -2,14 +2,19 @@ package seedu.address.model.source;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.regex.PatternSyntaxException;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.Validator;
 import seedu.address.model.ModelManager;
 import seedu.address.model.tag.Tag;
 
@@ -26,9 +31,17 @@ public class Source {
     private final Detail detail;
     private final Set<Tag> tags = new HashSet<>();
     private final BiblioFields biblioFields;
+    private final SourceIdentity identity;
 
     private boolean isPinned = false;
 
+    // Lower-cased forms of the searchable fields, computed when first asked for
+    private String normalizedTitle;
+    private String normalizedAuthor;
+    private String normalizedType;
+    private String normalizedDetail;
+    private List<String> normalizedTagNames;
+
     public Source(Title title, Author author, Type type, Detail detail, Set<Tag> tags, BiblioFields biblioFields) {
         requireAllNonNull(title, author, type, detail, tags, biblioFields);
         this.title = title;
@@ -37,14 +50,11 @@ public class Source {
         this.detail = detail;
         this.tags.addAll(tags);
         this.biblioFields = biblioFields;
+        this.identity = new SourceIdentity(title, author, detail);
     }
 
     /**
      * A static utility method to validate a source attribute with a regex expression.
-     */
-
-    /**
-     * A private utility method to validate a source attribute with a regex expression.
      * @param attribute An attribute of the source class, e.g. title.
      * @param regex A regex expression with which to validate `attribute`.
      * @return true if `attribute` is valid, and false if either `attribute` or `regex` is invalid.
@@ -52,7 +62,7 @@ public class Source {
     public static boolean validateSourceAttribute(String attribute, String regex) {
         boolean validationResult;
         try {
-            validationResult = attribute.matches(regex);
+            validationResult = Validator.of(regex).isValid(attribute);
         } catch (PatternSyntaxException e) {
             logger.severe(e.toString());
             return false;
@@ -61,6 +71,34 @@ public class Source {
         return validationResult;
     }
 
+    /**
+     * Checks the title, type, author, detail and tag names of a source in a single pass, in that order.
+     * Each attribute is checked with the same validator that its constructor uses.
+     * @return the constraints message of the first invalid attribute, or an empty Optional if all are valid.
+     */
+    public static Optional<String> findInvalidAttribute(String title, String type, String author, String detail,
+            Collection<String> tagNames) {
+        requireAllNonNull(title, type, author, detail, tagNames);
+        if (!Title.isValidTitle(title)) {
+            return Optional.of(Title.MESSAGE_CONSTRAINTS);
+        }
+        if (!Type.isValidType(type)) {
+            return Optional.of(Type.MESSAGE_CONSTRAINTS);
+        }
+        if (!Author.isValidAuthor(author)) {
+            return Optional.of(Author.MESSAGE_CONSTRAINTS);
+        }
+        if (!Detail.isValidDetail(detail)) {
+            return Optional.of(Detail.MESSAGE_CONSTRAINTS);
+        }
+        for (String tagName : tagNames) {
+            if (tagName == null || !Tag.isValidTagName(tagName)) {
+                return Optional.of(Tag.MESSAGE_CONSTRAINTS);
+            }
+        }
+        return Optional.empty();
+    }
+
     public Title getTitle() {
         return title;
     }
@@ -81,6 +119,68 @@ public class Source {
         return biblioFields;
     }
 
+    /**
+     * Returns the identity of this source, which is equal to the identity of every source that
+     * {@link #isSameSource(Source)} considers the same.
+     */
+    public SourceIdentity getIdentity() {
+        return identity;
+    }
+
+    /**
+     * Returns the title in lower case, as it is matched against search keywords.
+     */
+    public String getNormalizedTitle() {
+        if (normalizedTitle == null) {
+            normalizedTitle = title.title.toLowerCase();
+        }
+        return normalizedTitle;
+    }
+
+    /**
+     * Returns the author in lower case, as it is matched against search keywords.
+     */
+    public String getNormalizedAuthor() {
+        if (normalizedAuthor == null) {
+            normalizedAuthor = author.author.toLowerCase();
+        }
+        return normalizedAuthor;
+    }
+
+    /**
+     * Returns the type in lower case, as it is matched against search keywords.
+     */
+    public String getNormalizedType() {
+        if (normalizedType == null) {
+            normalizedType = type.type.toLowerCase();
+        }
+        return normalizedType;
+    }
+
+    /**
+     * Returns the detail in lower case, as it is matched against search keywords.
+     */
+    public String getNormalizedDetail() {
+        if (normalizedDetail == null) {
+            normalizedDetail = detail.detail.toLowerCase();
+        }
+        return normalizedDetail;
+    }
+
+    /**
+     * Returns the tag names trimmed and in lower case, as they are matched against search keywords.
+     */
+    public List<String> getNormalizedTagNames() {
+        if (normalizedTagNames == null) {
+            List<String> tagNames = new ArrayList<>(tags.size());
+            for (Tag tag : tags) {
+                tagNames.add(tag.tagName.trim().toLowerCase());
+            }
+            normalizedTagNames = Collections.unmodifiableList(tagNames);
+        }
+        return normalizedTagNames;
+    }
+
     public boolean getPinnedState() {
         return isPinned;
     }
@@ -5,6 +5,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -17,46 +19,62 @@ import seedu.address.logic.parser.ArgumentMultimap;
  */
 public class SourceContainsKeywordsPredicate implements Predicate<Source> {
     public static final int LEVENSHTIEN_DISTANCE_CONSTANT = 5;
+    private static final ThreadLocal<DistRowBuffers> DIST_ROW_BUFFERS = ThreadLocal.withInitial(DistRowBuffers::new);
     private final ArgumentMultimap keywords;
 
+    // Keywords normalized the way the source fields they are matched against are, or empty if none were given
+    private final List<String> titleKeywords;
+    private final List<String> typeKeywords;
+    private final List<String> detailsKeywords;
+    private final List<String> tagKeywords;
+
     public SourceContainsKeywordsPredicate(ArgumentMultimap keywords) {
         this.keywords = keywords;
+        titleKeywords = normalizeKeywords(keywords.getAllValues(PREFIX_TITLE), false);
+        typeKeywords = normalizeKeywords(keywords.getAllValues(PREFIX_TYPE), false);
+        detailsKeywords = normalizeKeywords(keywords.getAllValues(PREFIX_DETAILS), false);
+        tagKeywords = normalizeKeywords(keywords.getAllValues(PREFIX_TAG), true);
     }
 
     @Override
     public boolean test(Source source) {
-        boolean result = true;
+        // shows all when no keywords are given
+        return (titleKeywords.isEmpty() || matchTitleKeywords(titleKeywords, source))
+                && (typeKeywords.isEmpty() || matchTypeKeywords(typeKeywords, source))
+                && (detailsKeywords.isEmpty() || matchDetailKeywords(detailsKeywords, source))
+                && (tagKeywords.isEmpty() || matchTagKeywords(tagKeywords, source));
+    }
 
-        List<String> titleKeywords = keywords.getAllValues(PREFIX_TITLE);
-        List<String> typeKeywords = keywords.getAllValues(PREFIX_TYPE);
-        List<String> detailsKeywords = keywords.getAllValues(PREFIX_DETAILS);
-        List<String> tagKeywords = keywords.getAllValues(PREFIX_TAG);
-
-        if ((titleKeywords.isEmpty() || checkAllEmpty(titleKeywords))
-                && (typeKeywords.isEmpty() || checkAllEmpty(typeKeywords))
-                && (detailsKeywords.isEmpty() || checkAllEmpty(detailsKeywords))
-                && (tagKeywords.isEmpty() || checkAllEmpty(tagKeywords))) {
-            return true;
-            //show all when tags empty
-        }
+    List<String> getTitleKeywords() {
+        return titleKeywords;
+    }
 
-        if (!titleKeywords.isEmpty() && !checkAllEmpty(titleKeywords)) {
-            result = result && matchTitleKeywords(titleKeywords, source);
-        }
+    List<String> getTypeKeywords() {
+        return typeKeywords;
+    }
 
-        if (!typeKeywords.isEmpty() && !checkAllEmpty(typeKeywords)) {
-            result = result && matchTypeKeywords(typeKeywords, source);
-        }
+    List<String> getDetailsKeywords() {
+        return detailsKeywords;
+    }
 
-        if (!detailsKeywords.isEmpty() && !checkAllEmpty(detailsKeywords)) {
-            result = result && matchDetailKeywords(detailsKeywords, source);
-        }
+    List<String> getTagKeywords() {
+        return tagKeywords;
+    }
 
-        if (!tagKeywords.isEmpty() && !checkAllEmpty(tagKeywords)) {
-            result = result && matchTagKeywords(tagKeywords, source);
+    /**
+     * Returns the {@code keywords} of a field in lower case, and also trimmed if {@code isTrimmed}.
+     * Returns an empty list if all of the {@code keywords} are empty, as such a field is not searched by.
+     */
+    private List<String> normalizeKeywords(List<String> keywords, boolean isTrimmed) {
+        if (checkAllEmpty(keywords)) {
+            return Collections.emptyList();
         }
 
-        return result;
+        List<String> normalizedKeywords = new ArrayList<>(keywords.size());
+        for (String keyword : keywords) {
+            normalizedKeywords.add((isTrimmed ? keyword.trim() : keyword).toLowerCase());
+        }
+        return Collections.unmodifiableList(normalizedKeywords);
     }
 
     /**
@@ -104,79 +122,126 @@ public class SourceContainsKeywordsPredicate implements Predicate<Source> {
      * @return true if words are similar enough, else false
      */
     public static boolean checkLevenshtienSimilarity(String sourceField, String userField) {
-        return levenshtienDist(sourceField, userField) < LEVENSHTIEN_DISTANCE_CONSTANT;
+        return boundedLevenshtienDist(sourceField, userField, LEVENSHTIEN_DISTANCE_CONSTANT - 1)
+                < LEVENSHTIEN_DISTANCE_CONSTANT;
+    }
+
+    /**
+     * Evaluates the number of swaps needed to transform one string to the other, as {@link #levenshtienDist} does,
+     * but only as far as is needed to tell whether it is at most {@code maxDist}.
+     * Only the cells within {@code maxDist} of the diagonal can hold a distance of at most {@code maxDist}, so only
+     * those are filled in, and evaluation stops as soon as a whole row exceeds {@code maxDist}.
+     * The rows are kept in buffers that are reused across calls on the same thread.
+     * @param a a string to be transformed from
+     * @param b a string to be transformed to
+     * @param maxDist the largest number of swaps of interest
+     * @return int number of swaps needed for the transformation, or {@code maxDist + 1} if more than
+     *     {@code maxDist} are needed
+     */
+    public static int boundedLevenshtienDist(String a, String b, int maxDist) {
+        int exceeded = maxDist + 1;
+        if (Math.abs(a.length() - b.length()) > maxDist) {
+            return exceeded;
+        }
+
+        DistRowBuffers buffers = DIST_ROW_BUFFERS.get();
+        int[] costs = buffers.getRow(0, b.length() + 2);
+        int[] nextCosts = buffers.getRow(1, b.length() + 2);
+        for (int j = 0; j <= Math.min(b.length(), maxDist + 1); j++) {
+            costs[j] = j <= maxDist ? j : exceeded;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - maxDist);
+            int to = Math.min(b.length(), i + maxDist);
+            nextCosts[from - 1] = (from == 1) ? i : exceeded;
+            int rowMin = nextCosts[from - 1];
+            for (int j = from; j <= to; j++) {
+                int cost = Math.min(1 + Math.min(costs[j], nextCosts[j - 1]),
+                        a.charAt(i - 1) == b.charAt(j - 1) ? costs[j - 1] : costs[j - 1] + 1);
+                nextCosts[j] = Math.min(cost, exceeded);
+                rowMin = Math.min(rowMin, nextCosts[j]);
+            }
+            // the cell after the band is read as the cell above in the next row
+            nextCosts[to + 1] = exceeded;
+
+            if (rowMin > maxDist) {
+                return exceeded;
+            }
+            int[] swap = costs;
+            costs = nextCosts;
+            nextCosts = swap;
+        }
+        return costs[b.length()];
     }
 
     /**
      * Evaluates true for sources that have at least one tag that contains the tags (ie. a substring)
      * entered by the user as an argument
-     * @param tagKeywords entered by user
+     * @param tagKeywords entered by user [trimmed, lower case]
      * @param source to be tested
      * @return true if present, else false
      */
     private boolean matchTagKeywords(List<String> tagKeywords, Source source) {
-        boolean result = true;
-        for (String tag : tagKeywords) {
-            String userTag = tag.trim().toLowerCase();
-            result = result && source.getTags().stream()
-                    .anyMatch(keyword -> (keyword.tagName.trim().toLowerCase()).contains(userTag)
-                    || checkLevenshtienSimilarity(keyword.tagName.trim().toLowerCase(), userTag));
+        List<String> sourceTags = source.getNormalizedTagNames();
+        for (int i = 0; i < tagKeywords.size(); i++) {
+            String userTag = tagKeywords.get(i);
+            boolean isTagFound = false;
+            for (int j = 0; j < sourceTags.size() && !isTagFound; j++) {
+                String sourceTag = sourceTags.get(j);
+                isTagFound = sourceTag.contains(userTag) || checkLevenshtienSimilarity(sourceTag, userTag);
+            }
+            if (!isTagFound) {
+                return false;
+            }
         }
-        return result;
+        return true;
     }
 
     /**
      * Evaluates true for sources that have details that contains the details entered by the user as an argument
-     * @param detailsKeywords entered by the user
+     * @param detailsKeywords entered by the user [lower case]
      * @param source to be tested
      * @return true if matches, else false
      */
     private boolean matchDetailKeywords(List<String> detailsKeywords, Source source) {
-        String sourceDetail = source.getDetail().detail.toLowerCase();
-        String userDetail;
-        boolean result = true;
-        for (String detail : detailsKeywords) {
-            userDetail = detail.toLowerCase();
-            result = result && (sourceDetail.contains(userDetail)
-                    || checkLevenshtienSimilarity(sourceDetail, userDetail));
-        }
-        return result;
+        return matchFieldKeywords(detailsKeywords, source.getNormalizedDetail());
     }
 
     /**
      * Evaluates true for sources that have types that contains the types entered by the user as an argument
-     * @param typeKeywords entered by the user
+     * @param typeKeywords entered by the user [lower case]
      * @param source to be tested
      * @return true if matches, else false
      */
     private boolean matchTypeKeywords(List<String> typeKeywords, Source source) {
-        String sourceType = source.getType().type.toLowerCase();
-        String userType;
-        boolean result = true;
-        for (String type : typeKeywords) {
-            userType = type.toLowerCase();
-            result = result && (sourceType.contains(userType)
-                            || checkLevenshtienSimilarity(sourceType, userType));
-        }
-        return result;
+        return matchFieldKeywords(typeKeywords, source.getNormalizedType());
     }
 
     /**
      * Evaluates true for sources that have title that contains the title entered by the user as an argument
-     * @param titleKeywords entered by the user
+     * @param titleKeywords entered by the user [lower case]
      * @param source to be tested
      * @return true if matches, else false
      */
     private boolean matchTitleKeywords(List<String> titleKeywords, Source source) {
-        String sourceTitle = source.getTitle().title.toLowerCase();
-        String userTitle;
-        boolean result = true;
-        for (String title : titleKeywords) {
-            userTitle = title.toLowerCase();
-            result = result && ((sourceTitle.contains(userTitle))
-                            || checkLevenshtienSimilarity(sourceTitle, userTitle));
+        return matchFieldKeywords(titleKeywords, source.getNormalizedTitle());
+    }
+
+    /**
+     * Evaluates true if the source field value contains, or is similar to, every one of the keywords
+     * @param fieldKeywords entered by the user [lower case]
+     * @param sourceField the field value of the source being tested [lower case]
+     * @return true if matches, else false
+     */
+    private boolean matchFieldKeywords(List<String> fieldKeywords, String sourceField) {
+        for (int i = 0; i < fieldKeywords.size(); i++) {
+            String userField = fieldKeywords.get(i);
+            if (!sourceField.contains(userField) && !checkLevenshtienSimilarity(sourceField, userField)) {
+                return false;
+            }
         }
-        return result;
+        return true;
     }
 
     @Override
@@ -190,4 +255,21 @@ public class SourceContainsKeywordsPredicate implements Predicate<Source> {
     public int hashCode() {
         return keywords.hashCode();
     }
+
+    /**
+     * The two rows used by {@link #boundedLevenshtienDist}, grown as longer strings are compared.
+     */
+    private static class DistRowBuffers {
+        private final int[][] rows = {new int[0], new int[0]};
+
+        /**
+         * Returns the buffer for {@code row}, with room for at least {@code minLength} cells.
+         */
+        int[] getRow(int row, int minLength) {
+            if (rows[row].length < minLength) {
+                rows[row] = new int[Math.max(minLength, rows[row].length * 2)];
+            }
+            return rows[row];
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package seedu.address.model.source;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents the identity of a {@code Source}, i.e. the fields that {@link Source#isSameSource(Source)} compares.
+ * Two sources are the same source if and only if their identities are equal, so identities can be used as keys
+ * for hashed lookups instead of scanning a list with {@code isSameSource}.
+ * Guarantees: immutable.
+ */
+public final class SourceIdentity {
+
+    private final String title;
+    private final String author;
+    private final String detail;
+    private final int hash;
+
+    public SourceIdentity(Title title, Author author, Detail detail) {
+        requireNonNull(title);
+        requireNonNull(author);
+        requireNonNull(detail);
+        this.title = title.title;
+        this.author = author.author;
+        this.detail = detail.detail;
+        this.hash = Objects.hash(this.title, this.author, this.detail);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof SourceIdentity)) {
+            return false;
+        }
+
+        SourceIdentity otherIdentity = (SourceIdentity) other;
+        return hash == otherIdentity.hash
+                && title.equals(otherIdentity.title)
+                && author.equals(otherIdentity.author)
+                && detail.equals(otherIdentity.detail);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return title + " / " + author + " / " + detail;
+    }
+}
@@ -0,0 +1,582 @@
+package seedu.address.model.source;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+import seedu.address.model.source.exceptions.DuplicateSourceException;
+
+/**
+ * An {@code ObservableList} of sources with unique identities, kept in a balanced order-statistic tree (a treap
+ * ordered by position) instead of an array.
+ * Inserting, removing and looking up a source by position, finding the position of a source, and moving a source
+ * to another position all take O(log n) time, where an array shifts every element after the position.
+ * {@link #move(int, int)} fires a single permutation change rather than a removal followed by an addition.
+ * Removing or replacing many sources at once fires a single change as well.
+ *
+ * Looking up the positions right after or before the last one looked up takes constant time, so that going through
+ * the list in order takes linear time.
+ */
+class SourceOrderList extends ModifiableObservableListBase<Source> {
+
+    private final Map<SourceIdentity, Node> nodes = new HashMap<>();
+    private final Random random = new Random();
+    private Node root;
+    /** The last position looked up, which may be read from several threads while the list is not modified. */
+    private Finger finger;
+
+    /**
+     * Returns true if the list contains a source with the identity {@code identity}.
+     */
+    boolean containsIdentity(SourceIdentity identity) {
+        requireNonNull(identity);
+        return nodes.containsKey(identity);
+    }
+
+    /**
+     * Moves the source at {@code from} to {@code to}, shifting the sources between them by one position.
+     *
+     * @throws IndexOutOfBoundsException if {@code from} or {@code to} is not a position in the list.
+     */
+    void move(int from, int to) {
+        checkIndex(from);
+        checkIndex(to);
+        if (from == to) {
+            return;
+        }
+        Node[] beforeAndRest = split(root, from);
+        Node[] movedAndAfter = split(beforeAndRest[1], 1);
+        Node moved = movedAndAfter[0];
+        Node[] parts = split(merge(beforeAndRest[0], movedAndAfter[1]), to);
+        root = merge(merge(parts[0], moved), parts[1]);
+        finger = null;
+        modCount++;
+        fireChange(new MoveChange(this, from, to));
+    }
+
+    @Override
+    public Source get(int index) {
+        checkIndex(index);
+        Finger lastLookup = finger;
+        Node node;
+        if (lastLookup != null && lastLookup.index == index) {
+            return lastLookup.node.source;
+        } else if (lastLookup != null && lastLookup.index + 1 == index) {
+            node = successor(lastLookup.node);
+        } else if (lastLookup != null && lastLookup.index - 1 == index) {
+            node = predecessor(lastLookup.node);
+        } else {
+            node = nodeAt(index);
+        }
+        finger = new Finger(node, index);
+        return node.source;
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!(o instanceof Source)) {
+            return -1;
+        }
+        Node node = nodes.get(((Source) o).getIdentity());
+        return (node != null && node.source.equals(o)) ? positionOf(node) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        // identities are unique, so a source is in the list at most once
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) != -1;
+    }
+
+    /**
+     * Replaces the contents of the list with {@code col}, building the tree in linear time.
+     *
+     * @throws DuplicateSourceException if {@code col} contains sources with the same identity.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Source> col) {
+        requireNonNull(col);
+        Map<SourceIdentity, Node> newNodes = new HashMap<>();
+        List<Node> newOrder = new ArrayList<>(col.size());
+        for (Source source : col) {
+            requireNonNull(source);
+            Node node = new Node(source, random.nextInt());
+            if (newNodes.put(source.getIdentity(), node) != null) {
+                throw new DuplicateSourceException();
+            }
+            newOrder.add(node);
+        }
+
+        List<Source> removed = new ArrayList<>(this);
+        nodes.clear();
+        nodes.putAll(newNodes);
+        root = build(newOrder);
+        finger = null;
+        modCount++;
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!newOrder.isEmpty()) {
+            nextAdd(0, newOrder.size());
+        }
+        endChange();
+        return true;
+    }
+
+    /**
+     * Removes the sources in {@code c} from the list, firing a single change that replaces the positions from the
+     * first source removed to the last one with the sources left between them.
+     */
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        requireNonNull(c);
+        int[] positions = c.stream().mapToInt(this::indexOf).filter(position -> position != -1).sorted().distinct()
+                .toArray();
+        if (positions.length == 0) {
+            return false;
+        }
+        int from = positions[0];
+        List<Source> removed = new ArrayList<>(subList(from, positions[positions.length - 1] + 1));
+        for (int i = 0; i < positions.length; i++) {
+            doRemove(positions[i] - i);
+        }
+        modCount++;
+
+        beginChange();
+        nextRemove(from, removed);
+        int keptCount = removed.size() - positions.length;
+        if (keptCount > 0) {
+            nextAdd(from, from + keptCount);
+        }
+        endChange();
+        return true;
+    }
+
+    /**
+     * Replaces the source at each of {@code positions} with the source at the same index of {@code elements},
+     * firing a single change that replaces the positions from the first source replaced to the last one.
+     * {@code positions} must be in ascending order.
+     *
+     * @throws DuplicateSourceException if the replacements would leave two sources with the same identity.
+     */
+    void setEach(int[] positions, List<Source> elements) {
+        requireNonNull(positions);
+        requireNonNull(elements);
+        if (positions.length != elements.size()) {
+            throw new IllegalArgumentException("Each position must have one source to replace it with.");
+        }
+        if (positions.length == 0) {
+            return;
+        }
+        Node[] replacedNodes = new Node[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            checkIndex(positions[i]);
+            replacedNodes[i] = nodeAt(positions[i]);
+        }
+        validateReplacements(replacedNodes, elements);
+
+        int from = positions[0];
+        int to = positions[positions.length - 1] + 1;
+        List<Source> removed = new ArrayList<>(subList(from, to));
+        for (Node node : replacedNodes) {
+            nodes.remove(node.source.getIdentity());
+        }
+        for (int i = 0; i < replacedNodes.length; i++) {
+            replacedNodes[i].source = elements.get(i);
+            nodes.put(elements.get(i).getIdentity(), replacedNodes[i]);
+        }
+        finger = null;
+        modCount++;
+
+        beginChange();
+        nextReplace(from, to, removed);
+        endChange();
+    }
+
+    /**
+     * Throws a {@code DuplicateSourceException} if replacing the sources of {@code replacedNodes} with
+     * {@code elements} would leave two sources with the same identity.
+     */
+    private void validateReplacements(Node[] replacedNodes, List<Source> elements) {
+        Set<Node> replaced = Collections.newSetFromMap(new IdentityHashMap<>());
+        replaced.addAll(Arrays.asList(replacedNodes));
+        Set<SourceIdentity> newIdentities = new HashSet<>();
+        for (Source element : elements) {
+            requireNonNull(element);
+            Node sameIdentity = nodes.get(element.getIdentity());
+            if (!newIdentities.add(element.getIdentity())
+                    || (sameIdentity != null && !replaced.contains(sameIdentity))) {
+                throw new DuplicateSourceException();
+            }
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, Source element) {
+        requireNonNull(element);
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (nodes.containsKey(element.getIdentity())) {
+            throw new DuplicateSourceException();
+        }
+        Node node = new Node(element, random.nextInt());
+        nodes.put(element.getIdentity(), node);
+        Node[] parts = split(root, index);
+        root = merge(merge(parts[0], node), parts[1]);
+        finger = null;
+    }
+
+    @Override
+    protected Source doSet(int index, Source element) {
+        requireNonNull(element);
+        checkIndex(index);
+        Node node = nodeAt(index);
+        Node sameIdentity = nodes.get(element.getIdentity());
+        if (sameIdentity != null && sameIdentity != node) {
+            throw new DuplicateSourceException();
+        }
+        Source replaced = node.source;
+        nodes.remove(replaced.getIdentity());
+        nodes.put(element.getIdentity(), node);
+        node.source = element;
+        return replaced;
+    }
+
+    @Override
+    protected Source doRemove(int index) {
+        checkIndex(index);
+        Node[] beforeAndRest = split(root, index);
+        Node[] removedAndAfter = split(beforeAndRest[1], 1);
+        root = merge(beforeAndRest[0], removedAndAfter[1]);
+        finger = null;
+        Source removed = removedAndAfter[0].source;
+        nodes.remove(removed.getIdentity());
+        return removed;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    //// tree operations
+
+    private static int sizeOf(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Recomputes the size of {@code node} from its children, and makes it their parent.
+     */
+    private static void update(Node node) {
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+        if (node.left != null) {
+            node.left.parent = node;
+        }
+        if (node.right != null) {
+            node.right.parent = node;
+        }
+    }
+
+    /**
+     * Returns the root of a tree of the nodes of {@code left} followed by the nodes of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        Node merged;
+        if (left == null || right == null) {
+            merged = left == null ? right : left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            merged = left;
+        } else {
+            right.left = merge(left, right.left);
+            update(right);
+            merged = right;
+        }
+        if (merged != null) {
+            merged.parent = null;
+        }
+        return merged;
+    }
+
+    /**
+     * Splits the tree rooted at {@code node} into a tree of its first {@code count} nodes and a tree of the rest,
+     * and returns their roots.
+     */
+    private static Node[] split(Node node, int count) {
+        if (node == null) {
+            return new Node[2];
+        }
+        Node[] parts;
+        if (sizeOf(node.left) >= count) {
+            parts = split(node.left, count);
+            node.left = parts[1];
+            update(node);
+            parts[1] = node;
+        } else {
+            parts = split(node.right, count - sizeOf(node.left) - 1);
+            node.right = parts[0];
+            update(node);
+            parts[0] = node;
+        }
+        for (Node part : parts) {
+            if (part != null) {
+                part.parent = null;
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Returns the root of a tree of {@code order}, in order, in linear time.
+     * The tree is built as the Cartesian tree of the priorities of the nodes, which keeps it a treap.
+     */
+    private static Node build(List<Node> order) {
+        List<Node> rightSpine = new ArrayList<>();
+        for (Node node : order) {
+            Node lastPopped = null;
+            while (!rightSpine.isEmpty() && rightSpine.get(rightSpine.size() - 1).priority < node.priority) {
+                lastPopped = rightSpine.remove(rightSpine.size() - 1);
+            }
+            node.left = lastPopped;
+            if (!rightSpine.isEmpty()) {
+                rightSpine.get(rightSpine.size() - 1).right = node;
+            }
+            rightSpine.add(node);
+        }
+        if (rightSpine.isEmpty()) {
+            return null;
+        }
+        Node root = rightSpine.get(0);
+        updateAll(root);
+        root.parent = null;
+        return root;
+    }
+
+    /**
+     * Recomputes the sizes and parents of every node in the tree rooted at {@code node}.
+     */
+    private static void updateAll(Node node) {
+        if (node.left != null) {
+            updateAll(node.left);
+        }
+        if (node.right != null) {
+            updateAll(node.right);
+        }
+        update(node);
+    }
+
+    /**
+     * Returns the node at position {@code index}, which must be in the list.
+     */
+    private Node nodeAt(int index) {
+        Node node = root;
+        int position = index;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (position < leftSize) {
+                node = node.left;
+            } else if (position == leftSize) {
+                return node;
+            } else {
+                position -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of {@code node} in the list, counting the nodes before it on the way up to the root.
+     */
+    private static int positionOf(Node node) {
+        int position = sizeOf(node.left);
+        for (Node child = node; child.parent != null; child = child.parent) {
+            if (child == child.parent.right) {
+                position += sizeOf(child.parent.left) + 1;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns the node after {@code node}, which must not be the last node.
+     */
+    private static Node successor(Node node) {
+        if (node.right != null) {
+            Node next = node.right;
+            while (next.left != null) {
+                next = next.left;
+            }
+            return next;
+        }
+        Node child = node;
+        while (child.parent.right == child) {
+            child = child.parent;
+        }
+        return child.parent;
+    }
+
+    /**
+     * Returns the node before {@code node}, which must not be the first node.
+     */
+    private static Node predecessor(Node node) {
+        if (node.left != null) {
+            Node previous = node.left;
+            while (previous.right != null) {
+                previous = previous.right;
+            }
+            return previous;
+        }
+        Node child = node;
+        while (child.parent.left == child) {
+            child = child.parent;
+        }
+        return child.parent;
+    }
+
+    /**
+     * A source in the tree, with the number of nodes in the subtree rooted at it.
+     */
+    private static class Node {
+        private final int priority;
+        private Source source;
+        private Node left;
+        private Node right;
+        private Node parent;
+        private int size = 1;
+
+        Node(Source source, int priority) {
+            this.source = source;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * A position in the list and the node at it.
+     */
+    private static class Finger {
+        private final Node node;
+        private final int index;
+
+        Finger(Node node, int index) {
+            this.node = node;
+            this.index = index;
+        }
+    }
+
+    /**
+     * The permutation fired by a move, which works out the new position of each source as it is asked for instead of
+     * building the whole permutation up front.
+     */
+    private static class MoveChange extends Change<Source> {
+        private final int from;
+        private final int to;
+        private boolean isOnChange;
+        private int[] permutation;
+
+        MoveChange(ObservableList<Source> list, int from, int to) {
+            super(list);
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean next() {
+            if (isOnChange) {
+                return false;
+            }
+            isOnChange = true;
+            return true;
+        }
+
+        @Override
+        public void reset() {
+            isOnChange = false;
+        }
+
+        @Override
+        public int getFrom() {
+            checkState();
+            return Math.min(from, to);
+        }
+
+        @Override
+        public int getTo() {
+            checkState();
+            return Math.max(from, to) + 1;
+        }
+
+        @Override
+        public List<Source> getRemoved() {
+            checkState();
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean wasPermutated() {
+            checkState();
+            return true;
+        }
+
+        @Override
+        public int getPermutation(int i) {
+            checkState();
+            if (i < getFrom() || i >= getTo()) {
+                throw new IndexOutOfBoundsException("Index: " + i);
+            }
+            if (i == from) {
+                return to;
+            }
+            return from < to ? i - 1 : i + 1;
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            checkState();
+            if (permutation == null) {
+                permutation = new int[getTo() - getFrom()];
+                for (int i = getFrom(); i < getTo(); i++) {
+                    permutation[i - getFrom()] = getPermutation(i);
+                }
+            }
+            return permutation;
+        }
+
+        /**
+         * Throws an {@code IllegalStateException} if {@link #next()} has not been called yet.
+         */
+        private void checkState() {
+            if (!isOnChange) {
+                throw new IllegalStateException("Invalid Change state: next() must be called before inspecting"
+                        + " the Change.");
+            }
+        }
+    }
+}
@@ -0,0 +1,443 @@
+package seedu.address.model.source;
+
+import static seedu.address.model.source.SourceContainsKeywordsPredicate.LEVENSHTIEN_DISTANCE_CONSTANT;
+import static seedu.address.model.source.SourceContainsKeywordsPredicate.checkLevenshtienSimilarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index over the searchable fields of a list of sources, which finds the sources matching a
+ * {@code SourceContainsKeywordsPredicate} without testing every source.
+ *
+ * Each field keeps an inverted index from its distinct values to the sources having them, and from the trigrams
+ * (three-character substrings) of those values to the values containing them.
+ * Values containing a keyword are found among the values having all of the keyword's trigrams, and values within the
+ * predicate's edit distance of a keyword are found among the values sharing enough of its trigrams, or among the
+ * values of a similar length for keywords too short for trigrams to rule anything out.
+ * Only those candidates are checked against the keyword.
+ */
+class SourceSearchIndex {
+
+    /** The largest edit distance at which a value is still considered similar to a keyword. */
+    private static final int MAX_DISTANCE = LEVENSHTIEN_DISTANCE_CONSTANT - 1;
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final long TRIGRAM_HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final Set<Source> sources = newSourceSet();
+    private final FieldIndex titles = new FieldIndex();
+    private final FieldIndex types = new FieldIndex();
+    private final FieldIndex details = new FieldIndex();
+    private final FieldIndex tags = new FieldIndex();
+
+    /**
+     * Creates an index of {@code sources}.
+     */
+    SourceSearchIndex(Iterable<Source> sources) {
+        for (Source source : sources) {
+            add(source);
+        }
+    }
+
+    /**
+     * Adds {@code source} to the index.
+     */
+    void add(Source source) {
+        sources.add(source);
+        titles.add(source.getNormalizedTitle(), source);
+        types.add(source.getNormalizedType(), source);
+        details.add(source.getNormalizedDetail(), source);
+        for (String tagName : source.getNormalizedTagNames()) {
+            tags.add(tagName, source);
+        }
+    }
+
+    /**
+     * Removes {@code source}, which must be the same instance that was added, from the index.
+     */
+    void remove(Source source) {
+        sources.remove(source);
+        titles.remove(source.getNormalizedTitle(), source);
+        types.remove(source.getNormalizedType(), source);
+        details.remove(source.getNormalizedDetail(), source);
+        for (String tagName : source.getNormalizedTagNames()) {
+            tags.remove(tagName, source);
+        }
+    }
+
+    /**
+     * Returns the indexed sources that {@code predicate} would evaluate to true for.
+     * The returned set compares sources by identity.
+     */
+    Set<Source> search(SourceContainsKeywordsPredicate predicate) {
+        Set<Source> result = null;
+        result = narrow(result, titles, predicate.getTitleKeywords());
+        result = narrow(result, types, predicate.getTypeKeywords());
+        result = narrow(result, details, predicate.getDetailsKeywords());
+        result = narrow(result, tags, predicate.getTagKeywords());
+
+        if (result == null) {
+            // no keywords were given, so every source matches
+            Set<Source> allSources = newSourceSet();
+            allSources.addAll(sources);
+            return allSources;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sources in {@code result} that match every one of the {@code keywords} in {@code field}.
+     * A null {@code result} stands for every source. An empty keyword matches every source with a value in the field.
+     */
+    private static Set<Source> narrow(Set<Source> result, FieldIndex field, List<String> keywords) {
+        for (String keyword : keywords) {
+            if (result != null && result.isEmpty()) {
+                break;
+            }
+            Set<Source> matches = field.getMatchingSources(keyword);
+            result = (result == null) ? matches : intersect(result, matches);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the sources in both {@code first} and {@code second}, iterating over the smaller of the two.
+     */
+    private static Set<Source> intersect(Set<Source> first, Set<Source> second) {
+        Set<Source> smaller = first.size() <= second.size() ? first : second;
+        Set<Source> larger = smaller == first ? second : first;
+
+        Set<Source> intersection = newSourceSet();
+        for (Source source : smaller) {
+            if (larger.contains(source)) {
+                intersection.add(source);
+            }
+        }
+        return intersection;
+    }
+
+    private static Set<Source> newSourceSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code value}, each packed into a {@code long}.
+     * The packed characters are multiplied by an odd constant, which keeps trigrams distinct while spreading their
+     * hash codes, as packed characters alone collide often under {@code Long#hashCode()}.
+     */
+    private static long[] getTrigrams(String value) {
+        if (value.length() < TRIGRAM_LENGTH) {
+            return new long[0];
+        }
+
+        long[] trigrams = new long[value.length() - TRIGRAM_LENGTH + 1];
+        for (int i = 0; i < trigrams.length; i++) {
+            long packed = ((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2);
+            trigrams[i] = packed * TRIGRAM_HASH_MULTIPLIER;
+        }
+        Arrays.sort(trigrams);
+
+        int distinctCount = 1;
+        for (int i = 1; i < trigrams.length; i++) {
+            if (trigrams[i] != trigrams[distinctCount - 1]) {
+                trigrams[distinctCount++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinctCount);
+    }
+
+    /**
+     * The inverted index of a single field.
+     * Every distinct value of the field is given an id, and the postings of trigrams and lengths list those ids in
+     * increasing order. Ids of removed values are left in the postings and skipped, until there are more of them
+     * than live values and the postings are rebuilt.
+     */
+    private static class FieldIndex {
+        private final Map<String, Value> values = new HashMap<>();
+        private final List<Value> valuesById = new ArrayList<>();
+        private final Map<Long, Postings> trigramPostings = new HashMap<>();
+        private final Map<Integer, Postings> lengthPostings = new HashMap<>();
+        private int removedCount = 0;
+
+        /**
+         * Records that {@code source} has {@code value} in this field.
+         */
+        void add(String value, Source source) {
+            Value entry = values.get(value);
+            if (entry == null) {
+                entry = new Value(valuesById.size(), value);
+                values.put(value, entry);
+                valuesById.add(entry);
+                addPostings(entry);
+            }
+            entry.add(source);
+        }
+
+        /**
+         * Records that {@code source} no longer has {@code value} in this field.
+         */
+        void remove(String value, Source source) {
+            Value entry = values.get(value);
+            if (entry == null) {
+                return;
+            }
+
+            entry.remove(source);
+            if (entry.isEmpty()) {
+                values.remove(value);
+                valuesById.set(entry.id, null);
+                removedCount++;
+                if (removedCount > values.size()) {
+                    rebuild();
+                }
+            }
+        }
+
+        /**
+         * Returns the sources having a value that contains {@code keyword}, or is similar to it.
+         */
+        Set<Source> getMatchingSources(String keyword) {
+            Set<Source> matches = newSourceSet();
+            for (Value entry : getMatchingValues(keyword)) {
+                entry.addSourcesTo(matches);
+            }
+            return matches;
+        }
+
+        private Set<Value> getMatchingValues(String keyword) {
+            long[] keywordTrigrams = getTrigrams(keyword);
+            Set<Value> matches = new HashSet<>();
+
+            if (keywordTrigrams.length == 0) {
+                for (Value entry : values.values()) {
+                    if (entry.value.contains(keyword)) {
+                        matches.add(entry);
+                    }
+                }
+            } else {
+                Postings candidates = getValuesWithTrigrams(keywordTrigrams);
+                for (int i = 0; i < candidates.size; i++) {
+                    Value entry = valuesById.get(candidates.get(i));
+                    if (entry != null && entry.value.contains(keyword)) {
+                        matches.add(entry);
+                    }
+                }
+            }
+
+            for (Value entry : getSimilarCandidates(keyword, keywordTrigrams)) {
+                if (!matches.contains(entry) && checkLevenshtienSimilarity(entry.value, keyword)) {
+                    matches.add(entry);
+                }
+            }
+            return matches;
+        }
+
+        /**
+         * Returns the values that could be within {@code MAX_DISTANCE} edits of {@code keyword}.
+         * Every edit changes at most {@code TRIGRAM_LENGTH} of the keyword's trigrams, so a similar value still has
+         * all but {@code TRIGRAM_LENGTH * MAX_DISTANCE} of them. When the keyword has too few trigrams for this to
+         * rule anything out, the values whose length is within {@code MAX_DISTANCE} of the keyword's are returned.
+         */
+        private List<Value> getSimilarCandidates(String keyword, long[] keywordTrigrams) {
+            List<Value> candidates = new ArrayList<>();
+            int minLength = keyword.length() - MAX_DISTANCE;
+            int maxLength = keyword.length() + MAX_DISTANCE;
+            int minSharedTrigrams = keywordTrigrams.length - TRIGRAM_LENGTH * MAX_DISTANCE;
+
+            if (minSharedTrigrams <= 0) {
+                for (int length = Math.max(0, minLength); length <= maxLength; length++) {
+                    Postings postings = lengthPostings.get(length);
+                    if (postings == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < postings.size; i++) {
+                        Value entry = valuesById.get(postings.get(i));
+                        if (entry != null) {
+                            candidates.add(entry);
+                        }
+                    }
+                }
+                return candidates;
+            }
+
+            int[] sharedTrigrams = new int[valuesById.size()];
+            for (long trigram : keywordTrigrams) {
+                Postings postings = trigramPostings.get(trigram);
+                if (postings == null) {
+                    continue;
+                }
+                for (int i = 0; i < postings.size; i++) {
+                    int id = postings.get(i);
+                    Value entry = valuesById.get(id);
+                    if (entry == null || entry.value.length() < minLength || entry.value.length() > maxLength) {
+                        continue;
+                    }
+                    sharedTrigrams[id]++;
+                    if (sharedTrigrams[id] == minSharedTrigrams) {
+                        candidates.add(entry);
+                    }
+                }
+            }
+            return candidates;
+        }
+
+        /**
+         * Returns the ids of the values having every one of {@code trigrams}, intersecting their postings starting
+         * from the shortest.
+         */
+        private Postings getValuesWithTrigrams(long[] trigrams) {
+            List<Postings> postingsOfTrigrams = new ArrayList<>();
+            for (long trigram : trigrams) {
+                Postings postings = trigramPostings.get(trigram);
+                if (postings == null) {
+                    return Postings.EMPTY;
+                }
+                postingsOfTrigrams.add(postings);
+            }
+            postingsOfTrigrams.sort(Comparator.comparingInt(postings -> postings.size));
+
+            Postings result = postingsOfTrigrams.get(0);
+            for (int i = 1; i < postingsOfTrigrams.size() && result.size > 0; i++) {
+                result = result.intersect(postingsOfTrigrams.get(i));
+            }
+            return result;
+        }
+
+
+        /**
+         * Adds the id of {@code entry} to the postings of its trigrams and of its length.
+         */
+        private void addPostings(Value entry) {
+            for (long trigram : getTrigrams(entry.value)) {
+                trigramPostings.computeIfAbsent(trigram, unused -> new Postings()).add(entry.id);
+            }
+            lengthPostings.computeIfAbsent(entry.value.length(), unused -> new Postings()).add(entry.id);
+        }
+
+        /**
+         * Gives the live values new ids and rebuilds the postings without the ids of removed values.
+         */
+        private void rebuild() {
+            valuesById.clear();
+            trigramPostings.clear();
+            lengthPostings.clear();
+            removedCount = 0;
+            for (Value entry : values.values()) {
+                entry.id = valuesById.size();
+                valuesById.add(entry);
+                addPostings(entry);
+            }
+        }
+    }
+
+    /**
+     * A distinct value of a field, and the sources having it.
+     * Most values belong to a single source, so a set of sources is only created once there is more than one.
+     */
+    private static class Value {
+        private final String value;
+        private Source onlySource;
+        private Set<Source> sources;
+        private int id;
+
+        Value(int id, String value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        /**
+         * Records that {@code source} has this value.
+         */
+        void add(Source source) {
+            if (sources != null) {
+                sources.add(source);
+            } else if (onlySource == null || onlySource == source) {
+                onlySource = source;
+            } else {
+                sources = newSourceSet();
+                sources.add(onlySource);
+                sources.add(source);
+                onlySource = null;
+            }
+        }
+
+        /**
+         * Records that {@code source} no longer has this value.
+         */
+        void remove(Source source) {
+            if (sources != null) {
+                sources.remove(source);
+            } else if (onlySource == source) {
+                onlySource = null;
+            }
+        }
+
+        boolean isEmpty() {
+            return sources == null ? onlySource == null : sources.isEmpty();
+        }
+
+        /**
+         * Adds the sources having this value to {@code result}.
+         */
+        void addSourcesTo(Set<Source> result) {
+            if (sources != null) {
+                result.addAll(sources);
+            } else if (onlySource != null) {
+                result.add(onlySource);
+            }
+        }
+    }
+
+    /**
+     * A growable list of value ids, in increasing order.
+     */
+    private static class Postings {
+        private static final Postings EMPTY = new Postings();
+
+        private int[] ids = new int[2];
+        private int size = 0;
+
+        /**
+         * Appends {@code id}, which must be larger than every id already in the list.
+         */
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int get(int index) {
+            return ids[index];
+        }
+
+        /**
+         * Returns the ids in both this list and {@code other}.
+         */
+        Postings intersect(Postings other) {
+            Postings intersection = new Postings();
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (ids[i] > other.ids[j]) {
+                    j++;
+                } else {
+                    intersection.add(ids[i]);
+                    i++;
+                    j++;
+                }
+            }
+            return intersection;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.source.Source.validateSourceAttribute;
 
+import seedu.address.commons.util.Validator;
+
 /**
  * Represents a Source's Type in the infinity machine.
  * Guarantees: immutable; is valid as declared in {@link #isValidType(String)}
@@ -17,7 +19,7 @@ public class Type {
      * The first character of the type must not be a whitespace,
      * otherwise " " (a blank string) becomes a valid input.
      */
-    public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    public static final String VALIDATION_REGEX = Validator.ALPHANUMERIC_REGEX;
 
     public final String type;
 
@@ -3,8 +3,15 @@ package seedu.address.model.source;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +26,9 @@ import seedu.address.model.source.exceptions.SourceNotFoundException;
  * However, the removal of a source uses Source#equals(Object) so
  * as to ensure that the source with exactly the same fields will be removed.
  *
+ * The identities of all sources in the list are also kept in a hashed index, so that checking whether an
+ * equivalent source exists does not require a scan of the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Source#isSameSource(Source)
@@ -28,13 +38,14 @@ public class UniqueDeletedSourceList implements Iterable<Source> {
     private final ObservableList<Source> internalDeletedList = FXCollections.observableArrayList();
     private final ObservableList<Source> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalDeletedList);
+    private final Set<SourceIdentity> identities = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent source as the given argument.
      */
     public boolean contains(Source toCheck) {
         requireNonNull(toCheck);
-        return internalDeletedList.stream().anyMatch(toCheck::isSameSource);
+        return identities.contains(toCheck.getIdentity());
     }
 
     /**
@@ -46,6 +57,7 @@ public class UniqueDeletedSourceList implements Iterable<Source> {
         if (contains(toAdd)) {
             throw new DuplicateSourceException();
         }
+        identities.add(toAdd.getIdentity());
         internalDeletedList.add(toAdd);
     }
 
@@ -58,6 +70,7 @@ public class UniqueDeletedSourceList implements Iterable<Source> {
         if (contains(toAdd)) {
             throw new DuplicateSourceException();
         }
+        identities.add(toAdd.getIdentity());
         internalDeletedList.add(index, toAdd);
     }
 
@@ -78,6 +91,8 @@ public class UniqueDeletedSourceList implements Iterable<Source> {
             throw new DuplicateSourceException();
         }
 
+        identities.remove(target.getIdentity());
+        identities.add(editedSource.getIdentity());
         internalDeletedList.set(index, editedSource);
     }
 
@@ -87,13 +102,89 @@ public class UniqueDeletedSourceList implements Iterable<Source> {
      */
     public void remove(Source toRemove) {
         requireNonNull(toRemove);
-        if (!internalDeletedList.remove(toRemove)) {
+        int index = internalDeletedList.indexOf(toRemove);
+        if (index == -1) {
             throw new SourceNotFoundException();
         }
+        identities.remove(toRemove.getIdentity());
+        internalDeletedList.remove(index);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list, notifying listeners of the list once.
+     * None of the sources may already exist in the list, or be the same as each other.
+     */
+    public void addAll(List<Source> toAdd) {
+        requireNonNull(toAdd);
+        Set<SourceIdentity> newIdentities = new HashSet<>();
+        for (Source source : toAdd) {
+            requireNonNull(source);
+            if (contains(source) || !newIdentities.add(source.getIdentity())) {
+                throw new DuplicateSourceException();
+            }
+        }
+        identities.addAll(newIdentities);
+        internalDeletedList.addAll(toAdd);
+    }
+
+    /**
+     * Removes the equivalent sources of {@code toRemove} from the list in a single pass, notifying listeners of the
+     * list once.
+     * Every source must exist in the list.
+     */
+    public void removeAll(List<Source> toRemove) {
+        int[] indexes = indexesOf(toRemove);
+        BitSet removed = new BitSet(internalDeletedList.size());
+        for (int index : indexes) {
+            if (index == -1) {
+                throw new SourceNotFoundException();
+            }
+            removed.set(index);
+        }
+        List<Source> kept = new ArrayList<>(internalDeletedList.size() - removed.cardinality());
+        for (int i = removed.nextClearBit(0); i < internalDeletedList.size(); i = removed.nextClearBit(i + 1)) {
+            kept.add(internalDeletedList.get(i));
+        }
+        for (Source source : toRemove) {
+            identities.remove(source.getIdentity());
+        }
+        internalDeletedList.setAll(kept);
+    }
+
+    /**
+     * Returns the index of the equivalent source of each of {@code sources} in the list, or -1 for a source that is
+     * not in the list, finding them all in a single pass.
+     */
+    public int[] indexesOf(List<Source> sources) {
+        requireNonNull(sources);
+        Map<SourceIdentity, Integer> sourceIndexes = new HashMap<>();
+        for (int i = 0; i < sources.size(); i++) {
+            sourceIndexes.put(requireNonNull(sources.get(i)).getIdentity(), i);
+        }
+        int[] indexes = new int[sources.size()];
+        Arrays.fill(indexes, -1);
+        for (int i = 0; i < internalDeletedList.size(); i++) {
+            Source source = internalDeletedList.get(i);
+            Integer sourceIndex = sourceIndexes.get(source.getIdentity());
+            if (sourceIndex != null && sources.get(sourceIndex).equals(source)) {
+                indexes[sourceIndex] = i;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * As {@code replacement} is itself a {@code UniqueDeletedSourceList}, its sources are known to be unique
+     * and are installed without being validated again.
+     */
     public void setSources(UniqueDeletedSourceList replacement) {
         requireNonNull(replacement);
+        if (replacement == this) {
+            return;
+        }
+        identities.clear();
+        identities.addAll(replacement.identities);
         internalDeletedList.setAll(replacement.internalDeletedList);
     }
 
@@ -102,11 +193,11 @@ public class UniqueDeletedSourceList implements Iterable<Source> {
      * {@code sources} must not contain duplicate sources.
      */
     public void setSources(List<Source> sources) {
-        requireAllNonNull(sources);
-        if (!sourcesAreUnique(sources)) {
-            throw new DuplicateSourceException();
-        }
+        requireNonNull(sources);
+        Set<SourceIdentity> newIdentities = getUniqueIdentities(sources);
 
+        identities.clear();
+        identities.addAll(newIdentities);
         internalDeletedList.setAll(sources);
     }
 
@@ -119,7 +210,7 @@ public class UniqueDeletedSourceList implements Iterable<Source> {
 
     @Override
     public Iterator<Source> iterator() {
-        return internalDeletedList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -135,16 +226,19 @@ public class UniqueDeletedSourceList implements Iterable<Source> {
     }
 
     /**
-     * Returns true if {@code sources} contains only unique sources.
+     * Returns the identities of {@code sources}, validating in a single pass that they are all unique.
+     *
+     * @throws NullPointerException if any of {@code sources} is null.
+     * @throws DuplicateSourceException if {@code sources} contains duplicate sources.
      */
-    private boolean sourcesAreUnique(List<Source> sources) {
-        for (int i = 0; i < sources.size() - 1; i++) {
-            for (int j = i + 1; j < sources.size(); j++) {
-                if (sources.get(i).isSameSource(sources.get(j))) {
-                    return false;
-                }
+    private static Set<SourceIdentity> getUniqueIdentities(List<Source> sources) {
+        Set<SourceIdentity> uniqueIdentities = new HashSet<>();
+        for (Source source : sources) {
+            requireNonNull(source);
+            if (!uniqueIdentities.add(source.getIdentity())) {
+                throw new DuplicateSourceException();
             }
         }
-        return true;
+        return uniqueIdentities;
     }
 }
@@ -3,8 +3,13 @@ package seedu.address.model.source;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,22 +23,29 @@ import seedu.address.model.source.exceptions.SourceNotFoundException;
  * unique in terms of identity in the UniqueSourceList. However, the removal of a source uses Source#equals(Object) so
  * as to ensure that the source with exactly the same fields will be removed.
  *
+ * The sources are kept in a {@code SourceOrderList}, which also indexes them by identity, so that checking whether an
+ * equivalent source exists, finding a source, inserting at a position and moving a source to another position do not
+ * require a scan or a shift of the whole list. Once the list has been searched, a {@code SourceSearchIndex} of its
+ * sources is kept as well.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Source#isSameSource(Source)
  */
 public class UniqueSourceList implements Iterable<Source> {
 
-    private final ObservableList<Source> internalList = FXCollections.observableArrayList();
+    private final SourceOrderList internalList = new SourceOrderList();
     private final ObservableList<Source> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** Built on the first search, and kept up to date from then on. */
+    private SourceSearchIndex searchIndex;
 
     /**
      * Returns true if the list contains an equivalent source as the given argument.
      */
     public boolean contains(Source toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameSource);
+        return internalList.containsIdentity(toCheck.getIdentity());
     }
 
     /**
@@ -46,6 +58,9 @@ public class UniqueSourceList implements Iterable<Source> {
             throw new DuplicateSourceException();
         }
         internalList.add(toAdd);
+        if (searchIndex != null) {
+            searchIndex.add(toAdd);
+        }
     }
 
     /**
@@ -58,6 +73,46 @@ public class UniqueSourceList implements Iterable<Source> {
             throw new DuplicateSourceException();
         }
         internalList.add(index, toAdd);
+        if (searchIndex != null) {
+            searchIndex.add(toAdd);
+        }
+    }
+
+    /**
+     * Returns the index of the equivalent source of {@code source} in the list, or -1 if there is none.
+     */
+    public int indexOf(Source source) {
+        requireNonNull(source);
+        return internalList.indexOf(source);
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list, notifying listeners of the list once.
+     * None of the sources may already exist in the list, or be the same as each other.
+     */
+    public void addAll(List<Source> toAdd) {
+        requireNonNull(toAdd);
+        Set<SourceIdentity> newIdentities = new HashSet<>();
+        for (Source source : toAdd) {
+            requireNonNull(source);
+            if (contains(source) || !newIdentities.add(source.getIdentity())) {
+                throw new DuplicateSourceException();
+            }
+        }
+        internalList.addAll(toAdd);
+        if (searchIndex != null) {
+            toAdd.forEach(searchIndex::add);
+        }
+    }
+
+    /**
+     * Moves the source at {@code from} to {@code to}, shifting the sources between them by one position.
+     * Listeners of the list are notified of a single permutation.
+     *
+     * @throws IndexOutOfBoundsException if {@code from} or {@code to} is not a position in the list.
+     */
+    public void move(int from, int to) {
+        internalList.move(from, to);
     }
 
     /**
@@ -77,7 +132,11 @@ public class UniqueSourceList implements Iterable<Source> {
             throw new DuplicateSourceException();
         }
 
-        internalList.set(index, editedSource);
+        Source replaced = internalList.set(index, editedSource);
+        if (searchIndex != null) {
+            searchIndex.remove(replaced);
+            searchIndex.add(editedSource);
+        }
     }
 
     /**
@@ -86,13 +145,46 @@ public class UniqueSourceList implements Iterable<Source> {
      */
     public void remove(Source toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new SourceNotFoundException();
         }
+        Source removed = internalList.remove(index);
+        if (searchIndex != null) {
+            searchIndex.remove(removed);
+        }
     }
 
+    /**
+     * Removes the equivalent sources of {@code toRemove} from the list, notifying listeners of the list once.
+     * Every source must exist in the list.
+     */
+    public void removeAll(List<Source> toRemove) {
+        requireNonNull(toRemove);
+        List<Source> removed = new ArrayList<>(toRemove.size());
+        for (Source source : toRemove) {
+            requireNonNull(source);
+            int index = internalList.indexOf(source);
+            if (index == -1) {
+                throw new SourceNotFoundException();
+            }
+            removed.add(internalList.get(index));
+        }
+        internalList.removeAll(removed);
+        if (searchIndex != null) {
+            removed.forEach(searchIndex::remove);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setSources(UniqueSourceList replacement) {
         requireNonNull(replacement);
+        if (replacement == this) {
+            return;
+        }
+        searchIndex = null;
         internalList.setAll(replacement.internalList);
     }
 
@@ -101,12 +193,57 @@ public class UniqueSourceList implements Iterable<Source> {
      * {@code sources} must not contain duplicate sources.
      */
     public void setSources(List<Source> sources) {
-        requireAllNonNull(sources);
-        if (!sourcesAreUnique(sources)) {
-            throw new DuplicateSourceException();
+        requireNonNull(sources);
+        internalList.setAll(sources);
+        searchIndex = null;
+    }
+
+    /**
+     * Replaces each source of {@code targets} in the list with the source at the same index of
+     * {@code editedSources}, notifying listeners of the list once.
+     * Every source of {@code targets} must exist in the list, and the sources must stay unique in terms of identity.
+     */
+    public void setSources(List<Source> targets, List<Source> editedSources) {
+        requireAllNonNull(targets, editedSources);
+        if (targets.size() != editedSources.size()) {
+            throw new IllegalArgumentException("Each target must have one edited source.");
+        }
+        Integer[] order = new Integer[targets.size()];
+        int[] indexes = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            order[i] = i;
+            indexes[i] = internalList.indexOf(targets.get(i));
+            if (indexes[i] == -1) {
+                throw new SourceNotFoundException();
+            }
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> indexes[i]));
+        int[] positions = new int[order.length];
+        List<Source> replaced = new ArrayList<>(order.length);
+        List<Source> replacements = new ArrayList<>(order.length);
+        for (int i = 0; i < order.length; i++) {
+            positions[i] = indexes[order[i]];
+            replaced.add(internalList.get(positions[i]));
+            replacements.add(editedSources.get(order[i]));
         }
 
-        internalList.setAll(sources);
+        internalList.setEach(positions, replacements);
+        if (searchIndex != null) {
+            replaced.forEach(searchIndex::remove);
+            replacements.forEach(searchIndex::add);
+        }
+    }
+
+    /**
+     * Returns the sources in the list that {@code predicate} evaluates to true for, found through the search index
+     * rather than by testing every source. The returned set compares sources by identity.
+     */
+    public Set<Source> search(SourceContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        if (searchIndex == null) {
+            searchIndex = new SourceSearchIndex(internalList);
+        }
+        return searchIndex.search(predicate);
     }
 
     /**
@@ -118,7 +255,7 @@ public class UniqueSourceList implements Iterable<Source> {
 
     @Override
     public Iterator<Source> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -132,18 +269,4 @@ public class UniqueSourceList implements Iterable<Source> {
     public int hashCode() {
         return internalList.hashCode();
     }
-
-    /**
-     * Returns true if {@code sources} contains only unique sources.
-     */
-    private boolean sourcesAreUnique(List<Source> sources) {
-        for (int i = 0; i < sources.size() - 1; i++) {
-            for (int j = i + 1; j < sources.size(); j++) {
-                if (sources.get(i).isSameSource(sources.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
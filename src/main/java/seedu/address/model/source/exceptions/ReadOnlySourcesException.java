@@ -0,0 +1,10 @@
+package seedu.address.model.source.exceptions;
+
+/**
+ * Signals that the operation would change sources that are open read-only.
+ */
+public class ReadOnlySourcesException extends RuntimeException {
+    public ReadOnlySourcesException() {
+        super("The sources are open read-only, so they cannot be changed");
+    }
+}
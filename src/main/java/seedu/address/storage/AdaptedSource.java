@@ -0,0 +1,17 @@
+package seedu.address.storage;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.source.Source;
+
+/**
+ * A source as it is read from a file, before it is converted into the model's {@code Source} object.
+ */
+interface AdaptedSource {
+
+    /**
+     * Converts this adapted source into the model's {@code Source} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted source.
+     */
+    Source toModelType() throws IllegalValueException;
+}
@@ -0,0 +1,355 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads the entries of a BibTeX file, a character at a time.
+ * {@code @string} abbreviations, including the predefined month abbreviations, are expanded, and {@code @comment}
+ * and {@code @preamble} entries are skipped. Braces and backslashes are removed from field values.
+ * Text outside entries, including a byte order mark at the start of the file, is skipped.
+ */
+class BibtexReader implements ImportedSourceReader {
+
+    public static final String MESSAGE_SYNTAX_ERROR = "Line %1$d: %2$s";
+
+    private static final int END_OF_FILE = -1;
+    private static final int BUFFER_SIZE = 8192;
+    private static final String NON_NAME_CHARACTERS = "\"#%'(),={}";
+
+    private static final Map<String, String> MONTH_ABBREVIATIONS = new HashMap<>();
+
+    static {
+        for (Month month : Month.values()) {
+            MONTH_ABBREVIATIONS.put(month.getDisplayName(TextStyle.SHORT, Locale.ENGLISH).toLowerCase(),
+                    month.getDisplayName(TextStyle.FULL, Locale.ENGLISH));
+        }
+    }
+
+    private final Reader reader;
+    private final Map<String, String> abbreviations = new HashMap<>(MONTH_ABBREVIATIONS);
+    /** The characters read from {@code reader} but not yet read from this reader, from {@code bufferStart}. */
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int bufferStart;
+    private int bufferEnd;
+    private int lineNumber = 1;
+
+    BibtexReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportedSource read() throws IOException {
+        while (skipPast('@')) {
+            String entryType = readName().toLowerCase();
+            skipWhitespace();
+            int open = readCharacter();
+            if (open != '{' && open != '(') {
+                throw syntaxError("Expected { or ( after @" + entryType);
+            }
+            int close = (open == '{') ? '}' : ')';
+
+            switch (entryType) {
+            case "comment":
+            case "preamble":
+                skipPast(open, close);
+                break;
+            case "string":
+                String name = readName().toLowerCase();
+                expect('=');
+                abbreviations.put(name, readValue());
+                expect(close);
+                break;
+            default:
+                return readEntry(entryType, close);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the citation key and fields of an entry of type {@code entryType}, up to and including {@code close}.
+     */
+    private ImportedSource readEntry(String entryType, int close) throws IOException {
+        skipWhitespace();
+        StringBuilder key = new StringBuilder();
+        while (peekCharacter() != ',' && peekCharacter() != close && peekCharacter() != END_OF_FILE) {
+            key.append((char) readCharacter());
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        while (true) {
+            skipWhitespace();
+            int next = readCharacter();
+            if (next == close) {
+                break;
+            } else if (next != ',') {
+                throw syntaxError("Expected , or " + (char) close + " between fields");
+            }
+            skipWhitespace();
+            if (peekCharacter() == close) {
+                continue;
+            }
+            String name = readName().toLowerCase();
+            expect('=');
+            fields.put(name, readValue());
+        }
+        return toImportedSource(entryType, key.toString().trim(), fields);
+    }
+
+    /**
+     * Maps the fields of a BibTeX entry to those of a source.
+     * The detail of a source is the abstract of its entry, or else its note, or else its citation key.
+     */
+    private static ImportedSource toImportedSource(String entryType, String key, Map<String, String> fields) {
+        String author = fields.containsKey("author") ? fields.get("author") : fields.get("editor");
+        String detail = fields.get("abstract");
+        if (detail == null) {
+            detail = fields.get("note");
+        }
+        if (detail == null && !key.isEmpty()) {
+            detail = "BibTeX entry " + key;
+        }
+        List<String> tagNames = new ArrayList<>();
+        if (fields.containsKey("keywords")) {
+            for (String keyword : fields.get("keywords").split("[,;]")) {
+                if (!keyword.trim().isEmpty()) {
+                    tagNames.add(keyword.trim());
+                }
+            }
+        }
+
+        Map<String, String> fieldBodies = new HashMap<>();
+        putFirst(fieldBodies, "City", fields, "address", "location");
+        putFirst(fieldBodies, "Journal", fields, "journal", "journaltitle", "booktitle");
+        putFirst(fieldBodies, "Medium", fields, "howpublished");
+        putFirst(fieldBodies, "Pages", fields, "pages");
+        putFirst(fieldBodies, "Publisher", fields, "publisher", "institution", "school", "organization");
+        putFirst(fieldBodies, "URL", fields, "url");
+        putFirst(fieldBodies, "Day", fields, "day");
+        putFirst(fieldBodies, "Month", fields, "month");
+        putFirst(fieldBodies, "Year", fields, "year");
+        if (fields.containsKey("date")) {
+            ImportedSource.putDate(fieldBodies, fields.get("date"));
+        }
+        if (fieldBodies.containsKey("Pages")) {
+            fieldBodies.put("Pages", fieldBodies.get("Pages").replace("--", "-"));
+        }
+        return new ImportedSource(fields.get("title"), toSourceType(entryType), author, detail, tagNames,
+                fieldBodies);
+    }
+
+    /**
+     * Returns the source type of a BibTeX entry type, so that articles, books and online entries have the types
+     * that {@code biblio} formats.
+     */
+    private static String toSourceType(String entryType) {
+        switch (entryType) {
+        case "article":
+            return "Journal Article";
+        case "book":
+        case "inbook":
+        case "booklet":
+            return "Book";
+        case "online":
+        case "electronic":
+        case "www":
+            return "Website";
+        default:
+            return entryType.isEmpty() ? entryType : Character.toUpperCase(entryType.charAt(0))
+                    + entryType.substring(1);
+        }
+    }
+
+    /**
+     * Puts the value of the first of {@code names} in {@code fields} into {@code fieldBodies} as {@code header}.
+     */
+    private static void putFirst(Map<String, String> fieldBodies, String header, Map<String, String> fields,
+            String... names) {
+        for (String name : names) {
+            if (fields.containsKey(name)) {
+                fieldBodies.put(header, fields.get(name));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads a field value, which is a concatenation with {@code #} of braced or quoted text, numbers and
+     * abbreviations, and returns it with its braces and backslashes removed and its whitespace collapsed.
+     * An undefined abbreviation stands for itself.
+     */
+    private String readValue() throws IOException {
+        StringBuilder value = new StringBuilder();
+        while (true) {
+            skipWhitespace();
+            int next = peekCharacter();
+            if (next == '{') {
+                readCharacter();
+                readBracedText(value);
+            } else if (next == '"') {
+                readCharacter();
+                readQuotedText(value);
+            } else {
+                String word = readName();
+                value.append(abbreviations.getOrDefault(word.toLowerCase(), word));
+            }
+            skipWhitespace();
+            if (peekCharacter() != '#') {
+                break;
+            }
+            readCharacter();
+        }
+        return String.join(" ", value.toString().trim().split("\\s+"));
+    }
+
+    /**
+     * Appends the text up to the brace that closes an opening brace that has just been read, without its braces.
+     */
+    private void readBracedText(StringBuilder value) throws IOException {
+        int depth = 1;
+        while (true) {
+            int next = readCharacter();
+            if (next == END_OF_FILE) {
+                throw syntaxError("Unexpected end of file in a braced value");
+            } else if (next == '{') {
+                depth++;
+            } else if (next == '}' && --depth == 0) {
+                return;
+            } else if (next != '}' && next != '\\') {
+                value.append((char) next);
+            }
+        }
+    }
+
+    /**
+     * Appends the text up to the closing quote of an opening quote that has just been read, without its braces.
+     * A quote inside braces does not close the text.
+     */
+    private void readQuotedText(StringBuilder value) throws IOException {
+        int depth = 0;
+        while (true) {
+            int next = readCharacter();
+            if (next == END_OF_FILE) {
+                throw syntaxError("Unexpected end of file in a quoted value");
+            } else if (next == '"' && depth == 0) {
+                return;
+            } else if (next == '{') {
+                depth++;
+            } else if (next == '}') {
+                depth = Math.max(0, depth - 1);
+            } else if (next != '\\') {
+                value.append((char) next);
+            }
+        }
+    }
+
+    /**
+     * Reads a field name, entry type, abbreviation or number, after any whitespace.
+     */
+    private String readName() throws IOException {
+        skipWhitespace();
+        StringBuilder name = new StringBuilder();
+        int next;
+        while ((next = peekCharacter()) != END_OF_FILE && !Character.isWhitespace(next)
+                && NON_NAME_CHARACTERS.indexOf(next) == -1) {
+            name.append((char) readCharacter());
+        }
+        if (name.length() == 0) {
+            throw syntaxError(next == END_OF_FILE ? "Unexpected end of file" : "Unexpected " + (char) next);
+        }
+        return name.toString();
+    }
+
+    /**
+     * Reads {@code expected}, after any whitespace.
+     */
+    private void expect(int expected) throws IOException {
+        skipWhitespace();
+        if (readCharacter() != expected) {
+            throw syntaxError("Expected " + (char) expected);
+        }
+    }
+
+    /**
+     * Reads up to and including the next {@code target}.
+     *
+     * @return false if the end of the file is reached first.
+     */
+    private boolean skipPast(int target) throws IOException {
+        int next;
+        while ((next = readCharacter()) != END_OF_FILE) {
+            if (next == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads up to and including the {@code close} that matches an {@code open} that has just been read.
+     */
+    private void skipPast(int open, int close) throws IOException {
+        int depth = 1;
+        while (depth > 0) {
+            int next = readCharacter();
+            if (next == END_OF_FILE) {
+                throw syntaxError("Unexpected end of file, expected " + (char) close);
+            } else if (next == open) {
+                depth++;
+            } else if (next == close) {
+                depth--;
+            }
+        }
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (peekCharacter() != END_OF_FILE && Character.isWhitespace(peekCharacter())) {
+            readCharacter();
+        }
+    }
+
+    /**
+     * Returns the next character of the file without reading it, or {@code END_OF_FILE}.
+     */
+    private int peekCharacter() throws IOException {
+        if (bufferStart == bufferEnd) {
+            int charactersRead = reader.read(buffer, 0, BUFFER_SIZE);
+            if (charactersRead <= 0) {
+                return END_OF_FILE;
+            }
+            bufferStart = 0;
+            bufferEnd = charactersRead;
+        }
+        return buffer[bufferStart];
+    }
+
+    /**
+     * Reads the next character of the file, or returns {@code END_OF_FILE}, counting the lines read.
+     */
+    private int readCharacter() throws IOException {
+        int next = peekCharacter();
+        if (next == END_OF_FILE) {
+            return END_OF_FILE;
+        }
+        bufferStart++;
+        if (next == '\n') {
+            lineNumber++;
+        }
+        return next;
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(String.format(MESSAGE_SYNTAX_ERROR, lineNumber, message));
+    }
+}
@@ -0,0 +1,574 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.SourceManager;
+import seedu.address.model.source.BiblioFields;
+import seedu.address.model.source.Source;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access Source Manager data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a header of {@value #HEADER_LENGTH} bytes: the magic number, the format version, the flags,
+ * the number of sources, the lengths of the payload before and after compression, and the CRC-32 checksum of the
+ * payload as stored. The payload, which is compressed with Deflate if {@link #FLAG_DEFLATE} is set, holds a
+ * dictionary of the strings that tend to repeat across sources, followed by the sources themselves. Every string is
+ * stored as its length followed by its UTF-8 bytes, and every string that tends to repeat is stored as its index in
+ * the dictionary. Lengths, counts and indices are stored as unsigned variable-length integers.
+ * If {@link #FLAG_INDEXED} is set, which it is for every file that is not compressed, the payload ends with the
+ * position of each source from the start of the sources, as 4-byte integers, so that the file can be read one source
+ * at a time by a {@link MappedSourceManager}.
+ * <p>
+ * The sources read are validated as strictly as those read from a json file. A file is replaced atomically.
+ * A file that does not start with the magic number, such as the json file saved before the storage backend was
+ * switched, is read as a json file instead, and is replaced by a binary file when the sources are next saved.
+ */
+public class BinarySourceManagerStorage implements SourceManagerStorage {
+
+    public static final int MAGIC = 0x54494D42; // "TIMB"
+    public static final short VERSION = 1;
+    public static final short FLAG_DEFLATE = 1;
+    public static final short FLAG_INDEXED = 2;
+    public static final int HEADER_LENGTH = 24;
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "Not a binary source manager file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary source manager version: %d";
+    public static final String MESSAGE_CORRUPTED = "Binary source manager file is corrupted";
+
+    // positions of the fields of the header
+    static final int FLAGS_OFFSET = 6;
+    static final int RECORD_COUNT_OFFSET = 8;
+    static final int RAW_LENGTH_OFFSET = 12;
+    static final int STORED_LENGTH_OFFSET = 16;
+    static final int CHECKSUM_OFFSET = 20;
+
+    /** Whether the body of each biblio field is stored in the dictionary, in the order of the field headers. */
+    private static final boolean[] IS_DICTIONARY_FIELD = new boolean[BiblioFields.ACCEPTED_FIELD_HEADERS.length];
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySourceManagerStorage.class);
+
+    static {
+        List<String> dictionaryFields =
+                Arrays.asList("City", "Journal", "Medium", "Publisher", "Website", "Day", "Month", "Year");
+        for (int i = 0; i < BiblioFields.ACCEPTED_FIELD_HEADERS.length; i++) {
+            IS_DICTIONARY_FIELD[i] = dictionaryFields.contains(BiblioFields.ACCEPTED_FIELD_HEADERS[i]);
+        }
+    }
+
+    private Path filePath;
+    private final boolean isCompressed;
+
+    public BinarySourceManagerStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the file at {@code filePath}, which compresses the files it saves if
+     * {@code isCompressed} is true. Files are read whether or not they are compressed.
+     */
+    public BinarySourceManagerStorage(Path filePath, boolean isCompressed) {
+        this.filePath = filePath;
+        this.isCompressed = isCompressed;
+    }
+
+    public Path getSourceManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySourceManager> readSourceManager() throws DataConversionException {
+        return readSourceManager(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSourceManager()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlySourceManager> readSourceManager(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!isBinaryFile(filePath)) {
+            logger.info("Reading " + filePath + " as a json file, to be replaced by a binary file when next saved");
+            return new JsonSourceManagerStorage(filePath).readSourceManager();
+        }
+
+        SourceManager sourceManager = new SourceManager();
+        try {
+            for (Source source : readSources(filePath)) {
+                if (sourceManager.hasSource(source)) {
+                    throw new IllegalValueException(JsonSerializableSourceManager.MESSAGE_DUPLICATE_SOURCE);
+                }
+                sourceManager.addSource(source);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        return Optional.of(sourceManager);
+    }
+
+    @Override
+    public void saveSourceManager(ReadOnlySourceManager sourceManager) throws IOException {
+        saveSourceManager(sourceManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSourceManager(ReadOnlySourceManager)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveSourceManager(ReadOnlySourceManager sourceManager, Path filePath) throws IOException {
+        requireNonNull(sourceManager);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        List<Source> sources = sourceManager.getSourceList();
+        ByteBuffer[] payload = encode(sources, !isCompressed);
+        int rawLength = 0;
+        for (ByteBuffer buffer : payload) {
+            rawLength += buffer.remaining();
+        }
+        short flags = 0;
+        if (isCompressed) {
+            payload = new ByteBuffer[] {deflate(payload, rawLength)};
+            flags |= FLAG_DEFLATE;
+        } else {
+            flags |= FLAG_INDEXED;
+        }
+
+        CRC32 checksum = new CRC32();
+        int storedLength = 0;
+        for (ByteBuffer buffer : payload) {
+            storedLength += buffer.remaining();
+            checksum.update(buffer.duplicate());
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH)
+                .putInt(MAGIC)
+                .putShort(VERSION)
+                .putShort(flags)
+                .putInt(sources.size())
+                .putInt(rawLength)
+                .putInt(storedLength)
+                .putInt((int) checksum.getValue());
+        header.flip();
+
+        ByteBuffer[] file = new ByteBuffer[payload.length + 1];
+        file[0] = header;
+        System.arraycopy(payload, 0, file, 1, payload.length);
+
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (file[file.length - 1].hasRemaining()) {
+                channel.write(file);
+            }
+            channel.force(false);
+        }
+        Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic number of a binary source manager file.
+     *
+     * @throws DataConversionException if the file cannot be read.
+     */
+    private static boolean isBinaryFile(Path filePath) throws DataConversionException {
+        ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // keep reading until the magic number is read or the file ends
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+        return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+    }
+
+    /**
+     * Reads the sources in the binary file at {@code filePath}, in order.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if a source violates the data constraints.
+     */
+    static List<Source> readSources(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer header;
+        ByteBuffer stored;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            header = readHeader(channel);
+            stored = ByteBuffer.allocate(header.getInt(STORED_LENGTH_OFFSET));
+            readFully(channel, stored);
+            stored.flip();
+        }
+        verifyChecksum(header, stored);
+
+        short flags = header.getShort(FLAGS_OFFSET);
+        int recordCount = header.getInt(RECORD_COUNT_OFFSET);
+        ByteBuffer payload = (flags & FLAG_DEFLATE) != 0
+                ? inflate(stored, header.getInt(RAW_LENGTH_OFFSET))
+                : stored;
+        try {
+            return decode(payload, recordCount, (flags & FLAG_INDEXED) != 0);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException(MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    /**
+     * Reads and checks the header of the binary file open in {@code channel}, leaving the channel at the start of the
+     * payload.
+     *
+     * @throws IOException if the file is not a binary source manager file of a supported version.
+     */
+    static ByteBuffer readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        readFully(channel, header);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_FILE);
+        }
+        short version = header.getShort();
+        if (version != VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (channel.size() - HEADER_LENGTH != Integer.toUnsignedLong(header.getInt(STORED_LENGTH_OFFSET))
+                || header.getInt(RECORD_COUNT_OFFSET) < 0 || header.getInt(RAW_LENGTH_OFFSET) < 0) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return header;
+    }
+
+    /**
+     * Throws an {@code IOException} unless the remaining bytes of {@code stored} match the checksum in
+     * {@code header}.
+     */
+    static void verifyChecksum(ByteBuffer header, ByteBuffer stored) throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(stored.duplicate());
+        if ((int) checksum.getValue() != header.getInt(CHECKSUM_OFFSET)) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Reads from {@code channel} until {@code buffer} is full.
+     *
+     * @throws EOFException if the channel ends first.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException(MESSAGE_CORRUPTED);
+            }
+        }
+    }
+
+    /**
+     * Encodes {@code sources} into the dictionary and the records of the payload, followed by the position of each
+     * record if {@code isIndexed} is true.
+     */
+    private static ByteBuffer[] encode(List<Source> sources, boolean isIndexed) {
+        Map<String, Integer> indices = new HashMap<>();
+        Encoder dictionary = new Encoder();
+        Encoder records = new Encoder();
+        Encoder positions = new Encoder();
+        for (Source source : sources) {
+            if (isIndexed) {
+                positions.writeInt(records.size);
+            }
+            records.writeString(source.getTitle().title);
+            records.writeVarInt(indexOf(source.getType().type, indices, dictionary));
+            records.writeVarInt(indexOf(source.getAuthor().author, indices, dictionary));
+            records.writeString(source.getDetail().detail);
+            records.writeVarInt(source.getTags().size());
+            for (Tag tag : source.getTags()) {
+                records.writeVarInt(indexOf(tag.tagName, indices, dictionary));
+            }
+            String[] fieldBodies = source.getBiblioFields().getFieldBodies();
+            for (int i = 0; i < fieldBodies.length; i++) {
+                if (IS_DICTIONARY_FIELD[i]) {
+                    records.writeVarInt(indexOf(fieldBodies[i], indices, dictionary));
+                } else {
+                    records.writeString(fieldBodies[i]);
+                }
+            }
+        }
+
+        Encoder dictionaryHeader = new Encoder();
+        dictionaryHeader.writeVarInt(indices.size());
+        dictionaryHeader.writeBytes(dictionary.toBuffer());
+        return new ByteBuffer[] {dictionaryHeader.toBuffer(), records.toBuffer(), positions.toBuffer()};
+    }
+
+    /**
+     * Returns the index of {@code value} in the dictionary, adding it to {@code dictionary} if it is new.
+     */
+    private static int indexOf(String value, Map<String, Integer> indices, Encoder dictionary) {
+        Integer index = indices.get(value);
+        if (index == null) {
+            index = indices.size();
+            indices.put(value, index);
+            dictionary.writeString(value);
+        }
+        return index;
+    }
+
+    /**
+     * Decodes {@code recordCount} sources from {@code payload}, which ends with the position of each source if
+     * {@code isIndexed} is true.
+     *
+     * @throws IllegalValueException if a source violates the data constraints.
+     */
+    private static List<Source> decode(ByteBuffer payload, int recordCount, boolean isIndexed)
+            throws IllegalValueException {
+        if (isIndexed) {
+            payload.limit(payload.limit() - Integer.BYTES * recordCount);
+        }
+        Decoder decoder = new Decoder(payload);
+        String[] dictionary = readDictionary(decoder);
+
+        List<Source> sources = new ArrayList<>(Math.min(recordCount, payload.remaining()));
+        for (int i = 0; i < recordCount; i++) {
+            sources.add(readSource(decoder, dictionary));
+        }
+        if (payload.hasRemaining()) {
+            throw new IllegalArgumentException(MESSAGE_CORRUPTED);
+        }
+        return sources;
+    }
+
+    /**
+     * Reads the dictionary at the start of the payload.
+     */
+    static String[] readDictionary(Decoder decoder) {
+        String[] dictionary = new String[decoder.readVarInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = decoder.readString();
+        }
+        return dictionary;
+    }
+
+    /**
+     * Reads the next source, whose repeated values are stored in {@code dictionary}.
+     *
+     * @throws IllegalValueException if the source violates the data constraints.
+     */
+    static Source readSource(Decoder decoder, String[] dictionary) throws IllegalValueException {
+        String title = decoder.readString();
+        String type = dictionary[decoder.readVarInt()];
+        String author = dictionary[decoder.readVarInt()];
+        String detail = decoder.readString();
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int tagCount = decoder.readVarInt(); tagCount > 0; tagCount--) {
+            tags.add(new JsonAdaptedTag(dictionary[decoder.readVarInt()]));
+        }
+        String[] fieldBodies = new String[IS_DICTIONARY_FIELD.length];
+        for (int i = 0; i < fieldBodies.length; i++) {
+            fieldBodies[i] = IS_DICTIONARY_FIELD[i] ? dictionary[decoder.readVarInt()] : decoder.readString();
+        }
+        return new JsonAdaptedSource(title, type, author, detail, fieldBodies, tags).toModelType();
+    }
+
+    /**
+     * Compresses the {@code rawLength} bytes of {@code payload}.
+     */
+    private static ByteBuffer deflate(ByteBuffer[] payload, int rawLength) {
+        byte[] raw = new byte[rawLength];
+        ByteBuffer rawBuffer = ByteBuffer.wrap(raw);
+        for (ByteBuffer buffer : payload) {
+            rawBuffer.put(buffer);
+        }
+
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            Encoder compressed = new Encoder();
+            while (!deflater.finished()) {
+                compressed.ensureCapacity(8192);
+                compressed.size += deflater.deflate(compressed.bytes, compressed.size,
+                        compressed.bytes.length - compressed.size);
+            }
+            return compressed.toBuffer();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses {@code stored}, which must hold exactly {@code rawLength} bytes once decompressed.
+     */
+    private static ByteBuffer inflate(ByteBuffer stored, int rawLength) throws IOException {
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored.array(), stored.arrayOffset() + stored.position(), stored.remaining());
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, length, rawLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != rawLength || !inflater.finished()) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+        } catch (DataFormatException dfe) {
+            throw new IOException(MESSAGE_CORRUPTED, dfe);
+        } finally {
+            inflater.end();
+        }
+        return ByteBuffer.wrap(raw);
+    }
+
+    /**
+     * A growable buffer that encodes the values of the payload.
+     */
+    private static class Encoder {
+        private byte[] bytes = new byte[8192];
+        private int size;
+
+        /**
+         * Makes room for at least {@code extra} more bytes.
+         */
+        void ensureCapacity(int extra) {
+            if (bytes.length - size < extra) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+
+        /**
+         * Writes {@code value} as an unsigned variable-length integer of 7 bits per byte, least significant first.
+         */
+        void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        /**
+         * Writes {@code value} as 4 bytes, most significant first.
+         */
+        void writeInt(int value) {
+            ensureCapacity(Integer.BYTES);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        /**
+         * Writes the length of the UTF-8 encoding of {@code value}, followed by the encoding.
+         */
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(utf8.length);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+        }
+
+        /**
+         * Writes the remaining bytes of {@code buffer}.
+         */
+        void writeBytes(ByteBuffer buffer) {
+            ensureCapacity(buffer.remaining());
+            int length = buffer.remaining();
+            buffer.get(bytes, size, length);
+            size += length;
+        }
+
+        ByteBuffer toBuffer() {
+            return ByteBuffer.wrap(bytes, 0, size);
+        }
+    }
+
+    /**
+     * Decodes the values written by an {@code Encoder}.
+     */
+    static class Decoder {
+        private final ByteBuffer buffer;
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Reads an unsigned variable-length integer, which must fit in an {@code int}.
+         */
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    if (value < 0) {
+                        throw new IllegalArgumentException(MESSAGE_CORRUPTED);
+                    }
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException(MESSAGE_CORRUPTED);
+        }
+
+        /**
+         * Reads a string written by {@link Encoder#writeString(String)}.
+         */
+        String readString() {
+            int length = readVarInt();
+            if (length > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            if (!buffer.hasArray()) {
+                byte[] utf8 = new byte[length];
+                buffer.get(utf8);
+                return new String(utf8, StandardCharsets.UTF_8);
+            }
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+    }
+
+}
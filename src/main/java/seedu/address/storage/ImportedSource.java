@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.source.Author;
+import seedu.address.model.source.BiblioFields;
+import seedu.address.model.source.Detail;
+import seedu.address.model.source.Source;
+import seedu.address.model.source.Title;
+import seedu.address.model.source.Type;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An entry of a bibliography file, such as a BibTeX or RIS file, with its fields mapped to those of a {@link Source}.
+ */
+class ImportedSource implements AdaptedSource {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Entry's %s field is missing!";
+
+    /** Dates such as {@code 2019}, {@code 2019-05}, {@code 2019/05/12/} or {@code 2019/05/12/Spring}. */
+    private static final Pattern DATE_FORMAT = Pattern.compile("(\\d{4})(?:[-/](\\d{1,2})?(?:[-/](\\d{1,2})?)?)?.*");
+
+    private final String title;
+    private final String type;
+    private final String author;
+    private final String detail;
+    private final List<String> tagNames;
+    private final Map<String, String> fieldBodies;
+
+    /**
+     * Constructs an {@code ImportedSource} with the given source details, any of which but {@code tagNames} and
+     * {@code fieldBodies} may be null if the entry has no such field.
+     * {@code fieldBodies} maps headers of {@link BiblioFields#ACCEPTED_FIELD_HEADERS} to their bodies.
+     */
+    ImportedSource(String title, String type, String author, String detail, List<String> tagNames,
+            Map<String, String> fieldBodies) {
+        requireAllNonNull(tagNames, fieldBodies);
+        this.title = title;
+        this.type = type;
+        this.author = author;
+        this.detail = detail;
+        this.tagNames = new ArrayList<>(tagNames);
+        this.fieldBodies = new HashMap<>(fieldBodies);
+    }
+
+    /**
+     * Puts the year, and the month and day if they are given, of {@code date} into {@code fieldBodies}, unless it
+     * already has them. Dates that do not start with a four digit year are ignored.
+     */
+    static void putDate(Map<String, String> fieldBodies, String date) {
+        Matcher matcher = DATE_FORMAT.matcher(date.trim());
+        if (!matcher.matches()) {
+            return;
+        }
+        fieldBodies.putIfAbsent("Year", matcher.group(1));
+        if (matcher.group(2) != null) {
+            int month = Integer.parseInt(matcher.group(2));
+            if (month >= 1 && month <= 12) {
+                fieldBodies.putIfAbsent("Month", Month.of(month).getDisplayName(TextStyle.FULL, Locale.ENGLISH));
+            }
+        }
+        if (matcher.group(3) != null) {
+            fieldBodies.putIfAbsent("Day", String.valueOf(Integer.parseInt(matcher.group(3))));
+        }
+    }
+
+    @Override
+    public Source toModelType() throws IllegalValueException {
+        if (title == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Title.class.getSimpleName()));
+        }
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Type.class.getSimpleName()));
+        }
+        if (author == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Author.class.getSimpleName()));
+        }
+        if (detail == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Detail.class.getSimpleName()));
+        }
+
+        Optional<String> invalidAttribute = Source.findInvalidAttribute(title, type, author, detail, tagNames);
+        if (invalidAttribute.isPresent()) {
+            throw new IllegalValueException(invalidAttribute.get());
+        }
+
+        final Set<Tag> modelTags = new HashSet<>();
+        for (String tagName : tagNames) {
+            modelTags.add(new Tag(tagName));
+        }
+        final BiblioFields modelBiblioFields = new BiblioFields();
+        for (Map.Entry<String, String> field : fieldBodies.entrySet()) {
+            modelBiblioFields.replaceField(field.getKey(), field.getValue());
+        }
+        return new Source(new Title(title), new Author(author), new Type(type), new Detail(detail), modelTags,
+                modelBiblioFields);
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * Reads the entries of a bibliography file one at a time, so that the file need not fit in memory.
+ */
+interface ImportedSourceReader {
+
+    /** The character that files saved as UTF-8 by some programs start with, which is not part of their text. */
+    char BYTE_ORDER_MARK = '\uFEFF';
+
+    /**
+     * Reads the next entry of the file.
+     *
+     * @return the entry, or null if there are no more entries.
+     * @throws IOException if the file cannot be read, or is not in the expected format. The message gives the line
+     *     at which the format was not as expected.
+     */
+    ImportedSource read() throws IOException;
+}
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.source.Source;
+
+/**
+ * Reads the sources in a bibliography file, one entry at a time, so that files of any number of entries can be
+ * imported without holding the file, or its entries, in memory.
+ */
+public class ImportedSourceStreams {
+
+    /** The number of entries read between two calls to a progress listener. */
+    public static final int PROGRESS_INTERVAL = 10 * ParallelSourceConverter.CHUNK_SIZE;
+
+    /**
+     * The formats of bibliography files that can be imported.
+     */
+    public enum Format {
+        BIBTEX(".bib"),
+        RIS(".ris");
+
+        private final String fileExtension;
+
+        Format(String fileExtension) {
+            this.fileExtension = fileExtension;
+        }
+
+        /**
+         * Returns the format of the file at {@code filePath}, as given by its file extension.
+         */
+        public static Optional<Format> of(Path filePath) {
+            Path fileName = filePath.getFileName();
+            if (fileName == null) {
+                return Optional.empty();
+            }
+            for (Format format : values()) {
+                if (fileName.toString().toLowerCase().endsWith(format.fileExtension)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private ImportedSourceStreams() {}
+
+    /**
+     * Reads the entries of the file at {@code filePath}, in {@code format}, passing the source of each one to
+     * {@code consumer} in order. The number of entries read so far is passed to {@code onProgress} after every
+     * {@value #PROGRESS_INTERVAL} entries, and once all entries are read.
+     * The entries are converted and validated by a {@link ParallelSourceConverter} while the file is being read, and
+     * an invalid entry does not stop the others from being read.
+     *
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if any entry violates the data constraints of a source, once every valid entry
+     *     has been passed to {@code consumer}. The message lists the position of each such entry.
+     */
+    public static void readSources(Path filePath, Format format, Consumer<Source> consumer, IntConsumer onProgress)
+            throws IOException, IllegalValueException {
+        requireAllNonNull(filePath, format, consumer, onProgress);
+        try (BufferedReader in = Files.newBufferedReader(filePath, StandardCharsets.UTF_8);
+                ParallelSourceConverter converter = new ParallelSourceConverter(consumer::accept)) {
+            ImportedSourceReader reader = (format == Format.BIBTEX) ? new BibtexReader(in) : new RisReader(in);
+            int entryCount = 0;
+            ImportedSource entry;
+            while ((entry = reader.read()) != null) {
+                converter.add(entry);
+                entryCount++;
+                if (entryCount % PROGRESS_INTERVAL == 0) {
+                    onProgress.accept(entryCount);
+                }
+            }
+            onProgress.accept(entryCount);
+            converter.finish();
+        }
+    }
+}
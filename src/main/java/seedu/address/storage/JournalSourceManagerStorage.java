@@ -0,0 +1,388 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.SourceManager;
+import seedu.address.model.source.Source;
+
+/**
+ * A class to access Source Manager data stored as a json snapshot and a journal of the changes made since.
+ * Each save only appends the changes from the previously saved sources to the journal, which costs as much as the
+ * changes rather than the whole source list. A save that changes more than half of the sources writes a new snapshot
+ * instead. Once the journal grows to half the size of the snapshot, the sources
+ * are written to a new snapshot in the background, and journals older than it are deleted.
+ *
+ * Journals are stored next to the snapshot as {@code <snapshot file name>.<generation>.journal}, one line per change.
+ * The snapshot records the generation of the first journal that is not part of it, so that a snapshot replaced
+ * while changes were being appended to a newer journal, or a crash between replacing the snapshot and deleting the
+ * journals in it, never causes changes to be replayed twice or lost.
+ */
+public class JournalSourceManagerStorage implements SourceManagerStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalSourceManagerStorage.class);
+
+    /** The name of the list of sources in the snapshot, as in {@link JsonSerializableSourceManager}. */
+    private static final String SOURCES_FIELD = "sources";
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+    private static final long DEFAULT_MIN_COMPACTION_BYTES = 1024 * 1024;
+    /** The largest fraction of the sources that a save appends to the journal, rather than writing a snapshot. */
+    private static final double MAX_JOURNALED_FRACTION = 0.5;
+
+    private final Path filePath;
+    private final long minCompactionBytes;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object snapshotLock = new Object();
+
+    /** The sources as saved in {@code filePath}, or null if they have not been read or saved yet. */
+    private List<Source> savedSources;
+    /** The generation of the journal that changes are appended to. */
+    private long generation;
+    private long journalBytes;
+    private long snapshotBytes;
+    private boolean isCompacting;
+    /** The generation of the last snapshot written to {@code filePath}. Guarded by {@code snapshotLock}. */
+    private long snapshotGeneration = -1;
+
+    public JournalSourceManagerStorage(Path filePath) {
+        this(filePath, DEFAULT_MIN_COMPACTION_BYTES);
+    }
+
+    /**
+     * Creates a storage whose journal is compacted once it is at least {@code minCompactionBytes} long.
+     */
+    public JournalSourceManagerStorage(Path filePath, long minCompactionBytes) {
+        this.filePath = filePath;
+        this.minCompactionBytes = minCompactionBytes;
+    }
+
+    public Path getSourceManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySourceManager> readSourceManager() throws DataConversionException {
+        return readSourceManager(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSourceManager()}.
+     * The snapshot is read, and the journals that are not part of it are replayed on top of it.
+     * A snapshot without a generation was last saved by another storage, after every journal, so no journal is
+     * replayed on top of it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journals are not in the correct format.
+     */
+    public synchronized Optional<ReadOnlySourceManager> readSourceManager(Path filePath)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        SourceManager sourceManager = new SourceManager();
+        long readSnapshotGeneration;
+        long lastGeneration;
+        boolean isForeignSnapshot;
+        long replayedBytes = 0;
+        try {
+            List<Source> sources = new ArrayList<>();
+            readSnapshotGeneration = JsonSourceStreams.readSources(filePath, SOURCES_FIELD, sources::add);
+            lastGeneration = readSnapshotGeneration;
+            isForeignSnapshot = readSnapshotGeneration == JsonSourceStreams.NO_GENERATION;
+            if (isForeignSnapshot) {
+                logger.info(filePath + " was last saved by another storage, so its journals are out of date");
+            }
+            for (Path journal : getJournals(filePath)) {
+                long journalGeneration = getGeneration(filePath, journal);
+                if (!isForeignSnapshot && journalGeneration >= readSnapshotGeneration) {
+                    replayedBytes += replayJournal(journal, sources);
+                    lastGeneration = journalGeneration;
+                }
+            }
+
+            for (Source source : sources) {
+                if (sourceManager.hasSource(source)) {
+                    throw new IllegalValueException(JsonSerializableSourceManager.MESSAGE_DUPLICATE_SOURCE);
+                }
+                sourceManager.addSource(source);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading " + filePath + " or its journals: " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            // A snapshot without a generation is newer than every journal, so the next save writes a snapshot whose
+            // generation is newer still, which deletes the journals.
+            savedSources = isForeignSnapshot ? null : new ArrayList<>(sourceManager.getSourceList());
+            generation = Math.max(generation, lastGeneration);
+            journalBytes = replayedBytes;
+            snapshotBytes = getSize(filePath);
+            synchronized (snapshotLock) {
+                snapshotGeneration = Math.max(snapshotGeneration, readSnapshotGeneration);
+            }
+        }
+        return Optional.of(sourceManager);
+    }
+
+    @Override
+    public void saveSourceManager(ReadOnlySourceManager sourceManager) throws IOException {
+        saveSourceManager(sourceManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSourceManager(ReadOnlySourceManager, Path)}.
+     * Only the changes from the sources last read from or saved to {@code filePath} are appended to its journal.
+     * If no sources have been read from or saved to it yet, or for any other path, a new snapshot is written instead.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public synchronized void saveSourceManager(ReadOnlySourceManager sourceManager, Path filePath)
+            throws IOException {
+        requireNonNull(sourceManager);
+        requireNonNull(filePath);
+
+        List<Source> sources = new ArrayList<>(sourceManager.getSourceList());
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(filePath, sources, getNextGeneration(filePath));
+            return;
+        }
+
+        if (savedSources == null) {
+            writeNewSnapshot(sources);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = JsonAdaptedJournalEntry.diff(savedSources, sources);
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (getSourceCount(entries) > sources.size() * MAX_JOURNALED_FRACTION) {
+            // changes to most of the sources take about as long to write as the whole list
+            writeNewSnapshot(sources);
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.write(getJournalPath(filePath, generation), bytes, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException ioe) {
+            // The journal may end with part of the changes, so the next save writes a new snapshot instead.
+            savedSources = null;
+            throw ioe;
+        }
+        journalBytes += bytes.length;
+        savedSources = sources;
+
+        if (!isCompacting && journalBytes >= Math.max(minCompactionBytes, snapshotBytes / 2)) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Writes {@code sources} to a snapshot of a new generation, and appends later changes to its journal.
+     */
+    private void writeNewSnapshot(List<Source> sources) throws IOException {
+        generation = Math.max(getNextGeneration(filePath), generation + 1);
+        snapshotBytes = writeSnapshot(filePath, sources, generation);
+        journalBytes = 0;
+        savedSources = sources;
+    }
+
+    /**
+     * Returns the number of sources written in {@code entries}.
+     */
+    private static long getSourceCount(List<JsonAdaptedJournalEntry> entries) {
+        long count = 0;
+        for (JsonAdaptedJournalEntry entry : entries) {
+            count += entry.getSourceCount();
+        }
+        return count;
+    }
+
+    /**
+     * Writes the saved sources to a new snapshot in the background, and appends later changes to a new journal.
+     */
+    private void startCompaction() {
+        isCompacting = true;
+        List<Source> sources = savedSources;
+        generation++;
+        journalBytes = 0;
+        long compactedGeneration = generation;
+
+        compactor.execute(() -> {
+            try {
+                long bytes = writeSnapshot(filePath, sources, compactedGeneration);
+                synchronized (this) {
+                    snapshotBytes = bytes;
+                }
+            } catch (IOException ioe) {
+                logger.warning("Unable to compact the journal of " + filePath + ": " + ioe);
+            } finally {
+                synchronized (this) {
+                    isCompacting = false;
+                }
+            }
+        });
+    }
+
+    /**
+     * Replaces the snapshot at {@code path} with {@code sources}, and deletes the journals that are older than
+     * {@code snapshotGeneration}. A snapshot older than the one already written to {@code filePath} is not written.
+     *
+     * @return the size of the snapshot.
+     */
+    private long writeSnapshot(Path path, List<Source> sources, long snapshotGeneration) throws IOException {
+        synchronized (snapshotLock) {
+            boolean isOwnSnapshot = path.equals(filePath);
+            if (isOwnSnapshot && snapshotGeneration <= this.snapshotGeneration) {
+                return getSize(path);
+            }
+
+            Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_EXTENSION);
+            FileUtil.createIfMissing(temporaryPath);
+            JsonSourceStreams.writeSources(temporaryPath, SOURCES_FIELD, sources, OptionalLong.of(snapshotGeneration));
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (isOwnSnapshot) {
+                this.snapshotGeneration = snapshotGeneration;
+            }
+
+            for (Path journal : getJournals(path)) {
+                if (getGeneration(path, journal) < snapshotGeneration) {
+                    Files.deleteIfExists(journal);
+                }
+            }
+            return getSize(path);
+        }
+    }
+
+    /**
+     * Applies the changes in {@code journal} to {@code sources}.
+     * An incomplete change at the end of the journal, left by a save that did not finish, is removed from it.
+     *
+     * @return the size of the complete changes in the journal.
+     */
+    private static long replayJournal(Path journal, List<Source> sources) throws IOException, IllegalValueException {
+        byte[] bytes = Files.readAllBytes(journal);
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).applyTo(sources);
+            lineStart = i + 1;
+        }
+
+        if (lineStart < bytes.length) {
+            logger.warning("Removing incomplete change at the end of " + journal);
+            try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+                channel.truncate(lineStart);
+            }
+        }
+        return lineStart;
+    }
+
+    /**
+     * Returns true if the snapshot at {@code path} has any journals, which may hold changes that are not in it.
+     */
+    static boolean hasJournals(Path path) throws IOException {
+        return !getJournals(path).isEmpty();
+    }
+
+    /**
+     * Returns the journals of the snapshot at {@code path}, from the oldest to the newest.
+     */
+    private static List<Path> getJournals(Path path) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return new ArrayList<>();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> getGeneration(path, file) >= 0)
+                    .sorted((first, second) -> Long.compare(getGeneration(path, first), getGeneration(path, second)))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the generation of {@code file} if it is a journal of the snapshot at {@code path}, or -1 otherwise.
+     */
+    private static long getGeneration(Path path, Path file) {
+        String prefix = path.getFileName() + ".";
+        String fileName = file.getFileName().toString();
+        if (!fileName.startsWith(prefix) || !fileName.endsWith(JOURNAL_EXTENSION)) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(fileName.substring(prefix.length(), fileName.length() - JOURNAL_EXTENSION.length()));
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns a generation newer than every journal of the snapshot at {@code path}.
+     */
+    private static long getNextGeneration(Path path) throws IOException {
+        long nextGeneration = 0;
+        for (Path journal : getJournals(path)) {
+            nextGeneration = Math.max(nextGeneration, getGeneration(path, journal) + 1);
+        }
+        return nextGeneration;
+    }
+
+    private static Path getJournalPath(Path path, long generation) {
+        return path.resolveSibling(path.getFileName() + "." + generation + JOURNAL_EXTENSION);
+    }
+
+    private static long getSize(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException ioe) {
+            return 0;
+        }
+    }
+
+}
@@ -0,0 +1,207 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.source.Source;
+
+/**
+ * Jackson-friendly version of a change made to a source list, as recorded in the journal of a
+ * {@link JournalSourceManagerStorage}.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_OPERATION = "Journal entry has an unknown operation: %s";
+    public static final String MESSAGE_INVALID_INDEX = "Journal entry does not fit the source list: %s";
+
+    /**
+     * The kinds of changes recorded in the journal.
+     */
+    enum Operation {
+        /** Inserts {@code sources} at {@code index}. */
+        INSERT,
+        /** Removes {@code count} sources from {@code index}. */
+        REMOVE,
+        /** Replaces the source at {@code index} with the only source in {@code sources}. */
+        SET,
+        /** Moves the source at {@code index} to {@code toIndex}. */
+        MOVE
+    }
+
+    private final String operation;
+    private final int index;
+    private final int count;
+    private final int toIndex;
+    private final List<JsonAdaptedSource> sources = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("index") int index,
+            @JsonProperty("count") int count, @JsonProperty("toIndex") int toIndex,
+            @JsonProperty("sources") List<JsonAdaptedSource> sources) {
+        this.operation = operation;
+        this.index = index;
+        this.count = count;
+        this.toIndex = toIndex;
+        if (sources != null) {
+            this.sources.addAll(sources);
+        }
+    }
+
+    private JsonAdaptedJournalEntry(Operation operation, int index, int count, int toIndex, List<Source> sources) {
+        this(operation.name(), index, count, toIndex,
+                sources.stream().map(JsonAdaptedSource::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns an entry that inserts {@code sources} at {@code index}.
+     */
+    static JsonAdaptedJournalEntry insert(int index, List<Source> sources) {
+        return new JsonAdaptedJournalEntry(Operation.INSERT, index, sources.size(), 0, sources);
+    }
+
+    /**
+     * Returns an entry that removes {@code count} sources from {@code index}.
+     */
+    static JsonAdaptedJournalEntry remove(int index, int count) {
+        return new JsonAdaptedJournalEntry(Operation.REMOVE, index, count, 0, Collections.emptyList());
+    }
+
+    /**
+     * Returns an entry that replaces the source at {@code index} with {@code source}.
+     */
+    static JsonAdaptedJournalEntry set(int index, Source source) {
+        return new JsonAdaptedJournalEntry(Operation.SET, index, 1, 0, Collections.singletonList(source));
+    }
+
+    /**
+     * Returns an entry that moves the source at {@code fromIndex} to {@code toIndex}.
+     */
+    static JsonAdaptedJournalEntry move(int fromIndex, int toIndex) {
+        return new JsonAdaptedJournalEntry(Operation.MOVE, fromIndex, 1, toIndex, Collections.emptyList());
+    }
+
+    /**
+     * Returns the entries that change {@code before} into {@code after}.
+     * Sources are compared by identity, and only the sources that {@link SourceListDiff} finds dropped and inserted
+     * are recorded, so the entries are as long as the sources added, removed, replaced or moved, however far apart.
+     * A single source moved is recorded as a move, and sources replaced in place as replacements. Otherwise, the
+     * dropped sources are recorded as removals from the last to the first, and the inserted ones as insertions from
+     * the first to the last.
+     */
+    static List<JsonAdaptedJournalEntry> diff(List<Source> before, List<Source> after) {
+        requireNonNull(before);
+        requireNonNull(after);
+
+        SourceListDiff diff = SourceListDiff.of(before, after);
+        int[] dropped = diff.getDropped();
+        int[] inserted = diff.getInserted();
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (dropped.length == 1 && inserted.length == 1 && before.get(dropped[0]) == after.get(inserted[0])) {
+            entries.add(move(dropped[0], inserted[0]));
+            return entries;
+        }
+
+        if (Arrays.equals(dropped, inserted)) {
+            for (int position : inserted) {
+                entries.add(set(position, after.get(position)));
+            }
+            return entries;
+        }
+
+        List<int[]> droppedRuns = SourceListDiff.getRuns(dropped);
+        for (int i = droppedRuns.size() - 1; i >= 0; i--) {
+            entries.add(remove(droppedRuns.get(i)[0], droppedRuns.get(i)[1]));
+        }
+        for (int[] run : SourceListDiff.getRuns(inserted)) {
+            entries.add(insert(run[0], after.subList(run[0], run[0] + run[1])));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the number of sources written in this entry.
+     */
+    int getSourceCount() {
+        return sources.size();
+    }
+
+    /**
+     * Applies this change to {@code sourceList}.
+     *
+     * @throws IllegalValueException if this entry is invalid or does not fit {@code sourceList}.
+     */
+    public void applyTo(List<Source> sourceList) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+
+        Operation modelOperation;
+        try {
+            modelOperation = Operation.valueOf(operation);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+
+        switch (modelOperation) {
+        case INSERT:
+            checkIndex(index, sourceList.size() + 1);
+            sourceList.addAll(index, toModelSources());
+            break;
+        case REMOVE:
+            checkIndex(index, sourceList.size() + 1);
+            checkIndex(count, sourceList.size() - index + 1);
+            sourceList.subList(index, index + count).clear();
+            break;
+        case SET:
+            checkIndex(index, sourceList.size());
+            List<Source> replacement = toModelSources();
+            if (replacement.size() != 1) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, operation));
+            }
+            sourceList.set(index, replacement.get(0));
+            break;
+        case MOVE:
+            checkIndex(index, sourceList.size());
+            checkIndex(toIndex, sourceList.size());
+            sourceList.add(toIndex, sourceList.remove(index));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, operation));
+        }
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} unless {@code checkedIndex} is between 0 (inclusive) and
+     * {@code bound} (exclusive).
+     */
+    private void checkIndex(int checkedIndex, int bound) throws IllegalValueException {
+        if (checkedIndex < 0 || checkedIndex >= bound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_INDEX, operation));
+        }
+    }
+
+    /**
+     * Converts the sources of this entry into the model's {@code Source} objects.
+     */
+    private List<Source> toModelSources() throws IllegalValueException {
+        List<Source> modelSources = new ArrayList<>();
+        for (JsonAdaptedSource source : sources) {
+            modelSources.add(source.toModelType());
+        }
+        return modelSources;
+    }
+
+}
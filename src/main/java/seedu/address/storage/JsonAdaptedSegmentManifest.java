@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link SegmentedSourceManagerStorage}, which lists the segments of
+ * the source list in order, and the positions of the pinned sources.
+ */
+class JsonAdaptedSegmentManifest {
+
+    private final List<JsonAdaptedSegment> segments;
+    private final List<Integer> pinned = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentManifest} with the given segments and pinned positions.
+     * {@code segments} is null if the file read is not a manifest.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentManifest(@JsonProperty("segments") List<JsonAdaptedSegment> segments,
+            @JsonProperty("pinned") List<Integer> pinned) {
+        this.segments = segments;
+        if (pinned != null) {
+            this.pinned.addAll(pinned);
+        }
+    }
+
+    /**
+     * Returns the segments in order, or null if the file read is not a manifest.
+     */
+    public List<JsonAdaptedSegment> getSegments() {
+        return segments;
+    }
+
+    public List<Integer> getPinned() {
+        return pinned;
+    }
+
+    /**
+     * Jackson-friendly version of a segment in the manifest.
+     */
+    static class JsonAdaptedSegment {
+
+        private final String file;
+        private final int size;
+
+        /**
+         * Constructs a {@code JsonAdaptedSegment} for the segment stored in {@code file}, which holds {@code size}
+         * sources.
+         */
+        @JsonCreator
+        public JsonAdaptedSegment(@JsonProperty("file") String file, @JsonProperty("size") int size) {
+            this.file = file;
+            this.size = size;
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public int getSize() {
+            return size;
+        }
+    }
+}
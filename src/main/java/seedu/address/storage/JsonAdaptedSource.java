@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -21,7 +22,7 @@ import seedu.address.model.tag.Tag;
 /**
  * Jackson-friendly version of {@link Source}.
  */
-class JsonAdaptedSource {
+class JsonAdaptedSource implements AdaptedSource {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Source's %s field is missing!";
 
@@ -72,45 +73,38 @@ class JsonAdaptedSource {
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted source.
      */
+    @Override
     public Source toModelType() throws IllegalValueException {
-        final List<Tag> sourceTags = new ArrayList<>();
-        for (JsonAdaptedTag tag : tagged) {
-            sourceTags.add(tag.toModelType());
-        }
-
         if (title == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Title.class.getSimpleName()));
         }
-        if (!Title.isValidTitle(title)) {
-            throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
-        }
-        final Title modelTitle = new Title(title);
-
         if (type == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Type.class.getSimpleName()));
         }
-        if (!Type.isValidType(type)) {
-            throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
-        }
-        final Type modelType = new Type(type);
-
         if (author == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Author.class.getSimpleName()));
         }
-        if (!Author.isValidAuthor(author)) {
-            throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
-        }
-        final Author modelAuthor = new Author(author);
-
         if (detail == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Detail.class.getSimpleName()));
         }
-        if (!Detail.isValidDetail(detail)) {
-            throw new IllegalValueException(Detail.MESSAGE_CONSTRAINTS);
+
+        final List<String> tagNames = new ArrayList<>(tagged.size());
+        for (JsonAdaptedTag tag : tagged) {
+            tagNames.add(tag.getTagName());
+        }
+        Optional<String> invalidAttribute = Source.findInvalidAttribute(title, type, author, detail, tagNames);
+        if (invalidAttribute.isPresent()) {
+            throw new IllegalValueException(invalidAttribute.get());
         }
-        final Detail modelDetail = new Detail(detail);
 
-        final Set<Tag> modelTags = new HashSet<>(sourceTags);
+        final Title modelTitle = new Title(title);
+        final Type modelType = new Type(type);
+        final Author modelAuthor = new Author(author);
+        final Detail modelDetail = new Detail(detail);
+        final Set<Tag> modelTags = new HashSet<>();
+        for (String tagName : tagNames) {
+            modelTags.add(new Tag(tagName));
+        }
 
         if (fieldBodies == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,16 +12,20 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.DeletedSources;
 import seedu.address.model.ReadOnlyDeletedSources;
 
 /**
  * A class to access Deleted Sources data stored as a json file on the hard disk.
+ * The file is read and written one source at a time with {@link JsonSourceStreams}.
  */
 public class JsonDeletedSourcesStorage implements DeletedSourcesStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonDeletedSourcesStorage.class);
 
+    /** The name of the list of sources in the file, as in {@link JsonSerializableDeletedSources}. */
+    private static final String DELETED_SOURCES_FIELD = "deletedSources";
+
     private Path filePath;
 
     public JsonDeletedSourcesStorage(Path filePath) {
@@ -45,18 +50,27 @@ public class JsonDeletedSourcesStorage implements DeletedSourcesStorage {
     public Optional<ReadOnlyDeletedSources> readDeletedSources(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableDeletedSources> jsonDeletedSources = JsonUtil.readJsonFile(
-                filePath, JsonSerializableDeletedSources.class);
-        if (!jsonDeletedSources.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        DeletedSources deletedSources = new DeletedSources();
         try {
-            return Optional.of(jsonDeletedSources.get().toModelType());
+            JsonSourceStreams.readSources(filePath, DELETED_SOURCES_FIELD, source -> {
+                if (deletedSources.hasDeletedSource(source)) {
+                    throw new IllegalValueException(JsonSerializableDeletedSources.MESSAGE_DUPLICATE_SOURCE);
+                }
+                deletedSources.addDeletedSource(source);
+            });
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+        return Optional.of(deletedSources);
     }
 
     @Override
@@ -74,7 +88,7 @@ public class JsonDeletedSourcesStorage implements DeletedSourcesStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableDeletedSources(deletedSources), filePath);
+        JsonSourceStreams.writeSources(filePath, DELETED_SOURCES_FIELD, deletedSources.getDeletedSourceList());
     }
 
 }
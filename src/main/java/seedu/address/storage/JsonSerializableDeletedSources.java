@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.DeletedSources;
 import seedu.address.model.ReadOnlyDeletedSources;
-import seedu.address.model.source.Source;
 
 /**
  * An Immutable Deleted Sources that is serializable to JSON format.
@@ -44,17 +43,17 @@ public class JsonSerializableDeletedSources {
     /**
      * Converts this deleted sources list into the model's {@code DeletedSources} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing the position of every
+     *     source that violates them.
      */
     public DeletedSources toModelType() throws IllegalValueException {
         DeletedSources deletedSourceList = new DeletedSources();
-        for (JsonAdaptedSource jsonAdaptedSource : deletedSources) {
-            Source source = jsonAdaptedSource.toModelType();
+        ParallelSourceConverter.convertAll(deletedSources, source -> {
             if (deletedSourceList.hasDeletedSource(source)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_SOURCE);
             }
             deletedSourceList.addDeletedSource(source);
-        }
+        });
         return deletedSourceList;
     }
 
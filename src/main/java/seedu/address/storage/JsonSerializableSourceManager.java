@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlySourceManager;
 import seedu.address.model.SourceManager;
-import seedu.address.model.source.Source;
 
 /**
  * An Immutable Source Manager that is serializable to JSON format.
@@ -43,17 +42,17 @@ class JsonSerializableSourceManager {
     /**
      * Converts this source manager into the model's {@code SourceManager} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing the position of every
+     *     source that violates them.
      */
     public SourceManager toModelType() throws IllegalValueException {
         SourceManager sourceManager = new SourceManager();
-        for (JsonAdaptedSource jsonAdaptedSource : sources) {
-            Source source = jsonAdaptedSource.toModelType();
+        ParallelSourceConverter.convertAll(sources, source -> {
             if (sourceManager.hasSource(source)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_SOURCE);
             }
             sourceManager.addSource(source);
-        }
+        });
         return sourceManager;
     }
 
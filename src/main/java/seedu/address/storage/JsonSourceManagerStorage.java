@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,16 +12,23 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.SourceManager;
 
 /**
  * A class to access Source Manager data stored as a json file on the hard disk.
+ * The file is read and written one source at a time with {@link JsonSourceStreams}.
+ * If the file has journals left by a {@link JournalSourceManagerStorage}, they are replayed on top of it when it is
+ * read, so that no change is lost when switching from that storage. Since the file is then saved without a
+ * generation, the journals are never replayed again.
  */
 public class JsonSourceManagerStorage implements SourceManagerStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonSourceManagerStorage.class);
 
+    /** The name of the list of sources in the file, as in {@link JsonSerializableSourceManager}. */
+    private static final String SOURCES_FIELD = "sources";
+
     private Path filePath;
 
     public JsonSourceManagerStorage(Path filePath) {
@@ -45,18 +53,37 @@ public class JsonSourceManagerStorage implements SourceManagerStorage {
     public Optional<ReadOnlySourceManager> readSourceManager(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableSourceManager> jsonSourceManager = JsonUtil.readJsonFile(
-                filePath, JsonSerializableSourceManager.class);
-        if (!jsonSourceManager.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonSourceManager.get().toModelType());
+            if (JournalSourceManagerStorage.hasJournals(filePath)) {
+                logger.info("Replaying the journals of " + filePath);
+                return new JournalSourceManagerStorage(filePath).readSourceManager();
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error listing the journals of " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        }
+
+        SourceManager sourceManager = new SourceManager();
+        try {
+            JsonSourceStreams.readSources(filePath, SOURCES_FIELD, source -> {
+                if (sourceManager.hasSource(source)) {
+                    throw new IllegalValueException(JsonSerializableSourceManager.MESSAGE_DUPLICATE_SOURCE);
+                }
+                sourceManager.addSource(source);
+            });
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+        return Optional.of(sourceManager);
     }
 
     @Override
@@ -74,7 +101,7 @@ public class JsonSourceManagerStorage implements SourceManagerStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableSourceManager(sourceManager), filePath);
+        JsonSourceStreams.writeSources(filePath, SOURCES_FIELD, sourceManager.getSourceList());
     }
 
 }
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.OptionalLong;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.source.Source;
+
+/**
+ * Reads and writes json files that hold a list of sources, one source at a time.
+ * The files have the same layout as those of {@link JsonSerializableSourceManager} and
+ * {@link JsonSerializableDeletedSources}, but neither the whole file nor a list of {@link JsonAdaptedSource} is ever
+ * held in memory: each source is converted to or from a {@code JsonAdaptedSource} as it is read or written.
+ */
+class JsonSourceStreams {
+
+    /** The name of the optional number stored alongside the sources by {@link JournalSourceManagerStorage}. */
+    public static final String GENERATION_FIELD = "generation";
+    /** The generation read from a file without a {@code generation} field, such as one written by another storage. */
+    public static final long NO_GENERATION = -1;
+
+    /**
+     * Accepts each source read from a file.
+     */
+    @FunctionalInterface
+    interface SourceConsumer {
+        /**
+         * Accepts the next source of the file.
+         *
+         * @throws IllegalValueException if {@code source} cannot be added to the sources read so far.
+         */
+        void accept(Source source) throws IllegalValueException;
+    }
+
+    private JsonSourceStreams() {}
+
+    /**
+     * Reads the sources in the {@code listField} list of the file at {@code filePath}, passing each one to
+     * {@code consumer} in order. Other fields are skipped.
+     * The sources are converted and validated by a {@link ParallelSourceConverter} while the file is being read.
+     *
+     * @return the value of the {@code generation} field of the file, or {@link #NO_GENERATION} if it has none.
+     * @throws IOException if the file cannot be read or is not in the expected format.
+     * @throws IllegalValueException if any source violates the data constraints, or is rejected by
+     *     {@code consumer}. The message lists the position of each such source.
+     */
+    static long readSources(Path filePath, String listField, SourceConsumer consumer)
+            throws IOException, IllegalValueException {
+        long generation = NO_GENERATION;
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (listField.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    try (ParallelSourceConverter converter = new ParallelSourceConverter(consumer)) {
+                        JsonToken token;
+                        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                            converter.add(JsonUtil.readValue(parser, JsonAdaptedSource.class));
+                        }
+                        expect(parser, token, JsonToken.END_ARRAY);
+                        converter.finish();
+                    }
+                } else if (GENERATION_FIELD.equals(fieldName) && value == JsonToken.VALUE_NUMBER_INT) {
+                    generation = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+        return generation;
+    }
+
+    /**
+     * Writes {@code sources} to the file at {@code filePath} as its {@code listField} list, replacing the file.
+     */
+    static void writeSources(Path filePath, String listField, List<Source> sources) throws IOException {
+        writeSources(filePath, listField, sources, OptionalLong.empty());
+    }
+
+    /**
+     * Writes {@code sources} to the file at {@code filePath} as its {@code listField} list, along with
+     * {@code generation} if it is present, replacing the file.
+     */
+    static void writeSources(Path filePath, String listField, List<Source> sources, OptionalLong generation)
+            throws IOException {
+        try (OutputStream out = Files.newOutputStream(filePath);
+                JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            if (generation.isPresent()) {
+                generator.writeNumberField(GENERATION_FIELD, generation.getAsLong());
+            }
+            generator.writeArrayFieldStart(listField);
+            for (Source source : sources) {
+                JsonUtil.writeValue(generator, new JsonAdaptedSource(source));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Throws a {@code JsonParseException} unless {@code token} is {@code expected}.
+     */
+    private static void expect(JsonParser parser, JsonToken token, JsonToken expected) throws JsonParseException {
+        if (token != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + token);
+        }
+    }
+
+}
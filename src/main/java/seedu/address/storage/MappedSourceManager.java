@@ -0,0 +1,214 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.source.Source;
+
+/**
+ * A read-only source manager backed by a memory-mapped binary file written by {@link BinarySourceManagerStorage}.
+ * Opening the file only reads its header and dictionary, so it takes the same time however many sources the file
+ * holds. The checksum of the whole file is only checked by {@link #verifyChecksum()}, and a source that cannot be
+ * decoded is reported when it is accessed instead. Each {@code Source} is decoded from
+ * the file when it is first accessed through {@link #getSourceList()}, and kept in a bounded cache of soft references
+ * so that the sources which are no longer used can be reclaimed by the garbage collector and decoded again later.
+ * Only files that are not compressed can be mapped.
+ */
+public class MappedSourceManager implements ReadOnlySourceManager {
+
+    public static final int DEFAULT_CACHE_SIZE = 4096;
+
+    public static final String MESSAGE_NOT_INDEXED = "Compressed binary files cannot be mapped";
+
+    private final ByteBuffer file;
+    private final ByteBuffer header;
+    private final String[] dictionary;
+    private final int size;
+    private final int recordsStart;
+    private final int positionsStart;
+    private final SourceCache cache;
+    private final ObservableList<Source> sourceList =
+            FXCollections.unmodifiableObservableList(FXCollections.observableList(new MappedSourceList()));
+
+    private MappedSourceManager(MappedByteBuffer file, ByteBuffer header, int cacheSize) throws IOException {
+        this.file = file;
+        this.header = header;
+        this.size = file.getInt(BinarySourceManagerStorage.RECORD_COUNT_OFFSET);
+        this.positionsStart = BinarySourceManagerStorage.HEADER_LENGTH
+                + file.getInt(BinarySourceManagerStorage.RAW_LENGTH_OFFSET) - Integer.BYTES * size;
+        this.cache = new SourceCache(cacheSize);
+
+        ByteBuffer payload = file.duplicate();
+        payload.position(BinarySourceManagerStorage.HEADER_LENGTH);
+        try {
+            BinarySourceManagerStorage.Decoder decoder = new BinarySourceManagerStorage.Decoder(payload);
+            this.dictionary = BinarySourceManagerStorage.readDictionary(decoder);
+        } catch (RuntimeException re) {
+            throw new IOException(BinarySourceManagerStorage.MESSAGE_CORRUPTED, re);
+        }
+        this.recordsStart = payload.position();
+        if (recordsStart > positionsStart) {
+            throw new IOException(BinarySourceManagerStorage.MESSAGE_CORRUPTED);
+        }
+    }
+
+    /**
+     * Opens the binary file at {@code filePath} with a cache of {@value #DEFAULT_CACHE_SIZE} sources.
+     *
+     * @throws IOException if the file cannot be read, is not a binary source manager file, or is compressed.
+     */
+    public static MappedSourceManager open(Path filePath) throws IOException {
+        return open(filePath, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Opens the binary file at {@code filePath} with a cache of at most {@code cacheSize} sources.
+     *
+     * @throws IOException if the file cannot be read, is not a binary source manager file, or is compressed.
+     */
+    public static MappedSourceManager open(Path filePath, int cacheSize) throws IOException {
+        requireNonNull(filePath);
+        assert cacheSize > 0;
+
+        MappedByteBuffer file;
+        ByteBuffer header;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            header = BinarySourceManagerStorage.readHeader(channel);
+            if ((header.getShort(BinarySourceManagerStorage.FLAGS_OFFSET)
+                    & BinarySourceManagerStorage.FLAG_INDEXED) == 0) {
+                throw new IOException(MESSAGE_NOT_INDEXED);
+            }
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return new MappedSourceManager(file, header, cacheSize);
+    }
+
+    /**
+     * Checks the checksum of the whole file, which reads every page of it.
+     *
+     * @throws IOException if the file has been corrupted.
+     */
+    public void verifyChecksum() throws IOException {
+        ByteBuffer stored = file.duplicate();
+        stored.position(BinarySourceManagerStorage.HEADER_LENGTH);
+        BinarySourceManagerStorage.verifyChecksum(header, stored);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is a binary source manager file that can be mapped.
+     */
+    public static boolean isMappable(Path filePath) {
+        requireNonNull(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer header = BinarySourceManagerStorage.readHeader(channel);
+            return (header.getShort(BinarySourceManagerStorage.FLAGS_OFFSET)
+                    & BinarySourceManagerStorage.FLAG_INDEXED) != 0;
+        } catch (IOException ioe) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the sources in the file, which are decoded as they are accessed.
+     *
+     * @throws IllegalStateException from the methods of the list if a source in the file violates the data
+     *     constraints, which can only happen if the file has been corrupted without its checksum changing.
+     */
+    @Override
+    public ObservableList<Source> getSourceList() {
+        return sourceList;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // the sources never change, so the listener is never called
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // the sources never change, so the listener was never kept
+    }
+
+    /**
+     * Decodes the source at {@code index} from the file.
+     */
+    private Source decode(int index) {
+        ByteBuffer record = file.duplicate();
+        int position = file.getInt(positionsStart + Integer.BYTES * index);
+        try {
+            record.limit(positionsStart);
+            record.position(recordsStart + position);
+            return BinarySourceManagerStorage.readSource(new BinarySourceManagerStorage.Decoder(record), dictionary);
+        } catch (IllegalValueException | RuntimeException e) {
+            throw new IllegalStateException(BinarySourceManagerStorage.MESSAGE_CORRUPTED, e);
+        }
+    }
+
+    /**
+     * The sources in the file, decoded through the cache.
+     */
+    private class MappedSourceList extends AbstractList<Source> implements RandomAccess {
+        @Override
+        public Source get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            Source source = cache.get(index);
+            if (source == null) {
+                source = decode(index);
+                cache.put(index, source);
+            }
+            return source;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Soft references to the most recently accessed sources, by their index.
+     * Once the cache is full, the least recently accessed source is dropped from it.
+     */
+    private static class SourceCache {
+        private final Map<Integer, SoftReference<Source>> sources;
+
+        SourceCache(int capacity) {
+            sources = new LinkedHashMap<Integer, SoftReference<Source>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, SoftReference<Source>> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        /**
+         * Returns the cached source at {@code index}, or null if it is not cached or has been reclaimed.
+         */
+        synchronized Source get(int index) {
+            SoftReference<Source> reference = sources.get(index);
+            return reference == null ? null : reference.get();
+        }
+
+        synchronized void put(int index, Source source) {
+            sources.put(index, new SoftReference<>(source));
+        }
+    }
+}
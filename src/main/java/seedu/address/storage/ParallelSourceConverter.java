@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.source.Source;
+import seedu.address.storage.JsonSourceStreams.SourceConsumer;
+
+/**
+ * Converts {@code AdaptedSource} objects into the model's {@code Source} objects on a fork-join pool, and passes them
+ * to a {@code SourceConsumer} in the order they were added.
+ * Sources are converted in chunks of {@value #CHUNK_SIZE}, with a bounded number of chunks converted ahead of the
+ * consumer, so that sources can be added as they are read from a file without holding all of them in memory.
+ * A source that violates the data constraints, or is rejected by the consumer, does not stop the conversion: every
+ * such failure is collected with the position of its source, and reported together by {@link #finish()}.
+ */
+class ParallelSourceConverter implements AutoCloseable {
+
+    public static final int CHUNK_SIZE = 1024;
+    public static final int MAX_REPORTED_FAILURES = 20;
+
+    public static final String MESSAGE_INVALID_SOURCES = "%d invalid sources found";
+    public static final String MESSAGE_INVALID_SOURCE = "Source %d: %s";
+    public static final String MESSAGE_MORE_INVALID_SOURCES = "and %d more";
+
+    private final SourceConsumer consumer;
+    private final ForkJoinPool pool;
+    private final int maxPendingChunks;
+    private final Deque<ForkJoinTask<Chunk>> pendingChunks = new ArrayDeque<>();
+    private List<AdaptedSource> nextChunk = new ArrayList<>(CHUNK_SIZE);
+    private int nextChunkStart;
+    private final List<String> failures = new ArrayList<>();
+    private int failureCount;
+
+    ParallelSourceConverter(SourceConsumer consumer) {
+        this(consumer, ForkJoinPool.commonPool());
+    }
+
+    ParallelSourceConverter(SourceConsumer consumer, ForkJoinPool pool) {
+        requireNonNull(consumer);
+        requireNonNull(pool);
+        this.consumer = consumer;
+        this.pool = pool;
+        this.maxPendingChunks = 2 * pool.getParallelism();
+    }
+
+    /**
+     * Converts every source in {@code sources}, passing them to {@code consumer} in order.
+     *
+     * @throws IllegalValueException if any source violates the data constraints, or is rejected by
+     *     {@code consumer}.
+     */
+    static void convertAll(List<? extends AdaptedSource> sources, SourceConsumer consumer)
+            throws IllegalValueException {
+        try (ParallelSourceConverter converter = new ParallelSourceConverter(consumer)) {
+            for (AdaptedSource source : sources) {
+                converter.add(source);
+            }
+            converter.finish();
+        }
+    }
+
+    /**
+     * Adds the next source to convert.
+     * Converted sources may be passed to the consumer before this returns.
+     */
+    void add(AdaptedSource source) {
+        requireNonNull(source);
+        nextChunk.add(source);
+        if (nextChunk.size() == CHUNK_SIZE) {
+            submitNextChunk();
+            if (pendingChunks.size() > maxPendingChunks) {
+                accept(pendingChunks.removeFirst().join());
+            }
+        }
+    }
+
+    /**
+     * Waits for every source added to be converted and passed to the consumer.
+     *
+     * @throws IllegalValueException if any source violates the data constraints, or is rejected by the consumer.
+     */
+    void finish() throws IllegalValueException {
+        if (pendingChunks.isEmpty()) {
+            // a single chunk is converted on this thread rather than handed to the pool
+            accept(new Chunk(nextChunkStart, nextChunk));
+            nextChunk = new ArrayList<>();
+        } else if (!nextChunk.isEmpty()) {
+            submitNextChunk();
+        }
+        while (!pendingChunks.isEmpty()) {
+            accept(pendingChunks.removeFirst().join());
+        }
+
+        if (failureCount > 0) {
+            StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_SOURCES, failureCount));
+            for (String failure : failures) {
+                message.append('\n').append(failure);
+            }
+            if (failureCount > failures.size()) {
+                message.append('\n').append(String.format(MESSAGE_MORE_INVALID_SOURCES,
+                        failureCount - failures.size()));
+            }
+            throw new IllegalValueException(message.toString());
+        }
+    }
+
+    /**
+     * Cancels the conversion of the sources that have not been passed to the consumer yet.
+     */
+    @Override
+    public void close() {
+        for (ForkJoinTask<Chunk> pendingChunk : pendingChunks) {
+            pendingChunk.cancel(false);
+        }
+        pendingChunks.clear();
+    }
+
+    /**
+     * Starts converting the sources added since the previous chunk.
+     */
+    private void submitNextChunk() {
+        int start = nextChunkStart;
+        List<AdaptedSource> sources = nextChunk;
+        pendingChunks.addLast(pool.submit(() -> new Chunk(start, sources)));
+        nextChunkStart += sources.size();
+        nextChunk = new ArrayList<>(CHUNK_SIZE);
+    }
+
+    /**
+     * Passes the sources of {@code chunk} to the consumer, and collects its failures.
+     */
+    private void accept(Chunk chunk) {
+        for (int i = 0; i < chunk.sources.length; i++) {
+            try {
+                if (chunk.sources[i] != null) {
+                    consumer.accept(chunk.sources[i]);
+                } else {
+                    addFailure(chunk.start + i, chunk.failures[i]);
+                }
+            } catch (IllegalValueException ive) {
+                addFailure(chunk.start + i, ive.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Records that the source at {@code index} failed with {@code message}.
+     */
+    private void addFailure(int index, String message) {
+        failureCount++;
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.add(String.format(MESSAGE_INVALID_SOURCE, index + 1, message));
+        }
+    }
+
+    /**
+     * A chunk of converted sources, and the failure of each source that could not be converted.
+     */
+    private static class Chunk {
+        private final int start;
+        private final Source[] sources;
+        private final String[] failures;
+
+        /**
+         * Converts {@code adaptedSources}, which start at position {@code start} of all the sources.
+         */
+        Chunk(int start, List<AdaptedSource> adaptedSources) {
+            this.start = start;
+            this.sources = new Source[adaptedSources.size()];
+            this.failures = new String[adaptedSources.size()];
+            for (int i = 0; i < sources.length; i++) {
+                try {
+                    sources[i] = adaptedSources.get(i).toModelType();
+                } catch (IllegalValueException ive) {
+                    failures[i] = ive.getMessage();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the entries of a RIS file, a line at a time.
+ * Each entry runs from its {@code TY} tag to its {@code ER} tag. A line without a tag continues the value of the
+ * previous tag, and lines outside entries are skipped. A byte order mark at the start of the file is skipped.
+ */
+class RisReader implements ImportedSourceReader {
+
+    public static final String MESSAGE_SYNTAX_ERROR = "Line %1$d: %2$s";
+
+    private static final Pattern TAGGED_LINE_FORMAT = Pattern.compile("([A-Z][A-Z0-9])\\s{1,2}-(?: (.*))?");
+
+    private final BufferedReader reader;
+    private int lineNumber;
+
+    RisReader(BufferedReader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportedSource read() throws IOException {
+        Map<String, List<String>> tags = null;
+        List<String> lastValues = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                line = line.substring(1);
+            }
+            Matcher matcher = TAGGED_LINE_FORMAT.matcher(line.trim());
+            if (!matcher.matches()) {
+                if (lastValues != null && !line.trim().isEmpty()) {
+                    int last = lastValues.size() - 1;
+                    lastValues.set(last, (lastValues.get(last) + " " + line.trim()).trim());
+                }
+                continue;
+            }
+
+            String tag = matcher.group(1);
+            String value = (matcher.group(2) == null) ? "" : matcher.group(2).trim();
+            if (tag.equals("TY")) {
+                if (tags != null) {
+                    throw syntaxError("Expected ER before the next TY");
+                }
+                tags = new HashMap<>();
+            } else if (tags == null) {
+                continue;
+            } else if (tag.equals("ER")) {
+                return toImportedSource(tags);
+            }
+            lastValues = tags.computeIfAbsent(tag, unused -> new ArrayList<>());
+            lastValues.add(value);
+        }
+        if (tags != null) {
+            throw syntaxError("Unexpected end of file, expected ER");
+        }
+        return null;
+    }
+
+    /**
+     * Maps the tags of a RIS entry to the fields of a source.
+     * The authors of a source are those of its entry, joined with {@code and} as in BibTeX. The detail of a source is
+     * the abstract of its entry, or else its notes, or else its reference ID.
+     */
+    private static ImportedSource toImportedSource(Map<String, List<String>> tags) {
+        List<String> authors = getFirst(tags, "AU", "A1", "A2", "ED");
+        String detail = getFirstValue(tags, "AB", "N2", "N1");
+        if (detail == null && tags.containsKey("ID")) {
+            detail = "RIS entry " + tags.get("ID").get(0);
+        }
+        List<String> tagNames = new ArrayList<>();
+        for (String keywords : tags.getOrDefault("KW", new ArrayList<>())) {
+            for (String keyword : keywords.split(";")) {
+                if (!keyword.trim().isEmpty()) {
+                    tagNames.add(keyword.trim());
+                }
+            }
+        }
+
+        Map<String, String> fieldBodies = new HashMap<>();
+        putFirstValue(fieldBodies, "City", tags, "CY");
+        putFirstValue(fieldBodies, "Journal", tags, "JO", "JF", "T2", "JA", "J2");
+        putFirstValue(fieldBodies, "Publisher", tags, "PB");
+        putFirstValue(fieldBodies, "URL", tags, "UR");
+        String startPage = getFirstValue(tags, "SP");
+        String endPage = getFirstValue(tags, "EP");
+        if (startPage != null) {
+            fieldBodies.put("Pages", (endPage == null) ? startPage : startPage + "-" + endPage);
+        }
+        String date = getFirstValue(tags, "PY", "Y1", "DA");
+        if (date != null) {
+            ImportedSource.putDate(fieldBodies, date);
+        }
+
+        String author = (authors == null) ? null : String.join(" and ", authors);
+        return new ImportedSource(getFirstValue(tags, "TI", "T1", "CT"), toSourceType(getFirstValue(tags, "TY")),
+                author, detail, tagNames, fieldBodies);
+    }
+
+    /**
+     * Returns the source type of a RIS reference type, so that journal articles, books and web pages have the types
+     * that {@code biblio} formats.
+     */
+    private static String toSourceType(String referenceType) {
+        switch (referenceType) {
+        case "JOUR":
+        case "JFULL":
+        case "MGZN":
+        case "NEWS":
+            return "Journal Article";
+        case "BOOK":
+        case "CHAP":
+        case "EBOOK":
+        case "EDBOOK":
+            return "Book";
+        case "ELEC":
+        case "WEB":
+        case "BLOG":
+            return "Website";
+        default:
+            return referenceType.isEmpty() ? referenceType : referenceType.charAt(0)
+                    + referenceType.substring(1).toLowerCase();
+        }
+    }
+
+    /**
+     * Returns the values of the first of {@code names} in {@code tags}, or null if it has none of them.
+     */
+    private static List<String> getFirst(Map<String, List<String>> tags, String... names) {
+        for (String name : names) {
+            if (tags.containsKey(name)) {
+                return tags.get(name);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the first value of the first of {@code names} in {@code tags}, or null if it has none of them.
+     */
+    private static String getFirstValue(Map<String, List<String>> tags, String... names) {
+        List<String> values = getFirst(tags, names);
+        return (values == null) ? null : values.get(0);
+    }
+
+    /**
+     * Puts the first value of the first of {@code names} in {@code tags} into {@code fieldBodies} as {@code header}.
+     */
+    private static void putFirstValue(Map<String, String> fieldBodies, String header, Map<String, List<String>> tags,
+            String... names) {
+        String value = getFirstValue(tags, names);
+        if (value != null) {
+            fieldBodies.put(header, value);
+        }
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException(String.format(MESSAGE_SYNTAX_ERROR, lineNumber, message));
+    }
+}
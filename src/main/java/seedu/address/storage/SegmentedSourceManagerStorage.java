@@ -0,0 +1,465 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.SourceManager;
+import seedu.address.model.source.Source;
+import seedu.address.storage.JsonAdaptedSegmentManifest.JsonAdaptedSegment;
+
+/**
+ * A class to access Source Manager data stored as segments of the source list, each in its own json file, and a
+ * manifest that lists the segments in order along with the positions of the pinned sources.
+ * <p>
+ * Each save compares the sources with the ones it last saved, and only rewrites the segments that hold sources which
+ * were added, removed, replaced or moved, so a change costs as much as the segments it touches rather than the whole
+ * source list. A source that is pinned or ordered to another position rewrites only the segment it leaves and the
+ * segment it joins.
+ * New segments are written to new files, then the manifest is replaced, and only then are the replaced segments
+ * deleted, so the data on disk is always either the old or the new source list. Every file is written to a
+ * temporary file first and then renamed.
+ * <p>
+ * The segments are stored in the directory {@code <manifest file name>.segments} next to the manifest. A source
+ * manager json file found at the path of the manifest is read as a single segment, and replaced by a manifest on the
+ * next save.
+ */
+public class SegmentedSourceManagerStorage implements SourceManagerStorage {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 500;
+
+    public static final String MESSAGE_INVALID_SEGMENT = "Manifest has an invalid segment: %s";
+    public static final String MESSAGE_INVALID_PINNED_POSITION = "Manifest has an invalid pinned position: %d";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedSourceManagerStorage.class);
+
+    /** The name of the list of sources in a segment, as in {@link JsonSerializableSourceManager}. */
+    private static final String SOURCES_FIELD = "sources";
+    private static final String SEGMENTS_DIRECTORY_EXTENSION = ".segments";
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_EXTENSION = ".json";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private final Path filePath;
+    private final int segmentSize;
+
+    /** The sources as saved in {@code filePath}, or null if they have not been read or saved yet. */
+    private List<Source> savedSources;
+    /** The segments that {@code savedSources} are saved in, in order. */
+    private List<JsonAdaptedSegment> savedSegments;
+    private List<Integer> savedPinned;
+    private long nextSegmentId;
+
+    public SegmentedSourceManagerStorage(Path filePath) {
+        this(filePath, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a storage that splits the source list into segments of about {@code segmentSize} sources.
+     */
+    public SegmentedSourceManagerStorage(Path filePath, int segmentSize) {
+        assert segmentSize > 0;
+        this.filePath = filePath;
+        this.segmentSize = segmentSize;
+    }
+
+    public Path getSourceManagerFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySourceManager> readSourceManager() throws DataConversionException {
+        return readSourceManager(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSourceManager()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or segments are not in the correct format.
+     */
+    public synchronized Optional<ReadOnlySourceManager> readSourceManager(Path filePath)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonAdaptedSegmentManifest> manifest = JsonUtil.readJsonFile(filePath,
+                JsonAdaptedSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            logger.info("Manifest file " + filePath + " not found");
+            return Optional.empty();
+        }
+        List<JsonAdaptedSegment> segments = manifest.get().getSegments();
+        if (segments == null) {
+            logger.info("Reading " + filePath + " as a single segment");
+            return new JsonSourceManagerStorage(filePath).readSourceManager();
+        }
+
+        SourceManager sourceManager = new SourceManager();
+        try {
+            Path segmentsDirectory = getSegmentsDirectory(filePath);
+            for (JsonAdaptedSegment segment : segments) {
+                int expectedSize = sourceManager.getSourceList().size() + segment.getSize();
+                JsonSourceStreams.readSources(getSegmentPath(segmentsDirectory, segment), SOURCES_FIELD, source -> {
+                    if (sourceManager.hasSource(source)) {
+                        throw new IllegalValueException(JsonSerializableSourceManager.MESSAGE_DUPLICATE_SOURCE);
+                    }
+                    sourceManager.addSource(source);
+                });
+                if (sourceManager.getSourceList().size() != expectedSize) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_SEGMENT, segment.getFile()));
+                }
+            }
+
+            List<Source> sources = sourceManager.getSourceList();
+            for (int position : manifest.get().getPinned()) {
+                if (position < 0 || position >= sources.size()) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_PINNED_POSITION, position));
+                }
+                sources.get(position).setPinnedState(true);
+            }
+        } catch (IOException ioe) {
+            logger.warning("Error reading the segments of " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the segments of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedSources = new ArrayList<>(sourceManager.getSourceList());
+            savedSegments = new ArrayList<>(segments);
+            savedPinned = new ArrayList<>(manifest.get().getPinned());
+            nextSegmentId = Math.max(nextSegmentId, getNextSegmentId(segments));
+        }
+        return Optional.of(sourceManager);
+    }
+
+    @Override
+    public void saveSourceManager(ReadOnlySourceManager sourceManager) throws IOException {
+        saveSourceManager(sourceManager, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSourceManager(ReadOnlySourceManager)}.
+     * Only the segments that changed since the sources were last read from or saved to {@code filePath} are
+     * rewritten. If no sources have been read from or saved to it yet, or for any other path, every segment is
+     * written afresh instead.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public synchronized void saveSourceManager(ReadOnlySourceManager sourceManager, Path filePath)
+            throws IOException {
+        requireNonNull(sourceManager);
+        requireNonNull(filePath);
+
+        List<Source> sources = new ArrayList<>(sourceManager.getSourceList());
+        List<Integer> pinned = getPinnedPositions(sources);
+        if (!filePath.equals(this.filePath)) {
+            writeAllSegments(filePath, sources, pinned, getNextFreeSegmentId(filePath));
+            return;
+        }
+
+        try {
+            if (savedSources == null) {
+                nextSegmentId = Math.max(nextSegmentId, getNextFreeSegmentId(filePath));
+                savedSegments = writeAllSegments(filePath, sources, pinned, nextSegmentId);
+                nextSegmentId += savedSegments.size();
+            } else {
+                writeChangedSegments(sources, pinned);
+            }
+        } catch (IOException ioe) {
+            // The segments written may not match the manifest, so the next save writes every segment afresh.
+            savedSources = null;
+            throw ioe;
+        }
+        savedSources = sources;
+        savedPinned = pinned;
+    }
+
+    /**
+     * Rewrites the segments that hold the sources which were dropped from or inserted into {@code savedSources} to
+     * make {@code sources}, and the manifest if any segment or pinned position changed.
+     * An inserted source goes into the segment of the source before it, so a source that is moved only rewrites the
+     * segment it was in and the segment it is moved to.
+     */
+    private void writeChangedSegments(List<Source> sources, List<Integer> pinned) throws IOException {
+        SourceListDiff diff = SourceListDiff.of(savedSources, sources);
+        if (diff.isEmpty()) {
+            if (!pinned.equals(savedPinned)) {
+                writeManifest(filePath, savedSegments, pinned);
+            }
+            return;
+        }
+
+        boolean[] isRewritten = new boolean[savedSegments.size()];
+        int[] segmentOf = getNewSegmentIndices(sources.size(), diff, isRewritten);
+
+        List<JsonAdaptedSegment> segments = new ArrayList<>();
+        int groupStart = 0;
+        while (groupStart < sources.size()) {
+            int segmentIndex = segmentOf[groupStart];
+            int groupEnd = getGroupEnd(segmentOf, groupStart);
+            if (segmentIndex >= 0 && !isRewritten[segmentIndex]) {
+                segments.add(savedSegments.get(segmentIndex));
+                groupStart = groupEnd;
+                continue;
+            }
+
+            // merge small segments left by removals into the next segment
+            while (groupEnd - groupStart < segmentSize / 2 && groupEnd < sources.size()) {
+                int nextSegmentIndex = segmentOf[groupEnd];
+                if (nextSegmentIndex >= 0) {
+                    isRewritten[nextSegmentIndex] = true;
+                }
+                groupEnd = getGroupEnd(segmentOf, groupEnd);
+            }
+            List<JsonAdaptedSegment> newSegments = writeSegments(getSegmentsDirectory(filePath),
+                    sources.subList(groupStart, groupEnd), nextSegmentId);
+            nextSegmentId += newSegments.size();
+            segments.addAll(newSegments);
+            groupStart = groupEnd;
+        }
+        writeManifest(filePath, segments, pinned);
+
+        for (int i = 0; i < savedSegments.size(); i++) {
+            if (isRewritten[i]) {
+                Files.deleteIfExists(getSegmentPath(getSegmentsDirectory(filePath), savedSegments.get(i)));
+            }
+        }
+        savedSegments = segments;
+    }
+
+    /**
+     * Returns the index of the saved segment that each of the {@code size} sources after {@code diff} goes into, or
+     * -1 if there is no saved segment to put it in, and marks the saved segments that lose or gain a source in
+     * {@code isRewritten}.
+     * A source that was not dropped stays in its segment, and an inserted source goes into the segment of the source
+     * before it, or of the source after it at the start of the list.
+     */
+    private int[] getNewSegmentIndices(int size, SourceListDiff diff, boolean[] isRewritten) {
+        int[] savedSegmentOf = new int[savedSources.size()];
+        int savedPosition = 0;
+        for (int i = 0; i < savedSegments.size(); i++) {
+            for (int j = 0; j < savedSegments.get(i).getSize(); j++) {
+                savedSegmentOf[savedPosition++] = i;
+            }
+        }
+        int[] dropped = diff.getDropped();
+        for (int position : dropped) {
+            isRewritten[savedSegmentOf[position]] = true;
+        }
+
+        int[] inserted = diff.getInserted();
+        int[] segmentOf = new int[size];
+        int droppedIndex = 0;
+        int insertedIndex = 0;
+        int firstSegment = -1;
+        int previousSegment = -1;
+        savedPosition = 0;
+        for (int i = 0; i < size; i++) {
+            if (insertedIndex < inserted.length && inserted[insertedIndex] == i) {
+                insertedIndex++;
+                segmentOf[i] = previousSegment;
+                continue;
+            }
+            while (droppedIndex < dropped.length && dropped[droppedIndex] == savedPosition) {
+                droppedIndex++;
+                savedPosition++;
+            }
+            previousSegment = savedSegmentOf[savedPosition++];
+            segmentOf[i] = previousSegment;
+            if (firstSegment < 0) {
+                firstSegment = previousSegment;
+            }
+        }
+
+        for (int position : inserted) {
+            if (segmentOf[position] < 0) {
+                segmentOf[position] = firstSegment;
+            }
+            if (segmentOf[position] >= 0) {
+                isRewritten[segmentOf[position]] = true;
+            }
+        }
+        return segmentOf;
+    }
+
+    /**
+     * Returns the position after the run of sources from {@code start} that go into the same segment.
+     */
+    private static int getGroupEnd(int[] segmentOf, int start) {
+        int end = start + 1;
+        while (end < segmentOf.length && segmentOf[end] == segmentOf[start]) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Writes {@code sources} to new segments for the manifest at {@code path}, and the manifest, then deletes the
+     * other segments of the manifest.
+     *
+     * @return the segments written.
+     */
+    private List<JsonAdaptedSegment> writeAllSegments(Path path, List<Source> sources, List<Integer> pinned,
+            long firstSegmentId) throws IOException {
+        Path segmentsDirectory = getSegmentsDirectory(path);
+        List<JsonAdaptedSegment> segments = writeSegments(segmentsDirectory, sources, firstSegmentId);
+        writeManifest(path, segments, pinned);
+
+        Set<Path> segmentPaths = new HashSet<>();
+        for (JsonAdaptedSegment segment : segments) {
+            segmentPaths.add(getSegmentPath(segmentsDirectory, segment));
+        }
+        for (Path segmentFile : getSegmentFiles(path)) {
+            if (!segmentPaths.contains(segmentFile)) {
+                Files.deleteIfExists(segmentFile);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Writes {@code sources} to new segment files of about {@code segmentSize} sources each in
+     * {@code segmentsDirectory}, numbered from {@code firstSegmentId}.
+     *
+     * @return the segments written.
+     */
+    private List<JsonAdaptedSegment> writeSegments(Path segmentsDirectory, List<Source> sources, long firstSegmentId)
+            throws IOException {
+        Files.createDirectories(segmentsDirectory);
+        // rounding keeps segments between about half and one and a half times the segment size
+        int segmentCount = sources.isEmpty() ? 0 : Math.max((sources.size() + segmentSize / 2) / segmentSize, 1);
+        List<JsonAdaptedSegment> segments = new ArrayList<>();
+        for (int i = 0; i < segmentCount; i++) {
+            List<Source> segmentSources = sources.subList(
+                    (int) ((long) sources.size() * i / segmentCount),
+                    (int) ((long) sources.size() * (i + 1) / segmentCount));
+            JsonAdaptedSegment segment = new JsonAdaptedSegment(
+                    SEGMENT_PREFIX + (firstSegmentId + i) + SEGMENT_EXTENSION, segmentSources.size());
+            Path segmentPath = getSegmentPath(segmentsDirectory, segment);
+            Path temporaryPath = segmentPath.resolveSibling(segmentPath.getFileName() + TEMPORARY_EXTENSION);
+            JsonSourceStreams.writeSources(temporaryPath, SOURCES_FIELD, segmentSources);
+            Files.move(temporaryPath, segmentPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            segments.add(segment);
+        }
+        return segments;
+    }
+
+    /**
+     * Replaces the manifest at {@code path} with one that lists {@code segments} and {@code pinned}.
+     */
+    private static void writeManifest(Path path, List<JsonAdaptedSegment> segments, List<Integer> pinned)
+            throws IOException {
+        Path temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_EXTENSION);
+        FileUtil.createIfMissing(temporaryPath);
+        JsonUtil.saveJsonFile(new JsonAdaptedSegmentManifest(segments, pinned), temporaryPath);
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the positions of the pinned sources in {@code sources}.
+     */
+    private static List<Integer> getPinnedPositions(List<Source> sources) {
+        List<Integer> pinned = new ArrayList<>();
+        for (int i = 0; i < sources.size(); i++) {
+            if (sources.get(i).getPinnedState()) {
+                pinned.add(i);
+            }
+        }
+        return pinned;
+    }
+
+    /**
+     * Returns the directory that holds the segments of the manifest at {@code path}.
+     */
+    private static Path getSegmentsDirectory(Path path) {
+        return path.resolveSibling(path.getFileName() + SEGMENTS_DIRECTORY_EXTENSION);
+    }
+
+    /**
+     * Returns the path of {@code segment} in {@code segmentsDirectory}.
+     *
+     * @throws IOException if the file name of the segment is not a plain file name.
+     */
+    private static Path getSegmentPath(Path segmentsDirectory, JsonAdaptedSegment segment) throws IOException {
+        String fileName = segment.getFile();
+        if (fileName == null || getSegmentId(fileName) < 0) {
+            throw new IOException(String.format(MESSAGE_INVALID_SEGMENT, fileName));
+        }
+        return segmentsDirectory.resolve(fileName);
+    }
+
+    /**
+     * Returns the segment files in the segments directory of the manifest at {@code path}.
+     */
+    private static List<Path> getSegmentFiles(Path path) throws IOException {
+        Path segmentsDirectory = getSegmentsDirectory(path);
+        if (!Files.isDirectory(segmentsDirectory)) {
+            return new ArrayList<>();
+        }
+
+        try (Stream<Path> files = Files.list(segmentsDirectory)) {
+            return files.filter(file -> getSegmentId(file.getFileName().toString()) >= 0)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Returns the id of the segment file named {@code fileName}, or -1 if it is not the name of a segment file.
+     */
+    private static long getSegmentId(String fileName) {
+        if (!fileName.startsWith(SEGMENT_PREFIX) || !fileName.endsWith(SEGMENT_EXTENSION)) {
+            return -1;
+        }
+
+        try {
+            return Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(),
+                    fileName.length() - SEGMENT_EXTENSION.length()));
+        } catch (NumberFormatException nfe) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns an id greater than that of every segment in {@code segments}.
+     */
+    private static long getNextSegmentId(List<JsonAdaptedSegment> segments) {
+        long nextId = 0;
+        for (JsonAdaptedSegment segment : segments) {
+            if (segment.getFile() != null) {
+                nextId = Math.max(nextId, getSegmentId(segment.getFile()) + 1);
+            }
+        }
+        return nextId;
+    }
+
+    /**
+     * Returns an id greater than that of every segment file of the manifest at {@code path}.
+     */
+    private static long getNextFreeSegmentId(Path path) throws IOException {
+        long nextId = 0;
+        for (Path segmentFile : getSegmentFiles(path)) {
+            nextId = Math.max(nextId, getSegmentId(segmentFile.getFileName().toString()) + 1);
+        }
+        return nextId;
+    }
+}
@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.source.Source;
+
+/**
+ * The changes between two versions of a source list, as the positions of the old list whose sources are dropped and
+ * the positions of the new list whose sources are inserted. Dropping the first and then inserting the second turns the
+ * old list into the new one.
+ * <p>
+ * Sources are compared by instance, as a source that is edited is replaced by a new one. The sources that are in both
+ * lists keep their positions relative to each other as far as possible: only the fewest of them needed to put them in
+ * their new order are dropped and inserted again. So a source that is moved, however far, is one dropped and one
+ * inserted position, and scattered removals and insertions are only the positions removed or inserted.
+ * Finding the changes takes time in the length of the lists, but the changes are only as many as the sources that
+ * were added, removed, replaced or moved.
+ */
+class SourceListDiff {
+
+    private final int[] dropped;
+    private final int[] inserted;
+
+    private SourceListDiff(int[] dropped, int[] inserted) {
+        this.dropped = dropped;
+        this.inserted = inserted;
+    }
+
+    /**
+     * Returns the changes that turn {@code before} into {@code after}.
+     * Neither list may hold the same source instance more than once.
+     */
+    static SourceListDiff of(List<Source> before, List<Source> after) {
+        requireNonNull(before);
+        requireNonNull(after);
+
+        int start = 0;
+        while (start < before.size() && start < after.size() && before.get(start) == after.get(start)) {
+            start++;
+        }
+        int beforeEnd = before.size();
+        int afterEnd = after.size();
+        while (beforeEnd > start && afterEnd > start && before.get(beforeEnd - 1) == after.get(afterEnd - 1)) {
+            beforeEnd--;
+            afterEnd--;
+        }
+
+        Map<Source, Integer> afterPositions = new IdentityHashMap<>();
+        for (int i = start; i < afterEnd; i++) {
+            afterPositions.put(after.get(i), i);
+        }
+        // the sources in both lists, in their old order, and their new positions
+        List<Integer> keptBeforePositions = new ArrayList<>();
+        List<Integer> keptAfterPositions = new ArrayList<>();
+        for (int i = start; i < beforeEnd; i++) {
+            Integer afterPosition = afterPositions.get(before.get(i));
+            if (afterPosition != null) {
+                keptBeforePositions.add(i);
+                keptAfterPositions.add(afterPosition);
+            }
+        }
+
+        boolean[] isKeptStable = getLongestIncreasingSubsequence(keptAfterPositions);
+        boolean[] isStableBefore = new boolean[beforeEnd - start];
+        boolean[] isStableAfter = new boolean[afterEnd - start];
+        for (int i = 0; i < isKeptStable.length; i++) {
+            if (isKeptStable[i]) {
+                isStableBefore[keptBeforePositions.get(i) - start] = true;
+                isStableAfter[keptAfterPositions.get(i) - start] = true;
+            }
+        }
+        return new SourceListDiff(getUnstablePositions(isStableBefore, start),
+                getUnstablePositions(isStableAfter, start));
+    }
+
+    /**
+     * Returns the positions of the old list whose sources are dropped, in increasing order.
+     */
+    int[] getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Returns the positions of the new list whose sources are inserted, in increasing order.
+     */
+    int[] getInserted() {
+        return inserted;
+    }
+
+    boolean isEmpty() {
+        return dropped.length == 0 && inserted.length == 0;
+    }
+
+    /**
+     * Returns the runs of consecutive positions in {@code positions}, which are in increasing order, as pairs of the
+     * first position of the run and its length.
+     */
+    static List<int[]> getRuns(int[] positions) {
+        List<int[]> runs = new ArrayList<>();
+        int i = 0;
+        while (i < positions.length) {
+            int runStart = i;
+            while (i + 1 < positions.length && positions[i + 1] == positions[i] + 1) {
+                i++;
+            }
+            i++;
+            runs.add(new int[] {positions[runStart], i - runStart});
+        }
+        return runs;
+    }
+
+    /**
+     * Marks a longest strictly increasing subsequence of {@code values}.
+     */
+    private static boolean[] getLongestIncreasingSubsequence(List<Integer> values) {
+        int[] tails = new int[values.size()];
+        int[] previous = new int[values.size()];
+        int length = 0;
+        for (int i = 0; i < values.size(); i++) {
+            int value = values.get(i);
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (values.get(tails[middle]) < value) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            length = Math.max(length, low + 1);
+        }
+
+        boolean[] isInSubsequence = new boolean[values.size()];
+        for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = previous[i]) {
+            isInSubsequence[i] = true;
+        }
+        return isInSubsequence;
+    }
+
+    /**
+     * Returns the positions, offset by {@code offset}, that are not marked in {@code isStable}.
+     */
+    private static int[] getUnstablePositions(boolean[] isStable, int offset) {
+        int[] positions = new int[isStable.length];
+        int count = 0;
+        for (int i = 0; i < isStable.length; i++) {
+            if (!isStable[i]) {
+                positions[count++] = offset + i;
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+}
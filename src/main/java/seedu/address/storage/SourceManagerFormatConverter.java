@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlySourceManager;
+
+/**
+ * Converts Source Manager data files between the json and binary formats.
+ * Run with {@code java -cp infinitymachine.jar seedu.address.storage.SourceManagerFormatConverter MODE INPUT OUTPUT},
+ * where {@code MODE} is one of {@code to-binary}, {@code to-compressed-binary} and {@code to-json}.
+ */
+public class SourceManagerFormatConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: SourceManagerFormatConverter "
+            + "(to-binary|to-compressed-binary|to-json) INPUT_FILE OUTPUT_FILE";
+    public static final String MESSAGE_SUCCESS = "Converted %d sources from %s to %s";
+
+    private SourceManagerFormatConverter() {}
+
+    /**
+     * Reads the data of {@code from} and saves it to {@code to}.
+     *
+     * @return the number of sources converted.
+     * @throws NoSuchFileException if the data file of {@code from} does not exist.
+     * @throws DataConversionException if the data file of {@code from} is not in the expected format.
+     */
+    public static int convert(SourceManagerStorage from, SourceManagerStorage to)
+            throws DataConversionException, IOException {
+        requireNonNull(from);
+        requireNonNull(to);
+
+        ReadOnlySourceManager sourceManager = from.readSourceManager()
+                .orElseThrow(() -> new NoSuchFileException(from.getSourceManagerFilePath().toString()));
+        to.saveSourceManager(sourceManager);
+        return sourceManager.getSourceList().size();
+    }
+
+    /**
+     * Converts the binary file at {@code binaryFilePath} into a json file at {@code jsonFilePath}.
+     * Files that are not compressed are mapped with a {@link MappedSourceManager}, so that only a bounded number of
+     * sources is held in memory at any time.
+     *
+     * @return the number of sources converted.
+     * @throws NoSuchFileException if the binary file does not exist.
+     * @throws DataConversionException if the binary file is not in the expected format.
+     */
+    public static int convertToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        requireNonNull(binaryFilePath);
+        requireNonNull(jsonFilePath);
+
+        if (!MappedSourceManager.isMappable(binaryFilePath)) {
+            return convert(new BinarySourceManagerStorage(binaryFilePath), new JsonSourceManagerStorage(jsonFilePath));
+        }
+
+        MappedSourceManager sourceManager;
+        try {
+            sourceManager = MappedSourceManager.open(binaryFilePath);
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+        try {
+            new JsonSourceManagerStorage(jsonFilePath).saveSourceManager(sourceManager);
+        } catch (IllegalStateException ise) {
+            throw new DataConversionException(ise);
+        }
+        return sourceManager.getSourceList().size();
+    }
+
+    /**
+     * Converts the file given in {@code args}, as described in {@link #MESSAGE_USAGE}.
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path input = Paths.get(args[1]);
+        Path output = Paths.get(args[2]);
+        try {
+            int count;
+            switch (args[0]) {
+            case "to-binary":
+                count = convert(new JsonSourceManagerStorage(input), new BinarySourceManagerStorage(output, false));
+                break;
+            case "to-compressed-binary":
+                count = convert(new JsonSourceManagerStorage(input), new BinarySourceManagerStorage(output, true));
+                break;
+            case "to-json":
+                count = convertToJson(input, output);
+                break;
+            default:
+                System.err.println(MESSAGE_USAGE);
+                System.exit(1);
+                return;
+            }
+            System.out.println(String.format(MESSAGE_SUCCESS, count, input, output));
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Unable to convert " + input + ": " + e);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyDeletedSources;
+import seedu.address.model.ReadOnlySourceManager;
+
+/**
+ * Saves the source manager and deleted sources to a {@code Storage} on a background thread.
+ * A save is written at most {@code maxStalenessMillis} after it is requested, and every save requested in the
+ * meantime is coalesced into it, so a burst of changes is written once with the latest data.
+ * Since the data is written later, callers must pass snapshots that they will not modify afterwards.
+ * A failed write is kept until it is taken with {@link #rethrowFailure()} or {@link #flush()}, and the data it failed
+ * to write is written again after a delay that doubles with each failure in a row, or sooner with the next flush.
+ */
+public class WriteBehindSaver {
+
+    public static final long DEFAULT_MAX_STALENESS_MILLIS = 300;
+
+    /** The shortest delay before a failed write is tried again. */
+    private static final long MIN_RETRY_DELAY_MILLIS = 100;
+    /** The longest delay before a failed write is tried again, however many times it failed. */
+    private static final long MAX_RETRY_DELAY_MILLIS = 60 * 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final long maxStalenessMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ReadOnlySourceManager pendingSourceManager;
+    private ReadOnlyDeletedSources pendingDeletedSources;
+    private boolean isWriteScheduled;
+    private IOException failure;
+    private long retryDelayMillis;
+
+    public WriteBehindSaver(Storage storage) {
+        this(storage, DEFAULT_MAX_STALENESS_MILLIS);
+    }
+
+    public WriteBehindSaver(Storage storage, long maxStalenessMillis) {
+        requireNonNull(storage);
+        assert maxStalenessMillis >= 0;
+        this.storage = storage;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.retryDelayMillis = getInitialRetryDelayMillis();
+    }
+
+    /**
+     * Saves {@code sourceManager} in the background, replacing any source manager that has not been written yet.
+     */
+    public synchronized void saveSourceManager(ReadOnlySourceManager sourceManager) {
+        requireNonNull(sourceManager);
+        pendingSourceManager = sourceManager;
+        scheduleWrite();
+    }
+
+    /**
+     * Saves {@code deletedSources} in the background, replacing any deleted sources that have not been written yet.
+     */
+    public synchronized void saveDeletedSources(ReadOnlyDeletedSources deletedSources) {
+        requireNonNull(deletedSources);
+        pendingDeletedSources = deletedSources;
+        scheduleWrite();
+    }
+
+    /**
+     * Throws the exception of the last background write that failed since the previous call, if any.
+     */
+    public synchronized void rethrowFailure() throws IOException {
+        IOException lastFailure = failure;
+        failure = null;
+        if (lastFailure != null) {
+            throw lastFailure;
+        }
+    }
+
+    /**
+     * Writes every pending save, waiting for it to finish.
+     *
+     * @throws IOException if the last background write failed, including this one.
+     */
+    public void flush() throws IOException {
+        try {
+            writer.submit(this::write).get();
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving data", ie);
+        }
+        rethrowFailure();
+    }
+
+    /**
+     * Schedules the pending saves to be written, unless they already are.
+     */
+    private void scheduleWrite() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::write, maxStalenessMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Schedules the pending saves to be written again after a failed write, unless they already are, and doubles the
+     * delay before the next retry.
+     */
+    private void scheduleRetry() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.schedule(this::write, retryDelayMillis, TimeUnit.MILLISECONDS);
+            retryDelayMillis = Math.min(2 * retryDelayMillis, MAX_RETRY_DELAY_MILLIS);
+        }
+    }
+
+    private long getInitialRetryDelayMillis() {
+        return Math.min(Math.max(maxStalenessMillis, MIN_RETRY_DELAY_MILLIS), MAX_RETRY_DELAY_MILLIS);
+    }
+
+    /**
+     * Writes the pending saves to storage. Only runs on the writer thread.
+     */
+    private void write() {
+        ReadOnlySourceManager sourceManager;
+        ReadOnlyDeletedSources deletedSources;
+        synchronized (this) {
+            sourceManager = pendingSourceManager;
+            deletedSources = pendingDeletedSources;
+            pendingSourceManager = null;
+            pendingDeletedSources = null;
+            isWriteScheduled = false;
+        }
+        boolean isWriteFailed = false;
+
+        if (sourceManager != null) {
+            try {
+                storage.saveSourceManager(sourceManager);
+            } catch (IOException ioe) {
+                logger.warning("Unable to save source manager: " + ioe);
+                isWriteFailed = true;
+                synchronized (this) {
+                    failure = ioe;
+                    pendingSourceManager = pendingSourceManager == null ? sourceManager : pendingSourceManager;
+                    scheduleRetry();
+                }
+            }
+        }
+
+        if (deletedSources != null) {
+            try {
+                storage.saveDeletedSources(deletedSources);
+            } catch (IOException ioe) {
+                logger.warning("Unable to save deleted sources: " + ioe);
+                isWriteFailed = true;
+                synchronized (this) {
+                    failure = ioe;
+                    pendingDeletedSources = pendingDeletedSources == null ? deletedSources : pendingDeletedSources;
+                    scheduleRetry();
+                }
+            }
+        }
+
+        if (!isWriteFailed && (sourceManager != null || deletedSources != null)) {
+            synchronized (this) {
+                retryDelayMillis = getInitialRetryDelayMillis();
+            }
+        }
+    }
+}
@@ -111,7 +111,7 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        sourcePanel = new SourcePanel(logic.selectedSourceProperty());
+        sourcePanel = new SourcePanel(logic.selectedSourceProperty(), logic.getFilteredSourceList());
         browserPlaceholder.getChildren().add(sourcePanel.getRoot());
 
         sourceListPanel = new SourceListPanel(logic.getFilteredSourceList(), logic.selectedSourceProperty(),
@@ -1,14 +1,26 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.source.Source;
+import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Source}.
+ * The card can be rebound to another source with {@link #setSource(Source, int)}, which updates its labels in place,
+ * so that a list cell can keep a single card rather than loading a new one from FXML for every item it shows.
  */
 public class SourceCard extends UiPart<Region> {
 
@@ -22,7 +34,7 @@ public class SourceCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Source source;
+    private Source source;
 
     @FXML
     private HBox cardPane;
@@ -41,12 +53,36 @@ public class SourceCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public SourceCard(Source source, int displayedIndex) {
+    private final Label pinnedLabel = new Label("Pinned");
+    /** Every tag label created by this card, including the ones not shown, which are reused for later sources. */
+    private final List<Label> tagLabels = new ArrayList<>();
+
+    /**
+     * Creates a card that does not show a source yet.
+     */
+    public SourceCard() {
         super(FXML);
+    }
+
+    public SourceCard(Source source, int displayedIndex) {
+        this();
+        setSource(source, displayedIndex);
+    }
+
+    /**
+     * Shows {@code source} on this card, at position {@code displayedIndex} of the list.
+     * The labels of the card are updated in place, and the tag labels of the previous source are reused.
+     */
+    public void setSource(Source source, int displayedIndex) {
+        requireNonNull(source);
         this.source = source;
 
-        if (source.getPinnedState() == true) {
-            pinned.getChildren().add(new Label("Pinned"));
+        if (source.getPinnedState()) {
+            if (pinned.getChildren().isEmpty()) {
+                pinned.getChildren().add(pinnedLabel);
+            }
+        } else {
+            pinned.getChildren().clear();
         }
 
         id.setText(displayedIndex + ". ");
@@ -54,7 +90,34 @@ public class SourceCard extends UiPart<Region> {
         author.setText(source.getAuthor().author);
         type.setText(source.getType().type);
         detail.setText(source.getDetail().detail);
-        source.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTags(source.getTags());
+    }
+
+    public Source getSource() {
+        return source;
+    }
+
+    /**
+     * Shows a label for each of {@code sourceTags}, reusing the tag labels created for previous sources.
+     */
+    private void setTags(Set<Tag> sourceTags) {
+        ObservableList<Node> shownLabels = tags.getChildren();
+        if (shownLabels.size() > sourceTags.size()) {
+            shownLabels.remove(sourceTags.size(), shownLabels.size());
+        }
+
+        int i = 0;
+        for (Tag tag : sourceTags) {
+            if (i == tagLabels.size()) {
+                tagLabels.add(new Label());
+            }
+            Label tagLabel = tagLabels.get(i);
+            tagLabel.setText(tag.tagName);
+            if (i == shownLabels.size()) {
+                shownLabels.add(tagLabel);
+            }
+            i++;
+        }
     }
 
     @Override
@@ -72,6 +135,6 @@ public class SourceCard extends UiPart<Region> {
         // state check
         SourceCard card = (SourceCard) other;
         return id.getText().equals(card.id.getText())
-                && source.equals(card.source);
+                && Objects.equals(source, card.source);
     }
 }
@@ -0,0 +1,140 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import seedu.address.model.source.BiblioFields;
+import seedu.address.model.source.Source;
+import seedu.address.model.source.SourceIdentity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Renders the html page that the {@code SourcePanel} shows for a source, off the JavaFX application thread.
+ * Rendered pages are kept in a cache of the {@value #DEFAULT_CACHE_SIZE} most recently used sources by default,
+ * keyed by the identity of the source. A cached page is only reused for a source equal to the one it was rendered
+ * from, so a page is rendered again once its source is edited.
+ */
+public class SourceDetailRenderer {
+
+    public static final int DEFAULT_CACHE_SIZE = 64;
+
+    private final Executor executor;
+    private final Map<SourceIdentity, RenderedPage> cache;
+
+    public SourceDetailRenderer() {
+        this(DEFAULT_CACHE_SIZE, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "source-detail-renderer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a renderer that keeps at most {@code cacheSize} pages, and renders them on {@code executor}.
+     */
+    public SourceDetailRenderer(int cacheSize, Executor executor) {
+        requireNonNull(executor);
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive.");
+        }
+        this.executor = executor;
+        this.cache = new LinkedHashMap<SourceIdentity, RenderedPage>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SourceIdentity, RenderedPage> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the page of {@code source}, which completes once it is rendered.
+     * The page is rendered on the executor of this renderer, unless it is cached or already being rendered.
+     */
+    public CompletableFuture<String> renderAsync(Source source) {
+        requireNonNull(source);
+        synchronized (cache) {
+            RenderedPage page = cache.get(source.getIdentity());
+            if (page != null && page.source.equals(source)) {
+                return page.html;
+            }
+            CompletableFuture<String> html = CompletableFuture.supplyAsync(() -> render(source), executor);
+            cache.put(source.getIdentity(), new RenderedPage(source, html));
+            return html;
+        }
+    }
+
+    /**
+     * Starts rendering the page of {@code source} if it is not cached, so that it is ready when it is needed.
+     */
+    public void prefetch(Source source) {
+        renderAsync(source);
+    }
+
+    /**
+     * Removes the page of the source with the identity of {@code source} from the cache.
+     */
+    public void invalidate(Source source) {
+        requireNonNull(source);
+        synchronized (cache) {
+            cache.remove(source.getIdentity());
+        }
+    }
+
+    /**
+     * Returns true if the page of {@code source} is cached, whether or not it has finished rendering.
+     */
+    public boolean isCached(Source source) {
+        requireNonNull(source);
+        synchronized (cache) {
+            RenderedPage page = cache.get(source.getIdentity());
+            return page != null && page.source.equals(source);
+        }
+    }
+
+    /**
+     * Generates the html page for the details of {@code source}.
+     */
+    public static String render(Source source) {
+        StringBuilder htmlBuilder = new StringBuilder(512);
+        htmlBuilder.append("<!DOCTYPE html><html><head></head>")
+                .append("<h1 class=\"source-title\">").append(source.getTitle()).append("</h1>")
+                .append("<body class=\"source-title\"></br>")
+                .append("Source Author: ").append(source.getAuthor()).append("</br>")
+                .append("Source Type: ").append(source.getType()).append("</br>")
+                .append("Source Tags: ");
+        String separator = "";
+        for (Tag tag : source.getTags()) {
+            htmlBuilder.append(separator).append(tag);
+            separator = ", ";
+        }
+        htmlBuilder.append("</br></br>")
+                .append("<b>Biblio Fields</b></br>")
+                .append("--------------------------------------</br>");
+        String[] fieldBodies = source.getBiblioFields().getFieldBodies();
+        for (int i = 0; i < BiblioFields.ACCEPTED_FIELD_HEADERS.length; i++) {
+            htmlBuilder.append(BiblioFields.ACCEPTED_FIELD_HEADERS[i]).append(": ").append(fieldBodies[i])
+                    .append("</br>");
+        }
+        htmlBuilder.append("</br><br>").append(source.getDetail()).append("</br>")
+                .append("</body></html>");
+        return htmlBuilder.toString();
+    }
+
+    /**
+     * The page of a source, which may still be rendering.
+     */
+    private static class RenderedPage {
+        private final Source source;
+        private final CompletableFuture<String> html;
+
+        RenderedPage(Source source, CompletableFuture<String> html) {
+            this.source = source;
+            this.html = html;
+        }
+    }
+}
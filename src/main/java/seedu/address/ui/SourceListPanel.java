@@ -53,8 +53,11 @@ public class SourceListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Source} using a {@code SourceCard}.
+     * Each cell loads its card once, and rebinds it to the source it shows whenever the cell is reused.
      */
     class SourceListViewCell extends ListCell<Source> {
+        private SourceCard sourceCard;
+
         @Override
         protected void updateItem(Source source, boolean empty) {
             super.updateItem(source, empty);
@@ -63,7 +66,11 @@ public class SourceListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new SourceCard(source, getIndex() + 1).getRoot());
+                if (sourceCard == null) {
+                    sourceCard = new SourceCard();
+                }
+                sourceCard.setSource(source, getIndex() + 1);
+                setGraphic(sourceCard.getRoot());
             }
         }
     }
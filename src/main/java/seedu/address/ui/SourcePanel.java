@@ -4,11 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.net.URL;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import javafx.application.Platform;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.Event;
 import javafx.fxml.FXML;
@@ -17,25 +17,39 @@ import javafx.scene.web.WebView;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.source.Source;
-import seedu.address.model.tag.Tag;
 
 /**
  * The Browser Panel of the App.
+ * Pages are rendered by a {@code SourceDetailRenderer} off the JavaFX application thread. When a source is selected,
+ * the pages of its neighbours in the source list are rendered ahead, so that moving the selection through the list
+ * shows them without waiting.
  */
 public class SourcePanel extends UiPart<Region> {
 
     public static final URL DEFAULT_PAGE =
             requireNonNull(MainApp.class.getResource(FXML_FILE_FOLDER + "default.html"));
 
+    /** The number of sources on each side of the selected source whose pages are rendered ahead. */
+    public static final int PREFETCH_DISTANCE = 2;
+
     private static final String FXML = "SourcePanel.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
+    private final ObservableList<Source> sourceList;
+    private final SourceDetailRenderer renderer = new SourceDetailRenderer();
+    private int lastSelectedIndex = -1;
+
     @FXML
     private WebView source;
 
     public SourcePanel(ObservableValue<Source> selectedSource) {
+        this(selectedSource, FXCollections.emptyObservableList());
+    }
+
+    public SourcePanel(ObservableValue<Source> selectedSource, ObservableList<Source> sourceList) {
         super(FXML);
+        this.sourceList = sourceList;
 
         // To prevent triggering events for typing inside the loaded Web page.
         getRoot().setOnKeyPressed(Event::consume);
@@ -47,8 +61,22 @@ public class SourcePanel extends UiPart<Region> {
                 loadDefaultPage();
                 return;
             }
-            Source sourceDetail = selectedSource.getValue();
-            loadSourcePage(generateDetail(sourceDetail));
+            renderer.renderAsync(newValue).thenAccept(html -> Platform.runLater(() -> {
+                // Another source may have been selected while this page was rendered.
+                if (selectedSource.getValue() == newValue) {
+                    source.getEngine().loadContent(html);
+                }
+            }));
+            prefetchNeighbours(newValue);
+        });
+
+        // Edited sources replace their previous versions in the list, whose pages are no longer needed.
+        sourceList.addListener((ListChangeListener<Source>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    change.getRemoved().forEach(renderer::invalidate);
+                }
+            }
         });
 
         loadDefaultPage();
@@ -70,38 +98,41 @@ public class SourcePanel extends UiPart<Region> {
     }
 
     /**
-     * Generates the html for Source details.
+     * Starts rendering the pages of the sources within {@link #PREFETCH_DISTANCE} of {@code selected} in the list.
      */
-    public String generateDetail(Source source) {
-        String title = source.getTitle().toString();
-        String author = source.getAuthor().toString();
-        String type = source.getType().toString();
-        String detail = source.getDetail().toString();
-        String tags = source.getTags().stream().map(Tag::toString).collect(
-                Collectors.joining(", "));
-        ObservableList<String> biblioFields =
-                FXCollections.observableArrayList(source.getBiblioFields().toString().split("\n"));
-        biblioFields.remove(0);
-
-        StringBuilder htmlBuilder = new StringBuilder();
-        htmlBuilder.append("<!DOCTYPE html><html><head></head>");
-        htmlBuilder.append("<h1 class=\"source-title\">" + title + "</h1>");
-        htmlBuilder.append("<body class=\"source-title\"></br>");
-        htmlBuilder.append("Source Author: " + author + "</br>");
-        htmlBuilder.append("Source Type: " + type + "</br>");
-        htmlBuilder.append("Source Tags: " + tags + "</br></br>");
-        htmlBuilder.append("<b>Biblio Fields</b></br>");
-        htmlBuilder.append("--------------------------------------</br>");
-        for (String biblio: biblioFields) {
-            if (biblio.startsWith("[")) {
-                htmlBuilder.append(biblio.substring(1, biblio.length() - 1) + "</br>");
-            } else {
-                htmlBuilder.append(biblio + "</br>");
+    private void prefetchNeighbours(Source selected) {
+        int index = indexOf(selected);
+        lastSelectedIndex = index;
+        if (index == -1) {
+            return;
+        }
+        for (int distance = 1; distance <= PREFETCH_DISTANCE; distance++) {
+            if (index + distance < sourceList.size()) {
+                renderer.prefetch(sourceList.get(index + distance));
+            }
+            if (index - distance >= 0) {
+                renderer.prefetch(sourceList.get(index - distance));
             }
         }
-        htmlBuilder.append("</br><br>" + detail + "</br>");
-        htmlBuilder.append("</body></html>");
+    }
 
-        return htmlBuilder.toString();
+    /**
+     * Returns the index of {@code selected} in the list, or -1 if it is not in the list.
+     * The selection usually moves by one, so the positions next to the previous selection are checked first.
+     */
+    private int indexOf(Source selected) {
+        for (int index = lastSelectedIndex - 1; index <= lastSelectedIndex + 1; index++) {
+            if (index >= 0 && index < sourceList.size() && sourceList.get(index) == selected) {
+                return index;
+            }
+        }
+        return sourceList.indexOf(selected);
+    }
+
+    /**
+     * Generates the html for Source details.
+     */
+    public String generateDetail(Source source) {
+        return SourceDetailRenderer.render(source);
     }
 }
@@ -37,6 +37,23 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchScript_success() {
+        parametersStub.namedParameters.put("batch", "migration.txt");
+        parametersStub.namedParameters.put("checkpoint", "100");
+        expected.setBatchScriptPath(Paths.get("migration.txt"));
+        expected.setCheckpointInterval(100);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidCheckpointInterval_success() {
+        parametersStub.namedParameters.put("batch", "migration.txt");
+        parametersStub.namedParameters.put("checkpoint", "-5");
+        expected.setBatchScriptPath(Paths.get("migration.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
@@ -0,0 +1,147 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalSources.ALGORITHM_RESEARCH;
+import static seedu.address.testutil.TypicalSources.SENSOR_RESEARCH;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.SourceManager;
+import seedu.address.model.StorageBackend;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.source.exceptions.ReadOnlySourcesException;
+import seedu.address.storage.BinarySourceManagerStorage;
+import seedu.address.storage.JsonSourceManagerStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.testutil.SourceUtil;
+
+public class HeadlessAppTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Path configFilePath;
+    private Path sourceManagerFilePath;
+
+    @Before
+    public void setUp() throws Exception {
+        Path folder = temporaryFolder.getRoot().toPath();
+        configFilePath = folder.resolve("config.json");
+        sourceManagerFilePath = folder.resolve("sourcemanager.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(folder.resolve("preferences.json"));
+        ConfigUtil.saveConfig(config, configFilePath);
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSourceManagerFilePath(sourceManagerFilePath);
+        userPrefs.setDeletedSourceFilePath(folder.resolve("deletedsource.json"));
+        new JsonUserPrefsStorage(config.getUserPrefsFilePath()).saveUserPrefs(userPrefs);
+        new JsonSourceManagerStorage(sourceManagerFilePath).saveSourceManager(new SourceManager());
+    }
+
+    @Test
+    public void run_commandsFromInput_resultsWrittenAndSaved() throws Exception {
+        String input = SourceUtil.getAddCommand(ALGORITHM_RESEARCH) + "\n"
+                + "\n"
+                + "unknownCommand\n"
+                + ExitCommand.COMMAND_WORD + "\n"
+                + SourceUtil.getAddCommand(SENSOR_RESEARCH) + "\n";
+        int exitStatus = run(input, "--config=" + configFilePath);
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, exitStatus);
+        assertTrue(out.toString().contains(ALGORITHM_RESEARCH.getTitle().toString()));
+        assertTrue(err.toString().contains("Unknown command"));
+        // commands after the exit command are not run
+        ReadOnlySourceManager saved = readSavedSourceManager();
+        assertTrue(saved.getSourceList().contains(ALGORITHM_RESEARCH));
+        assertFalse(saved.getSourceList().contains(SENSOR_RESEARCH));
+    }
+
+    @Test
+    public void run_scriptFile_reportWrittenAndSaved() throws Exception {
+        Path scriptFilePath = temporaryFolder.getRoot().toPath().resolve("script.txt");
+        Files.write(scriptFilePath, Arrays.asList("# adds two sources",
+                SourceUtil.getAddCommand(ALGORITHM_RESEARCH), SourceUtil.getAddCommand(SENSOR_RESEARCH)));
+        int exitStatus = run("", "--config=" + configFilePath, scriptFilePath.toString());
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, exitStatus);
+        assertTrue(out.toString().startsWith("Ran 2 commands"));
+        ReadOnlySourceManager saved = readSavedSourceManager();
+        assertTrue(saved.getSourceList().containsAll(Arrays.asList(ALGORITHM_RESEARCH, SENSOR_RESEARCH)));
+    }
+
+    @Test
+    public void run_mappedStorageBackend_sourcesReadOnly() throws Exception {
+        SourceManager sourceManager = new SourceManager();
+        sourceManager.addSource(ALGORITHM_RESEARCH);
+        new BinarySourceManagerStorage(sourceManagerFilePath).saveSourceManager(sourceManager);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSourceManagerFilePath(sourceManagerFilePath);
+        userPrefs.setDeletedSourceFilePath(temporaryFolder.getRoot().toPath().resolve("deletedsource.json"));
+        userPrefs.setSourceManagerStorageBackend(StorageBackend.MAPPED);
+        new JsonUserPrefsStorage(temporaryFolder.getRoot().toPath().resolve("preferences.json"))
+                .saveUserPrefs(userPrefs);
+
+        int exitStatus = run(SourceUtil.getAddCommand(SENSOR_RESEARCH) + "\n", "--config=" + configFilePath);
+
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, exitStatus);
+        assertTrue(err.toString().contains(new ReadOnlySourcesException().getMessage()));
+        assertEquals(sourceManager,
+                new SourceManager(new BinarySourceManagerStorage(sourceManagerFilePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void run_scriptFromInput_reportWritten() throws Exception {
+        int exitStatus = run("unknownCommand\n", "--config=" + configFilePath, HeadlessApp.STANDARD_INPUT);
+        assertEquals(HeadlessApp.EXIT_COMMAND_FAILED, exitStatus);
+        assertTrue(out.toString().startsWith("Ran 1 commands"));
+        assertTrue(out.toString().contains("Line 1: Unknown command"));
+    }
+
+    @Test
+    public void run_missingScriptFile_error() {
+        Path missingFilePath = temporaryFolder.getRoot().toPath().resolve("missing.txt");
+        int exitStatus = run("", "--config=" + configFilePath, missingFilePath.toString());
+        assertEquals(HeadlessApp.EXIT_ERROR, exitStatus);
+        assertTrue(err.toString().startsWith("Could not read the script"));
+    }
+
+    @Test
+    public void run_tooManyArguments_error() {
+        assertEquals(HeadlessApp.EXIT_ERROR, run("", "first.txt", "second.txt"));
+        assertTrue(err.toString().startsWith("Usage: "));
+    }
+
+    /**
+     * Runs the headless application with {@code args}, reading {@code input} as its standard input.
+     */
+    private int run(String input, String... args) {
+        return HeadlessApp.run(args, new BufferedReader(new StringReader(input)), new PrintStream(out),
+                new PrintStream(err));
+    }
+
+    private ReadOnlySourceManager readSavedSourceManager() throws DataConversionException {
+        return new JsonSourceManagerStorage(sourceManagerFilePath).readSourceManager().get();
+    }
+}
@@ -89,6 +89,12 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the source manager data stored inside the storage file.
      */
     public SourceManager readStorageSourceManager() {
+        try {
+            logic.flush();
+        } catch (IOException ioe) {
+            throw new AssertionError("Data cannot be saved.", ioe);
+        }
+
         try {
             return new SourceManager(storage.readSourceManager().get());
         } catch (DataConversionException dce) {
@@ -0,0 +1,58 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class IndexRangeTest {
+
+    @Test
+    public void between() {
+        // last before first
+        Assert.assertThrows(IllegalArgumentException.class, () -> IndexRange.between(Index.fromOneBased(2),
+                Index.fromOneBased(1)));
+
+        IndexRange range = IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(3));
+        assertFalse(range.isAll());
+        assertEquals(Optional.of(Index.fromOneBased(1)), range.getFirst());
+        assertEquals(Optional.of(Index.fromOneBased(3)), range.getLast());
+        assertEquals("1 to 3", range.toString());
+
+        // single index
+        assertEquals(range.getLast(), IndexRange.between(Index.fromOneBased(3), Index.fromOneBased(3)).getFirst());
+    }
+
+    @Test
+    public void all() {
+        assertTrue(IndexRange.all().isAll());
+        assertFalse(IndexRange.all().getFirst().isPresent());
+        assertFalse(IndexRange.all().getLast().isPresent());
+        assertEquals("all", IndexRange.all().toString());
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(3));
+
+        // same values -> returns true
+        assertTrue(range.equals(IndexRange.between(Index.fromZeroBased(0), Index.fromZeroBased(2))));
+        assertEquals(range.hashCode(), IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(3)).hashCode());
+        assertTrue(IndexRange.all().equals(IndexRange.all()));
+
+        // different types -> returns false
+        assertFalse(range.equals(Index.fromOneBased(1)));
+
+        // null -> returns false
+        assertFalse(range.equals(null));
+
+        // different values -> returns false
+        assertFalse(range.equals(IndexRange.all()));
+        assertFalse(range.equals(IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(3))));
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ValidatorTest {
+
+    private static final String[] VALUES = {
+        "", " ", "a", "A", "0", "Z9", "a b", "a  b ", " a", "a\tb", "\ta", "a_b", "R@chel", "+651234",
+        "été", "aé", "é", "-", "a\nb", "a\rb", "a\u0085b", "a b", "a b", "\u000Ba",
+        "\fa", " a", "a ", "　a", "line\n", "Economics 101", "Ma, Z. & Li, Q."
+    };
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_sameRegex_returnsSameValidator() {
+        assertSame(Validator.of(Validator.ALPHANUMERIC_REGEX), Validator.of(Validator.ALPHANUMERIC_REGEX));
+        assertSame(Validator.of("[a-c]+"), Validator.of(new String("[a-c]+")));
+    }
+
+    @Test
+    public void of_invalidRegex_throwsPatternSyntaxException() {
+        thrown.expect(PatternSyntaxException.class);
+        Validator.of("[a-c");
+    }
+
+    @Test
+    public void of_nullRegex_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        Validator.of(null);
+    }
+
+    @Test
+    public void isValid_nullValue_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        Validator.of(Validator.NOT_BLANK_REGEX).isValid(null);
+    }
+
+    @Test
+    public void isValid_alphanumericRegex_agreesWithRegex() {
+        assertAgreesWithRegex(Validator.ALPHANUMERIC_REGEX);
+        assertTrue(Validator.of(Validator.ALPHANUMERIC_REGEX).isValid("Economics 101"));
+        assertFalse(Validator.of(Validator.ALPHANUMERIC_REGEX).isValid(" a"));
+    }
+
+    @Test
+    public void isValid_notBlankRegex_agreesWithRegex() {
+        assertAgreesWithRegex(Validator.NOT_BLANK_REGEX);
+        assertTrue(Validator.of(Validator.NOT_BLANK_REGEX).isValid("Ma, Z. & Li, Q."));
+        assertFalse(Validator.of(Validator.NOT_BLANK_REGEX).isValid("a\nb"));
+    }
+
+    @Test
+    public void isValid_otherRegex_matchesWholeValue() {
+        Validator validator = Validator.of("[a-c]+");
+        assertTrue(validator.isValid("abc"));
+        assertFalse(validator.isValid("abcd"));
+        assertFalse(validator.isValid(""));
+        assertAgreesWithRegex("[a-c]+");
+    }
+
+    /**
+     * Asserts that the validator of {@code regex} accepts exactly the test values that {@code regex} matches.
+     */
+    private void assertAgreesWithRegex(String regex) {
+        Validator validator = Validator.of(regex);
+        for (String value : VALUES) {
+            assertEquals("\"" + value + "\"", value.matches(regex), validator.isValid(value));
+        }
+    }
+}
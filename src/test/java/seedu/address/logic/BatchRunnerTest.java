@@ -0,0 +1,113 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_SOURCE_DISPLAYED_INDEX;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.parser.RecycleBinParser;
+import seedu.address.logic.parser.SourceManagerParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class BatchRunnerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Model model = new ModelManager();
+    private final BatchRunner batchRunner = new BatchRunner(model, new CommandHistory(), new SourceManagerParser(),
+            new RecycleBinParser());
+    private int checkpointCount = 0;
+
+    @Test
+    public void run_negativeCheckpointInterval_throwsIllegalArgumentException() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        run(-1, addCommand(1));
+    }
+
+    @Test
+    public void run_validScript_commitsOnceAtEnd() throws Exception {
+        BatchReport report = run(0, "# sources for the migration", addCommand(1), "", addCommand(2),
+                "   ", addCommand(3));
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(0, report.getFailureCount());
+        assertEquals(3, model.getFilteredSourceList().size());
+        assertEquals(1, checkpointCount);
+
+        // the whole script is undone in one step
+        model.undoSourceManager();
+        assertTrue(model.getFilteredSourceList().isEmpty());
+        assertFalse(model.canUndoSourceManager());
+    }
+
+    @Test
+    public void run_failingCommands_reportedWithLineNumbers() throws Exception {
+        BatchReport report = run(0, addCommand(1), "delete 9", "uicfhmowqewca", addCommand(2));
+
+        assertEquals(4, report.getCommandCount());
+        assertEquals(2, report.getFailureCount());
+        assertEquals(Arrays.asList(String.format(BatchRunner.MESSAGE_LINE_ERROR, 2,
+                MESSAGE_INVALID_SOURCE_DISPLAYED_INDEX), String.format(BatchRunner.MESSAGE_LINE_ERROR, 3,
+                MESSAGE_UNKNOWN_COMMAND)), report.getErrors());
+        assertEquals(2, model.getFilteredSourceList().size());
+        assertTrue(report.toString().endsWith(report.getErrors().get(1)));
+    }
+
+    @Test
+    public void run_checkpointInterval_commitsAtEachCheckpoint() throws Exception {
+        run(2, addCommand(1), addCommand(2), addCommand(3), addCommand(4), addCommand(5));
+
+        // two checkpoints after every two commands, and one at the end
+        assertEquals(3, checkpointCount);
+        model.undoSourceManager();
+        assertEquals(4, model.getFilteredSourceList().size());
+        model.undoSourceManager();
+        assertEquals(2, model.getFilteredSourceList().size());
+    }
+
+    @Test
+    public void run_undoInScript_undoesCommandsSinceCheckpoint() throws Exception {
+        BatchReport report = run(0, addCommand(1), addCommand(2), "undo", addCommand(3));
+
+        assertEquals(0, report.getFailureCount());
+        assertEquals(1, model.getFilteredSourceList().size());
+        assertEquals(2, checkpointCount);
+    }
+
+    @Test
+    public void run_batchOrExitCommand_nestedBatchReportedAndExitStopsScript() throws Exception {
+        BatchReport report = run(0, "batch other.txt", addCommand(1), "exit", addCommand(2));
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(Arrays.asList(String.format(BatchRunner.MESSAGE_LINE_ERROR, 1, BatchRunner.MESSAGE_NESTED_BATCH)),
+                report.getErrors());
+        assertEquals(1, model.getFilteredSourceList().size());
+    }
+
+    /**
+     * Runs a script of {@code lines} with {@code checkpointInterval}, counting the checkpoints.
+     */
+    private BatchReport run(int checkpointInterval, String... lines) throws IOException {
+        BufferedReader script = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return batchRunner.run(script, checkpointInterval, () -> checkpointCount++);
+    }
+
+    /**
+     * Returns a command that adds a source whose title ends with {@code number}.
+     */
+    private static String addCommand(int number) {
+        return "add i/Migrated Source " + number + " y/Journal a/Alice d/Imported from the old library";
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_SOURCE_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.AUTHOR_DESC_ENGINEERING;
@@ -9,8 +10,11 @@ import static seedu.address.logic.commands.CommandTestUtil.TITLE_DESC_ENGINEERIN
 import static seedu.address.logic.commands.CommandTestUtil.TYPE_DESC_ENGINEERING;
 import static seedu.address.testutil.TypicalSources.ENGINEERING;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -19,16 +23,21 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DeletedSources;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.SourceManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.source.Source;
+import seedu.address.model.source.exceptions.ReadOnlySourcesException;
 import seedu.address.storage.JsonDeletedSourcesStorage;
 import seedu.address.storage.JsonSourceManagerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -46,6 +55,7 @@ public class LogicManagerTest {
     public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @Before
@@ -55,7 +65,7 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
         JsonDeletedSourcesStorage jsonDeletedSourcesStorage =
                 new JsonDeletedSourcesStorage(temporaryFolder.newFile().toPath());
-        StorageManager storage = new StorageManager(sourceManagerStorage, userPrefsStorage, jsonDeletedSourcesStorage);
+        storage = new StorageManager(sourceManagerStorage, userPrefsStorage, jsonDeletedSourcesStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -81,7 +91,19 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
+    public void execute_changeToReadOnlyModel_throwsCommandException() throws Exception {
+        logic = new LogicManager(ModelManager.readOnly(new SourceManager(), new UserPrefs(), new DeletedSources()),
+                storage);
+        String addCommand = AddCommand.COMMAND_WORD + TITLE_DESC_ENGINEERING + TYPE_DESC_ENGINEERING
+                + AUTHOR_DESC_ENGINEERING + DETAIL_DESC_ENGINEERING;
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(new ReadOnlySourcesException().getMessage());
+        logic.execute(addCommand);
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_nextCommandThrowsCommandException() throws Exception {
         // Setup LogicManager with JsonSourceManagerIoExceptionThrowingStub
         JsonSourceManagerStorage sourceManagerStorage =
                 new JsonSourceManagerIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
@@ -91,16 +113,55 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(sourceManagerStorage, userPrefsStorage, jsonDeletedSourcesStorage);
         logic = new LogicManager(model, storage);
 
-        // Execute add command
+        // Execute add command, which is saved in the background
         String addCommand = AddCommand.COMMAND_WORD + TITLE_DESC_ENGINEERING + TYPE_DESC_ENGINEERING
                 + AUTHOR_DESC_ENGINEERING + DETAIL_DESC_ENGINEERING;
         Source expectedSource = new SourceBuilder(ENGINEERING).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addSource(expectedSource);
         expectedModel.commitSourceManager();
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, expectedSource), expectedModel);
+
+        // Exit command waits for the save, and reports its failure
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandBehavior(CommandException.class, addCommand, expectedMessage, expectedModel);
-        assertHistoryCorrect(addCommand);
+        assertCommandBehavior(CommandException.class, ExitCommand.COMMAND_WORD, expectedMessage, expectedModel);
+        assertHistoryCorrect(ExitCommand.COMMAND_WORD, addCommand);
+    }
+
+    @Test
+    public void flush_sourceAdded_savedToStorage() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + TITLE_DESC_ENGINEERING + TYPE_DESC_ENGINEERING
+                + AUTHOR_DESC_ENGINEERING + DETAIL_DESC_ENGINEERING;
+        logic.execute(addCommand);
+        logic.flush();
+        assertEquals(new SourceManager(model.getSourceManager()), storage.readSourceManager().get());
+    }
+
+    @Test
+    public void executeBatch_validScript_savedToStorage() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + TITLE_DESC_ENGINEERING + TYPE_DESC_ENGINEERING
+                + AUTHOR_DESC_ENGINEERING + DETAIL_DESC_ENGINEERING;
+        BufferedReader script = new BufferedReader(new StringReader(
+                String.join("\n", addCommand, ListCommand.COMMAND_WORD, addCommand)));
+
+        BatchReport report = logic.executeBatch(script, 0);
+        assertEquals(Arrays.asList(String.format(BatchRunner.MESSAGE_LINE_ERROR, 3,
+                AddCommand.MESSAGE_DUPLICATE_SOURCE)), report.getErrors());
+        assertEquals(1, model.getFilteredSourceList().size());
+        assertEquals(new SourceManager(model.getSourceManager()), storage.readSourceManager().get());
+    }
+
+    @Test
+    public void execute_batchCommandMissingScript_throwsCommandException() throws Exception {
+        Path missingScript = temporaryFolder.getRoot().toPath().resolve("missing.txt");
+        String batchCommand = BatchCommand.COMMAND_WORD + " " + missingScript;
+        try {
+            logic.execute(batchCommand);
+            throw new AssertionError("The expected CommandException was not thrown.");
+        } catch (CommandException e) {
+            assertTrue(e.getMessage().startsWith(String.format(BatchCommand.MESSAGE_CANNOT_READ_SCRIPT,
+                    missingScript, "")));
+        }
     }
 
     @Test
@@ -172,7 +233,8 @@ public class LogicManagerTest {
         try {
             CommandResult result = logic.execute(HistoryCommand.COMMAND_WORD);
             String expectedMessage = String.format(
-                    HistoryCommand.MESSAGE_SUCCESS, String.join("\n", expectedCommands));
+                    HistoryCommand.MESSAGE_SUCCESS, String.join("\n", expectedCommands))
+                    + String.format(HistoryCommand.MESSAGE_UNDO_HISTORY, model.getHistoryFootprint());
             assertEquals(expectedMessage, result.getFeedbackToUser());
         } catch (ParseException | CommandException e) {
             throw new AssertionError("Parsing and execution of HistoryCommand.COMMAND_WORD should succeed.", e);
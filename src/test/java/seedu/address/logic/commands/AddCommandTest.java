@@ -8,6 +8,7 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -19,6 +20,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.HistoryFootprint;
 import seedu.address.model.Model;
 import seedu.address.model.ParserMode;
 import seedu.address.model.ReadOnlyDeletedSources;
@@ -26,6 +28,7 @@ import seedu.address.model.ReadOnlySourceManager;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.SourceManager;
 import seedu.address.model.source.Source;
+import seedu.address.model.source.SourceContainsKeywordsPredicate;
 import seedu.address.storage.PinnedSourcesStorageOperationsCenter;
 import seedu.address.testutil.SourceBuilder;
 
@@ -150,6 +153,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void moveSource(int from, int to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteSources(List<Source> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addSources(List<Source> sources) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setSources(List<Source> targets, List<Source> editedSources) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeDeletedSources(List<Source> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addDeletedSources(List<Source> sources) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addDeletedSourceAtIndex(Source source, int index) {
             throw new AssertionError("This method should not be called.");
@@ -215,6 +248,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredSourceRange(int startIndex, int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredSourceRangeFromEnd(int count) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void searchFilteredSourceList(SourceContainsKeywordsPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoSourceManager() {
             throw new AssertionError("This method should not be called.");
@@ -265,6 +313,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setCommitsDeferred(boolean isDeferred) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitDeferredChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public HistoryFootprint getHistoryFootprint() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Source> selectedSourceProperty() {
             throw new AssertionError("This method should not be called.");
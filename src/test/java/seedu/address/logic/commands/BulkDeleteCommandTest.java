@@ -0,0 +1,131 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SOURCE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_SOURCE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_SOURCE;
+import static seedu.address.testutil.TypicalSources.getTypicalDeletedSources;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ParserMode;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.source.Source;
+
+/**
+ * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for
+ * {@code BulkDeleteCommand}.
+ */
+public class BulkDeleteCommandTest {
+
+    private Model model = new ModelManager(getTypicalSourceManager(), new UserPrefs(), getTypicalDeletedSources(), 0);
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validRange_success() {
+        List<Source> sourcesToDelete = new ArrayList<>(model.getFilteredSourceList().subList(0, 2));
+        BulkDeleteCommand bulkDeleteCommand = new BulkDeleteCommand(
+                IndexRange.between(INDEX_FIRST_SOURCE, INDEX_SECOND_SOURCE));
+
+        String expectedMessage = String.format(BulkDeleteCommand.MESSAGE_DELETE_SOURCES_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(),
+                model.getDeletedSources());
+        sourcesToDelete.forEach(expectedModel::deleteSource);
+        expectedModel.commitSourceManager();
+        sourcesToDelete.forEach(expectedModel::addDeletedSource);
+        expectedModel.commitDeletedSources();
+
+        assertCommandSuccess(bulkDeleteCommand, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allInRecycleBin_deletesPermanently() {
+        model.setParserMode(ParserMode.RECYCLE_BIN);
+        int deletedCount = model.getFilteredSourceList().size();
+        BulkDeleteCommand bulkDeleteCommand = new BulkDeleteCommand(IndexRange.all());
+
+        String expectedMessage = String.format(BulkDeleteCommand.MESSAGE_DELETE_SOURCES_SUCCESS, deletedCount);
+
+        ModelManager expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(),
+                model.getDeletedSources());
+        expectedModel.setParserMode(ParserMode.RECYCLE_BIN);
+        new ArrayList<>(expectedModel.getFilteredSourceList()).forEach(expectedModel::removeDeletedSource);
+        expectedModel.commitDeletedSources();
+
+        assertCommandSuccess(bulkDeleteCommand, model, commandHistory, expectedMessage, expectedModel);
+        assertCommandFailure(bulkDeleteCommand, model, commandHistory, BulkCommand.MESSAGE_NO_SOURCES);
+    }
+
+    @Test
+    public void execute_rangeOutOfBounds_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredSourceList().size() + 1);
+        BulkDeleteCommand bulkDeleteCommand = new BulkDeleteCommand(
+                IndexRange.between(INDEX_FIRST_SOURCE, outOfBoundIndex));
+
+        assertCommandFailure(bulkDeleteCommand, model, commandHistory, Messages.MESSAGE_INVALID_SOURCE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void executeUndoRedo_validRange_singleStep() throws Exception {
+        BulkDeleteCommand bulkDeleteCommand = new BulkDeleteCommand(
+                IndexRange.between(INDEX_FIRST_SOURCE, INDEX_THIRD_SOURCE));
+        Model expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(), model.getDeletedSources());
+        List<Source> sourcesToDelete = new ArrayList<>(model.getFilteredSourceList().subList(0, 3));
+        expectedModel.deleteSources(sourcesToDelete);
+        expectedModel.commitSourceManager();
+        expectedModel.addDeletedSources(sourcesToDelete);
+        expectedModel.commitDeletedSources();
+
+        // delete -> first three sources deleted
+        bulkDeleteCommand.execute(model, commandHistory);
+
+        // undo -> reverts both lists in one step
+        expectedModel.undoSourceManager();
+        expectedModel.undoDeletedSources();
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.canUndoSourceManager());
+        assertFalse(model.canUndoDeletedSources());
+
+        // redo -> same three sources deleted again
+        expectedModel.redoSourceManager();
+        expectedModel.redoDeletedSources();
+        assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        BulkDeleteCommand deleteAllCommand = new BulkDeleteCommand(IndexRange.all());
+        BulkDeleteCommand deleteRangeCommand = new BulkDeleteCommand(
+                IndexRange.between(INDEX_FIRST_SOURCE, INDEX_SECOND_SOURCE));
+
+        // same object -> returns true
+        assertTrue(deleteAllCommand.equals(deleteAllCommand));
+
+        // same values -> returns true
+        assertTrue(deleteRangeCommand.equals(new BulkDeleteCommand(
+                IndexRange.between(INDEX_FIRST_SOURCE, INDEX_SECOND_SOURCE))));
+
+        // different types -> returns false
+        assertFalse(deleteAllCommand.equals(new BulkRestoreCommand(IndexRange.all())));
+
+        // null -> returns false
+        assertFalse(deleteAllCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(deleteAllCommand.equals(deleteRangeCommand));
+    }
+}
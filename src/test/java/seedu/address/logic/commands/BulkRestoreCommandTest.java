@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SOURCE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_SOURCE;
+import static seedu.address.testutil.TypicalSources.getTypicalDeletedSources;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.DeletedSources;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ParserMode;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.source.Source;
+import seedu.address.testutil.SourceBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for
+ * {@code BulkRestoreCommand}.
+ */
+public class BulkRestoreCommandTest {
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        DeletedSources deletedSources = getTypicalDeletedSources();
+        deletedSources.addDeletedSource(new SourceBuilder().withTitle("Bulk Restore").build());
+        model = new ModelManager(getTypicalSourceManager(), new UserPrefs(), deletedSources, 0);
+        model.setParserMode(ParserMode.RECYCLE_BIN); //start in recycle bin mode
+    }
+
+    @Test
+    public void execute_validRange_success() {
+        List<Source> sourcesToRestore = new ArrayList<>(model.getFilteredSourceList().subList(0, 2));
+        BulkRestoreCommand bulkRestoreCommand = new BulkRestoreCommand(
+                IndexRange.between(INDEX_FIRST_SOURCE, INDEX_SECOND_SOURCE));
+
+        String expectedMessage = String.format(BulkRestoreCommand.MESSAGE_RESTORE_SOURCES_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(),
+                model.getDeletedSources());
+        expectedModel.setParserMode(ParserMode.RECYCLE_BIN);
+        sourcesToRestore.forEach(expectedModel::addSource);
+        expectedModel.commitSourceManager();
+        sourcesToRestore.forEach(expectedModel::removeDeletedSource);
+        expectedModel.commitDeletedSources();
+
+        assertCommandSuccess(bulkRestoreCommand, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_sameSourceInSourceManager_throwsCommandException() {
+        Source toRestore = model.getFilteredSourceList().get(INDEX_FIRST_SOURCE.getZeroBased());
+        model.addSource(toRestore);
+
+        BulkRestoreCommand bulkRestoreCommand = new BulkRestoreCommand(IndexRange.all());
+
+        assertCommandFailure(bulkRestoreCommand, model, commandHistory,
+                String.format(BulkRestoreCommand.MESSAGE_RESTORE_DUPLICATE_SOURCES, 1));
+    }
+
+    @Test
+    public void executeUndoRedo_all_singleStep() throws Exception {
+        BulkRestoreCommand bulkRestoreCommand = new BulkRestoreCommand(IndexRange.all());
+        Model expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(), model.getDeletedSources());
+        expectedModel.setParserMode(ParserMode.RECYCLE_BIN);
+        List<Source> sourcesToRestore = new ArrayList<>(model.getFilteredSourceList());
+        expectedModel.addSources(sourcesToRestore);
+        expectedModel.commitSourceManager();
+        expectedModel.removeDeletedSources(sourcesToRestore);
+        expectedModel.commitDeletedSources();
+
+        // restore -> every deleted source restored
+        bulkRestoreCommand.execute(model, commandHistory);
+
+        // undo -> reverts both lists in one step
+        expectedModel.undoSourceManager();
+        expectedModel.undoDeletedSources();
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.canUndoSourceManager());
+        assertFalse(model.canUndoDeletedSources());
+
+        // redo -> every deleted source restored again
+        expectedModel.redoSourceManager();
+        expectedModel.redoDeletedSources();
+        assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        BulkRestoreCommand restoreAllCommand = new BulkRestoreCommand(IndexRange.all());
+        BulkRestoreCommand restoreRangeCommand = new BulkRestoreCommand(
+                IndexRange.between(INDEX_FIRST_SOURCE, INDEX_SECOND_SOURCE));
+
+        // same object -> returns true
+        assertTrue(restoreAllCommand.equals(restoreAllCommand));
+
+        // same values -> returns true
+        assertTrue(restoreAllCommand.equals(new BulkRestoreCommand(IndexRange.all())));
+
+        // null -> returns false
+        assertFalse(restoreAllCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(restoreAllCommand.equals(restoreRangeCommand));
+    }
+}
@@ -72,6 +72,8 @@ public class DeleteCommandTest {
 
         ModelManager expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(),
                 model.getDeletedSources());
+        // the filter stays active after the deletion
+        showSourceAtIndex(expectedModel, INDEX_FIRST_SOURCE);
 
         // add deleted source to deleted sources database
         expectedModel.addDeletedSource(sourceToDelete);
@@ -15,12 +15,14 @@ public class HistoryCommandTest {
 
     @Test
     public void execute() {
-        assertCommandSuccess(new HistoryCommand(), model, history, HistoryCommand.MESSAGE_NO_HISTORY, expectedModel);
+        String undoHistory = String.format(HistoryCommand.MESSAGE_UNDO_HISTORY, model.getHistoryFootprint());
+        assertCommandSuccess(new HistoryCommand(), model, history, HistoryCommand.MESSAGE_NO_HISTORY + undoHistory,
+                expectedModel);
 
         String command1 = "clear";
         history.add(command1);
         assertCommandSuccess(new HistoryCommand(), model, history,
-                String.format(HistoryCommand.MESSAGE_SUCCESS, command1), expectedModel);
+                String.format(HistoryCommand.MESSAGE_SUCCESS, command1) + undoHistory, expectedModel);
 
         String command2 = "randomCommand";
         String command3 = "select 1";
@@ -28,7 +30,7 @@ public class HistoryCommandTest {
         history.add(command3);
 
         String expectedMessage = String.format(HistoryCommand.MESSAGE_SUCCESS,
-                String.join("\n", command3, command2, command1));
+                String.join("\n", command3, command2, command1)) + undoHistory;
         assertCommandSuccess(new HistoryCommand(), model, history, expectedMessage, expectedModel);
     }
 
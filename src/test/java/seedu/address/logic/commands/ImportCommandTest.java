@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalSources.getTypicalDeletedSources;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.source.Source;
+import seedu.address.storage.ImportedSourceStreams.Format;
+import seedu.address.testutil.SourceBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for
+ * {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Model model = new ModelManager(getTypicalSourceManager(), new UserPrefs(), getTypicalDeletedSources(), 0);
+    private CommandHistory commandHistory = new CommandHistory();
+    private Path filePath;
+
+    private final Source graphs = new SourceBuilder().withTitle("Graph Theory").withType("Book")
+            .withAuthor("Frank Harary").withDetail("BibTeX entry harary1969").withTags().build();
+    private final Source networks = new SourceBuilder().withTitle("Network Flows").withType("Journal Article")
+            .withAuthor("Ford and Fulkerson").withDetail("Maximal flow through a network").withTags().build();
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = temporaryFolder.getRoot().toPath().resolve("library.bib");
+        Files.write(filePath, Arrays.asList(
+                "@book{harary1969, title = {Graph Theory}, author = {Frank Harary}}",
+                // the same as a source in the source manager
+                "@article{poznan, title = {Algorithm Researchers}, author = {Fredrick Poznan},",
+                "  abstract = {A research about researchers on algorithms.}}",
+                "@article{ford1956, title = {Network Flows}, author = {Ford and Fulkerson},",
+                "  abstract = {Maximal flow through a network}}",
+                // the same as an earlier entry
+                "@book{harary1969, title = {Graph Theory}, author = {Frank Harary}}",
+                "@misc{invalid, title = {Invalid: Title}, author = {Anonymous}}"));
+    }
+
+    @Test
+    public void execute_newSources_addedTogether() {
+        ImportCommand importCommand = new ImportCommand(filePath, Format.BIBTEX, false);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(),
+                model.getDeletedSources());
+        expectedModel.addSources(Arrays.asList(graphs, networks));
+        expectedModel.commitSourceManager();
+
+        CommandResult result = executeCommand(importCommand);
+        assertTrue(result.getFeedbackToUser().startsWith(expectedMessage));
+        assertTrue(result.getFeedbackToUser().contains("Source 5: "));
+        assertTrue(model.equals(expectedModel));
+
+        // a single undo removes every imported source
+        expectedModel.undoSourceManager();
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.hasSource(graphs));
+    }
+
+    @Test
+    public void execute_dryRun_modelUnchanged() {
+        ImportCommand importCommand = new ImportCommand(filePath, Format.BIBTEX, true);
+        String expectedMessage = String.format(ImportCommand.MESSAGE_DRY_RUN, 2, filePath, 2);
+        ModelManager expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(),
+                model.getDeletedSources());
+
+        CommandResult result = executeCommand(importCommand);
+        assertTrue(result.getFeedbackToUser().startsWith(expectedMessage));
+        assertTrue(model.equals(expectedModel));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() throws Exception {
+        Path missingFilePath = temporaryFolder.getRoot().toPath().resolve("missing.ris");
+        ImportCommand importCommand = new ImportCommand(missingFilePath, Format.RIS, false);
+        try {
+            importCommand.execute(model, commandHistory);
+            throw new AssertionError("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertTrue(ce.getMessage().startsWith(String.format(ImportCommand.MESSAGE_CANNOT_READ_FILE,
+                    missingFilePath, "")));
+        }
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(filePath, Format.BIBTEX, false);
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(filePath, Format.BIBTEX, false)));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // dry run -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(filePath, Format.BIBTEX, true)));
+    }
+
+    /**
+     * Executes {@code command} on the model, failing the test if it throws an exception.
+     */
+    private CommandResult executeCommand(Command command) {
+        try {
+            return command.execute(model, commandHistory);
+        } catch (Exception e) {
+            throw new AssertionError("Execution of command should not fail.", e);
+        }
+    }
+}
@@ -27,6 +27,8 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.source.Source;
+import seedu.address.testutil.SourceBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for ListCommand.
@@ -62,7 +64,7 @@ public class ListCommandTest {
     public void execute_listPositiveN_showsTopN() {
         showSourceAtIndex(model, INDEX_FIRST_SOURCE);
         ListCommand command = new ListCommand(Index.fromOneBased(2), true);
-        expectedModel.updateFilteredSourceList(command.makePredicateForTopN(2));
+        expectedModel.updateFilteredSourceRange(0, 2);
         assertCommandSuccess(command, model, commandHistory, String.format(ListCommand.MESSAGE_LIST_TOP_N_SUCCESS,
                 2), expectedModel);
         assertEquals(Arrays.asList(ALGORITHM_RESEARCH, SENSOR_RESEARCH), model.getFilteredSourceList());
@@ -72,7 +74,7 @@ public class ListCommandTest {
     public void execute_listPositiveNMoreThanTotal_showsTopN() {
         showSourceAtIndex(model, INDEX_FIRST_SOURCE);
         ListCommand command = new ListCommand(Index.fromOneBased(25), true);
-        expectedModel.updateFilteredSourceList(command.makePredicateForTopN(20));
+        expectedModel.updateFilteredSourceRange(0, 20);
         assertCommandSuccess(command, model, commandHistory, String.format(ListCommand.MESSAGE_LIST_TOP_N_SUCCESS,
                 20), expectedModel);
         assertEquals(getTypicalSources(), model.getFilteredSourceList());
@@ -81,8 +83,7 @@ public class ListCommandTest {
     @Test
     public void execute_listNegativeN_showsLastN() {
         ListCommand command = new ListCommand(Index.fromOneBased(2), false);
-        expectedModel.updateFilteredSourceList(
-                command.makePredicateForLastN(2, model.getFilteredSourceList().size()));
+        expectedModel.updateFilteredSourceRangeFromEnd(2);
         assertCommandSuccess(command, model, commandHistory, String.format(ListCommand.MESSAGE_LIST_LAST_N_SUCCESS,
                 2), expectedModel);
         assertEquals(Arrays.asList(NAVAL_HISTORY_THREE, COMPUTER_ORGANISATION), model.getFilteredSourceList());
@@ -92,8 +93,7 @@ public class ListCommandTest {
     public void execute_listNegativeNMoreThanTotal_showsTopN() {
         showSourceAtIndex(model, INDEX_FIRST_SOURCE);
         ListCommand command = new ListCommand(Index.fromOneBased(25), false);
-        expectedModel.updateFilteredSourceList(command.makePredicateForLastN(20,
-                model.getFilteredSourceList().size() ));
+        expectedModel.updateFilteredSourceRangeFromEnd(25);
         assertCommandSuccess(command, model, commandHistory, String.format(ListCommand.MESSAGE_LIST_LAST_N_SUCCESS,
                 20), expectedModel);
         assertEquals(getTypicalSources(), model.getFilteredSourceList());
@@ -102,7 +102,7 @@ public class ListCommandTest {
     @Test
     public void execute_listXandY_showsXandY() {
         ListCommand command = new ListCommand(Index.fromOneBased(3), Index.fromOneBased(5));
-        expectedModel.updateFilteredSourceList(command.makePredicateForXToY(3, 5));
+        expectedModel.updateFilteredSourceRange(2, 3);
         assertCommandSuccess(command, model, commandHistory, String.format(ListCommand.MESSAGE_LIST_X_TO_Y_SUCCESS,
                 3, 5), expectedModel);
         assertEquals(Arrays.asList(SMART_COMPUTERS, VR_RESEARCH, AR_RESEARCH), model.getFilteredSourceList());
@@ -111,12 +111,52 @@ public class ListCommandTest {
     @Test
     public void execute_listSameXandY_showsX() {
         ListCommand command = new ListCommand(Index.fromOneBased(2), Index.fromOneBased(2));
-        expectedModel.updateFilteredSourceList(command.makePredicateForXToY(2, 2));
+        expectedModel.updateFilteredSourceRange(1, 1);
         assertCommandSuccess(command, model, commandHistory, String.format(ListCommand.MESSAGE_LIST_X_TO_Y_SUCCESS,
                 2, 2), expectedModel);
         assertEquals(Arrays.asList(SENSOR_RESEARCH), model.getFilteredSourceList());
     }
 
+    @Test
+    public void execute_sourceAddedAfterListTopN_showsSamePositions() throws Exception {
+        new ListCommand(Index.fromOneBased(2), true).execute(model, commandHistory);
+        Source addedSource = new SourceBuilder().withTitle("Quantum Research").build();
+        model.addSourceAtIndex(addedSource, 0);
+        assertEquals(Arrays.asList(addedSource, ALGORITHM_RESEARCH), model.getFilteredSourceList());
+
+        model.deleteSource(addedSource);
+        model.deleteSource(ALGORITHM_RESEARCH);
+        assertEquals(Arrays.asList(SENSOR_RESEARCH, SMART_COMPUTERS), model.getFilteredSourceList());
+    }
+
+    @Test
+    public void execute_sourceAddedAfterListLastN_showsLastN() throws Exception {
+        new ListCommand(Index.fromOneBased(2), false).execute(model, commandHistory);
+        Source addedSource = new SourceBuilder().withTitle("Quantum Research").build();
+        model.addSource(addedSource);
+        assertEquals(Arrays.asList(COMPUTER_ORGANISATION, addedSource), model.getFilteredSourceList());
+
+        model.deleteSource(addedSource);
+        assertEquals(Arrays.asList(NAVAL_HISTORY_THREE, COMPUTER_ORGANISATION), model.getFilteredSourceList());
+    }
+
+    @Test
+    public void execute_listAfterListXandY_showsEverything() throws Exception {
+        new ListCommand(Index.fromOneBased(3), Index.fromOneBased(5)).execute(model, commandHistory);
+        assertCommandSuccess(new ListCommand(), model, commandHistory,
+                String.format(ListCommand.MESSAGE_LIST_ALL_SUCCESS, 20), expectedModel);
+        assertEquals(getTypicalSources(), model.getFilteredSourceList());
+    }
+
+    @Test
+    public void execute_listXBeyondTotal_showsNothing() {
+        ListCommand command = new ListCommand(Index.fromOneBased(25), Index.fromOneBased(30));
+        expectedModel.updateFilteredSourceRange(24, 0);
+        assertCommandSuccess(command, model, commandHistory, String.format(ListCommand.MESSAGE_LIST_X_TO_Y_SUCCESS,
+                25, 20), expectedModel);
+        assertEquals(0, model.getFilteredSourceList().size());
+    }
+
     @Test
     public void execute_listXandYreverseRange_showsError() {
         ListCommand command = new ListCommand(Index.fromOneBased(5), Index.fromOneBased(3));
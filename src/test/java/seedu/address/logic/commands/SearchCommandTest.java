@@ -25,13 +25,16 @@ import java.util.Iterator;
 
 import org.junit.Test;
 
+import seedu.address.commons.core.SearchSettings;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.source.Source;
 import seedu.address.model.source.SourceContainsKeywordsPredicate;
+import seedu.address.testutil.SourceBuilder;
 
 
 /**
@@ -309,6 +312,78 @@ public class SearchCommandTest {
 
     }
 
+    @Test
+    public void execute_sourcesChangedAfterSearch_searchReflectsChanges() {
+        ArrayList<Prefix> pList = new ArrayList<>();
+        ArrayList<String> sList = new ArrayList<>();
+        pList.add(PREFIX_TITLE);
+        sList.add("research");
+        SourceContainsKeywordsPredicate predicate = preparePredicate(pList, sList);
+        SearchCommand command = new SearchCommand(predicate);
+        command.execute(model, commandHistory);
+
+        Source addedSource = new SourceBuilder().withTitle("Quantum Research").build();
+        model.addSource(addedSource);
+        model.deleteSource(ALGORITHM_RESEARCH);
+        expectedModel.addSource(addedSource);
+        expectedModel.deleteSource(ALGORITHM_RESEARCH);
+
+        expectedModel.updateFilteredSourceList(predicate);
+        String expectedMessage = String.format(MESSAGE_SOURCES_LISTED_OVERVIEW,
+                expectedModel.getFilteredSourceList().size());
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredSourceList().contains(addedSource));
+        assertFalse(model.getFilteredSourceList().contains(ALGORITHM_RESEARCH));
+    }
+
+    @Test
+    public void execute_sourcesAddedAfterSearch_searchKept() throws Exception {
+        ArrayList<Prefix> pList = new ArrayList<>();
+        ArrayList<String> sList = new ArrayList<>();
+        pList.add(PREFIX_TITLE);
+        sList.add("research");
+        SourceContainsKeywordsPredicate predicate = preparePredicate(pList, sList);
+        new SearchCommand(predicate).execute(model, commandHistory);
+
+        Source matchingSource = new SourceBuilder().withTitle("Quantum Research").build();
+        Source otherSource = new SourceBuilder().withTitle("Cooking Basics").build();
+        model.addSource(matchingSource);
+        model.addSourceAtIndex(otherSource, 0);
+        expectedModel.addSource(matchingSource);
+        expectedModel.addSourceAtIndex(otherSource, 0);
+        expectedModel.updateFilteredSourceList(predicate);
+
+        assertTrue(model.getFilteredSourceList().contains(matchingSource));
+        assertFalse(model.getFilteredSourceList().contains(otherSource));
+        assertEquals(expectedModel.getFilteredSourceList(), model.getFilteredSourceList());
+
+        // an edited source is tested against the search again
+        Source editedSource = new SourceBuilder(matchingSource).withType("Journal").build();
+        model.setSource(matchingSource, editedSource);
+        assertTrue(model.getFilteredSourceList().contains(editedSource));
+        Source renamedSource = new SourceBuilder(otherSource).withTitle("Cooking Research").build();
+        model.setSource(otherSource, renamedSource);
+        assertEquals(renamedSource, model.getFilteredSourceList().get(0));
+    }
+
+    @Test
+    public void execute_parallelSearchWithoutIndex_sameSourcesInSameOrder() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSearchSettings(new SearchSettings(false, 1, 2));
+        Model parallelModel = new ModelManager(getTypicalSourceManager(), userPrefs, getTypicalDeletedSources());
+        Model filteredModel = new ModelManager(getTypicalSourceManager(), userPrefs, getTypicalDeletedSources());
+        ArrayList<Prefix> pList = new ArrayList<>();
+        ArrayList<String> sList = new ArrayList<>();
+        pList.add(PREFIX_TITLE);
+        sList.add("research");
+        SourceContainsKeywordsPredicate predicate = preparePredicate(pList, sList);
+
+        parallelModel.searchFilteredSourceList(predicate);
+        filteredModel.updateFilteredSourceList(predicate);
+        assertFalse(parallelModel.getFilteredSourceList().isEmpty());
+        assertEquals(filteredModel.getFilteredSourceList(), parallelModel.getFilteredSourceList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code SourceContainsKeywordsPredicate}.
      */
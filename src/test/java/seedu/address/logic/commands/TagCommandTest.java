@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SOURCE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_SOURCE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_SOURCE;
+import static seedu.address.testutil.TypicalSources.getTypicalDeletedSources;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.source.Source;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for
+ * {@code TagCommand}.
+ */
+public class TagCommandTest {
+
+    private static final Set<Tag> THESIS_TAGS = Collections.singleton(new Tag("thesis"));
+
+    private Model model = new ModelManager(getTypicalSourceManager(), new UserPrefs(), getTypicalDeletedSources(), 0);
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_validRange_success() {
+        TagCommand tagCommand = new TagCommand(IndexRange.between(INDEX_FIRST_SOURCE, INDEX_THIRD_SOURCE),
+                THESIS_TAGS);
+
+        String expectedMessage = String.format(TagCommand.MESSAGE_SUCCESS, 3, "[thesis]");
+
+        ModelManager expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(),
+                model.getDeletedSources());
+        for (Source source : new ArrayList<>(expectedModel.getFilteredSourceList().subList(0, 3))) {
+            Set<Tag> tags = new HashSet<>(source.getTags());
+            tags.addAll(THESIS_TAGS);
+            expectedModel.setSource(source, TagCommand.createRetaggedSource(source, tags));
+        }
+        expectedModel.commitSourceManager();
+
+        assertCommandSuccess(tagCommand, model, commandHistory, expectedMessage, expectedModel);
+        assertTrue(model.getFilteredSourceList().get(INDEX_THIRD_SOURCE.getZeroBased()).getTags()
+                .containsAll(THESIS_TAGS));
+    }
+
+    @Test
+    public void execute_sourcesAlreadyTagged_noChange() {
+        Source firstSource = model.getFilteredSourceList().get(INDEX_FIRST_SOURCE.getZeroBased());
+        TagCommand tagCommand = new TagCommand(IndexRange.between(INDEX_FIRST_SOURCE, INDEX_FIRST_SOURCE),
+                firstSource.getTags());
+
+        String expectedMessage = String.format(TagCommand.MESSAGE_SUCCESS, 0,
+                TagCommand.describeTags(firstSource.getTags()));
+        Model expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(), model.getDeletedSources());
+
+        assertCommandSuccess(tagCommand, model, commandHistory, expectedMessage, expectedModel);
+        assertFalse(model.canUndoSourceManager());
+    }
+
+    @Test
+    public void execute_rangeOutOfBounds_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredSourceList().size() + 1);
+        TagCommand tagCommand = new TagCommand(IndexRange.between(INDEX_SECOND_SOURCE, outOfBoundIndex),
+                THESIS_TAGS);
+
+        assertCommandFailure(tagCommand, model, commandHistory, Messages.MESSAGE_INVALID_SOURCE_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void executeUndoRedo_all_singleStep() throws Exception {
+        TagCommand tagCommand = new TagCommand(IndexRange.all(), THESIS_TAGS);
+        List<Source> sourcesBefore = new ArrayList<>(model.getFilteredSourceList());
+
+        // tag -> every source tagged
+        tagCommand.execute(model, commandHistory);
+        assertTrue(model.getFilteredSourceList().stream().allMatch(source -> source.getTags().contains(
+                new Tag("thesis"))));
+
+        // undo -> every source untagged in one step
+        new UndoCommand().execute(model, commandHistory);
+        assertEquals(sourcesBefore, model.getFilteredSourceList());
+        assertFalse(model.canUndoSourceManager());
+
+        // redo -> every source tagged again
+        new RedoCommand().execute(model, commandHistory);
+        assertTrue(model.getFilteredSourceList().stream().allMatch(source -> source.getTags().contains(
+                new Tag("thesis"))));
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = IndexRange.between(INDEX_FIRST_SOURCE, INDEX_SECOND_SOURCE);
+        TagCommand tagCommand = new TagCommand(range, THESIS_TAGS);
+
+        // same values -> returns true
+        assertTrue(tagCommand.equals(new TagCommand(range, THESIS_TAGS)));
+
+        // different types -> returns false
+        assertFalse(tagCommand.equals(new UntagCommand(range, THESIS_TAGS)));
+
+        // null -> returns false
+        assertFalse(tagCommand.equals(null));
+
+        // different range -> returns false
+        assertFalse(tagCommand.equals(new TagCommand(IndexRange.all(), THESIS_TAGS)));
+
+        // different tags -> returns false
+        assertFalse(tagCommand.equals(new TagCommand(range, Collections.singleton(new Tag("draft")))));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SOURCE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_SOURCE;
+import static seedu.address.testutil.TypicalSources.getTypicalDeletedSources;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.source.Source;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code UntagCommand}.
+ */
+public class UntagCommandTest {
+
+    private static final Set<Tag> RESEARCH_TAGS = Collections.singleton(new Tag("research"));
+
+    private Model model = new ModelManager(getTypicalSourceManager(), new UserPrefs(), getTypicalDeletedSources(), 0);
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_all_removesTagsFromTaggedSourcesOnly() {
+        UntagCommand untagCommand = new UntagCommand(IndexRange.all(), RESEARCH_TAGS);
+
+        ModelManager expectedModel = new ModelManager(model.getSourceManager(), new UserPrefs(),
+                model.getDeletedSources());
+        int untaggedCount = 0;
+        for (Source source : new ArrayList<>(expectedModel.getFilteredSourceList())) {
+            if (Collections.disjoint(source.getTags(), RESEARCH_TAGS)) {
+                continue;
+            }
+            Set<Tag> tags = new HashSet<>(source.getTags());
+            tags.removeAll(RESEARCH_TAGS);
+            expectedModel.setSource(source, TagCommand.createRetaggedSource(source, tags));
+            untaggedCount++;
+        }
+        expectedModel.commitSourceManager();
+        assertTrue(untaggedCount > 0);
+
+        String expectedMessage = String.format(UntagCommand.MESSAGE_SUCCESS, untaggedCount, "[research]");
+
+        assertCommandSuccess(untagCommand, model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_noSourcesShown_throwsCommandException() {
+        model.updateFilteredSourceList(source -> false);
+        UntagCommand untagCommand = new UntagCommand(IndexRange.all(), RESEARCH_TAGS);
+
+        assertCommandFailure(untagCommand, model, commandHistory, BulkCommand.MESSAGE_NO_SOURCES);
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = IndexRange.between(INDEX_FIRST_SOURCE, INDEX_SECOND_SOURCE);
+        UntagCommand untagCommand = new UntagCommand(range, RESEARCH_TAGS);
+
+        // same values -> returns true
+        assertTrue(untagCommand.equals(new UntagCommand(range, RESEARCH_TAGS)));
+
+        // null -> returns false
+        assertFalse(untagCommand.equals(null));
+
+        // different tags -> returns false
+        assertFalse(untagCommand.equals(new UntagCommand(range, Collections.singleton(new Tag("draft")))));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.BatchCommand;
+
+public class BatchCommandParserTest {
+
+    private BatchCommandParser parser = new BatchCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsBatchCommand() {
+        assertParseSuccess(parser, " scripts/migration.txt", new BatchCommand(Paths.get("scripts/migration.txt"), 0));
+        assertParseSuccess(parser, " scripts/migration.txt c/500",
+                new BatchCommand(Paths.get("scripts/migration.txt"), 500));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no script path
+        assertParseFailure(parser, " c/500", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+
+        // invalid checkpoint interval
+        assertParseFailure(parser, " script.txt c/-1", BatchCommandParser.MESSAGE_INVALID_CHECKPOINT_INTERVAL);
+        assertParseFailure(parser, " script.txt c/often", BatchCommandParser.MESSAGE_INVALID_CHECKPOINT_INTERVAL);
+    }
+}
@@ -4,9 +4,12 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SOURCE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_SOURCE;
 
 import org.junit.Test;
 
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.BulkDeleteCommand;
 import seedu.address.logic.commands.DeleteCommand;
 
 /**
@@ -29,4 +32,19 @@ public class DeleteCommandParserTest {
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
     }
+
+    @Test
+    public void parse_validRange_returnsBulkDeleteCommand() {
+        assertParseSuccess(parser, "all", new BulkDeleteCommand(IndexRange.all()));
+        assertParseSuccess(parser, " 1  3 ",
+                new BulkDeleteCommand(IndexRange.between(INDEX_FIRST_SOURCE, INDEX_THIRD_SOURCE)));
+    }
+
+    @Test
+    public void parse_invalidRange_throwsParseException() {
+        assertParseFailure(parser, "3 1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "1 2 3",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
+    }
 }
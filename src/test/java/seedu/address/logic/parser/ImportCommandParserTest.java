@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.storage.ImportedSourceStreams.Format;
+
+public class ImportCommandParserTest {
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportCommand() {
+        assertParseSuccess(parser, " refs/library.bib",
+                new ImportCommand(Paths.get("refs/library.bib"), Format.BIBTEX, false));
+        assertParseSuccess(parser, " refs/Library.RIS --dry-run",
+                new ImportCommand(Paths.get("refs/Library.RIS"), Format.RIS, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String usageMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+
+        // no file path
+        assertParseFailure(parser, " --dry-run", usageMessage);
+
+        // text after the dry run flag
+        assertParseFailure(parser, " library.bib --dry-run now", usageMessage);
+
+        // unsupported format
+        assertParseFailure(parser, " library.json", ImportCommand.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+}
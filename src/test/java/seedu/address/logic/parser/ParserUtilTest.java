@@ -1,10 +1,13 @@
 package seedu.address.logic.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SOURCE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_SOURCE;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +18,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.index.IndexRange;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.source.Detail;
 import seedu.address.model.source.Title;
@@ -61,6 +65,31 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_SOURCE, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexRange_lastBeforeFirst_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_INVALID_INDEX_RANGE);
+        ParserUtil.parseIndexRange("3 1");
+    }
+
+    @Test
+    public void parseIndexRange_invalidIndex_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(MESSAGE_INVALID_INDEX);
+        ParserUtil.parseIndexRange("0 2");
+    }
+
+    @Test
+    public void parseIndexRange_validInput_success() throws Exception {
+        assertEquals(IndexRange.all(), ParserUtil.parseIndexRange(" all "));
+        assertEquals(IndexRange.between(INDEX_FIRST_SOURCE, INDEX_THIRD_SOURCE), ParserUtil.parseIndexRange("1 \t 3"));
+
+        // single index is not a range
+        assertTrue(ParserUtil.isIndexRange("1 3"));
+        assertTrue(ParserUtil.isIndexRange("all"));
+        assertFalse(ParserUtil.isIndexRange(" 1 "));
+    }
+
     @Test
     public void parseTitle_null_throwsNullPointerException() {
         Assert.assertThrows(NullPointerException.class, () -> ParserUtil.parseTitle((String) null));
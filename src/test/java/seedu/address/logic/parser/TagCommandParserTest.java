@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_TAG_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_BAR;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FOO;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_BAR;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FOO;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SOURCE;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_SOURCE;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.index.IndexRange;
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.commands.UntagCommand;
+import seedu.address.model.tag.Tag;
+
+public class TagCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE);
+
+    private TagCommandParser parser = new TagCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsTagCommand() {
+        assertParseSuccess(parser, "1 2" + TAG_DESC_FOO + TAG_DESC_BAR,
+                new TagCommand(IndexRange.between(INDEX_FIRST_SOURCE, INDEX_SECOND_SOURCE),
+                        new HashSet<>(Arrays.asList(new Tag(VALID_TAG_FOO), new Tag(VALID_TAG_BAR)))));
+        assertParseSuccess(parser, " all" + TAG_DESC_FOO,
+                new TagCommand(IndexRange.all(), new HashSet<>(Arrays.asList(new Tag(VALID_TAG_FOO)))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // no tags
+        assertParseFailure(parser, "all", MESSAGE_INVALID_FORMAT);
+
+        // single index
+        assertParseFailure(parser, "1" + TAG_DESC_FOO, MESSAGE_INVALID_FORMAT);
+
+        // invalid tag
+        assertParseFailure(parser, "all" + INVALID_TAG_DESC, Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_untag_returnsUntagCommand() {
+        assertParseSuccess(new UntagCommandParser(), "all" + TAG_DESC_FOO,
+                new UntagCommand(IndexRange.all(), new HashSet<>(Arrays.asList(new Tag(VALID_TAG_FOO)))));
+        assertParseFailure(new UntagCommandParser(), "1 2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, UntagCommand.MESSAGE_USAGE));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_SOURCES;
 import static seedu.address.testutil.TypicalSources.ALGORITHM_RESEARCH;
@@ -18,6 +19,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.source.Source;
+import seedu.address.model.source.exceptions.ReadOnlySourcesException;
 import seedu.address.model.source.exceptions.SourceNotFoundException;
 import seedu.address.testutil.SourceBuilder;
 import seedu.address.testutil.SourceManagerBuilder;
@@ -159,6 +161,24 @@ public class ModelManagerTest {
         assertEquals(ALGORITHM_RESEARCH, modelManager.getSelectedSource());
     }
 
+    @Test
+    public void readOnly_sourceManager_sourcesShownWithoutCopying() {
+        SourceManager sourceManager = new SourceManagerBuilder().withSource(ALGORITHM_RESEARCH).build();
+        ModelManager readOnlyModel = ModelManager.readOnly(sourceManager, new UserPrefs(), new DeletedSources());
+        assertTrue(readOnlyModel.isReadOnly());
+        assertSame(sourceManager, readOnlyModel.getSourceManager());
+        assertEquals(sourceManager.getSourceList(), readOnlyModel.getFilteredSourceList());
+        assertTrue(readOnlyModel.hasSource(ALGORITHM_RESEARCH));
+        assertFalse(readOnlyModel.hasSource(SENSOR_RESEARCH));
+    }
+
+    @Test
+    public void addSource_readOnly_throwsReadOnlySourcesException() {
+        ModelManager readOnlyModel = ModelManager.readOnly(new SourceManager(), new UserPrefs(), new DeletedSources());
+        thrown.expect(ReadOnlySourcesException.class);
+        readOnlyModel.addSource(ALGORITHM_RESEARCH);
+    }
+
     @Test
     public void equals() {
         SourceManager sourceManager = new SourceManagerBuilder().withSource(ALGORITHM_RESEARCH)
@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.model.source.Source;
+import seedu.address.testutil.SourceBuilder;
+
+public class ParallelSourceFilterTest {
+
+    private static final int SOURCE_COUNT = 5000;
+
+    private final ParallelSourceFilter filter = new ParallelSourceFilter(4);
+
+    @Test
+    public void match_sourceManagerList_sameAsSequentialScan() {
+        List<Source> sources = getSourceList();
+        Predicate<Source> predicate = source -> source.getTitle().title.endsWith("7");
+
+        BitSet expected = new BitSet();
+        for (int i = 0; i < sources.size(); i++) {
+            if (predicate.test(sources.get(i))) {
+                expected.set(i);
+            }
+        }
+        assertEquals(expected, filter.match(sources, predicate));
+    }
+
+    @Test
+    public void filter_sourceManagerList_matchingSourcesReturned() {
+        List<Source> sources = getSourceList();
+        Predicate<Source> predicate = source -> source.getTitle().title.contains("12");
+
+        Set<Source> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Source source : sources) {
+            if (predicate.test(source)) {
+                expected.add(source);
+            }
+        }
+        assertEquals(expected, filter.filter(sources, predicate));
+    }
+
+    @Test
+    public void shutdown_afterFiltering_threadsStoppedAndLaterFilteringWorks() throws Exception {
+        List<Source> sources = getSourceList();
+        Set<Thread> workers = ConcurrentHashMap.newKeySet();
+        filter.match(sources, source -> workers.add(Thread.currentThread()));
+
+        filter.shutdown();
+        for (Thread worker : workers) {
+            worker.join(5000);
+            assertFalse(worker.isAlive());
+        }
+
+        BitSet all = new BitSet();
+        all.set(0, sources.size());
+        assertEquals(all, filter.match(sources, source -> true));
+        filter.shutdown();
+    }
+
+    /**
+     * Returns the source list of a source manager holding {@value #SOURCE_COUNT} sources.
+     */
+    private static List<Source> getSourceList() {
+        SourceManager sourceManager = new SourceManager();
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            sourceManager.addSource(new SourceBuilder().withTitle("Source " + i).withDetail("Detail " + i).build());
+        }
+        return sourceManager.getSourceList();
+    }
+}
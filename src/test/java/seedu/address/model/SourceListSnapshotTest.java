@@ -0,0 +1,39 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalSources.STRUCTURE;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.source.Source;
+
+public class SourceListSnapshotTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_sourcesChangedAfterwards_snapshotUnchanged() {
+        SourceManager sourceManager = getTypicalSourceManager();
+        List<Source> expected = new ArrayList<>(sourceManager.getSourceList());
+        SourceListSnapshot snapshot = new SourceListSnapshot(sourceManager.getSourceList());
+
+        sourceManager.addSource(STRUCTURE);
+        sourceManager.moveSource(0, 1);
+
+        assertEquals(expected, snapshot.getSourceList());
+        assertEquals(expected, snapshot.getDeletedSourceList());
+    }
+
+    @Test
+    public void getSourceList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        new SourceListSnapshot(getTypicalSourceManager().getSourceList()).getSourceList().remove(0);
+    }
+}
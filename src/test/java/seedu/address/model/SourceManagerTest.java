@@ -3,7 +3,10 @@ package seedu.address.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 import static seedu.address.testutil.TypicalSources.ALGORITHM_RESEARCH;
+import static seedu.address.testutil.TypicalSources.STRUCTURE;
 import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
 
 import java.util.Arrays;
@@ -19,7 +22,9 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.model.source.Source;
+import seedu.address.model.source.SourceContainsKeywordsPredicate;
 import seedu.address.model.source.exceptions.DuplicateSourceException;
 import seedu.address.testutil.SourceBuilder;
 
@@ -48,6 +53,15 @@ public class SourceManagerTest {
         assertEquals(newData, sourceManager);
     }
 
+    @Test
+    public void resetData_withSourceManager_doesNotShareSourceList() {
+        SourceManager newData = getTypicalSourceManager();
+        sourceManager.resetData(newData);
+        newData.removeSource(ALGORITHM_RESEARCH);
+        assertTrue(sourceManager.hasSource(ALGORITHM_RESEARCH));
+        assertFalse(newData.hasSource(ALGORITHM_RESEARCH));
+    }
+
     @Test
     public void resetData_withDuplicateSources_throwsDuplicateSourceException() {
         // Two sources with the same fields
@@ -85,6 +99,40 @@ public class SourceManagerTest {
         assertTrue(sourceManager.hasSource(editedAlgorithm));
     }
 
+    @Test
+    public void hasSource_sourceRemovedFromSourceManager_returnsFalse() {
+        sourceManager.addSource(ALGORITHM_RESEARCH);
+        sourceManager.removeSource(ALGORITHM_RESEARCH);
+        assertFalse(sourceManager.hasSource(ALGORITHM_RESEARCH));
+    }
+
+    @Test
+    public void hasSource_sourceReplacedWithDifferentIdentity_returnsFalse() {
+        sourceManager.addSource(ALGORITHM_RESEARCH);
+        Source editedAlgorithm = new SourceBuilder(ALGORITHM_RESEARCH).withTitle("Algorithm Reviewers").build();
+        sourceManager.setSource(ALGORITHM_RESEARCH, editedAlgorithm);
+        assertFalse(sourceManager.hasSource(ALGORITHM_RESEARCH));
+        assertTrue(sourceManager.hasSource(editedAlgorithm));
+    }
+
+    @Test
+    public void addSourceAtIndex_invalidIndexAfterSearch_sourceNotSearchable() {
+        SourceManager sourceManager = getTypicalSourceManager();
+        ArgumentMultimap keywords = new ArgumentMultimap();
+        keywords.put(PREFIX_TITLE, "Structure");
+        SourceContainsKeywordsPredicate predicate = new SourceContainsKeywordsPredicate(keywords);
+        assertTrue(sourceManager.searchSources(predicate).isEmpty());
+
+        try {
+            sourceManager.addSourceAtIndex(STRUCTURE, sourceManager.getSourceList().size() + 1);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            // the list is left unchanged, so the search index must be as well
+            assertFalse(sourceManager.hasSource(STRUCTURE));
+            assertTrue(sourceManager.searchSources(predicate).isEmpty());
+        }
+    }
+
     @Test
     public void getSourceList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -14,6 +14,7 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.commons.core.HistorySettings;
 import seedu.address.testutil.SourceManagerBuilder;
 
 public class VersionedSourceManagerTest {
@@ -210,6 +211,85 @@ public class VersionedSourceManagerTest {
         assertThrows(VersionedSourceManager.NoRedoableStateException.class, versionedSourceManager::redo);
     }
 
+    @Test
+    public void undoAndRedo_sourceLevelEdits_statesRestored() {
+        VersionedSourceManager versionedSourceManager = prepareSourceManagerList(sourceManagerWithAlgorithmResearch);
+        versionedSourceManager.addSourceAtIndex(SENSOR_RESEARCH, 0);
+        versionedSourceManager.removeSource(ALGORITHM_RESEARCH);
+        versionedSourceManager.commit();
+        versionedSourceManager.setSource(SENSOR_RESEARCH, SMART_COMPUTERS);
+        versionedSourceManager.commit();
+
+        assertSourceManagerListStatus(versionedSourceManager,
+                Arrays.asList(sourceManagerWithAlgorithmResearch, sourceManagerWithSensorResearch),
+                sourceManagerWithSmartComputers,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_uncommittedEdits_editsDiscarded() {
+        VersionedSourceManager versionedSourceManager = prepareSourceManagerList(
+                emptySourceManager, sourceManagerWithAlgorithmResearch);
+        versionedSourceManager.addSource(SENSOR_RESEARCH);
+
+        versionedSourceManager.undo();
+        assertSourceManagerListStatus(versionedSourceManager,
+                Collections.emptyList(),
+                emptySourceManager,
+                Collections.singletonList(sourceManagerWithAlgorithmResearch));
+    }
+
+    @Test
+    public void undoAndRedo_historyBeyondMemoryLimit_statesReadBackFromDisk() {
+        VersionedSourceManager versionedSourceManager =
+                new VersionedSourceManager(emptySourceManager, new HistorySettings(1, Long.MAX_VALUE));
+        versionedSourceManager.addSource(ALGORITHM_RESEARCH);
+        versionedSourceManager.commit();
+        versionedSourceManager.addSource(SENSOR_RESEARCH);
+        versionedSourceManager.commit();
+        versionedSourceManager.setSource(SENSOR_RESEARCH, SMART_COMPUTERS);
+        versionedSourceManager.commit();
+
+        HistoryFootprint footprint = versionedSourceManager.getHistoryFootprint();
+        assertEquals(1, footprint.getStatesInMemory());
+        assertEquals(2, footprint.getStatesOnDisk());
+
+        versionedSourceManager.undo();
+        versionedSourceManager.undo();
+        versionedSourceManager.undo();
+        assertEquals(emptySourceManager, new SourceManager(versionedSourceManager));
+        assertEquals(1, versionedSourceManager.getHistoryFootprint().getStatesInMemory());
+
+        versionedSourceManager.redo();
+        versionedSourceManager.redo();
+        versionedSourceManager.redo();
+        assertEquals(new SourceManagerBuilder().withSource(ALGORITHM_RESEARCH).withSource(SMART_COMPUTERS).build(),
+                new SourceManager(versionedSourceManager));
+    }
+
+    @Test
+    public void undoAndRedo_movedSource_orderRestored() {
+        ReadOnlySourceManager initialState = new SourceManagerBuilder().withSource(ALGORITHM_RESEARCH)
+                .withSource(SENSOR_RESEARCH).withSource(SMART_COMPUTERS).build();
+        VersionedSourceManager versionedSourceManager =
+                new VersionedSourceManager(initialState, new HistorySettings(1, Long.MAX_VALUE));
+        versionedSourceManager.moveSource(2, 0);
+        versionedSourceManager.commit();
+        versionedSourceManager.moveSource(0, 1);
+        versionedSourceManager.commit();
+        assertEquals(Arrays.asList(ALGORITHM_RESEARCH, SMART_COMPUTERS, SENSOR_RESEARCH),
+                versionedSourceManager.getSourceList());
+
+        // the first move is read back from disk
+        versionedSourceManager.undo();
+        versionedSourceManager.undo();
+        assertEquals(initialState, new SourceManager(versionedSourceManager));
+
+        versionedSourceManager.redo();
+        assertEquals(Arrays.asList(SMART_COMPUTERS, ALGORITHM_RESEARCH, SENSOR_RESEARCH),
+                versionedSourceManager.getSourceList());
+    }
+
     @Test
     public void equals() {
         VersionedSourceManager versionedSourceManager =
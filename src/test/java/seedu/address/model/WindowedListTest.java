@@ -0,0 +1,163 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class WindowedListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+    private final WindowedList<String> windowedList = new WindowedList<>(source);
+    private final List<String> changes = new ArrayList<>();
+
+    public WindowedListTest() {
+        windowedList.addListener((ListChangeListener<String>) this::recordChange);
+    }
+
+    @Test
+    public void setWindow_negativeStart_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        windowedList.setWindow(-1, 2);
+    }
+
+    @Test
+    public void setWindow_negativeLength_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        windowedList.setWindow(0, -1);
+    }
+
+    @Test
+    public void noWindow_sourceChanged_showsSourceAndPassesOnChanges() {
+        assertFalse(windowedList.isWindowed());
+        source.add(1, "x");
+        source.remove("d");
+        FXCollections.sort(source);
+        source.set(0, "y");
+
+        assertEquals(source, windowedList);
+        assertEquals(Arrays.asList("added [x] at 1", "removed [d] at 4", "permutated 0-5",
+                "replaced [a] with [y] at 0"), changes);
+    }
+
+    @Test
+    public void setWindow_showsRangeOfSource() {
+        windowedList.setWindow(1, 3);
+        assertTrue(windowedList.isWindowed());
+        assertEquals(Arrays.asList("b", "c", "d"), windowedList);
+        assertEquals(Collections.singletonList("replaced [a, b, c, d, e] with [b, c, d] at 0"), changes);
+        assertEquals(2, windowedList.getSourceIndex(1));
+        assertEquals(0, windowedList.getViewIndex(1));
+        assertEquals(-1, windowedList.getViewIndex(0));
+        assertEquals(-1, windowedList.getViewIndex(4));
+
+        // range past the end of the source
+        windowedList.setWindow(3, 10);
+        assertEquals(Arrays.asList("d", "e"), windowedList);
+        windowedList.setWindow(7, 2);
+        assertTrue(windowedList.isEmpty());
+        windowedList.setWindow(0, Integer.MAX_VALUE);
+        assertEquals(source, windowedList);
+    }
+
+    @Test
+    public void setWindow_sourceChanged_showsSamePositions() {
+        windowedList.setWindow(1, 2);
+        changes.clear();
+
+        source.add(0, "x");
+        assertEquals(Arrays.asList("a", "b"), windowedList);
+        source.remove("a");
+        assertEquals(Arrays.asList("b", "c"), windowedList);
+        assertEquals(Arrays.asList("replaced [b, c] with [a, b] at 0", "replaced [a, b] with [b, c] at 0"), changes);
+
+        // changes outside the range are not passed on
+        changes.clear();
+        source.add("y");
+        source.set(4, "z");
+        assertEquals(Collections.emptyList(), changes);
+    }
+
+    @Test
+    public void setWindowFromEnd_negativeLength_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        windowedList.setWindowFromEnd(-1);
+    }
+
+    @Test
+    public void setWindowFromEnd_sourceChanged_showsLastElements() {
+        windowedList.setWindowFromEnd(2);
+        assertTrue(windowedList.isWindowed());
+        assertEquals(Arrays.asList("d", "e"), windowedList);
+        assertEquals(3, windowedList.getSourceIndex(0));
+        changes.clear();
+
+        source.add("x");
+        assertEquals(Arrays.asList("e", "x"), windowedList);
+        source.remove("x");
+        assertEquals(Arrays.asList("d", "e"), windowedList);
+        assertEquals(Arrays.asList("replaced [d, e] with [e, x] at 0", "replaced [e, x] with [d, e] at 0"), changes);
+
+        // changes before the range are not passed on
+        changes.clear();
+        source.add(0, "y");
+        source.remove("a");
+        assertEquals(Collections.emptyList(), changes);
+
+        // a range longer than the source shows all of it, and grows with it
+        windowedList.setWindowFromEnd(10);
+        assertEquals(source, windowedList);
+        source.add("z");
+        assertEquals(source, windowedList);
+
+        // a range set by position afterwards is no longer kept from the end
+        windowedList.setWindow(0, 2);
+        assertEquals(Arrays.asList("y", "b"), windowedList);
+    }
+
+    @Test
+    public void clearWindow_showsWholeSource() {
+        windowedList.clearWindow();
+        assertEquals(Collections.emptyList(), changes);
+
+        windowedList.setWindow(2, 1);
+        changes.clear();
+        windowedList.clearWindow();
+        assertFalse(windowedList.isWindowed());
+        assertEquals(source, windowedList);
+        assertEquals(Collections.singletonList("replaced [c] with [a, b, c, d, e] at 0"), changes);
+    }
+
+    /**
+     * Records each part of {@code change} as a description.
+     */
+    private void recordChange(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                changes.add("permutated " + change.getFrom() + "-" + change.getTo());
+            } else if (change.wasReplaced()) {
+                changes.add("replaced " + change.getRemoved() + " with " + change.getAddedSubList() + " at "
+                        + change.getFrom());
+            } else if (change.wasAdded()) {
+                changes.add("added " + change.getAddedSubList() + " at " + change.getFrom());
+            } else if (change.wasRemoved()) {
+                changes.add("removed " + change.getRemoved() + " at " + change.getFrom());
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.source;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.model.source.SourceContainsKeywordsPredicate.boundedLevenshtienDist;
+import static seedu.address.model.source.SourceContainsKeywordsPredicate.checkLevenshtienSimilarity;
+import static seedu.address.model.source.SourceContainsKeywordsPredicate.levenshtienDist;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class SourceContainsKeywordsPredicateTest {
+
+    private static final int MAX_TESTED_DIST = 5;
+
+    @Test
+    public void levenshtienDist_knownStrings_correctDistance() {
+        assertEquals(0, levenshtienDist("", ""));
+        assertEquals(3, levenshtienDist("", "abc"));
+        assertEquals(3, levenshtienDist("kitten", "sitting"));
+        assertEquals(2, levenshtienDist("graph", "grpah"));
+    }
+
+    @Test
+    public void boundedLevenshtienDist_randomStrings_sameAsLevenshtienDistUpToBound() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            String a = getRandomString(random);
+            String b = getRandomString(random);
+            int dist = levenshtienDist(a, b);
+            for (int maxDist = 0; maxDist <= MAX_TESTED_DIST; maxDist++) {
+                assertEquals(a + " -> " + b + " within " + maxDist, Math.min(dist, maxDist + 1),
+                        boundedLevenshtienDist(a, b, maxDist));
+            }
+        }
+    }
+
+    @Test
+    public void boundedLevenshtienDist_lengthDifferenceOfMaxDist_distanceReturned() {
+        assertEquals(3, boundedLevenshtienDist("abc", "abcdef", 3));
+        assertEquals(3, boundedLevenshtienDist("abcdef", "abc", 3));
+        assertEquals(4, boundedLevenshtienDist("", "abcd", 4));
+        assertEquals(0, boundedLevenshtienDist("abc", "abc", 0));
+    }
+
+    @Test
+    public void boundedLevenshtienDist_lengthDifferenceOfMaxDistPlusOne_maxDistPlusOneReturned() {
+        assertEquals(4, boundedLevenshtienDist("abc", "abcdefg", 3));
+        assertEquals(4, boundedLevenshtienDist("abcdefg", "abc", 3));
+        assertEquals(5, boundedLevenshtienDist("", "abcde", 4));
+        assertEquals(1, boundedLevenshtienDist("abc", "abcd", 0));
+    }
+
+    @Test
+    public void boundedLevenshtienDist_emptyStrings_correctDistance() {
+        assertEquals(0, boundedLevenshtienDist("", "", 0));
+        assertEquals(0, boundedLevenshtienDist("", "", 4));
+        assertEquals(1, boundedLevenshtienDist("", "a", 0));
+        assertEquals(1, boundedLevenshtienDist("a", "", 1));
+        assertEquals(2, boundedLevenshtienDist("ab", "", 4));
+    }
+
+    @Test
+    public void boundedLevenshtienDist_rowExceedsMaxDist_maxDistPlusOneReturned() {
+        // every cell of the third row needs more than two swaps, so no later row is evaluated
+        assertEquals(3, boundedLevenshtienDist("aaaaaaaaaa", "bbbbbbbbbb", 2));
+        // the first letters differ, but the rest match, so no row exceeds the bound
+        assertEquals(2, boundedLevenshtienDist("xyaaaaaaaa", "aaaaaaaaaa", 2));
+        // the strings only differ at the end, after every earlier row was within the bound
+        assertEquals(3, boundedLevenshtienDist("aaaaaaaxyz", "aaaaaaaaaa", 2));
+    }
+
+    @Test
+    public void boundedLevenshtienDist_afterLongerStrings_buffersReused() {
+        StringBuilder longA = new StringBuilder();
+        StringBuilder longB = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            longA.append((char) ('a' + i % 7));
+            longB.append((char) ('a' + i % 5));
+        }
+        assertEquals(5, boundedLevenshtienDist(longA.toString(), longB.toString(), 4));
+        assertEquals(0, boundedLevenshtienDist(longA.toString(), longA.toString(), 4));
+
+        // the buffers now hold the costs of the longer strings past the ends of these rows
+        assertEquals(3, boundedLevenshtienDist("kitten", "sitting", 3));
+        assertEquals(3, boundedLevenshtienDist("kitten", "sitting", 2));
+        assertEquals(1, boundedLevenshtienDist("a", "", 4));
+        assertEquals(0, boundedLevenshtienDist("", "", 4));
+        assertEquals(2, boundedLevenshtienDist("graph", "grpah", 5));
+    }
+
+    @Test
+    public void checkLevenshtienSimilarity_distanceAroundThreshold_similarOnlyBelowThreshold() {
+        assertTrue(checkLevenshtienSimilarity("thermodynamics", "thermodynamics"));
+        assertTrue(checkLevenshtienSimilarity("thermodynamics", "thxrmxdyxamxcs"));
+        assertFalse(checkLevenshtienSimilarity("thermodynamics", "xhxrmxdyxamxcs"));
+        assertTrue(checkLevenshtienSimilarity("abcd", ""));
+        assertFalse(checkLevenshtienSimilarity("abcde", ""));
+    }
+
+    /**
+     * Returns a string of up to 12 letters from a small alphabet, so that random strings are often similar.
+     */
+    private static String getRandomString(Random random) {
+        StringBuilder string = new StringBuilder();
+        for (int i = random.nextInt(13); i > 0; i--) {
+            string.append((char) ('a' + random.nextInt(3)));
+        }
+        return string.toString();
+    }
+}
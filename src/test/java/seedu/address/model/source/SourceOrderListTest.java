@@ -0,0 +1,200 @@
+package seedu.address.model.source;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalSources.ALGORITHM_RESEARCH;
+import static seedu.address.testutil.TypicalSources.AR_RESEARCH;
+import static seedu.address.testutil.TypicalSources.SENSOR_RESEARCH;
+import static seedu.address.testutil.TypicalSources.SMART_COMPUTERS;
+import static seedu.address.testutil.TypicalSources.VR_RESEARCH;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.source.exceptions.DuplicateSourceException;
+import seedu.address.testutil.SourceBuilder;
+
+public class SourceOrderListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final SourceOrderList sourceOrderList = new SourceOrderList();
+    private final List<String> changes = new ArrayList<>();
+
+    public SourceOrderListTest() {
+        sourceOrderList.setAll(Arrays.asList(ALGORITHM_RESEARCH, SENSOR_RESEARCH, SMART_COMPUTERS, VR_RESEARCH,
+                AR_RESEARCH));
+        sourceOrderList.addListener((ListChangeListener<Source>) this::recordChange);
+    }
+
+    @Test
+    public void move_forwards_firesSinglePermutation() {
+        sourceOrderList.move(1, 3);
+        assertEquals(Arrays.asList(ALGORITHM_RESEARCH, SMART_COMPUTERS, VR_RESEARCH, SENSOR_RESEARCH, AR_RESEARCH),
+                sourceOrderList);
+        assertEquals(Arrays.asList("permutated 1-4 [3, 1, 2]"), changes);
+    }
+
+    @Test
+    public void move_backwards_firesSinglePermutation() {
+        sourceOrderList.move(4, 0);
+        assertEquals(Arrays.asList(AR_RESEARCH, ALGORITHM_RESEARCH, SENSOR_RESEARCH, SMART_COMPUTERS, VR_RESEARCH),
+                sourceOrderList);
+        assertEquals(Arrays.asList("permutated 0-5 [1, 2, 3, 4, 0]"), changes);
+        assertEquals(0, sourceOrderList.indexOf(AR_RESEARCH));
+        assertEquals(4, sourceOrderList.indexOf(VR_RESEARCH));
+    }
+
+    @Test
+    public void move_samePosition_noChange() {
+        sourceOrderList.move(2, 2);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void move_positionOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        sourceOrderList.move(0, 5);
+    }
+
+    @Test
+    public void add_duplicateIdentity_throwsDuplicateSourceException() {
+        thrown.expect(DuplicateSourceException.class);
+        sourceOrderList.add(new SourceBuilder(SENSOR_RESEARCH).withType("Journal").build());
+    }
+
+    @Test
+    public void setAll_duplicateIdentities_throwsDuplicateSourceExceptionListUnchanged() {
+        List<Source> before = new ArrayList<>(sourceOrderList);
+        try {
+            sourceOrderList.setAll(Arrays.asList(VR_RESEARCH, ALGORITHM_RESEARCH, VR_RESEARCH));
+        } catch (DuplicateSourceException e) {
+            assertEquals(before, sourceOrderList);
+            assertTrue(changes.isEmpty());
+            return;
+        }
+        throw new AssertionError("DuplicateSourceException was not thrown.");
+    }
+
+    @Test
+    public void indexOf_sameIdentityDifferentFields_returnsMinusOne() {
+        Source editedSource = new SourceBuilder(SMART_COMPUTERS).withType("Journal").build();
+        assertEquals(-1, sourceOrderList.indexOf(editedSource));
+        assertFalse(sourceOrderList.contains(editedSource));
+        assertTrue(sourceOrderList.containsIdentity(editedSource.getIdentity()));
+    }
+
+    @Test
+    public void removeAll_firesSingleChange() {
+        sourceOrderList.removeAll(Arrays.asList(AR_RESEARCH, SENSOR_RESEARCH, VR_RESEARCH));
+        assertEquals(Arrays.asList(ALGORITHM_RESEARCH, SMART_COMPUTERS), sourceOrderList);
+        assertEquals(Arrays.asList("changed 1-2 removing 4"), changes);
+        assertEquals(1, sourceOrderList.indexOf(SMART_COMPUTERS));
+        assertFalse(sourceOrderList.containsIdentity(VR_RESEARCH.getIdentity()));
+    }
+
+    @Test
+    public void setEach_firesSingleChange() {
+        Source editedSensor = new SourceBuilder(SENSOR_RESEARCH).withType("Journal").build();
+        Source editedVr = new SourceBuilder(VR_RESEARCH).withType("Journal").build();
+        sourceOrderList.setEach(new int[] {1, 3}, Arrays.asList(editedSensor, editedVr));
+        assertEquals(Arrays.asList(ALGORITHM_RESEARCH, editedSensor, SMART_COMPUTERS, editedVr, AR_RESEARCH),
+                sourceOrderList);
+        assertEquals(Arrays.asList("changed 1-4 removing 3"), changes);
+        assertEquals(3, sourceOrderList.indexOf(editedVr));
+    }
+
+    @Test
+    public void setEach_iteratorOpenedBefore_throwsConcurrentModificationException() {
+        Iterator<Source> iterator = sourceOrderList.iterator();
+        iterator.next();
+        sourceOrderList.setEach(new int[] {1}, Arrays.asList(new SourceBuilder(SENSOR_RESEARCH)
+                .withType("Journal").build()));
+        thrown.expect(ConcurrentModificationException.class);
+        iterator.next();
+    }
+
+    @Test
+    public void setEach_duplicateIdentities_throwsDuplicateSourceExceptionListUnchanged() {
+        List<Source> before = new ArrayList<>(sourceOrderList);
+        Source editedSensor = new SourceBuilder(SENSOR_RESEARCH).withType("Journal").build();
+        try {
+            // the second replacement takes the identity of a source that is not replaced
+            sourceOrderList.setEach(new int[] {1, 2}, Arrays.asList(editedSensor, AR_RESEARCH));
+        } catch (DuplicateSourceException e) {
+            assertEquals(before, sourceOrderList);
+            assertTrue(changes.isEmpty());
+            return;
+        }
+        throw new AssertionError("DuplicateSourceException was not thrown.");
+    }
+
+    @Test
+    public void randomOperations_sameAsArrayList() {
+        Random random = new Random(2019);
+        List<Source> expected = new ArrayList<>(sourceOrderList);
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(5);
+            if (operation <= 1 || expected.isEmpty()) {
+                Source source = new SourceBuilder().withTitle("Research " + i).build();
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, source);
+                sourceOrderList.add(index, source);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), sourceOrderList.remove(index));
+            } else if (operation == 3) {
+                int from = random.nextInt(expected.size());
+                int to = random.nextInt(expected.size());
+                expected.add(to, expected.remove(from));
+                sourceOrderList.move(from, to);
+            } else {
+                int index = random.nextInt(expected.size());
+                Source source = new SourceBuilder().withTitle("Replacement " + i).build();
+                expected.set(index, source);
+                sourceOrderList.set(index, source);
+            }
+            if (!expected.isEmpty()) {
+                Source probe = expected.get(random.nextInt(expected.size()));
+                assertEquals(expected.indexOf(probe), sourceOrderList.indexOf(probe));
+            }
+        }
+        assertEquals(expected, sourceOrderList);
+
+        // lookups in any order after a sequential scan
+        for (int i = 0; i < 200 && !expected.isEmpty(); i++) {
+            int index = random.nextInt(expected.size());
+            assertEquals(expected.get(index), sourceOrderList.get(index));
+        }
+    }
+
+    /**
+     * Records each part of {@code change} as a description.
+     */
+    private void recordChange(ListChangeListener.Change<? extends Source> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                changes.add("permutated " + change.getFrom() + "-" + change.getTo() + " "
+                        + Arrays.toString(permutation));
+            } else {
+                changes.add("changed " + change.getFrom() + "-" + change.getTo() + " removing "
+                        + change.getRemovedSize());
+            }
+        }
+    }
+}
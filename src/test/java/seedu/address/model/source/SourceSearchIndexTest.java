@@ -0,0 +1,208 @@
+package seedu.address.model.source;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DETAILS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.testutil.SourceBuilder;
+
+public class SourceSearchIndexTest {
+
+    /*
+     * "thermodynamics" has 12 distinct trigrams, so its similar values are found by length (12 - 3 * 4 = 0 shared
+     * trigrams needed), while "electromagnetic" has 13, so its similar values must share at least one trigram.
+     * Four substitutions three letters apart leave "thxrmxdyxamxcs" no trigram and "elxctxomxgnxtic" one trigram in
+     * common with them, the fewest that a keyword within the maximum distance can share.
+     */
+    private static final String[] WORDS = {"graph", "theory", "thermodynamics", "electromagnetic", "waves", "ab",
+        "abc", "data", "structures", "computational", "a", "notes"};
+    private static final String[] TYPES = {"book", "journal", "website", "thesis", "a"};
+    private static final String[] TAGS = {"graph", "physics", "cs", "draft", "ab"};
+
+    private static final List<SourceContainsKeywordsPredicate> PREDICATES = new ArrayList<>();
+
+    static {
+        // exact values and substrings
+        addPredicate(PREFIX_TITLE, "graph");
+        addPredicate(PREFIX_TITLE, "Graph Theory");
+        addPredicate(PREFIX_TITLE, "ory");
+        addPredicate(PREFIX_TITLE, "thermodynamics");
+        addPredicate(PREFIX_TITLE, "electromagnetic");
+        addPredicate(PREFIX_TYPE, "journal");
+        addPredicate(PREFIX_DETAILS, "structures");
+        addPredicate(PREFIX_TAG, "physics");
+        addPredicate(PREFIX_TAG, "  cs ");
+
+        // typos
+        addPredicate(PREFIX_TITLE, "grpah");
+        addPredicate(PREFIX_TYPE, "jornal");
+        addPredicate(PREFIX_DETAILS, "strcutures");
+        addPredicate(PREFIX_TAG, "phsyics");
+        addPredicate(PREFIX_TITLE, "electromagnetism");
+        addPredicate(PREFIX_TITLE, "computationally");
+
+        // keywords at the shared trigram bound, with up to and just past the maximum distance
+        addPredicate(PREFIX_TITLE, "thermodinamecs");
+        addPredicate(PREFIX_TITLE, "thxrmxdyxamxcs");
+        addPredicate(PREFIX_TITLE, "xhxrmxdyxamxcs");
+        addPredicate(PREFIX_TITLE, "thermodynamic");
+        addPredicate(PREFIX_TITLE, "elxctxomxgnxtic");
+        addPredicate(PREFIX_TITLE, "xlxctxomxgnxtic");
+        addPredicate(PREFIX_TITLE, "electromagnetics");
+        addPredicate(PREFIX_DETAILS, "thxrmxdyxamxcs");
+        addPredicate(PREFIX_DETAILS, "elxctxomxgnxtic");
+
+        // short keywords, which are similar to every short value
+        addPredicate(PREFIX_TITLE, "a");
+        addPredicate(PREFIX_TITLE, "ab");
+        addPredicate(PREFIX_TITLE, "zq");
+        addPredicate(PREFIX_TITLE, "abc");
+        addPredicate(PREFIX_TITLE, "zzzz");
+        addPredicate(PREFIX_TYPE, "x");
+        addPredicate(PREFIX_TAG, "zz");
+
+        // several keywords and fields
+        addPredicate(PREFIX_TITLE, "graph", "theory");
+        addPredicate(PREFIX_TITLE, "", "waves");
+        ArgumentMultimap multimap = new ArgumentMultimap();
+        multimap.put(PREFIX_TITLE, "data");
+        multimap.put(PREFIX_TYPE, "book");
+        multimap.put(PREFIX_TAG, "cs");
+        PREDICATES.add(new SourceContainsKeywordsPredicate(multimap));
+
+        // no keywords
+        PREDICATES.add(new SourceContainsKeywordsPredicate(new ArgumentMultimap()));
+    }
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void search_interleavedAddSetAndRemove_sameAsPredicateScan() {
+        List<Source> sources = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            sources.add(getRandomSource());
+        }
+        SourceSearchIndex index = new SourceSearchIndex(sources);
+        assertSameAsScan(index, sources);
+
+        for (int i = 0; i < 300; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || sources.isEmpty()) {
+                Source source = getRandomSource();
+                sources.add(source);
+                index.add(source);
+            } else if (operation == 1) {
+                // a source is set by removing it and adding the edited source, as UniqueSourceList does
+                int position = random.nextInt(sources.size());
+                Source editedSource = getRandomSource();
+                index.remove(sources.get(position));
+                index.add(editedSource);
+                sources.set(position, editedSource);
+            } else {
+                index.remove(sources.remove(random.nextInt(sources.size())));
+            }
+            assertSameAsScan(index, sources);
+        }
+    }
+
+    @Test
+    public void search_mostSourcesRemoved_sameAsPredicateScan() {
+        List<Source> sources = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            sources.add(getRandomSource());
+        }
+        SourceSearchIndex index = new SourceSearchIndex(sources);
+
+        // removing more values than are left rebuilds the postings without them
+        while (sources.size() > 5) {
+            index.remove(sources.remove(random.nextInt(sources.size())));
+            assertSameAsScan(index, sources);
+        }
+        Source source = getRandomSource();
+        sources.add(source);
+        index.add(source);
+        assertSameAsScan(index, sources);
+    }
+
+    @Test
+    public void search_equalSourcesRemovedByInstance_otherInstancesKept() {
+        Source source = new SourceBuilder().withTitle("Graph Theory").build();
+        Source equalSource = new SourceBuilder().withTitle("Graph Theory").build();
+        List<Source> sources = new ArrayList<>();
+        sources.add(source);
+        sources.add(equalSource);
+        SourceSearchIndex index = new SourceSearchIndex(sources);
+
+        index.remove(source);
+        sources.remove(0);
+        assertSameAsScan(index, sources);
+    }
+
+    /**
+     * Asserts that for each of the test predicates, {@code index} finds the same {@code sources} as testing the
+     * predicate on each of them.
+     */
+    private static void assertSameAsScan(SourceSearchIndex index, List<Source> sources) {
+        for (SourceContainsKeywordsPredicate predicate : PREDICATES) {
+            Set<Source> expected = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Source source : sources) {
+                if (predicate.test(source)) {
+                    expected.add(source);
+                }
+            }
+            assertEquals(expected, index.search(predicate));
+        }
+    }
+
+    /**
+     * Adds a predicate for {@code keywords} in the field with {@code prefix} to the test predicates.
+     */
+    private static void addPredicate(Prefix prefix, String... keywords) {
+        ArgumentMultimap multimap = new ArgumentMultimap();
+        for (String keyword : keywords) {
+            multimap.put(prefix, keyword);
+        }
+        PREDICATES.add(new SourceContainsKeywordsPredicate(multimap));
+    }
+
+    /**
+     * Returns a source with fields made up of randomly picked words.
+     */
+    private Source getRandomSource() {
+        List<String> tags = new ArrayList<>();
+        for (int i = random.nextInt(3); i > 0; i--) {
+            tags.add(pick(TAGS));
+        }
+        return new SourceBuilder()
+                .withTitle(getRandomWords())
+                .withType(pick(TYPES))
+                .withDetail(getRandomWords())
+                .withTags(tags.toArray(new String[0]))
+                .build();
+    }
+
+    private String getRandomWords() {
+        StringBuilder words = new StringBuilder(pick(WORDS));
+        for (int i = random.nextInt(3); i > 0; i--) {
+            words.append(' ').append(pick(WORDS));
+        }
+        return words.toString();
+    }
+
+    private String pick(String[] choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.source.Source;
+import seedu.address.model.source.Title;
+import seedu.address.model.tag.Tag;
+
+public class BibtexReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_entries_mappedToSources() throws Exception {
+        BibtexReader reader = new BibtexReader(new StringReader("% a comment\n"
+                + "@string{press = \"ACM Press\"}\n"
+                + "@comment{ @article{ignored, title = {Ignored}} }\n"
+                + "@Article{smith2019,\n"
+                + "  author = {Smith, John and Doe, Jane},\n"
+                + "  title = {{Deep} Learning\n    for Sensors},\n"
+                + "  journal = \"Journal of \" # press,\n"
+                + "  year = 2019, month = may,\n"
+                + "  pages = {10--20},\n"
+                + "  keywords = {machine learning; sensors},\n"
+                + "}\n"
+                + "@book(knuth1968,\n"
+                + "  editor = \"Donald Knuth\", title = \"Fundamental Algorithms\",\n"
+                + "  abstract = {The first volume}, date = {1968-01-15}\n"
+                + ")\n"));
+
+        Source article = reader.read().toModelType();
+        assertEquals("Deep Learning for Sensors", article.getTitle().title);
+        assertEquals("Journal Article", article.getType().type);
+        assertEquals("Smith, John and Doe, Jane", article.getAuthor().author);
+        assertEquals("BibTeX entry smith2019", article.getDetail().detail);
+        assertEquals(new HashSet<>(Arrays.asList(new Tag("machine learning"), new Tag("sensors"))),
+                article.getTags());
+        assertEquals("Journal of ACM Press", article.getBiblioFields().getJournal());
+        assertEquals("10-20", article.getBiblioFields().getPages());
+        assertEquals("May", article.getBiblioFields().getMonth());
+        assertEquals("2019", article.getBiblioFields().getYear());
+
+        Source book = reader.read().toModelType();
+        assertEquals("Book", book.getType().type);
+        assertEquals("Donald Knuth", book.getAuthor().author);
+        assertEquals("The first volume", book.getDetail().detail);
+        assertEquals("15", book.getBiblioFields().getDay());
+        assertEquals("January", book.getBiblioFields().getMonth());
+        assertEquals("1968", book.getBiblioFields().getYear());
+
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_byteOrderMarkBeforeFirstEntry_firstEntryRead() throws Exception {
+        BibtexReader reader = new BibtexReader(new StringReader(ImportedSourceReader.BYTE_ORDER_MARK
+                + "@book{key, title = {First Book}, author = {Smith, John}}"));
+        assertEquals("First Book", reader.read().toModelType().getTitle().title);
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_invalidTitle_throwsIllegalValueException() throws Exception {
+        BibtexReader reader = new BibtexReader(new StringReader("@misc{key, title = {Title: Subtitle}, author = X}"));
+        ImportedSource entry = reader.read();
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(Title.MESSAGE_CONSTRAINTS);
+        entry.toModelType();
+    }
+
+    @Test
+    public void read_missingTitle_throwsIllegalValueException() throws Exception {
+        ImportedSource entry = new BibtexReader(new StringReader("@misc{key, author = {X}}")).read();
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(ImportedSource.MISSING_FIELD_MESSAGE_FORMAT, "Title"));
+        entry.toModelType();
+    }
+
+    @Test
+    public void read_unclosedEntry_throwsIoException() throws Exception {
+        BibtexReader reader = new BibtexReader(new StringReader("@misc{key,\n  title = {Unclosed\n"));
+        thrown.expect(IOException.class);
+        thrown.expectMessage(String.format(BibtexReader.MESSAGE_SYNTAX_ERROR, 3, ""));
+        reader.read();
+    }
+}
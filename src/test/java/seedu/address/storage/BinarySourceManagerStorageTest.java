@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalSources.ALGORITHM_RESEARCH;
+import static seedu.address.testutil.TypicalSources.STRUCTURE;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.SourceManager;
+import seedu.address.testutil.SourceBuilder;
+
+public class BinarySourceManagerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSourceManager.bin");
+    }
+
+    @Test
+    public void readSourceManager_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinarySourceManagerStorage(filePath).readSourceManager(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinarySourceManagerStorage(filePath).readSourceManager().isPresent());
+    }
+
+    @Test
+    public void readAndSaveSourceManager_allInOrder_success() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        BinarySourceManagerStorage storage = new BinarySourceManagerStorage(filePath);
+
+        // save in new file and read back
+        storage.saveSourceManager(original);
+        assertEquals(original, new SourceManager(storage.readSourceManager().get()));
+
+        // modify data, overwrite exiting file, and read back
+        original.addSource(STRUCTURE);
+        original.removeSource(ALGORITHM_RESEARCH);
+        storage.saveSourceManager(original);
+        assertEquals(original, new SourceManager(storage.readSourceManager().get()));
+
+        // save and read without specifying file path, with values that are not ascii
+        original.addSource(new SourceBuilder().withTitle("Grundlagen der Mathematik").withAuthor("Gödel")
+                .withDetail("数学の基礎").build());
+        storage.saveSourceManager(original);
+        assertEquals(original, new SourceManager(storage.readSourceManager().get()));
+    }
+
+    @Test
+    public void readAndSaveSourceManager_compressed_success() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        new BinarySourceManagerStorage(filePath, true).saveSourceManager(original);
+
+        // compressed files are read by any binary storage
+        assertEquals(original, new SourceManager(new BinarySourceManagerStorage(filePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void saveSourceManager_smallerThanJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("TempSourceManager.json");
+        new JsonSourceManagerStorage(jsonFilePath).saveSourceManager(getTypicalSourceManager());
+        new BinarySourceManagerStorage(filePath).saveSourceManager(getTypicalSourceManager());
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readSourceManager_corruptedFile_throwDataConversionException() throws Exception {
+        new BinarySourceManagerStorage(filePath).saveSourceManager(getTypicalSourceManager());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        new BinarySourceManagerStorage(filePath).readSourceManager();
+    }
+
+    @Test
+    public void readSourceManager_truncatedFile_throwDataConversionException() throws Exception {
+        new BinarySourceManagerStorage(filePath).saveSourceManager(getTypicalSourceManager());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        new BinarySourceManagerStorage(filePath).readSourceManager();
+    }
+
+    @Test
+    public void readSourceManager_jsonFileAfterSwitchingBackend_readAndMigratedOnSave() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        new JsonSourceManagerStorage(filePath).saveSourceManager(original);
+
+        BinarySourceManagerStorage storage = new BinarySourceManagerStorage(filePath, true);
+        SourceManager read = new SourceManager(storage.readSourceManager().get());
+        assertEquals(original, read);
+
+        // the next save replaces the json file with a binary file
+        read.addSource(STRUCTURE);
+        storage.saveSourceManager(read);
+        assertEquals(BinarySourceManagerStorage.MAGIC, ByteBuffer.wrap(Files.readAllBytes(filePath)).getInt());
+        assertEquals(read, new SourceManager(storage.readSourceManager().get()));
+    }
+
+    @Test
+    public void readSourceManager_invalidJsonFile_throwDataConversionException() throws Exception {
+        Files.write(filePath, Arrays.asList("{ \"sources\": [ {"));
+
+        thrown.expect(DataConversionException.class);
+        new BinarySourceManagerStorage(filePath).readSourceManager();
+    }
+
+    @Test
+    public void saveSourceManager_nullSourceManager_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinarySourceManagerStorage(filePath).saveSourceManager(null);
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.source.Source;
+import seedu.address.storage.ImportedSourceStreams.Format;
+
+public class ImportedSourceStreamsTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void formatOf() {
+        assertEquals(Optional.of(Format.BIBTEX), Format.of(Paths.get("refs", "library.bib")));
+        assertEquals(Optional.of(Format.RIS), Format.of(Paths.get("Library.RIS")));
+        assertFalse(Format.of(Paths.get("library.json")).isPresent());
+    }
+
+    @Test
+    public void readSources_manyEntries_readInOrderWithProgress() throws Exception {
+        int entryCount = ImportedSourceStreams.PROGRESS_INTERVAL + 10;
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < entryCount; i++) {
+            lines.addAll(Arrays.asList("TY  - BOOK", "TI  - Title " + i, "AU  - Author", "ID  - " + i, "ER  - "));
+        }
+        Path filePath = temporaryFolder.getRoot().toPath().resolve("library.ris");
+        Files.write(filePath, lines);
+
+        List<Source> sources = new ArrayList<>();
+        List<Integer> progress = new ArrayList<>();
+        ImportedSourceStreams.readSources(filePath, Format.RIS, sources::add, progress::add);
+
+        assertEquals(entryCount, sources.size());
+        for (int i = 0; i < entryCount; i++) {
+            assertEquals("Title " + i, sources.get(i).getTitle().title);
+        }
+        assertEquals(Arrays.asList(ImportedSourceStreams.PROGRESS_INTERVAL, entryCount), progress);
+    }
+
+    @Test
+    public void readSources_invalidEntries_validEntriesReadFirst() throws Exception {
+        Path filePath = temporaryFolder.getRoot().toPath().resolve("library.bib");
+        Files.write(filePath, Arrays.asList("@misc{first, title = {Invalid: Title}, author = {A}}",
+                "@misc{second, title = {Valid Title}, author = {B}}"));
+
+        List<Source> sources = new ArrayList<>();
+        try {
+            ImportedSourceStreams.readSources(filePath, Format.BIBTEX, sources::add, entryCount -> { });
+            throw new AssertionError("The expected IllegalValueException was not thrown.");
+        } catch (IllegalValueException ive) {
+            assertTrue(ive.getMessage().contains(String.format(ParallelSourceConverter.MESSAGE_INVALID_SOURCE, 1,
+                    "")));
+        }
+        assertEquals(1, sources.size());
+        assertEquals("Valid Title", sources.get(0).getTitle().title);
+    }
+}
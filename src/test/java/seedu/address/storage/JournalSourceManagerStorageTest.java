@@ -0,0 +1,271 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalSources.ALGORITHM_RESEARCH;
+import static seedu.address.testutil.TypicalSources.PROGRAMMING;
+import static seedu.address.testutil.TypicalSources.SENSOR_RESEARCH;
+import static seedu.address.testutil.TypicalSources.STRUCTURE;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.SourceManager;
+import seedu.address.model.source.Source;
+import seedu.address.testutil.SourceBuilder;
+
+public class JournalSourceManagerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSourceManager.json");
+    }
+
+    @Test
+    public void readSourceManager_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalSourceManagerStorage(filePath).readSourceManager(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalSourceManagerStorage(filePath).readSourceManager().isPresent());
+    }
+
+    @Test
+    public void read_jsonStorageFile_success() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        new JsonSourceManagerStorage(filePath).saveSourceManager(original);
+        assertEquals(original, new SourceManager(new JournalSourceManagerStorage(filePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void readSourceManager_switchToJsonStorage_journalReplayed() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        JournalSourceManagerStorage storage = new JournalSourceManagerStorage(filePath);
+        storage.saveSourceManager(original);
+        original.addSource(STRUCTURE);
+        storage.saveSourceManager(original);
+        assertEquals(1, getJournals().size());
+
+        JsonSourceManagerStorage jsonStorage = new JsonSourceManagerStorage(filePath);
+        SourceManager read = new SourceManager(jsonStorage.readSourceManager().get());
+        assertEquals(original, read);
+
+        // once saved without a generation, the file is newer than the journal, which is not replayed again
+        read.removeSource(STRUCTURE);
+        read.addSource(PROGRAMMING);
+        jsonStorage.saveSourceManager(read);
+        assertEquals(read, new SourceManager(jsonStorage.readSourceManager().get()));
+    }
+
+    @Test
+    public void readSourceManager_switchFromJsonStorage_oldJournalsIgnoredAndDeleted() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        JournalSourceManagerStorage storage = new JournalSourceManagerStorage(filePath);
+        storage.saveSourceManager(original);
+        original.removeSource(ALGORITHM_RESEARCH);
+        storage.saveSourceManager(original);
+
+        JsonSourceManagerStorage jsonStorage = new JsonSourceManagerStorage(filePath);
+        SourceManager edited = new SourceManager(jsonStorage.readSourceManager().get());
+        edited.addSourceAtIndex(STRUCTURE, 0);
+        jsonStorage.saveSourceManager(edited);
+
+        JournalSourceManagerStorage reopenedStorage = new JournalSourceManagerStorage(filePath);
+        SourceManager reopened = new SourceManager(reopenedStorage.readSourceManager().get());
+        assertEquals(edited, reopened);
+
+        // the next save writes a snapshot newer than the old journal, which deletes it
+        reopened.addSource(PROGRAMMING);
+        reopenedStorage.saveSourceManager(reopened);
+        assertTrue(getJournals().isEmpty());
+        assertEquals(reopened, new SourceManager(new JournalSourceManagerStorage(filePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void readAndSaveSourceManager_changesAppendedToJournal_success() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        JournalSourceManagerStorage storage = new JournalSourceManagerStorage(filePath);
+        storage.saveSourceManager(original);
+        long snapshotSize = Files.size(filePath);
+
+        // add, edit, move, delete
+        original.addSource(STRUCTURE);
+        storage.saveSourceManager(original);
+        Source editedSource = new SourceBuilder(SENSOR_RESEARCH).withDetail("Edited detail").build();
+        original.setSource(SENSOR_RESEARCH, editedSource);
+        storage.saveSourceManager(original);
+        original.removeSource(STRUCTURE);
+        original.addSourceAtIndex(STRUCTURE, 0);
+        storage.saveSourceManager(original);
+        original.removeSource(ALGORITHM_RESEARCH);
+        storage.saveSourceManager(original);
+
+        assertEquals(snapshotSize, Files.size(filePath));
+        assertEquals(1, getJournals().size());
+        assertEquals(original, new SourceManager(new JournalSourceManagerStorage(filePath).readSourceManager().get()));
+
+        // a storage that has read the journal keeps appending to it
+        JournalSourceManagerStorage reopenedStorage = new JournalSourceManagerStorage(filePath);
+        SourceManager reopened = new SourceManager(reopenedStorage.readSourceManager().get());
+        reopened.addSource(PROGRAMMING);
+        reopenedStorage.saveSourceManager(reopened);
+        assertEquals(snapshotSize, Files.size(filePath));
+        assertEquals(reopened, new SourceManager(new JournalSourceManagerStorage(filePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void saveSourceManager_scatteredDeletes_onlyDeletesJournaled() throws Exception {
+        SourceManager original = getSourceManager(1000);
+        JournalSourceManagerStorage storage = new JournalSourceManagerStorage(filePath);
+        storage.saveSourceManager(original);
+
+        // deletes of the first and last sources, and one in the middle, saved together
+        original.removeSource(original.getSourceList().get(999));
+        original.removeSource(original.getSourceList().get(500));
+        original.removeSource(original.getSourceList().get(0));
+        storage.saveSourceManager(original);
+
+        List<String> changes = Files.readAllLines(getJournals().get(0));
+        assertEquals(3, changes.size());
+        assertTrue(changes.stream().allMatch(change -> change.contains("\"REMOVE\"")));
+        assertEquals(original, new SourceManager(new JournalSourceManagerStorage(filePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void saveSourceManager_deleteAndAddInOneSave_onlyChangedSourcesJournaled() throws Exception {
+        SourceManager original = getSourceManager(1000);
+        JournalSourceManagerStorage storage = new JournalSourceManagerStorage(filePath);
+        storage.saveSourceManager(original);
+        long snapshotSize = Files.size(filePath);
+
+        original.removeSource(original.getSourceList().get(10));
+        original.addSource(STRUCTURE);
+        storage.saveSourceManager(original);
+
+        Path journal = getJournals().get(0);
+        assertEquals(2, Files.readAllLines(journal).size());
+        assertTrue(Files.size(journal) < snapshotSize / 100);
+        assertEquals(original, new SourceManager(new JournalSourceManagerStorage(filePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void saveSourceManager_mostSourcesChanged_snapshotWritten() throws Exception {
+        SourceManager original = getSourceManager(100);
+        JournalSourceManagerStorage storage = new JournalSourceManagerStorage(filePath);
+        storage.saveSourceManager(original);
+        List<Source> reversedSources = new ArrayList<>(original.getSourceList());
+        Collections.reverse(reversedSources);
+        original.setSources(reversedSources);
+        storage.saveSourceManager(original);
+
+        assertTrue(getJournals().isEmpty());
+        assertEquals(original, new SourceManager(new JsonSourceManagerStorage(filePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void saveSourceManager_journalLongerThanThreshold_compactedIntoSnapshot() throws Exception {
+        SourceManager original = getSourceManager(100);
+        JournalSourceManagerStorage storage = new JournalSourceManagerStorage(filePath, 1);
+        storage.saveSourceManager(original);
+
+        // half of the sources replaced by much longer ones, which are journaled but outgrow half of the snapshot
+        String longDetail = String.join(" ", Collections.nCopies(200, "notes"));
+        List<Source> editedSources = new ArrayList<>(original.getSourceList());
+        for (int i = 0; i < 50; i++) {
+            editedSources.set(i, new SourceBuilder(editedSources.get(i)).withDetail(longDetail).build());
+        }
+        original.setSources(editedSources);
+        storage.saveSourceManager(original);
+
+        // compaction runs in the background, so wait for the old journal to be deleted
+        for (int i = 0; i < 100 && getJournals().size() > 0; i++) {
+            Thread.sleep(50);
+        }
+        assertTrue(getJournals().isEmpty());
+
+        assertEquals(original, new SourceManager(new JsonSourceManagerStorage(filePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void readSourceManager_incompleteChangeAtEndOfJournal_changeIgnored() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        JournalSourceManagerStorage storage = new JournalSourceManagerStorage(filePath);
+        storage.saveSourceManager(original);
+        original.addSource(STRUCTURE);
+        storage.saveSourceManager(original);
+
+        Path journal = getJournals().get(0);
+        Files.write(journal, "{\"operation\":\"INS".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        assertEquals(original, new SourceManager(new JournalSourceManagerStorage(filePath).readSourceManager().get()));
+
+        // the incomplete change is removed, so later changes can be read back
+        JournalSourceManagerStorage reopenedStorage = new JournalSourceManagerStorage(filePath);
+        SourceManager reopened = new SourceManager(reopenedStorage.readSourceManager().get());
+        reopened.addSource(PROGRAMMING);
+        reopenedStorage.saveSourceManager(reopened);
+        assertEquals(reopened, new SourceManager(new JournalSourceManagerStorage(filePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void readSourceManager_invalidJournal_throwDataConversionException() throws Exception {
+        JournalSourceManagerStorage storage = new JournalSourceManagerStorage(filePath);
+        storage.saveSourceManager(getTypicalSourceManager());
+        Files.write(filePath.resolveSibling(filePath.getFileName() + ".1.journal"),
+                "{\"operation\":\"REMOVE\",\"index\":100,\"count\":1}\n".getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new JournalSourceManagerStorage(filePath).readSourceManager();
+    }
+
+    @Test
+    public void saveSourceManager_nullSourceManager_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new JournalSourceManagerStorage(filePath).saveSourceManager(null);
+    }
+
+    /**
+     * Returns a source manager with {@code size} new sources.
+     */
+    private static SourceManager getSourceManager(int size) {
+        SourceManager sourceManager = new SourceManager();
+        for (int i = 0; i < size; i++) {
+            sourceManager.addSource(new SourceBuilder().withTitle("Source " + i).build());
+        }
+        return sourceManager;
+    }
+
+    /**
+     * Returns the journals in the test folder.
+     */
+    private List<Path> getJournals() throws Exception {
+        try (Stream<Path> files = Files.list(testFolder.getRoot().toPath())) {
+            return files.filter(file -> file.toString().endsWith(".journal")).collect(Collectors.toList());
+        }
+    }
+}
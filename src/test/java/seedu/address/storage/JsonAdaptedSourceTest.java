@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 import org.junit.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.source.Author;
 import seedu.address.model.source.Detail;
 import seedu.address.model.source.Title;
 import seedu.address.model.source.Type;
@@ -19,6 +20,7 @@ import seedu.address.testutil.Assert;
 public class JsonAdaptedSourceTest {
     private static final String INVALID_TITLE = "R@chel";
     private static final String INVALID_TYPE = "+651234";
+    private static final String INVALID_AUTHOR = " Rachel"; // Leading white space is illegal
     private static final String INVALID_DETAIL = " example"; // Leading white space is illegal
     private static final String INVALID_TAG = "#friend";
 
@@ -71,6 +73,15 @@ public class JsonAdaptedSourceTest {
         Assert.assertThrows(IllegalValueException.class, expectedMessage, source::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidAuthor_throwsIllegalValueException() {
+        JsonAdaptedSource source =
+                new JsonAdaptedSource(VALID_TITLE, VALID_TYPE, INVALID_AUTHOR, VALID_DETAIL,
+                        VALID_FIELDBODIES, VALID_TAGS);
+        String expectedMessage = Author.MESSAGE_CONSTRAINTS;
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, source::toModelType);
+    }
+
     @Test
     public void toModelType_invalidDetail_throwsIllegalValueException() {
         JsonAdaptedSource source =
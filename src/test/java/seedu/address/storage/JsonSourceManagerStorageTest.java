@@ -17,6 +17,7 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlySourceManager;
 import seedu.address.model.SourceManager;
 
@@ -100,6 +101,17 @@ public class JsonSourceManagerStorageTest {
 
     }
 
+    @Test
+    public void saveSourceManager_sameLayoutAsJsonSerializableSourceManager_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSourceManager.json");
+        SourceManager original = getTypicalSourceManager();
+        new JsonSourceManagerStorage(filePath).saveSourceManager(original);
+
+        JsonSerializableSourceManager saved =
+                JsonUtil.readJsonFile(filePath, JsonSerializableSourceManager.class).get();
+        assertEquals(original, saved.toModelType());
+    }
+
     @Test
     public void saveSourceManager_nullSourceManager_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
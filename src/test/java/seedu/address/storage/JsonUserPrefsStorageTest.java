@@ -14,6 +14,8 @@ import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.HistorySettings;
+import seedu.address.commons.core.SearchSettings;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.UserPrefs;
 
@@ -80,6 +82,20 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidSettingsInFile_defaultSettingsUsed() throws DataConversionException {
+        UserPrefs actual = readUserPrefs("InvalidSettingsUserPref.json").get();
+        HistorySettings defaultHistorySettings = new HistorySettings();
+        SearchSettings defaultSearchSettings = new SearchSettings();
+
+        assertEquals(defaultHistorySettings.getMaxStatesInMemory(),
+                actual.getHistorySettings().getMaxStatesInMemory());
+        assertEquals(defaultHistorySettings.getMaxBytesInMemory(), actual.getHistorySettings().getMaxBytesInMemory());
+        assertFalse(actual.getSearchSettings().isIndexed());
+        assertEquals(defaultSearchSettings.getParallelThreshold(), actual.getSearchSettings().getParallelThreshold());
+        assertEquals(defaultSearchSettings.getParallelism(), actual.getSearchSettings().getParallelism());
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
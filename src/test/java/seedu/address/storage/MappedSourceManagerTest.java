@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.SourceManager;
+import seedu.address.model.source.Source;
+
+public class MappedSourceManagerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSourceManager.bin");
+    }
+
+    @Test
+    public void open_binaryFile_sameSources() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        new BinarySourceManagerStorage(filePath).saveSourceManager(original);
+
+        MappedSourceManager mappedSourceManager = MappedSourceManager.open(filePath);
+        assertEquals(original.getSourceList(), mappedSourceManager.getSourceList());
+        assertEquals(original, new SourceManager(mappedSourceManager));
+    }
+
+    @Test
+    public void getSourceList_sourceAccessedAgain_sameSourceFromCache() throws Exception {
+        new BinarySourceManagerStorage(filePath).saveSourceManager(getTypicalSourceManager());
+
+        MappedSourceManager mappedSourceManager = MappedSourceManager.open(filePath);
+        Source source = mappedSourceManager.getSourceList().get(1);
+        assertSame(source, mappedSourceManager.getSourceList().get(1));
+    }
+
+    @Test
+    public void getSourceList_cacheSmallerThanSources_sourcesDecodedAgain() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        new BinarySourceManagerStorage(filePath).saveSourceManager(original);
+
+        MappedSourceManager mappedSourceManager = MappedSourceManager.open(filePath, 1);
+        Source source = mappedSourceManager.getSourceList().get(0);
+        mappedSourceManager.getSourceList().get(1);
+        assertEquals(source, mappedSourceManager.getSourceList().get(0));
+        assertEquals(original.getSourceList(), mappedSourceManager.getSourceList());
+    }
+
+    @Test
+    public void getSourceList_modified_throwsUnsupportedOperationException() throws Exception {
+        new BinarySourceManagerStorage(filePath).saveSourceManager(getTypicalSourceManager());
+
+        thrown.expect(UnsupportedOperationException.class);
+        MappedSourceManager.open(filePath).getSourceList().remove(0);
+    }
+
+    @Test
+    public void open_compressedFile_throwsIoException() throws Exception {
+        new BinarySourceManagerStorage(filePath, true).saveSourceManager(getTypicalSourceManager());
+        assertFalse(MappedSourceManager.isMappable(filePath));
+
+        thrown.expectMessage(MappedSourceManager.MESSAGE_NOT_INDEXED);
+        MappedSourceManager.open(filePath);
+    }
+
+    @Test
+    public void verifyChecksum_corruptedFile_throwsIoException() throws Exception {
+        new BinarySourceManagerStorage(filePath).saveSourceManager(getTypicalSourceManager());
+        assertTrue(MappedSourceManager.isMappable(filePath));
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinarySourceManagerStorage.HEADER_LENGTH + 1] ^= 1;
+        Files.write(filePath, bytes);
+
+        thrown.expectMessage(BinarySourceManagerStorage.MESSAGE_CORRUPTED);
+        MappedSourceManager.open(filePath).verifyChecksum();
+    }
+}
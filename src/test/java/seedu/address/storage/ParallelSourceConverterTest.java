@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.source.BiblioFields;
+import seedu.address.model.source.Source;
+import seedu.address.testutil.SourceBuilder;
+
+public class ParallelSourceConverterTest {
+
+    private static final int SOURCE_COUNT = ParallelSourceConverter.CHUNK_SIZE * 5 + 7;
+    private static final String INVALID_TITLE = "R@chel";
+
+    @Test
+    public void convertAll_manyChunks_sourcesInOrder() throws Exception {
+        List<Source> expectedSources = new ArrayList<>();
+        List<JsonAdaptedSource> adaptedSources = new ArrayList<>();
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            Source source = new SourceBuilder().withTitle("Source " + i).build();
+            expectedSources.add(source);
+            adaptedSources.add(new JsonAdaptedSource(source));
+        }
+
+        List<Source> convertedSources = new ArrayList<>();
+        ParallelSourceConverter.convertAll(adaptedSources, convertedSources::add);
+        assertEquals(expectedSources, convertedSources);
+    }
+
+    @Test
+    public void convertAll_invalidAndRejectedSources_allReportedWithPositions() {
+        List<JsonAdaptedSource> adaptedSources = new ArrayList<>();
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            adaptedSources.add(new JsonAdaptedSource(new SourceBuilder().withTitle("Source " + i).build()));
+        }
+        adaptedSources.set(2, getInvalidSource());
+        adaptedSources.set(SOURCE_COUNT - 1, getInvalidSource());
+
+        List<Source> acceptedSources = new ArrayList<>();
+        try {
+            ParallelSourceConverter.convertAll(adaptedSources, source -> {
+                if (source.getTitle().title.equals("Source 2000")) {
+                    throw new IllegalValueException(JsonSerializableSourceManager.MESSAGE_DUPLICATE_SOURCE);
+                }
+                acceptedSources.add(source);
+            });
+            fail();
+        } catch (IllegalValueException ive) {
+            String message = ive.getMessage();
+            assertTrue(message.startsWith(String.format(ParallelSourceConverter.MESSAGE_INVALID_SOURCES, 3)));
+            assertTrue(message.contains(String.format(ParallelSourceConverter.MESSAGE_INVALID_SOURCE, 3, "")));
+            assertTrue(message.contains(String.format(ParallelSourceConverter.MESSAGE_INVALID_SOURCE, 2001,
+                    JsonSerializableSourceManager.MESSAGE_DUPLICATE_SOURCE)));
+            assertTrue(message.contains(String.format(ParallelSourceConverter.MESSAGE_INVALID_SOURCE, SOURCE_COUNT,
+                    "")));
+        }
+        // every valid source is still converted
+        assertEquals(SOURCE_COUNT - 3, acceptedSources.size());
+    }
+
+    @Test
+    public void convertAll_manyInvalidSources_reportTruncated() {
+        List<JsonAdaptedSource> adaptedSources = new ArrayList<>();
+        int invalidCount = ParallelSourceConverter.MAX_REPORTED_FAILURES + 5;
+        for (int i = 0; i < invalidCount; i++) {
+            adaptedSources.add(getInvalidSource());
+        }
+
+        try {
+            ParallelSourceConverter.convertAll(adaptedSources, source -> { });
+            fail();
+        } catch (IllegalValueException ive) {
+            assertTrue(ive.getMessage().endsWith(
+                    String.format(ParallelSourceConverter.MESSAGE_MORE_INVALID_SOURCES, 5)));
+        }
+    }
+
+    /**
+     * Returns a source with an invalid title.
+     */
+    private static JsonAdaptedSource getInvalidSource() {
+        return new JsonAdaptedSource(INVALID_TITLE, "Book", "Author", "Detail", new BiblioFields().getFieldBodies(),
+                Collections.emptyList());
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.source.Source;
+import seedu.address.model.tag.Tag;
+
+public class RisReaderTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_entries_mappedToSources() throws Exception {
+        RisReader reader = new RisReader(new BufferedReader(new StringReader("TY  - JOUR\n"
+                + "AU  - Smith, John\n"
+                + "AU  - Doe, Jane\n"
+                + "TI  - Deep Learning for\n"
+                + "  Sensors\n"
+                + "JO  - Sensors Journal\n"
+                + "PY  - 2019/05/12/\n"
+                + "SP  - 10\n"
+                + "EP  - 20\n"
+                + "KW  - sensors\n"
+                + "AB  - A study of sensors.\n"
+                + "ER  - \n"
+                + "\n"
+                + "TY  - ELEC\n"
+                + "TI  - Online Notes\n"
+                + "AU  - Lee, A.\n"
+                + "UR  - http://example.com\n"
+                + "ID  - notes1\n"
+                + "ER  -\n")));
+
+        Source article = reader.read().toModelType();
+        assertEquals("Deep Learning for Sensors", article.getTitle().title);
+        assertEquals("Journal Article", article.getType().type);
+        assertEquals("Smith, John and Doe, Jane", article.getAuthor().author);
+        assertEquals("A study of sensors.", article.getDetail().detail);
+        assertEquals(Collections.singleton(new Tag("sensors")), article.getTags());
+        assertEquals("Sensors Journal", article.getBiblioFields().getJournal());
+        assertEquals("10-20", article.getBiblioFields().getPages());
+        assertEquals("12", article.getBiblioFields().getDay());
+        assertEquals("May", article.getBiblioFields().getMonth());
+        assertEquals("2019", article.getBiblioFields().getYear());
+
+        Source website = reader.read().toModelType();
+        assertEquals("Website", website.getType().type);
+        assertEquals("RIS entry notes1", website.getDetail().detail);
+        assertEquals("http://example.com", website.getBiblioFields().getUrl());
+
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_byteOrderMarkBeforeFirstEntry_firstEntryRead() throws Exception {
+        RisReader reader = new RisReader(new BufferedReader(new StringReader(ImportedSourceReader.BYTE_ORDER_MARK
+                + "TY  - BOOK\nTI  - First Book\nAU  - Smith, John\nAB  - A book.\nER  - \n")));
+        Source book = reader.read().toModelType();
+        assertEquals("First Book", book.getTitle().title);
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void read_missingEndTag_throwsIoException() throws Exception {
+        RisReader reader = new RisReader(new BufferedReader(new StringReader("TY  - JOUR\nTI  - Title\n")));
+        thrown.expect(IOException.class);
+        thrown.expectMessage(String.format(RisReader.MESSAGE_SYNTAX_ERROR, 2, "Unexpected end of file"));
+        reader.read();
+    }
+}
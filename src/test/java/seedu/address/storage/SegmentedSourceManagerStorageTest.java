@@ -0,0 +1,238 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.SourceManager;
+import seedu.address.model.source.Source;
+import seedu.address.testutil.SourceBuilder;
+
+public class SegmentedSourceManagerStorageTest {
+
+    private static final int SEGMENT_SIZE = 10;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSourceManager.json");
+    }
+
+    @Test
+    public void readSourceManager_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new SegmentedSourceManagerStorage(filePath).readSourceManager(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new SegmentedSourceManagerStorage(filePath).readSourceManager().isPresent());
+    }
+
+    @Test
+    public void read_jsonStorageFile_readAndReplacedByManifest() throws Exception {
+        SourceManager original = getTypicalSourceManager();
+        new JsonSourceManagerStorage(filePath).saveSourceManager(original);
+
+        SegmentedSourceManagerStorage storage = new SegmentedSourceManagerStorage(filePath, SEGMENT_SIZE);
+        assertEquals(original, new SourceManager(storage.readSourceManager().get()));
+        storage.saveSourceManager(original);
+        assertFalse(getSegments().isEmpty());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveSourceManager_changes_onlyChangedSegmentsRewritten() throws Exception {
+        SourceManager original = getSourceManager(100);
+        SegmentedSourceManagerStorage storage = new SegmentedSourceManagerStorage(filePath, SEGMENT_SIZE);
+        storage.saveSourceManager(original);
+        assertEquals(10, getSegments().size());
+        assertEquals(original, readBack());
+
+        // edit
+        Source editedSource = new SourceBuilder(original.getSourceList().get(55)).withDetail("Edited").build();
+        original.setSource(original.getSourceList().get(55), editedSource);
+        assertOneSegmentRewritten(storage, original);
+
+        // insert at the front
+        original.addSourceAtIndex(new SourceBuilder().withTitle("First source").build(), 0);
+        assertOneSegmentRewritten(storage, original);
+
+        // append
+        original.addSource(new SourceBuilder().withTitle("Last source").build());
+        assertOneSegmentRewritten(storage, original);
+
+        // delete
+        original.removeSource(original.getSourceList().get(30));
+        assertOneSegmentRewritten(storage, original);
+
+        // a storage that has read the segments only rewrites the changed ones as well
+        SegmentedSourceManagerStorage reopenedStorage = new SegmentedSourceManagerStorage(filePath, SEGMENT_SIZE);
+        SourceManager reopened = new SourceManager(reopenedStorage.readSourceManager().get());
+        reopened.removeSource(reopened.getSourceList().get(70));
+        assertOneSegmentRewritten(reopenedStorage, reopened);
+    }
+
+    @Test
+    public void saveSourceManager_sourceMoved_segmentsLeftAndJoinedRewritten() throws Exception {
+        SourceManager original = getSourceManager(100);
+        SegmentedSourceManagerStorage storage = new SegmentedSourceManagerStorage(filePath, SEGMENT_SIZE);
+        storage.saveSourceManager(original);
+
+        // pin, which moves the source to the top
+        original.getSourceList().get(90).setPinnedState(true);
+        original.moveSource(90, 0);
+        assertSegmentsRewritten(storage, original, 2);
+        assertTrue(readBack().getSourceList().get(0).getPinnedState());
+
+        // order a source further down
+        original.moveSource(15, 72);
+        assertSegmentsRewritten(storage, original, 2);
+    }
+
+    @Test
+    public void saveSourceManager_scatteredChangesInOneSave_onlyTheirSegmentsRewritten() throws Exception {
+        SourceManager original = getSourceManager(100);
+        SegmentedSourceManagerStorage storage = new SegmentedSourceManagerStorage(filePath, SEGMENT_SIZE);
+        storage.saveSourceManager(original);
+
+        // delete the first and last sources, and one in the middle
+        original.removeSource(original.getSourceList().get(99));
+        original.removeSource(original.getSourceList().get(45));
+        original.removeSource(original.getSourceList().get(0));
+        assertSegmentsRewritten(storage, original, 3);
+
+        // delete a source and add one
+        original.removeSource(original.getSourceList().get(50));
+        original.addSource(new SourceBuilder().withTitle("Last source").build());
+        assertSegmentsRewritten(storage, original, 2);
+    }
+
+    @Test
+    public void saveSourceManager_manySourcesRemoved_success() throws Exception {
+        SourceManager original = getSourceManager(100);
+        SegmentedSourceManagerStorage storage = new SegmentedSourceManagerStorage(filePath, SEGMENT_SIZE);
+        storage.saveSourceManager(original);
+
+        for (int i = 0; i < 60; i++) {
+            original.removeSource(original.getSourceList().get(20));
+        }
+        storage.saveSourceManager(original);
+        assertEquals(original, readBack());
+
+        original.setSources(original.getSourceList().subList(0, 0));
+        storage.saveSourceManager(original);
+        assertEquals(original, readBack());
+        assertTrue(getSegments().isEmpty());
+    }
+
+    @Test
+    public void saveSourceManager_pinnedSources_pinnedPositionsRestored() throws Exception {
+        SourceManager original = getSourceManager(30);
+        original.getSourceList().get(0).setPinnedState(true);
+        original.getSourceList().get(1).setPinnedState(true);
+        SegmentedSourceManagerStorage storage = new SegmentedSourceManagerStorage(filePath, SEGMENT_SIZE);
+        storage.saveSourceManager(original);
+
+        // pinning a source only rewrites the manifest
+        Set<Path> segments = getSegments();
+        original.getSourceList().get(2).setPinnedState(true);
+        storage.saveSourceManager(original);
+        assertEquals(segments, getSegments());
+
+        SourceManager readBack = readBack();
+        for (int i = 0; i < readBack.getSourceList().size(); i++) {
+            assertEquals(i < 3, readBack.getSourceList().get(i).getPinnedState());
+        }
+    }
+
+    @Test
+    public void readSourceManager_missingSegment_throwDataConversionException() throws Exception {
+        new SegmentedSourceManagerStorage(filePath, SEGMENT_SIZE).saveSourceManager(getSourceManager(30));
+        Files.delete(getSegments().iterator().next());
+
+        thrown.expect(DataConversionException.class);
+        new SegmentedSourceManagerStorage(filePath).readSourceManager();
+    }
+
+    @Test
+    public void saveSourceManager_nullSourceManager_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new SegmentedSourceManagerStorage(filePath).saveSourceManager(null);
+    }
+
+    /**
+     * Saves {@code sourceManager} with {@code storage}, and checks that exactly one segment was replaced and that
+     * the saved sources can be read back.
+     */
+    private void assertOneSegmentRewritten(SegmentedSourceManagerStorage storage, SourceManager sourceManager)
+            throws Exception {
+        assertSegmentsRewritten(storage, sourceManager, 1);
+    }
+
+    /**
+     * Saves {@code sourceManager} with {@code storage}, and checks that exactly {@code count} segments were replaced
+     * by as many new ones and that the saved sources can be read back.
+     */
+    private void assertSegmentsRewritten(SegmentedSourceManagerStorage storage, SourceManager sourceManager,
+            int count) throws Exception {
+        Set<Path> before = getSegments();
+        storage.saveSourceManager(sourceManager);
+        Set<Path> after = getSegments();
+        Set<Path> kept = new HashSet<>(before);
+        kept.retainAll(after);
+        assertEquals(before.size() - count, kept.size());
+        assertEquals(after.size() - count, kept.size());
+        assertEquals(sourceManager, readBack());
+    }
+
+    /**
+     * Reads the source manager at {@code filePath} with a new storage.
+     */
+    private SourceManager readBack() throws Exception {
+        return new SourceManager(new SegmentedSourceManagerStorage(filePath).readSourceManager().get());
+    }
+
+    /**
+     * Returns a source manager with {@code size} new sources.
+     */
+    private static SourceManager getSourceManager(int size) {
+        SourceManager sourceManager = new SourceManager();
+        for (int i = 0; i < size; i++) {
+            sourceManager.addSource(new SourceBuilder().withTitle("Source " + i).build());
+        }
+        return sourceManager;
+    }
+
+    /**
+     * Returns the segment files in the test folder.
+     */
+    private Set<Path> getSegments() throws Exception {
+        Path segmentsDirectory = filePath.resolveSibling(filePath.getFileName() + ".segments");
+        try (Stream<Path> files = Files.list(segmentsDirectory)) {
+            return files.filter(file -> file.toString().endsWith(".json")).collect(Collectors.toSet());
+        }
+    }
+}
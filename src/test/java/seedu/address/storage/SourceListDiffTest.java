@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.model.source.Source;
+import seedu.address.testutil.SourceBuilder;
+
+public class SourceListDiffTest {
+
+    private int sourceCount;
+
+    @Test
+    public void of_sameSources_empty() {
+        List<Source> sources = getSources(10);
+        assertTrue(SourceListDiff.of(sources, new ArrayList<>(sources)).isEmpty());
+    }
+
+    @Test
+    public void of_sourceMoved_oneDroppedAndOneInserted() {
+        List<Source> before = getSources(100);
+        List<Source> after = new ArrayList<>(before);
+        after.add(0, after.remove(90));
+
+        SourceListDiff diff = SourceListDiff.of(before, after);
+        assertArrayEquals(new int[] {90}, diff.getDropped());
+        assertArrayEquals(new int[] {0}, diff.getInserted());
+
+        after = new ArrayList<>(before);
+        after.add(72, after.remove(15));
+        diff = SourceListDiff.of(before, after);
+        assertArrayEquals(new int[] {15}, diff.getDropped());
+        assertArrayEquals(new int[] {72}, diff.getInserted());
+    }
+
+    @Test
+    public void of_scatteredChanges_onlyChangedPositions() {
+        List<Source> before = getSources(100);
+        List<Source> after = new ArrayList<>(before);
+        after.remove(99);
+        after.remove(45);
+        after.remove(0);
+        after.add(getSources(1).get(0));
+
+        SourceListDiff diff = SourceListDiff.of(before, after);
+        assertArrayEquals(new int[] {0, 45, 99}, diff.getDropped());
+        assertArrayEquals(new int[] {97}, diff.getInserted());
+    }
+
+    @Test
+    public void of_randomChanges_dropsAndInsertsTurnBeforeIntoAfter() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<Source> before = getSources(random.nextInt(30));
+            List<Source> after = new ArrayList<>(before);
+            for (int change = random.nextInt(6); change > 0; change--) {
+                int operation = random.nextInt(4);
+                if (operation == 0 || after.isEmpty()) {
+                    after.add(random.nextInt(after.size() + 1), getSources(1).get(0));
+                } else if (operation == 1) {
+                    after.remove(random.nextInt(after.size()));
+                } else if (operation == 2) {
+                    after.set(random.nextInt(after.size()), getSources(1).get(0));
+                } else {
+                    after.add(random.nextInt(after.size()), after.remove(random.nextInt(after.size())));
+                }
+            }
+            if (random.nextInt(10) == 0) {
+                Collections.shuffle(after, random);
+            }
+
+            SourceListDiff diff = SourceListDiff.of(before, after);
+            assertEquals(after, apply(diff, before, after));
+        }
+    }
+
+    /**
+     * Drops the dropped positions of {@code diff} from {@code before}, and inserts the sources at the inserted
+     * positions of {@code after}.
+     */
+    private static List<Source> apply(SourceListDiff diff, List<Source> before, List<Source> after) {
+        List<Source> result = new ArrayList<>(before);
+        int[] dropped = diff.getDropped();
+        for (int i = dropped.length - 1; i >= 0; i--) {
+            result.remove(dropped[i]);
+        }
+        for (int position : diff.getInserted()) {
+            result.add(position, after.get(position));
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code count} new sources.
+     */
+    private List<Source> getSources(int count) {
+        List<Source> sources = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            sources.add(new SourceBuilder().withTitle("Source " + sourceCount++).build());
+        }
+        return sources;
+    }
+}
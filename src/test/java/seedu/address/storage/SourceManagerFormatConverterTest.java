@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalSources.getTypicalSourceManager;
+
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.SourceManager;
+
+public class SourceManagerFormatConverterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameSources() throws Exception {
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("SourceManager.json");
+        Path binaryFilePath = testFolder.getRoot().toPath().resolve("SourceManager.bin");
+        Path convertedFilePath = testFolder.getRoot().toPath().resolve("Converted.json");
+        SourceManager original = getTypicalSourceManager();
+        new JsonSourceManagerStorage(jsonFilePath).saveSourceManager(original);
+
+        assertEquals(original.getSourceList().size(), SourceManagerFormatConverter.convert(
+                new JsonSourceManagerStorage(jsonFilePath), new BinarySourceManagerStorage(binaryFilePath, true)));
+        SourceManagerFormatConverter.convert(new BinarySourceManagerStorage(binaryFilePath),
+                new JsonSourceManagerStorage(convertedFilePath));
+        assertEquals(original,
+                new SourceManager(new JsonSourceManagerStorage(convertedFilePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void convertToJson_mappableAndCompressedFiles_sameSources() throws Exception {
+        Path binaryFilePath = testFolder.getRoot().toPath().resolve("SourceManager.bin");
+        Path convertedFilePath = testFolder.getRoot().toPath().resolve("Converted.json");
+        SourceManager original = getTypicalSourceManager();
+
+        new BinarySourceManagerStorage(binaryFilePath, false).saveSourceManager(original);
+        assertEquals(original.getSourceList().size(),
+                SourceManagerFormatConverter.convertToJson(binaryFilePath, convertedFilePath));
+        assertEquals(original,
+                new SourceManager(new JsonSourceManagerStorage(convertedFilePath).readSourceManager().get()));
+
+        new BinarySourceManagerStorage(binaryFilePath, true).saveSourceManager(original);
+        SourceManagerFormatConverter.convertToJson(binaryFilePath, convertedFilePath);
+        assertEquals(original,
+                new SourceManager(new JsonSourceManagerStorage(convertedFilePath).readSourceManager().get()));
+    }
+
+    @Test
+    public void convert_missingFile_throwsNoSuchFileException() throws Exception {
+        thrown.expect(NoSuchFileException.class);
+        SourceManagerFormatConverter.convert(
+                new JsonSourceManagerStorage(testFolder.getRoot().toPath().resolve("Missing.json")),
+                new BinarySourceManagerStorage(testFolder.getRoot().toPath().resolve("SourceManager.bin")));
+    }
+}
@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalSources.getTypicalSources;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.ReadOnlySourceManager;
+import seedu.address.model.SourceListSnapshot;
+
+public class WriteBehindSaverTest {
+
+    private static final long MAX_STALENESS_MILLIS = 100;
+    /** The time allowed for the writer thread to be scheduled, on top of the maximum staleness. */
+    private static final long SCHEDULING_SLACK_MILLIS = 1000;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private RecordingSourceManagerStorage sourceManagerStorage;
+    private StorageManager storage;
+
+    @Before
+    public void setUp() {
+        Path folder = testFolder.getRoot().toPath();
+        sourceManagerStorage = new RecordingSourceManagerStorage(folder.resolve("sourcemanager.json"));
+        storage = new StorageManager(sourceManagerStorage, new JsonUserPrefsStorage(folder.resolve("prefs.json")),
+                new JsonDeletedSourcesStorage(folder.resolve("deletedsources.json")));
+    }
+
+    @Test
+    public void saveSourceManager_burstOfSaves_coalescedIntoOneWriteOfLatest() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, MAX_STALENESS_MILLIS);
+        ReadOnlySourceManager latest = null;
+        for (int i = 0; i < 10; i++) {
+            latest = new SourceListSnapshot(getTypicalSources());
+            saver.saveSourceManager(latest);
+        }
+
+        sourceManagerStorage.awaitWrites(1, MAX_STALENESS_MILLIS + SCHEDULING_SLACK_MILLIS);
+        Thread.sleep(2 * MAX_STALENESS_MILLIS);
+        List<ReadOnlySourceManager> written = sourceManagerStorage.getWritten();
+        assertEquals(1, written.size());
+        assertSame(latest, written.get(0));
+    }
+
+    @Test
+    public void saveSourceManager_savedContinuously_writtenWithinMaxStaleness() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, MAX_STALENESS_MILLIS);
+        long start = System.currentTimeMillis();
+        long firstWriteDeadline = start + MAX_STALENESS_MILLIS + SCHEDULING_SLACK_MILLIS;
+        int saveCount = 0;
+        // saves that keep coming must not postpone the write, unlike a debounce
+        while (System.currentTimeMillis() < start + 6 * MAX_STALENESS_MILLIS) {
+            saver.saveSourceManager(new SourceListSnapshot(getTypicalSources()));
+            saveCount++;
+            Thread.sleep(10);
+        }
+        saver.flush();
+
+        List<Long> writeTimes = sourceManagerStorage.getWriteTimes();
+        assertTrue(writeTimes.get(0) <= firstWriteDeadline);
+        assertTrue(writeTimes.size() > 1);
+        assertTrue(writeTimes.size() < saveCount);
+    }
+
+    @Test
+    public void flush_pendingSave_writtenImmediately() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 60 * 1000);
+        SourceListSnapshot snapshot = new SourceListSnapshot(getTypicalSources());
+        saver.saveSourceManager(snapshot);
+        saver.flush();
+        assertEquals(Collections.singletonList(snapshot), sourceManagerStorage.getWritten());
+    }
+
+    @Test
+    public void flush_writeFailed_failureThrownAndWrittenAgain() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, 60 * 1000);
+        SourceListSnapshot snapshot = new SourceListSnapshot(getTypicalSources());
+        sourceManagerStorage.failNextWrite();
+        saver.saveSourceManager(snapshot);
+        try {
+            saver.flush();
+            fail();
+        } catch (IOException ioe) {
+            assertTrue(sourceManagerStorage.getWritten().isEmpty());
+        }
+
+        saver.flush();
+        assertEquals(Collections.singletonList(snapshot), sourceManagerStorage.getWritten());
+    }
+
+    @Test
+    public void saveSourceManager_writeFailedOnce_writtenAgainWithoutFurtherSave() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, MAX_STALENESS_MILLIS);
+        SourceListSnapshot snapshot = new SourceListSnapshot(getTypicalSources());
+        sourceManagerStorage.failNextWrite();
+        saver.saveSourceManager(snapshot);
+
+        sourceManagerStorage.awaitWrites(1, 2 * MAX_STALENESS_MILLIS + SCHEDULING_SLACK_MILLIS);
+        assertEquals(Collections.singletonList(snapshot), sourceManagerStorage.getWritten());
+        try {
+            saver.rethrowFailure();
+            fail();
+        } catch (IOException ioe) {
+            assertEquals("dummy exception", ioe.getMessage());
+        }
+    }
+
+    @Test
+    public void saveSourceManager_writeFailedRepeatedly_retriedLessOften() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, MAX_STALENESS_MILLIS);
+        SourceListSnapshot snapshot = new SourceListSnapshot(getTypicalSources());
+        sourceManagerStorage.failNextWrites(3);
+        saver.saveSourceManager(snapshot);
+
+        // written at 100 ms and retried 100, 200 and 400 ms after each failure
+        sourceManagerStorage.awaitWrites(1, 8 * MAX_STALENESS_MILLIS + SCHEDULING_SLACK_MILLIS);
+        assertEquals(Collections.singletonList(snapshot), sourceManagerStorage.getWritten());
+        List<Long> attemptTimes = sourceManagerStorage.getAttemptTimes();
+        assertEquals(4, attemptTimes.size());
+        for (int i = 1; i < attemptTimes.size(); i++) {
+            assertTrue(attemptTimes.get(i) - attemptTimes.get(i - 1) >= (MAX_STALENESS_MILLIS << (i - 1)) - 10);
+        }
+    }
+
+    /**
+     * A storage that records the source managers written to it, and the time each was written, without writing them.
+     */
+    private static class RecordingSourceManagerStorage extends JsonSourceManagerStorage {
+        private final List<ReadOnlySourceManager> written = new ArrayList<>();
+        private final List<Long> writeTimes = new ArrayList<>();
+        private final List<Long> attemptTimes = new ArrayList<>();
+        private int failingWriteCount;
+
+        RecordingSourceManagerStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public synchronized void saveSourceManager(ReadOnlySourceManager sourceManager, Path filePath)
+                throws IOException {
+            attemptTimes.add(System.currentTimeMillis());
+            if (failingWriteCount > 0) {
+                failingWriteCount--;
+                throw new IOException("dummy exception");
+            }
+            written.add(sourceManager);
+            writeTimes.add(System.currentTimeMillis());
+            notifyAll();
+        }
+
+        synchronized void failNextWrite() {
+            failNextWrites(1);
+        }
+
+        synchronized void failNextWrites(int count) {
+            failingWriteCount = count;
+        }
+
+        /**
+         * Returns the times at which a source manager was written, including the writes that failed.
+         */
+        synchronized List<Long> getAttemptTimes() {
+            return new ArrayList<>(attemptTimes);
+        }
+
+        synchronized List<ReadOnlySourceManager> getWritten() {
+            return new ArrayList<>(written);
+        }
+
+        synchronized List<Long> getWriteTimes() {
+            return new ArrayList<>(writeTimes);
+        }
+
+        /**
+         * Waits until {@code count} source managers have been written, for at most {@code timeoutMillis}.
+         */
+        synchronized void awaitWrites(int count, long timeoutMillis) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (written.size() < count && System.currentTimeMillis() < deadline) {
+                wait(Math.max(1, deadline - System.currentTimeMillis()));
+            }
+        }
+    }
+}
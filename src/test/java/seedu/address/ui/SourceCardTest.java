@@ -42,6 +42,26 @@ public class SourceCardTest extends GuiUnitTest {
         assertCardDisplay(sourceCard, pinnedSourceWithTags, 1);
     }
 
+    @Test
+    public void setSource_reusedCard_displaysNewSource() {
+        Source pinnedSourceWithTags = new SourceBuilder().withTags("friends", "colleagues", "family").build();
+        pinnedSourceWithTags.setPinnedState(true);
+        SourceCard sourceCard = new SourceCard(pinnedSourceWithTags, 1);
+        uiPartRule.setUiPart(sourceCard);
+        assertCardDisplay(sourceCard, pinnedSourceWithTags, 1);
+
+        // fewer tags, not pinned
+        Source sourceWithTag = new SourceBuilder().withTitle("Another title").withTags("friends").build();
+        guiRobot.interact(() -> sourceCard.setSource(sourceWithTag, 2));
+        assertCardDisplay(sourceCard, sourceWithTag, 2);
+        assertEquals(sourceCard, new SourceCard(sourceWithTag, 2));
+
+        // more tags again
+        guiRobot.interact(() -> sourceCard.setSource(pinnedSourceWithTags, 3));
+        assertCardDisplay(sourceCard, pinnedSourceWithTags, 3);
+        assertEquals(sourceCard, new SourceCard(pinnedSourceWithTags, 3));
+    }
+
     @Test
     public void equals() {
         Source source = new SourceBuilder().build();
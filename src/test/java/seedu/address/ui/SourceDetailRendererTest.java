@@ -0,0 +1,128 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.source.Source;
+import seedu.address.testutil.SourceBuilder;
+
+public class SourceDetailRendererTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final QueueExecutor executor = new QueueExecutor();
+    private final SourceDetailRenderer renderer = new SourceDetailRenderer(2, executor);
+
+    @Test
+    public void constructor_nonPositiveCacheSize_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new SourceDetailRenderer(0, executor);
+    }
+
+    @Test
+    public void render_source_showsAllFields() {
+        Source source = new SourceBuilder().withTags("friends", "colleagues").build();
+        source.getBiblioFields().replaceField("City", "London");
+        String html = SourceDetailRenderer.render(source);
+
+        assertTrue(html.startsWith("<!DOCTYPE html>"));
+        assertTrue(html.contains("<h1 class=\"source-title\">" + source.getTitle() + "</h1>"));
+        assertTrue(html.contains("Source Author: " + source.getAuthor() + "</br>"));
+        assertTrue(html.contains("Source Type: " + source.getType() + "</br>"));
+        assertTrue(html.contains("[friends]"));
+        assertTrue(html.contains("[colleagues]"));
+        assertTrue(html.contains("City: London</br>Journal: </br>"));
+        assertTrue(html.endsWith(source.getDetail() + "</br></body></html>"));
+    }
+
+    @Test
+    public void renderAsync_rendersOnExecutor() {
+        Source source = new SourceBuilder().build();
+        CompletableFuture<String> html = renderer.renderAsync(source);
+        assertFalse(html.isDone());
+
+        executor.runAll();
+        assertEquals(SourceDetailRenderer.render(source), html.join());
+    }
+
+    @Test
+    public void renderAsync_cachedSource_returnsCachedPage() {
+        Source source = new SourceBuilder().build();
+        renderer.prefetch(source);
+        CompletableFuture<String> html = renderer.renderAsync(source);
+        assertSame(html, renderer.renderAsync(new SourceBuilder(source).build()));
+        assertEquals(1, executor.tasks.size());
+    }
+
+    @Test
+    public void renderAsync_editedSource_rendersAgain() {
+        Source source = new SourceBuilder().build();
+        CompletableFuture<String> html = renderer.renderAsync(source);
+
+        // same identity, different type
+        Source editedSource = new SourceBuilder(source).withType("Journal").build();
+        assertTrue(editedSource.isSameSource(source));
+        CompletableFuture<String> editedHtml = renderer.renderAsync(editedSource);
+        assertNotSame(html, editedHtml);
+        assertFalse(renderer.isCached(source));
+        assertTrue(renderer.isCached(editedSource));
+
+        executor.runAll();
+        assertTrue(editedHtml.join().contains("Source Type: Journal"));
+    }
+
+    @Test
+    public void renderAsync_cacheFull_evictsLeastRecentlyUsed() {
+        Source first = new SourceBuilder().withTitle("First").build();
+        Source second = new SourceBuilder().withTitle("Second").build();
+        Source third = new SourceBuilder().withTitle("Third").build();
+        renderer.renderAsync(first);
+        renderer.renderAsync(second);
+        renderer.renderAsync(first);
+        renderer.renderAsync(third);
+
+        assertTrue(renderer.isCached(first));
+        assertFalse(renderer.isCached(second));
+        assertTrue(renderer.isCached(third));
+    }
+
+    @Test
+    public void invalidate_cachedSource_removesPage() {
+        Source source = new SourceBuilder().build();
+        renderer.renderAsync(source);
+        renderer.invalidate(source);
+        assertFalse(renderer.isCached(source));
+    }
+
+    /**
+     * An executor that holds its tasks until {@link #runAll()} is called.
+     */
+    private static class QueueExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        /**
+         * Runs every task held.
+         */
+        void runAll() {
+            tasks.forEach(Runnable::run);
+        }
+    }
+}
@@ -29,6 +29,8 @@ public class SourceListPanelTest extends GuiUnitTest {
             FXCollections.observableList(getTypicalSources());
 
     private static final long CARD_CREATION_AND_DELETION_TIMEOUT = 2500;
+    private static final long SCROLLING_TIMEOUT = 5000;
+    private static final int SCROLLING_STEP = 10;
 
     private final SimpleObjectProperty<Source> selectedSource = new SimpleObjectProperty<>();
     private SourceListPanelHandle sourceListPanelHandle;
@@ -73,6 +75,26 @@ public class SourceListPanelTest extends GuiUnitTest {
         }, "Creation and deletion of source cards exceeded time limit");
     }
 
+    /**
+     * Verifies that scrolling through a large number of sources in {@code SourceListPanel}, which rebinds the cards
+     * of the list cells to other sources, requires lesser than {@code SCROLLING_TIMEOUT} milliseconds to execute.
+     */
+    @Test
+    public void scrollingPerformanceTest() {
+        ObservableList<Source> backingList = createBackingList(10000);
+        initUi(backingList);
+
+        assertTimeoutPreemptively(ofMillis(SCROLLING_TIMEOUT), () -> {
+            for (int i = 0; i < backingList.size(); i += SCROLLING_STEP) {
+                sourceListPanelHandle.navigateToCard(i);
+            }
+        }, "Scrolling through source cards exceeded time limit");
+
+        Source lastSource = backingList.get(backingList.size() - 1);
+        sourceListPanelHandle.navigateToCard(lastSource);
+        assertCardDisplaysSource(lastSource, sourceListPanelHandle.getSourceCardHandle(backingList.size() - 1));
+    }
+
     /**
      * Returns a list of sources containing {@code sourceCount} sources that is used to populate the
      * {@code SourceListPanel}.